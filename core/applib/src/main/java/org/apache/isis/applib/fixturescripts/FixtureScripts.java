@@ -41,6 +41,7 @@
 import org.apache.isis.applib.annotation.ParameterLayout;
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.annotation.RestrictTo;
+import org.apache.isis.applib.services.bulkload.BulkLoadService;
 import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryService;
 import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryService2;
 import org.apache.isis.applib.services.fixturespec.FixtureScriptsDefault;
@@ -457,6 +458,41 @@ protected void execute(ExecutionContext executionContext) {
         transactionService.nextTransaction();
     }
 
+    /**
+     * As per {@link #runFixtureScript(FixtureScript...)}, but in bulk load mode (see {@link BulkLoadService}),
+     * committing after every {@link BulkLoadService#getDefaultChunkSize() default chunk size} objects persisted.
+     */
+    @Programmatic
+    public void runFixtureScriptInBulk(final FixtureScript... fixtureScriptList) {
+        runFixtureScriptInBulk(
+                bulkLoadService != null ? bulkLoadService.getDefaultChunkSize() : 0,
+                fixtureScriptList);
+    }
+
+    /**
+     * As per {@link #runFixtureScript(FixtureScript...)}, but in bulk load mode (see {@link BulkLoadService}),
+     * committing after every <tt>chunkSize</tt> objects persisted.
+     *
+     * <p>
+     *     Auditing, publishing and lifecycle events are all suppressed for the run, so this is intended only for
+     *     loading large volumes of seed or reference data.  If no {@link BulkLoadService} is available then the
+     *     scripts are simply run normally.
+     * </p>
+     */
+    @Programmatic
+    public void runFixtureScriptInBulk(final int chunkSize, final FixtureScript... fixtureScriptList) {
+        if(bulkLoadService == null) {
+            runFixtureScript(fixtureScriptList);
+            return;
+        }
+        bulkLoadService.bulkLoad(chunkSize, new Runnable() {
+            @Override
+            public void run() {
+                runFixtureScript(fixtureScriptList);
+            }
+        });
+    }
+
     @Programmatic
     public <T,F extends BuilderScriptAbstract<T,F>> T runBuilderScript(final F fixtureScript) {
 
@@ -577,6 +613,9 @@ String titleOf(final FixtureResult fixtureResult) {
     @javax.inject.Inject
     ServiceRegistry2 serviceRegistry;
 
+    @javax.inject.Inject
+    BulkLoadService bulkLoadService;
+
     //endregion
 
 }
\ No newline at end of file
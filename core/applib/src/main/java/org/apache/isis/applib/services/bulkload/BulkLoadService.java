@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.bulkload;
+
+import java.util.concurrent.Callable;
+
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.fixturescripts.FixtureScripts;
+
+/**
+ * Executes a block of code that persists large numbers of objects in "bulk load" mode.
+ *
+ * <p>
+ *     While bulk loading:
+ * </p>
+ * <ul>
+ *     <li>objects created, updated or deleted are not enlisted as changed, so are neither audited nor published
+ *     (and action invocations are not published either);</li>
+ *     <li>no lifecycle events are posted to the event bus (though any lifecycle callback methods of the objects
+ *     themselves are still called);</li>
+ *     <li>objects are only flushed to the database when the transaction is committed (or when explicitly flushed, eg
+ *     before a query is submitted), so that the object store can batch the resultant SQL statements;</li>
+ *     <li>the transaction is committed (and all clean objects evicted from memory) after every
+ *     <tt>chunkSize</tt> objects have been persisted.</li>
+ * </ul>
+ *
+ * <p>
+ *     Because the work is committed in chunks, it is not possible to roll back the entire block if it fails part way
+ *     through.  Bulk loading is therefore intended only for seeding data, typically through
+ *     {@link FixtureScripts#runFixtureScriptInBulk(int, org.apache.isis.applib.fixturescripts.FixtureScript...)}.
+ * </p>
+ */
+public interface BulkLoadService {
+
+    /**
+     * Executes the supplied block in bulk load mode, committing after every <tt>chunkSize</tt> objects persisted.
+     */
+    @Programmatic
+    void bulkLoad(int chunkSize, Runnable runnable);
+
+    /**
+     * Executes the supplied block in bulk load mode, committing after every <tt>chunkSize</tt> objects persisted.
+     */
+    @Programmatic
+    <T> T bulkLoad(int chunkSize, Callable<T> callable);
+
+    /**
+     * The chunk size to use if none is specified explicitly.
+     */
+    @Programmatic
+    int getDefaultChunkSize();
+
+    /**
+     * Whether a block is currently being executed in bulk load mode.
+     */
+    @Programmatic
+    boolean isBulkLoading();
+
+}
@@ -0,0 +1,308 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.classdiscovery;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.xml.bind.annotation.XmlElement;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.reflections.Reflections;
+import org.reflections.vfs.Vfs;
+
+import org.apache.isis.applib.AppManifest;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.DomainObjectLayout;
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.annotation.Mixin;
+import org.apache.isis.applib.annotation.ViewModel;
+import org.apache.isis.applib.annotation.ViewModelLayout;
+import org.apache.isis.applib.fixturescripts.FixtureScript;
+
+/**
+ * A build-time index of the classes that the framework otherwise discovers by scanning the classpath at bootstrap
+ * (domain services, entities, view models, mixins, fixture scripts and so on).
+ *
+ * <p>
+ * The index is written by the <tt>isis-maven-plugin</tt>'s <tt>index</tt> goal to {@link #RESOURCE_NAME}, and is
+ * read by the runtime when populating the {@link AppManifest.Registry}.  If no index resource is found on the
+ * classpath, or if the index does not cover all of the packages of the {@link AppManifest}'s modules, then the
+ * runtime falls back to scanning the classpath.
+ * </p>
+ *
+ * <p>
+ * The file format is line-based: each line is either <tt>package=&lt;packageName&gt;</tt> (a package that was
+ * scanned when the index was built), or <tt>&lt;annotationOrSuperType&gt;=&lt;className&gt;</tt>.  Blank lines
+ * and lines starting with <tt>#</tt> are ignored.  Multiple index resources (eg one per module jar) are merged.
+ * </p>
+ */
+public class ClassDiscoveryIndex {
+
+    public static final String RESOURCE_NAME = "META-INF/isis/class-discovery.idx";
+
+    private static final String PACKAGE_KEY = "package";
+
+    /**
+     * The annotations whose (possibly inherited) types are recorded in the index.
+     */
+    public static final List<Class<? extends Annotation>> ANNOTATIONS = Collections.unmodifiableList(
+            Lists.<Class<? extends Annotation>>newArrayList(
+                    DomainService.class,
+                    DomainServiceLayout.class,
+                    PersistenceCapable.class,
+                    DomainObject.class,
+                    DomainObjectLayout.class,
+                    Mixin.class,
+                    ViewModel.class,
+                    ViewModelLayout.class,
+                    XmlElement.class));
+
+    /**
+     * The supertypes whose subtypes are recorded in the index.
+     */
+    public static final List<Class<?>> SUPER_TYPES = Collections.unmodifiableList(
+            Lists.<Class<?>>newArrayList(
+                    FixtureScript.class));
+
+    //region > constructor, fields
+
+    private final ClassLoader classLoader;
+    private final Set<String> packageNames = Sets.newTreeSet();
+    private final Map<String, Set<String>> classNamesByKey = Maps.newTreeMap();
+
+    public ClassDiscoveryIndex() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    public ClassDiscoveryIndex(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    //endregion
+
+    //region > scan
+
+    /**
+     * Scans the classpath (using {@link Reflections}) for all of the {@link #ANNOTATIONS annotated types} and
+     * {@link #SUPER_TYPES subtypes} within the specified packages.
+     */
+    public static ClassDiscoveryIndex scan(final List<String> packageNames) {
+
+        Vfs.setDefaultURLTypes(AppManifest.Registry.instance().getUrlTypes());
+        final Reflections reflections = new Reflections(packageNames);
+
+        final ClassDiscoveryIndex index = new ClassDiscoveryIndex();
+        for (final String packageName : packageNames) {
+            index.addPackage(packageName);
+        }
+        for (final Class<? extends Annotation> annotationType : ANNOTATIONS) {
+            index.add(annotationType, reflections.getTypesAnnotatedWith(annotationType));
+        }
+        for (final Class<?> superType : SUPER_TYPES) {
+            addSubTypes(index, reflections, superType);
+        }
+        return index;
+    }
+
+    private static <T> void addSubTypes(
+            final ClassDiscoveryIndex index,
+            final Reflections reflections,
+            final Class<T> superType) {
+        index.add(superType, reflections.getSubTypesOf(superType));
+    }
+
+    //endregion
+
+    //region > load, write
+
+    /**
+     * Loads and merges all {@link #RESOURCE_NAME index resources} available from the class loader.
+     *
+     * @return <tt>null</tt> if there are no index resources on the classpath.
+     */
+    public static ClassDiscoveryIndex load(final ClassLoader classLoader) {
+        final ClassDiscoveryIndex index = new ClassDiscoveryIndex(classLoader);
+        boolean found = false;
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                try (final InputStream is = url.openStream()) {
+                    index.read(is);
+                }
+                found = true;
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to read class discovery index '" + RESOURCE_NAME + "'", e);
+        }
+        return found ? index : null;
+    }
+
+    void read(final InputStream is) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(is, Charsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final int equalsIdx = line.indexOf('=');
+            if (equalsIdx <= 0) {
+                continue;
+            }
+            final String key = line.substring(0, equalsIdx).trim();
+            final String value = line.substring(equalsIdx + 1).trim();
+            if (PACKAGE_KEY.equals(key)) {
+                addPackage(value);
+            } else {
+                classNamesFor(key).add(value);
+            }
+        }
+    }
+
+    public void writeTo(final Writer writer) {
+        final PrintWriter printWriter = new PrintWriter(writer);
+        printWriter.println("# generated by isis-maven-plugin; do not edit");
+        for (final String packageName : packageNames) {
+            printWriter.println(PACKAGE_KEY + "=" + packageName);
+        }
+        for (final Map.Entry<String, Set<String>> entry : classNamesByKey.entrySet()) {
+            for (final String className : entry.getValue()) {
+                printWriter.println(entry.getKey() + "=" + className);
+            }
+        }
+        printWriter.flush();
+    }
+
+    //endregion
+
+    //region > add
+
+    public void addPackage(final String packageName) {
+        packageNames.add(packageName);
+    }
+
+    public void add(final Class<?> key, final Iterable<? extends Class<?>> types) {
+        final Set<String> classNames = classNamesFor(key.getName());
+        for (final Class<?> type : types) {
+            if(type == null) {
+                // Reflections can return a set containing null if nothing is found
+                continue;
+            }
+            classNames.add(type.getName());
+        }
+    }
+
+    private Set<String> classNamesFor(final String key) {
+        Set<String> classNames = classNamesByKey.get(key);
+        if (classNames == null) {
+            classNames = Sets.newTreeSet();
+            classNamesByKey.put(key, classNames);
+        }
+        return classNames;
+    }
+
+    //endregion
+
+    //region > covers, getTypesAnnotatedWith, getSubTypesOf
+
+    public Set<String> getPackageNames() {
+        return Collections.unmodifiableSet(packageNames);
+    }
+
+    /**
+     * Whether every one of the provided packages is the same as, or a subpackage of, a package that was scanned
+     * when the index was built.
+     */
+    public boolean covers(final Iterable<String> requiredPackageNames) {
+        for (final String requiredPackageName : requiredPackageNames) {
+            if (!covers(requiredPackageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean covers(final String requiredPackageName) {
+        for (final String packageName : packageNames) {
+            if (requiredPackageName.equals(packageName) || requiredPackageName.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Equivalent to {@link Reflections#getTypesAnnotatedWith(Class)}, for one of the {@link #ANNOTATIONS}.
+     */
+    public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotationType) {
+        final Set<Class<?>> types = Sets.newLinkedHashSet();
+        for (final String className : classNamesFor(annotationType.getName())) {
+            final Class<?> type = loadClass(className);
+            if (type != null) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Equivalent to {@link Reflections#getSubTypesOf(Class)}, for one of the {@link #SUPER_TYPES}.
+     */
+    public <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> superType) {
+        final Set<Class<? extends T>> types = Sets.newLinkedHashSet();
+        for (final String className : classNamesFor(superType.getName())) {
+            final Class<?> type = loadClass(className);
+            if (type != null && superType.isAssignableFrom(type)) {
+                types.add(type.asSubclass(superType));
+            }
+        }
+        return types;
+    }
+
+    private Class<?> loadClass(final String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            // stale index; ignore
+            return null;
+        }
+    }
+
+    //endregion
+
+}
@@ -40,6 +40,7 @@
 import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.applib.services.eventbus.PropertyDomainEvent;
 import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.metrics.MetricsService2;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
 import org.apache.isis.applib.services.xactn.Transaction;
 import org.apache.isis.schema.common.v1.DifferenceDto;
@@ -49,7 +50,9 @@
 import org.apache.isis.schema.ixn.v1.MemberExecutionDto;
 import org.apache.isis.schema.ixn.v1.MetricsDto;
 import org.apache.isis.schema.ixn.v1.ObjectCountsDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 import org.apache.isis.schema.ixn.v1.PropertyEditDto;
+import org.apache.isis.schema.ixn.v1.StatementCountsDto;
 import org.apache.isis.schema.utils.MemberExecutionDtoUtils;
 import org.apache.isis.schema.utils.jaxbadapters.JavaSqlTimestampXmlGregorianCalendarAdapter;
 
@@ -216,6 +219,11 @@ private Execution push(final Execution execution) {
             execution.setParent(currentExecution);
         }
 
+        // any authorization/validation since the previous execution was in preparation for this one
+        execution.phaseTimings.addAll(pendingPhaseTimings);
+        pendingPhaseTimings.clear();
+        execution.startedAtNanos = System.nanoTime();
+
 
         // update this.currentExecution and this.previousExecution
         moveCurrentTo(execution);
@@ -237,6 +245,7 @@ private Execution pop(final Timestamp completedAt) {
             throw new IllegalStateException("No current execution to pop");
         }
         final Execution popped = currentExecution;
+        popped.completedAtNanos = System.nanoTime();
         popped.setCompletedAt(completedAt);
 
         moveCurrentTo(currentExecution.getParent());
@@ -271,7 +280,70 @@ public List<Execution> getExecutions() {
     @Programmatic
     public void clear() {
         executionGraphs.clear();
+        pendingPhaseTimings.clear();
+        unattributedPhaseTimings.clear();
+    }
+    //endregion
+
+    //region > phase timings
+
+    /**
+     * Authorization and validation performed while no execution is in progress; these are attributed to the
+     * next execution to be {@link #push(Execution) pushed}.
+     */
+    private final PhaseTimings pendingPhaseTimings = new PhaseTimings();
+
+    /**
+     * Phases that could not be attributed to any execution.
+     */
+    private final PhaseTimings unattributedPhaseTimings = new PhaseTimings();
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     *
+     * <p>
+     * Records the time spent in a phase of this interaction, attributing it to an {@link Execution}:
+     * </p>
+     * <ul>
+     *     <li>if there is a {@link #getCurrentExecution() current execution}, then to that execution</li>
+     *     <li>otherwise, {@link PhaseType#AUTHORIZATION authorization} and {@link PhaseType#VALIDATION validation}
+     *     are attributed to the next execution (being in preparation for it)</li>
+     *     <li>otherwise (eg flushing and publishing as the transaction completes, or rendering the result), to the
+     *     most recently completed top-level execution</li>
+     * </ul>
+     * <p>
+     * Any phases that cannot be attributed are available from {@link #getUnattributedPhaseTimings()}.
+     * </p>
+     */
+    @Programmatic
+    public void recordPhase(final PhaseType phaseType, final long nanos) {
+        if(currentExecution != null) {
+            currentExecution.addPhase(phaseType, nanos);
+            return;
+        }
+        if(phaseType == PhaseType.AUTHORIZATION || phaseType == PhaseType.VALIDATION) {
+            pendingPhaseTimings.add(phaseType, nanos);
+            return;
+        }
+        if(!executionGraphs.isEmpty()) {
+            executionGraphs.get(executionGraphs.size() - 1).addPhase(phaseType, nanos);
+            return;
+        }
+        unattributedPhaseTimings.add(phaseType, nanos);
     }
+
+    /**
+     * Those phases that have not (yet) been attributed to any {@link Execution}, eg the rendering of an object when
+     * no action has been invoked, or authorization checks performed when no further execution followed.
+     */
+    @Programmatic
+    public PhaseTimings getUnattributedPhaseTimings() {
+        final PhaseTimings phaseTimings = new PhaseTimings();
+        phaseTimings.addAll(unattributedPhaseTimings);
+        phaseTimings.addAll(pendingPhaseTimings);
+        return phaseTimings;
+    }
+
     //endregion
 
     //region > next (programmatic)
@@ -498,6 +570,52 @@ void setCompletedAt(final Timestamp completedAt) {
             syncMetrics(When.AFTER, completedAt);
         }
 
+        private long startedAtNanos;
+        private long completedAtNanos;
+
+        /**
+         * The elapsed time of this execution, in nanoseconds (including that of any {@link #getChildren() children}),
+         * or <tt>-1</tt> if not yet completed.
+         */
+        @Programmatic
+        public long getElapsedNanos() {
+            return completedAtNanos != 0L ? completedAtNanos - startedAtNanos : -1L;
+        }
+
+        //endregion
+
+        //region > phaseTimings
+
+        private final PhaseTimings phaseTimings = new PhaseTimings();
+
+        /**
+         * The time spent in each phase of this execution (excluding that of any {@link #getChildren() children}).
+         *
+         * <p>
+         *     See {@link Interaction#recordPhase(PhaseType, long)} for how phases are attributed to executions.
+         * </p>
+         */
+        @Programmatic
+        public PhaseTimings getPhaseTimings() {
+            return phaseTimings;
+        }
+
+        void addPhase(final PhaseType phaseType, final long nanos) {
+            phaseTimings.add(phaseType, nanos);
+            if(completedAt != null) {
+                // already completed (eg the transaction is being flushed), so keep the DTO in sync
+                syncPhaseTimings();
+            }
+        }
+
+        private void syncPhaseTimings() {
+            if(dto == null || phaseTimings.isEmpty()) {
+                return;
+            }
+            final MetricsDto metricsDto = MemberExecutionDtoUtils.metricsFor(dto);
+            phaseTimings.copyTo(MemberExecutionDtoUtils.phaseTimingsFor(metricsDto).getPhase());
+        }
+
         //endregion
 
         //region > returned, threw (properties)
@@ -595,6 +713,19 @@ void syncMetrics(
                     numberObjectsDirtiedFor(objectCountsDto).setBefore(numberObjectsDirtied);
                 }
 
+                @Override
+                void syncStatementCounts(
+                        final Execution<?, ?> execution,
+                        final int numberStatementsExecuted,
+                        final int numberRowsFetched,
+                        final int numberRowsUpdated) {
+
+                    final StatementCountsDto statementCountsDto = statementCountsFor(metricsFor(execution));
+                    MemberExecutionDtoUtils.numberStatementsExecutedFor(statementCountsDto).setBefore(numberStatementsExecuted);
+                    MemberExecutionDtoUtils.numberRowsFetchedFor(statementCountsDto).setBefore(numberRowsFetched);
+                    MemberExecutionDtoUtils.numberRowsUpdatedFor(statementCountsDto).setBefore(numberRowsUpdated);
+                }
+
             },
             AFTER {
                 @Override void syncMetrics(
@@ -613,6 +744,21 @@ void syncMetrics(
                     final ObjectCountsDto objectCountsDto = objectCountsFor(metricsDto);
                     numberObjectsLoadedFor(objectCountsDto).setAfter(numberObjectsLoaded);
                     numberObjectsDirtiedFor(objectCountsDto).setAfter(numberObjectsDirtied);
+
+                    execution.syncPhaseTimings();
+                }
+
+                @Override
+                void syncStatementCounts(
+                        final Execution<?, ?> execution,
+                        final int numberStatementsExecuted,
+                        final int numberRowsFetched,
+                        final int numberRowsUpdated) {
+
+                    final StatementCountsDto statementCountsDto = statementCountsFor(metricsFor(execution));
+                    MemberExecutionDtoUtils.numberStatementsExecutedFor(statementCountsDto).setAfter(numberStatementsExecuted);
+                    MemberExecutionDtoUtils.numberRowsFetchedFor(statementCountsDto).setAfter(numberRowsFetched);
+                    MemberExecutionDtoUtils.numberRowsUpdatedFor(statementCountsDto).setAfter(numberRowsUpdated);
                 }
 
             };
@@ -638,6 +784,10 @@ private static MetricsDto metricsFor(final Execution<?, ?> execution) {
             private static PeriodDto timingsFor(final MetricsDto metricsDto) {
                 return MemberExecutionDtoUtils.timingsFor(metricsDto);
             }
+
+            private static StatementCountsDto statementCountsFor(final MetricsDto metricsDto) {
+                return MemberExecutionDtoUtils.statementCountsFor(metricsDto);
+            }
             //endregion
 
             abstract void syncMetrics(
@@ -645,6 +795,12 @@ abstract void syncMetrics(
                     final Timestamp timestamp,
                     final int numberObjectsLoaded,
                     final int numberObjectsDirtied);
+
+            abstract void syncStatementCounts(
+                    final Execution<?, ?> execution,
+                    final int numberStatementsExecuted,
+                    final int numberRowsFetched,
+                    final int numberRowsUpdated);
         }
         private void syncMetrics(final When when, final Timestamp timestamp) {
             final MetricsService metricsService = interaction.metricsService;
@@ -653,6 +809,16 @@ private void syncMetrics(final When when, final Timestamp timestamp) {
             final int numberObjectsDirtied = metricsService.numberObjectsDirtied();
 
             when.syncMetrics(this, timestamp, numberObjectsLoaded, numberObjectsDirtied);
+
+            if(metricsService instanceof MetricsService2) {
+                final MetricsService2 metricsService2 = (MetricsService2) metricsService;
+                if(metricsService2.isCountingStatements()) {
+                    when.syncStatementCounts(this,
+                            metricsService2.numberStatementsExecuted(),
+                            metricsService2.numberRowsFetched(),
+                            metricsService2.numberRowsUpdated());
+                }
+            }
         }
 
         //endregion
@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.iactn;
+
+import java.util.List;
+
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.schema.ixn.v1.PhaseTimingDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+
+/**
+ * The cumulative time (in nanoseconds) spent in each {@link PhaseType phase} of an {@link Interaction.Execution}
+ * (or of the {@link Interaction} as a whole), along with the number of times that each phase was entered.
+ *
+ * <p>
+ *     Not thread-safe; like the {@link Interaction} itself, is only ever accessed by the thread handling the request.
+ * </p>
+ */
+public class PhaseTimings {
+
+    private static final PhaseType[] PHASE_TYPES = PhaseType.values();
+
+    private final long[] nanos = new long[PHASE_TYPES.length];
+    private final long[] counts = new long[PHASE_TYPES.length];
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     */
+    @Programmatic
+    public void add(final PhaseType phaseType, final long nanos) {
+        this.nanos[phaseType.ordinal()] += nanos;
+        this.counts[phaseType.ordinal()]++;
+    }
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     */
+    @Programmatic
+    public void addAll(final PhaseTimings other) {
+        for (int i = 0; i < PHASE_TYPES.length; i++) {
+            this.nanos[i] += other.nanos[i];
+            this.counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     */
+    @Programmatic
+    public void clear() {
+        for (int i = 0; i < PHASE_TYPES.length; i++) {
+            this.nanos[i] = 0L;
+            this.counts[i] = 0L;
+        }
+    }
+
+    /**
+     * The total time spent in the specified phase, in nanoseconds.
+     */
+    @Programmatic
+    public long getNanos(final PhaseType phaseType) {
+        return nanos[phaseType.ordinal()];
+    }
+
+    /**
+     * The number of times that the specified phase was entered.
+     */
+    @Programmatic
+    public long getCount(final PhaseType phaseType) {
+        return counts[phaseType.ordinal()];
+    }
+
+    @Programmatic
+    public boolean isEmpty() {
+        for (final long count : counts) {
+            if(count != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the provided list with one {@link PhaseTimingDto} for each phase that has been entered, in the order
+     * defined by {@link PhaseType}.
+     */
+    @Programmatic
+    public void copyTo(final List<PhaseTimingDto> phaseTimingDtos) {
+        phaseTimingDtos.clear();
+        for (int i = 0; i < PHASE_TYPES.length; i++) {
+            if(counts[i] == 0L) {
+                continue;
+            }
+            final PhaseTimingDto phaseTimingDto = new PhaseTimingDto();
+            phaseTimingDto.setType(PHASE_TYPES[i]);
+            phaseTimingDto.setNanos(nanos[i]);
+            phaseTimingDto.setCount((int) counts[i]);
+            phaseTimingDtos.add(phaseTimingDto);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("PhaseTimings{");
+        boolean first = true;
+        for (int i = 0; i < PHASE_TYPES.length; i++) {
+            if(counts[i] == 0L) {
+                continue;
+            }
+            if(!first) {
+                buf.append(", ");
+            }
+            buf.append(PHASE_TYPES[i].value()).append('=').append(nanos[i]).append("ns/").append(counts[i]);
+            first = false;
+        }
+        return buf.append('}').toString();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.metrics;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.schema.ixn.v1.MemberExecutionDto;
+
+/**
+ * Extends {@link MetricsService} with counts of the SQL statements executed, and of the rows fetched and updated.
+ *
+ * <p>
+ *     The framework's default implementation (<tt>MetricsServiceDefault</tt>) implements this interface.
+ * </p>
+ */
+@RequestScoped
+public interface MetricsService2 extends MetricsService {
+
+    /**
+     * Whether SQL statements are being counted (see {@link #numberStatementsExecuted()},
+     * {@link #numberRowsFetched()} and {@link #numberRowsUpdated()}).
+     *
+     * <p>
+     *     Statement counting requires that JDBC connections are obtained through the framework's counting driver,
+     *     enabled using the <tt>isis.services.metrics.statementCounts</tt> configuration property.
+     * </p>
+     */
+    @Programmatic
+    boolean isCountingStatements();
+
+    /**
+     * The number of SQL statements that have, so far in this request, been executed against the database.
+     *
+     * <p>
+     *     Is captured within {@link MemberExecutionDto#getMetrics()} (accessible from {@link InteractionContext#getInteraction()}),
+     *     but only if {@link #isCountingStatements() statements are being counted}.
+     * </p>
+     */
+    @Programmatic
+    int numberStatementsExecuted();
+
+    /**
+     * The number of rows that have, so far in this request, been read from the result sets of queries.
+     *
+     * <p>
+     *     Is captured within {@link MemberExecutionDto#getMetrics()} (accessible from {@link InteractionContext#getInteraction()}),
+     *     but only if {@link #isCountingStatements() statements are being counted}.
+     * </p>
+     */
+    @Programmatic
+    int numberRowsFetched();
+
+    /**
+     * The number of rows that have, so far in this request, been inserted, updated or deleted.
+     *
+     * <p>
+     *     Is captured within {@link MemberExecutionDto#getMetrics()} (accessible from {@link InteractionContext#getInteraction()}),
+     *     but only if {@link #isCountingStatements() statements are being counted}.
+     * </p>
+     */
+    @Programmatic
+    int numberRowsUpdated();
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.repository;
+
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.query.Query;
+
+/**
+ * Extends {@link RepositoryService} with the ability to count the instances matching a {@link Query}.
+ *
+ * <p>
+ *     The framework's default implementation (<tt>RepositoryServiceInternalDefault</tt>) implements this interface.
+ * </p>
+ */
+public interface RepositoryService2 extends RepositoryService {
+
+    /**
+     * Returns the number of instances that match the given {@link Query}, ignoring any range that it specifies.
+     *
+     * <p>
+     *     The count is performed by the database (for example, a <tt>COUNT</tt> projection of a JDO named query),
+     *     without loading the matching instances.  This makes it suitable for showing the total number of results
+     *     alongside a page of results obtained using {@link #allMatches(Query)} with a range.
+     * </p>
+     */
+    @Programmatic
+    <T> long count(Query<T> query);
+
+}
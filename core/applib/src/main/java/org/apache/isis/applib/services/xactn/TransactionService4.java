@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.xactn;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+public interface TransactionService4 extends TransactionService3 {
+
+    /**
+     * Releases the framework's (and the object store's) in-memory references to the provided domain object, so that
+     * it can be garbage collected.
+     *
+     * <p>
+     *     Only clean objects are evicted, that is persistent entities that have not been created, modified or
+     *     deleted in the current transaction; for any other object this method does nothing.  If the object is
+     *     subsequently used again then it is transparently re-read from the database.
+     * </p>
+     *
+     * <p>
+     *     Intended for long-running background jobs and fixture scripts that iterate over large numbers of objects
+     *     within a single session.
+     * </p>
+     *
+     * @return whether the object was evicted.
+     */
+    @Programmatic
+    boolean evict(Object domainObject);
+
+    /**
+     * As per {@link #evict(Object)}, for all clean objects currently held in memory.
+     *
+     * <p>
+     *     Typically called immediately after {@link #nextTransaction() committing} a batch of work.
+     * </p>
+     *
+     * @return the number of objects evicted.
+     */
+    @Programmatic
+    int evictAll();
+
+}
@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.xmlsnapshot;
+
+import java.io.OutputStream;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Extends {@link XmlSnapshotService} with the ability to stream snapshots (and their schema) directly to an
+ * {@link OutputStream}, rather than building them up in memory as a DOM {@link org.w3c.dom.Document}.
+ *
+ * <p>
+ *     This is recommended for large object graphs: the memory required is bounded by the depth of the paths
+ *     included and by the number of distinct types encountered, rather than by the number of objects.
+ * </p>
+ */
+public interface XmlSnapshotService2 extends XmlSnapshotService {
+
+    public interface Builder2 extends XmlSnapshotService.Builder {
+
+        /**
+         * Streams the snapshot as XML to the first output stream, and (if not <tt>null</tt>) its corresponding XSD
+         * schema to the second.
+         *
+         * <p>
+         *     The XSD is only written once the XML has been (since it depends upon the actual types of the objects
+         *     encountered).  Neither stream is closed.
+         * </p>
+         */
+        public void writeTo(final OutputStream xmlOut, final OutputStream xsdOutIfAny);
+    }
+
+    /**
+     * As per {@link #snapshotFor(Object)}, but streamed to the provided output streams.
+     *
+     * @see Builder2#writeTo(OutputStream, OutputStream)
+     */
+    @Programmatic
+    public void writeSnapshotFor(final Object domainObject, final OutputStream xmlOut, final OutputStream xsdOutIfAny);
+
+    /**
+     * As per {@link XmlSnapshotService#builderFor(Object)}, but returning a builder that can also stream the
+     * snapshot.
+     */
+    @Programmatic
+    @Override
+    public XmlSnapshotService2.Builder2 builderFor(final Object domainObject);
+
+}
@@ -113,9 +113,11 @@ public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass())
             return false;
         final Blob blob = (Blob) o;
-        return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
-                Objects.equals(name, blob.name);
+        // cheap checks first; only compare the content if otherwise indistinguishable
+        return bytes.length == blob.bytes.length &&
+                Objects.equals(name, blob.name) &&
+                Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
+                Arrays.equals(bytes, blob.bytes);
     }
 
     @Override
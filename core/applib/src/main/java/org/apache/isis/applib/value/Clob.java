@@ -114,7 +114,9 @@ public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass())
             return false;
         final Clob clob = (Clob) o;
-        return Objects.equals(name, clob.name) &&
+        // cheap checks first; only compare the content if otherwise indistinguishable
+        return chars.length() == clob.chars.length() &&
+                Objects.equals(name, clob.name) &&
                 Objects.equals(mimeType.toString(), clob.mimeType.toString()) &&
                 Objects.equals(chars, clob.chars);
     }
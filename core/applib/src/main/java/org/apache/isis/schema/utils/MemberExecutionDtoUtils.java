@@ -35,6 +35,8 @@
 import org.apache.isis.schema.ixn.v1.MemberExecutionDto;
 import org.apache.isis.schema.ixn.v1.MetricsDto;
 import org.apache.isis.schema.ixn.v1.ObjectCountsDto;
+import org.apache.isis.schema.ixn.v1.PhaseTimingsDto;
+import org.apache.isis.schema.ixn.v1.StatementCountsDto;
 
 public final class MemberExecutionDtoUtils {
 
@@ -115,4 +117,49 @@ public static DifferenceDto numberObjectsDirtiedFor(final ObjectCountsDto object
         }
         return differenceDto;
     }
+
+    public static PhaseTimingsDto phaseTimingsFor(final MetricsDto metricsDto) {
+        PhaseTimingsDto phaseTimings = metricsDto.getPhaseTimings();
+        if(phaseTimings == null) {
+            phaseTimings = new PhaseTimingsDto();
+            metricsDto.setPhaseTimings(phaseTimings);
+        }
+        return phaseTimings;
+    }
+
+    public static StatementCountsDto statementCountsFor(final MetricsDto metricsDto) {
+        StatementCountsDto statementCounts = metricsDto.getStatementCounts();
+        if(statementCounts == null) {
+            statementCounts = new StatementCountsDto();
+            metricsDto.setStatementCounts(statementCounts);
+        }
+        return statementCounts;
+    }
+
+    public static DifferenceDto numberStatementsExecutedFor(final StatementCountsDto statementCountsDto) {
+        DifferenceDto differenceDto = statementCountsDto.getExecuted();
+        if(differenceDto == null) {
+            differenceDto = new DifferenceDto();
+            statementCountsDto.setExecuted(differenceDto);
+        }
+        return differenceDto;
+    }
+
+    public static DifferenceDto numberRowsFetchedFor(final StatementCountsDto statementCountsDto) {
+        DifferenceDto differenceDto = statementCountsDto.getRowsFetched();
+        if(differenceDto == null) {
+            differenceDto = new DifferenceDto();
+            statementCountsDto.setRowsFetched(differenceDto);
+        }
+        return differenceDto;
+    }
+
+    public static DifferenceDto numberRowsUpdatedFor(final StatementCountsDto statementCountsDto) {
+        DifferenceDto differenceDto = statementCountsDto.getRowsUpdated();
+        if(differenceDto == null) {
+            differenceDto = new DifferenceDto();
+            statementCountsDto.setRowsUpdated(differenceDto);
+        }
+        return differenceDto;
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.classdiscovery;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import com.google.common.base.Charsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.ViewModel;
+import org.apache.isis.applib.fixturescripts.FixtureScript;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ClassDiscoveryIndexTest {
+
+    @DomainService
+    public static class SomeService {
+    }
+
+    public static class SomeFixture extends FixtureScript {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+    }
+
+    ClassDiscoveryIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        index = new ClassDiscoveryIndex(getClass().getClassLoader());
+        index.addPackage("org.apache.isis.applib.services");
+        index.add(DomainService.class, Collections.<Class<?>>singletonList(SomeService.class));
+        index.add(FixtureScript.class, Collections.<Class<?>>singletonList(SomeFixture.class));
+    }
+
+    public static class Covers extends ClassDiscoveryIndexTest {
+
+        @Test
+        public void same_or_sub_package() throws Exception {
+            assertThat(index.covers(Arrays.asList("org.apache.isis.applib.services")), is(true));
+            assertThat(index.covers(Arrays.asList("org.apache.isis.applib.services.classdiscovery")), is(true));
+        }
+
+        @Test
+        public void other_or_prefix_package() throws Exception {
+            assertThat(index.covers(Arrays.asList("org.apache.isis.applib")), is(false));
+            assertThat(index.covers(Arrays.asList("org.apache.isis.applib.servicesx")), is(false));
+            assertThat(index.covers(Arrays.asList("org.apache.isis.applib.services", "com.mycompany")), is(false));
+        }
+    }
+
+    public static class RoundTrip extends ClassDiscoveryIndexTest {
+
+        @Test
+        public void write_then_read() throws Exception {
+
+            final StringWriter writer = new StringWriter();
+            index.writeTo(writer);
+
+            final ClassDiscoveryIndex reread = new ClassDiscoveryIndex(getClass().getClassLoader());
+            reread.read(new ByteArrayInputStream(writer.toString().getBytes(Charsets.UTF_8)));
+
+            assertThat(reread.getPackageNames(), is(index.getPackageNames()));
+
+            final Set<Class<?>> services = reread.getTypesAnnotatedWith(DomainService.class);
+            assertThat(services.size(), is(1));
+            assertThat(services.contains(SomeService.class), is(true));
+
+            final Set<Class<? extends FixtureScript>> fixtures = reread.getSubTypesOf(FixtureScript.class);
+            assertThat(fixtures.size(), is(1));
+            assertThat(fixtures.contains(SomeFixture.class), is(true));
+
+            assertThat(reread.getTypesAnnotatedWith(ViewModel.class).isEmpty(), is(true));
+        }
+
+        @Test
+        public void ignores_classes_no_longer_on_classpath() throws Exception {
+
+            final ClassDiscoveryIndex reread = new ClassDiscoveryIndex(getClass().getClassLoader());
+            final String text = DomainService.class.getName() + "=com.mycompany.NoSuchService\n";
+            reread.read(new ByteArrayInputStream(text.getBytes(Charsets.UTF_8)));
+
+            assertThat(reread.getTypesAnnotatedWith(DomainService.class).isEmpty(), is(true));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.applib.services.iactn;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+
+import org.apache.isis.schema.ixn.v1.PhaseTimingDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PhaseTimingsTest {
+
+    @Test
+    public void add_accumulates_per_phase() throws Exception {
+        final PhaseTimings phaseTimings = new PhaseTimings();
+        assertThat(phaseTimings.isEmpty(), is(true));
+
+        phaseTimings.add(PhaseType.VALIDATION, 100L);
+        phaseTimings.add(PhaseType.VALIDATION, 50L);
+        phaseTimings.add(PhaseType.FLUSH, 1000L);
+
+        assertThat(phaseTimings.isEmpty(), is(false));
+        assertThat(phaseTimings.getNanos(PhaseType.VALIDATION), is(150L));
+        assertThat(phaseTimings.getCount(PhaseType.VALIDATION), is(2L));
+        assertThat(phaseTimings.getNanos(PhaseType.FLUSH), is(1000L));
+        assertThat(phaseTimings.getCount(PhaseType.INVOCATION), is(0L));
+    }
+
+    @Test
+    public void addAll_and_clear() throws Exception {
+        final PhaseTimings phaseTimings = new PhaseTimings();
+        phaseTimings.add(PhaseType.AUTHORIZATION, 10L);
+        final PhaseTimings other = new PhaseTimings();
+        other.add(PhaseType.AUTHORIZATION, 5L);
+        other.add(PhaseType.RENDERING, 20L);
+
+        phaseTimings.addAll(other);
+
+        assertThat(phaseTimings.getNanos(PhaseType.AUTHORIZATION), is(15L));
+        assertThat(phaseTimings.getCount(PhaseType.AUTHORIZATION), is(2L));
+        assertThat(phaseTimings.getNanos(PhaseType.RENDERING), is(20L));
+
+        phaseTimings.clear();
+
+        assertThat(phaseTimings.isEmpty(), is(true));
+    }
+
+    @Test
+    public void copyTo_only_includes_phases_entered() throws Exception {
+        final PhaseTimings phaseTimings = new PhaseTimings();
+        phaseTimings.add(PhaseType.PUBLISHING, 30L);
+        phaseTimings.add(PhaseType.INVOCATION, 200L);
+        final List<PhaseTimingDto> dtos = Lists.newArrayList(new PhaseTimingDto());
+
+        phaseTimings.copyTo(dtos);
+
+        assertThat(dtos.size(), is(2));
+        assertThat(dtos.get(0).getType(), is(PhaseType.INVOCATION));
+        assertThat(dtos.get(0).getNanos(), is(200L));
+        assertThat(dtos.get(0).getCount(), is(1));
+        assertThat(dtos.get(1).getType(), is(PhaseType.PUBLISHING));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.value;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BlobTest_equals {
+
+    @Test
+    public void same_content() throws Exception {
+        final Blob blob1 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+        final Blob blob2 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+
+        assertThat(blob1.equals(blob2), is(true));
+        assertThat(blob1.hashCode(), is(blob2.hashCode()));
+    }
+
+    @Test
+    public void different_content_of_same_length() throws Exception {
+        final Blob blob1 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+        final Blob blob2 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,3});
+
+        assertThat(blob1.equals(blob2), is(false));
+    }
+
+    @Test
+    public void different_length() throws Exception {
+        final Blob blob1 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+        final Blob blob2 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1});
+
+        assertThat(blob1.equals(blob2), is(false));
+    }
+
+    @Test
+    public void different_name() throws Exception {
+        final Blob blob1 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+        final Blob blob2 = new Blob("other.pdf", "application", "pdf", new byte[]{0,1,2});
+
+        assertThat(blob1.equals(blob2), is(false));
+    }
+
+    @Test
+    public void content_modified_after_hashing() throws Exception {
+        final Blob blob1 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,2});
+        blob1.hashCode();
+        blob1.getBytes()[2] = 3;
+        final Blob blob2 = new Blob("doc.pdf", "application", "pdf", new byte[]{0,1,3});
+
+        assertThat(blob1.equals(blob2), is(true));
+        assertThat(blob1.hashCode(), is(blob2.hashCode()));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.core.metamodel.facets.value.ThreadSafeDateFormat;
+
+/**
+ * Formatting and parsing of dates by the value semantics providers under concurrent use: a {@link ThreadSafeDateFormat}
+ * versus a single {@link DateFormat} guarded by synchronization.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DateFormatBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private final Date date = new Date(1500000000000L);
+
+    private final DateFormat sharedDateFormat = new SimpleDateFormat(PATTERN);
+    private final ThreadSafeDateFormat threadSafeDateFormat = ThreadSafeDateFormat.of(new SimpleDateFormat(PATTERN));
+
+    private final String dateStr = threadSafeDateFormat.format(date);
+
+    @Benchmark
+    public String formatSynchronized() {
+        synchronized (sharedDateFormat) {
+            return sharedDateFormat.format(date);
+        }
+    }
+
+    @Benchmark
+    public String formatThreadSafe() {
+        return threadSafeDateFormat.format(date);
+    }
+
+    @Benchmark
+    public Date parseSynchronized() throws ParseException {
+        synchronized (sharedDateFormat) {
+            return sharedDateFormat.parse(dateStr);
+        }
+    }
+
+    @Benchmark
+    public Date parseThreadSafe() throws ParseException {
+        return threadSafeDateFormat.parse(dateStr);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
+
+/**
+ * Rendering of an entity as a Restful Objects domain object representation, as for a <tt>GET</tt> of
+ * <tt>/objects/{domainType}/{instanceId}</tt>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DomainObjectReprRendererBenchmark {
+
+    @Benchmark
+    public JsonRepresentation render(final IsisSystemState state) {
+        return newRenderer(state).render();
+    }
+
+    @Benchmark
+    public String renderAndWrite(final IsisSystemState state) throws IOException {
+        return JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(newRenderer(state).render());
+    }
+
+    private static DomainObjectReprRenderer newRenderer(final IsisSystemState state) {
+        final RendererContextForBenchmark rendererContext =
+                new RendererContextForBenchmark(state.getIsisSessionFactory());
+        return new DomainObjectReprRenderer(rendererContext, null, JsonRepresentation.newMap())
+                .with(state.getCustomerAdapter())
+                .includesSelf();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.core.commons.lang.MethodUtil;
+import org.apache.isis.core.metamodel.methodutils.MethodCatalogue;
+import org.apache.isis.core.metamodel.methodutils.MethodScope;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewMethod;
+
+/**
+ * The method lookups performed by the facet factories while introspecting a class, using a {@link MethodCatalogue}
+ * versus a linear scan (as per {@link MethodUtil}) of the class' methods.
+ *
+ * <p>
+ *     Runs against a synthetic class (generated once per trial) with the specified number of properties, each of
+ *     which has an accessor, a mutator and the usual supporting methods.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntrospectionBenchmark {
+
+    private static final String[] SUPPORTING_METHOD_PREFIXES = { "hide", "disable", "validate", "default", "choices" };
+
+    @Param({ "10", "100", "1000" })
+    public int numberOfProperties;
+
+    private Method[] methods;
+    private String[] propertyNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ClassPool classPool = ClassPool.getDefault();
+        final CtClass ctClass = classPool.makeClass(
+                IntrospectionBenchmark.class.getName() + "$Synthetic" + numberOfProperties);
+        propertyNames = new String[numberOfProperties];
+        for (int i = 0; i < numberOfProperties; i++) {
+            final String name = "Property" + i;
+            propertyNames[i] = name;
+            ctClass.addMethod(CtNewMethod.make("public String get" + name + "() { return null; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public void set" + name + "(String s) { }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public boolean hide" + name + "() { return false; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public String disable" + name + "() { return null; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public String validate" + name + "(String s) { return null; }", ctClass));
+        }
+        methods = ctClass.toClass().getMethods();
+    }
+
+    @Benchmark
+    public List<Method> linearScan() {
+        final List<Method> methodList = Lists.newArrayList(Arrays.asList(methods));
+        final List<Method> accessors = MethodUtil.removeMethods(methodList, MethodScope.OBJECT, "get", null, false, 0);
+        for (final String propertyName : propertyNames) {
+            for (final String prefix : SUPPORTING_METHOD_PREFIXES) {
+                MethodUtil.removeMethod(methodList, MethodScope.OBJECT, prefix + propertyName, null, null);
+            }
+        }
+        return accessors;
+    }
+
+    @Benchmark
+    public List<Method> catalogue() {
+        final MethodCatalogue catalogue = new MethodCatalogue(methods);
+        final List<Method> accessors = catalogue.removeMethods(MethodScope.OBJECT, "get", null, false, 0);
+        for (final String propertyName : propertyNames) {
+            for (final String prefix : SUPPORTING_METHOD_PREFIXES) {
+                catalogue.removeMethod(MethodScope.OBJECT, prefix + propertyName, null, null);
+            }
+        }
+        return accessors;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.isis.core.benchmarks.fixture.BenchmarkModule;
+import org.apache.isis.core.benchmarks.fixture.dom.Customer;
+import org.apache.isis.core.benchmarks.fixture.dom.Customers;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.headless.IsisSystem;
+import org.apache.isis.core.runtime.headless.IsisSystemBootstrapper;
+import org.apache.isis.core.runtime.headless.logging.LogConfig;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+
+/**
+ * Bootstraps the {@link BenchmarkModule fixture domain} (using an in-memory HSQLDB), once per trial, and holds a
+ * transaction open for the duration.
+ *
+ * <p>
+ *     The {@link IsisSystem} and its session are bound to the thread that bootstraps it, hence this state is
+ *     {@link Scope#Thread thread}-scoped; benchmarks that use it should be run single-threaded.
+ * </p>
+ */
+@State(Scope.Thread)
+public class IsisSystemState {
+
+    private IsisSystem isisSystem;
+
+    private List<Customer> customers;
+    private Customer customer;
+    private ObjectAdapter customerAdapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final IsisSystemBootstrapper bootstrapper =
+                new IsisSystemBootstrapper(new LogConfig(org.slf4j.event.Level.WARN), new BenchmarkModule());
+        isisSystem = bootstrapper.bootstrapIfRequired();
+
+        isisSystem.beginTran();
+        bootstrapper.setupModuleRefData();
+
+        customers = getService(Customers.class).listAll();
+        customer = customers.get(0);
+        customerAdapter = getPersistenceSession().adapterFor(customer);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        isisSystem.endTran();
+    }
+
+    public <T> T getService(final Class<T> serviceClass) {
+        return isisSystem.getService(serviceClass);
+    }
+
+    public IsisSessionFactory getIsisSessionFactory() {
+        return isisSystem.getIsisSessionFactory();
+    }
+
+    public SpecificationLoader getSpecificationLoader() {
+        return getIsisSessionFactory().getSpecificationLoader();
+    }
+
+    public PersistenceSession getPersistenceSession() {
+        return getIsisSessionFactory().getCurrentSession().getPersistenceSession();
+    }
+
+    public ObjectSpecification getCustomerSpecification() {
+        return getSpecificationLoader().loadSpecification(Customer.class);
+    }
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public ObjectAdapter getCustomerAdapter() {
+        return customerAdapter;
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.layout.grid.Grid;
+import org.apache.isis.applib.layout.menubars.MenuBars;
+import org.apache.isis.applib.services.grid.GridService;
+import org.apache.isis.applib.services.jaxb.JaxbService;
+import org.apache.isis.applib.services.menu.MenuBarsService;
+import org.apache.isis.core.benchmarks.fixture.dom.Customer;
+
+/**
+ * Marshalling (and unmarshalling) of layout metadata using the {@link JaxbService}, as occurs whenever a
+ * <tt>.layout.xml</tt> or <tt>menubars.layout.xml</tt> is (re)loaded, or is downloaded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class JaxbServiceBenchmark {
+
+    private JaxbService jaxbService;
+    private Grid grid;
+    private String gridXml;
+    private MenuBars menuBars;
+
+    @Setup(Level.Trial)
+    public void setUp(final IsisSystemState state) {
+        jaxbService = state.getService(JaxbService.class);
+        final GridService gridService = state.getService(GridService.class);
+        grid = gridService.complete(gridService.defaultGridFor(Customer.class));
+        gridXml = jaxbService.toXml(grid);
+        menuBars = state.getService(MenuBarsService.class).menuBars();
+    }
+
+    @Benchmark
+    public String gridToXml() {
+        return jaxbService.toXml(grid);
+    }
+
+    @Benchmark
+    public Grid gridFromXml() {
+        return jaxbService.fromXml(grid.getClass(), gridXml);
+    }
+
+    @Benchmark
+    public String menuBarsToXml() {
+        return jaxbService.toXml(menuBars);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.core.benchmarks.fixture.dom.Customer;
+
+/**
+ * Invocation of domain object methods (a property accessor, and an action) reflectively, as the method-backed facets
+ * do, versus through a {@link MethodHandle} compiled from the same {@link Method}; no system required.
+ *
+ * <p>
+ * A facet can only hold its handle in an instance field, which the JIT cannot treat as a constant; the
+ * <tt>...ViaConstantMethodHandle</tt> benchmarks show the best case, of a handle held in a <tt>static final</tt>.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodInvocationBenchmark {
+
+    private static final MethodHandle ACCESSOR_HANDLE;
+    private static final MethodHandle ACTION_HANDLE;
+    static {
+        try {
+            ACCESSOR_HANDLE = handleFor(Customer.class.getMethod("getLastName"));
+            ACTION_HANDLE = handleFor(Customer.class.getMethod("changeEmail", String.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Adapted to the signature a facet would invoke with, (Object[, Object]) returning Object.
+     */
+    private static MethodHandle handleFor(final Method method) throws IllegalAccessException {
+        final MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+
+    private final Customer customer = new Customer();
+
+    private Method accessor;
+    private Method action;
+    private MethodHandle accessorHandle;
+    private MethodHandle actionHandle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        customer.setLastName("Smith");
+        accessor = Customer.class.getMethod("getLastName");
+        action = Customer.class.getMethod("changeEmail", String.class);
+        accessorHandle = handleFor(accessor);
+        actionHandle = handleFor(action);
+    }
+
+    @Benchmark
+    public Object accessorViaReflection() throws Exception {
+        return accessor.invoke(customer);
+    }
+
+    @Benchmark
+    public Object accessorViaMethodHandle() throws Throwable {
+        return (Object) accessorHandle.invokeExact((Object) customer);
+    }
+
+    @Benchmark
+    public Object accessorViaConstantMethodHandle() throws Throwable {
+        return (Object) ACCESSOR_HANDLE.invokeExact((Object) customer);
+    }
+
+    @Benchmark
+    public Object actionViaReflection() throws Exception {
+        return action.invoke(customer, "smith@example.com");
+    }
+
+    @Benchmark
+    public Object actionViaMethodHandle() throws Throwable {
+        return (Object) actionHandle.invokeExact((Object) customer, (Object) "smith@example.com");
+    }
+
+    @Benchmark
+    public Object actionViaConstantMethodHandle() throws Throwable {
+        return (Object) ACTION_HANDLE.invokeExact((Object) customer, (Object) "smith@example.com");
+    }
+
+}
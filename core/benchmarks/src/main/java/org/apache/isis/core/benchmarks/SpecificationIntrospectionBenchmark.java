@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewMethod;
+
+/**
+ * Introspection of a number of classes end to end (creating each specification and all of its facets and members),
+ * as performed when the metamodel is built at bootstrap; complements {@link IntrospectionBenchmark}, which times
+ * only the method lookups.
+ *
+ * <p>
+ *     Every iteration introspects classes that the {@link SpecificationLoader} has not seen before, so these are
+ *     generated (outside of the measurement) before each iteration, each with the specified number of properties
+ *     and a couple of actions. Because the loader caches every specification it creates, each iteration is a single
+ *     shot rather than a timed loop.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class SpecificationIntrospectionBenchmark {
+
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    @Param({ "10", "100" })
+    public int numberOfClasses;
+
+    @Param({ "10" })
+    public int numberOfProperties;
+
+    private Class<?>[] classes;
+
+    @Setup(Level.Iteration)
+    public void generateClasses() throws Exception {
+        final ClassPool classPool = ClassPool.getDefault();
+        final String packageName = SpecificationIntrospectionBenchmark.class.getPackage().getName()
+                + ".generated" + generation.incrementAndGet();
+        classes = new Class<?>[numberOfClasses];
+        for (int i = 0; i < numberOfClasses; i++) {
+            final CtClass ctClass = classPool.makeClass(packageName + ".Synthetic" + i);
+            for (int j = 0; j < numberOfProperties; j++) {
+                final String name = "Property" + j;
+                ctClass.addMethod(CtNewMethod.make("public String get" + name + "() { return null; }", ctClass));
+                ctClass.addMethod(CtNewMethod.make("public void set" + name + "(String s) { }", ctClass));
+                ctClass.addMethod(CtNewMethod.make("public boolean hide" + name + "() { return false; }", ctClass));
+                ctClass.addMethod(CtNewMethod.make("public String disable" + name + "() { return null; }", ctClass));
+                ctClass.addMethod(CtNewMethod.make("public String validate" + name + "(String s) { return null; }", ctClass));
+            }
+            ctClass.addMethod(CtNewMethod.make("public String title() { return null; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public Object update(String s) { return this; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public String default0Update() { return null; }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public void delete() { }", ctClass));
+            ctClass.addMethod(CtNewMethod.make("public String disableDelete() { return null; }", ctClass));
+            classes[i] = ctClass.toClass();
+            ctClass.detach();
+        }
+    }
+
+    @Benchmark
+    public void introspect(final IsisSystemState state, final Blackhole blackhole) {
+        final SpecificationLoader specificationLoader = state.getSpecificationLoader();
+        for (final Class<?> cls : classes) {
+            blackhole.consume(
+                    specificationLoader.loadSpecification(cls, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED));
+        }
+    }
+
+}
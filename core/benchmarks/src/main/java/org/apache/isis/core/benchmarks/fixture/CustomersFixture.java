@@ -0,0 +1,57 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks.fixture;
+
+import java.math.BigDecimal;
+
+import org.joda.time.LocalDate;
+
+import org.apache.isis.applib.fixturescripts.FixtureScript;
+import org.apache.isis.core.benchmarks.fixture.dom.Customers;
+
+public class CustomersFixture extends FixtureScript {
+
+    public static final int NUMBER_DEFAULT = 100;
+
+    private int number = NUMBER_DEFAULT;
+
+    public int getNumber() {
+        return number;
+    }
+
+    public CustomersFixture setNumber(final int number) {
+        this.number = number;
+        return this;
+    }
+
+    @Override
+    protected void execute(final ExecutionContext executionContext) {
+        final LocalDate startDate = new LocalDate(1970, 1, 1);
+        for (int i = 0; i < number; i++) {
+            executionContext.addResult(this, customers.create(
+                    "First" + i, "Last" + i, "customer" + i + "@example.com",
+                    startDate.plusDays(i * 97), new BigDecimal(1000 + i).movePointLeft(2)));
+        }
+    }
+
+    @javax.inject.Inject
+    Customers customers;
+
+}
@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks.fixture.dom;
+
+import java.math.BigDecimal;
+
+import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.VersionStrategy;
+
+import org.joda.time.LocalDate;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Editing;
+import org.apache.isis.applib.annotation.MemberOrder;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.applib.annotation.SemanticsOf;
+import org.apache.isis.applib.annotation.Title;
+
+@javax.jdo.annotations.PersistenceCapable(identityType = IdentityType.DATASTORE, schema = "benchmarks")
+@javax.jdo.annotations.DatastoreIdentity(strategy = javax.jdo.annotations.IdGeneratorStrategy.IDENTITY, column = "id")
+@javax.jdo.annotations.Version(strategy = VersionStrategy.VERSION_NUMBER, column = "version")
+@DomainObject(objectType = "benchmarks.Customer")
+public class Customer implements Comparable<Customer> {
+
+    //region > firstName (property)
+    private String firstName;
+
+    @javax.jdo.annotations.Column(allowsNull = "false", length = 40)
+    @Title(sequence = "1")
+    @MemberOrder(sequence = "1")
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(final String firstName) {
+        this.firstName = firstName;
+    }
+    //endregion
+
+    //region > lastName (property)
+    private String lastName;
+
+    @javax.jdo.annotations.Column(allowsNull = "false", length = 40)
+    @Title(sequence = "2")
+    @MemberOrder(sequence = "2")
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(final String lastName) {
+        this.lastName = lastName;
+    }
+    //endregion
+
+    //region > email (property)
+    private String email;
+
+    @javax.jdo.annotations.Column(allowsNull = "true", length = 254)
+    @Property(editing = Editing.ENABLED)
+    @MemberOrder(sequence = "3")
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(final String email) {
+        this.email = email;
+    }
+    //endregion
+
+    //region > dateOfBirth (property)
+    private LocalDate dateOfBirth;
+
+    @javax.jdo.annotations.Column(allowsNull = "true")
+    @MemberOrder(sequence = "4")
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(final LocalDate dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+    //endregion
+
+    //region > creditLimit (property)
+    private BigDecimal creditLimit;
+
+    @javax.jdo.annotations.Column(allowsNull = "true", scale = 2)
+    @MemberOrder(sequence = "5")
+    public BigDecimal getCreditLimit() {
+        return creditLimit;
+    }
+
+    public void setCreditLimit(final BigDecimal creditLimit) {
+        this.creditLimit = creditLimit;
+    }
+    //endregion
+
+    //region > changeEmail (action)
+    @org.apache.isis.applib.annotation.Action(semantics = SemanticsOf.IDEMPOTENT)
+    public Customer changeEmail(final String email) {
+        setEmail(email);
+        return this;
+    }
+
+    public String default0ChangeEmail() {
+        return getEmail();
+    }
+
+    public String validate0ChangeEmail(final String email) {
+        return email != null && !email.contains("@") ? "Not a valid email address" : null;
+    }
+    //endregion
+
+    //region > compareTo
+    @Override
+    public int compareTo(final Customer other) {
+        final int compare = getLastName().compareTo(other.getLastName());
+        return compare != 0 ? compare : getFirstName().compareTo(other.getFirstName());
+    }
+    //endregion
+
+}
@@ -0,0 +1,59 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.benchmarks.fixture.dom;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.joda.time.LocalDate;
+
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.NatureOfService;
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.services.repository.RepositoryService;
+
+@DomainService(nature = NatureOfService.DOMAIN, objectType = "benchmarks.Customers")
+public class Customers {
+
+    @Programmatic
+    public Customer create(
+            final String firstName,
+            final String lastName,
+            final String email,
+            final LocalDate dateOfBirth,
+            final BigDecimal creditLimit) {
+        final Customer customer = repositoryService.instantiate(Customer.class);
+        customer.setFirstName(firstName);
+        customer.setLastName(lastName);
+        customer.setEmail(email);
+        customer.setDateOfBirth(dateOfBirth);
+        customer.setCreditLimit(creditLimit);
+        return repositoryService.persistAndFlush(customer);
+    }
+
+    @Programmatic
+    public List<Customer> listAll() {
+        return repositoryService.allInstances(Customer.class);
+    }
+
+    @javax.inject.Inject
+    RepositoryService repositoryService;
+
+}
@@ -0,0 +1,107 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.tool.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import org.apache.isis.applib.AppManifest;
+import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryIndex;
+import org.apache.isis.core.commons.factory.InstanceUtil;
+
+/**
+ * Scans the packages of the {@link AppManifest}'s modules (along with those of the framework) and writes out a
+ * {@link ClassDiscoveryIndex} resource, so that the runtime need not scan the classpath at bootstrap.
+ *
+ * <p>
+ * Unlike the other goals, this does not bootstrap the Isis runtime.
+ * </p>
+ */
+@Mojo(
+        name = "index",
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresProject = true,
+        requiresDependencyResolution = ResolutionScope.COMPILE,
+        requiresDependencyCollection = ResolutionScope.COMPILE
+)
+public class IsisMojoIndex extends AbstractMojo {
+
+    @Component
+    private MavenProject mavenProject;
+
+    @Parameter(required = true, readonly = false, property = "appManifest")
+    private String appManifest;
+
+    /**
+     * File to write the index to, relative to the build output directory (<code>target/classes</code>).
+     */
+    @Parameter(required = false, readonly = false, property = "output", defaultValue = ClassDiscoveryIndex.RESOURCE_NAME)
+    private String output;
+
+    protected IsisMojoIndex() {
+    }
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+
+        final AppManifest manifest = InstanceUtil.createInstance(this.appManifest, AppManifest.class);
+
+        final List<Class<?>> modules = manifest.getModules();
+        if (modules == null || modules.isEmpty()) {
+            throw new MojoFailureException("appManifest must return a non-empty set of modules");
+        }
+
+        final List<String> packageNames = Lists.newArrayList(AppManifest.Registry.FRAMEWORK_PROVIDED_SERVICES);
+        for (final Class<?> module : modules) {
+            packageNames.add(module.getPackage().getName());
+        }
+
+        final ClassDiscoveryIndex index = ClassDiscoveryIndex.scan(packageNames);
+
+        final File indexFile = new File(mavenProject.getBuild().getOutputDirectory(), output);
+        try {
+            Files.createParentDirs(indexFile);
+        } catch (IOException e) {
+            throw new MojoFailureException(String.format("Failed to create dir: '%s'", indexFile.getParent()));
+        }
+        try (final Writer writer = Files.newWriter(indexFile, Charsets.UTF_8)) {
+            index.writeTo(writer);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write out " + indexFile, e);
+        }
+
+        getLog().info("wrote class discovery index to " + indexFile + " for packages " + packageNames);
+    }
+
+}
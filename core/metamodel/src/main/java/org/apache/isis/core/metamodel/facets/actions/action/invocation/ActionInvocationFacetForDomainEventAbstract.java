@@ -72,6 +72,7 @@
 import org.apache.isis.core.metamodel.facets.actions.semantics.ActionSemanticsFacet;
 import org.apache.isis.core.metamodel.facets.collections.modify.CollectionFacet;
 import org.apache.isis.core.metamodel.facets.object.viewmodel.ViewModelFacet;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.ixn.InteractionDtoServiceInternal;
 import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
@@ -83,6 +84,7 @@
 import org.apache.isis.core.metamodel.specloader.specimpl.MixedInMember2;
 import org.apache.isis.core.runtime.system.transaction.TransactionalClosure;
 import org.apache.isis.schema.ixn.v1.ActionInvocationDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 public abstract class ActionInvocationFacetForDomainEventAbstract
         extends ActionInvocationFacetAbstract
@@ -99,6 +101,7 @@
     private final AuthenticationSessionProvider authenticationSessionProvider;
 
     private final ServicesInjector servicesInjector;
+    private PhaseTimer phaseTimer;
     private final IsisConfiguration configuration;
     private final Class<? extends ActionDomainEvent<?>> eventType;
     private final DomainEventHelper domainEventHelper;
@@ -259,7 +262,13 @@ public Object execute(final Interaction.ActionInvocation currentExecution) {
                         currentExecution.setEvent(event);
 
                         // invoke method
-                        final Object resultPojo = invokeMethodElseFromCache(targetAdapter, argumentAdapters);
+                        final long invokedAtNanos = getPhaseTimer().start();
+                        final Object resultPojo;
+                        try {
+                            resultPojo = invokeMethodElseFromCache(targetAdapter, argumentAdapters);
+                        } finally {
+                            getPhaseTimer().record(PhaseType.INVOCATION, invokedAtNanos);
+                        }
 
                         final ObjectAdapter resultAdapterPossiblyCloned = cloneIfViewModelCloneable(resultPojo, mixinElseRegularAdapter);
 
@@ -624,4 +633,11 @@ public TransactionState getTransactionState() {
         attributeMap.put("eventType", eventType);
     }
 
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(servicesInjector);
+        }
+        return phaseTimer;
+    }
+
 }
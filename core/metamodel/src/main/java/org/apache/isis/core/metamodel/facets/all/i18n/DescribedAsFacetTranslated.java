@@ -31,6 +31,11 @@ public class DescribedAsFacetTranslated extends FacetAbstract implements Describ
     private final String context;
     private final String originalText;
     private final TranslationService translationService;
+    /**
+     * Set (along with {@link #slot}) if the {@link #translationService} supports them.
+     */
+    private final TranslationSlots translationSlots;
+    private final int slot;
 
     public DescribedAsFacetTranslated(
             final String context, final String originalText,
@@ -40,6 +45,13 @@ public DescribedAsFacetTranslated(
         this.context = context;
         this.originalText = originalText;
         this.translationService = translationService;
+        if(translationService instanceof TranslationSlots && originalText != null) {
+            this.translationSlots = (TranslationSlots) translationService;
+            this.slot = translationSlots.slotFor(context, originalText);
+        } else {
+            this.translationSlots = null;
+            this.slot = -1;
+        }
 
         if(translationService.getMode().isWrite()) {
             // force PoWriter to be called to capture this text that needs translating
@@ -53,7 +65,9 @@ public String value() {
     }
 
     private String translateText() {
-        return translationService.translate(context, originalText);
+        return translationSlots != null
+                ? translationSlots.translate(slot)
+                : translationService.translate(context, originalText);
     }
 
     @Override public void appendAttributesTo(final Map<String, Object> attributeMap) {
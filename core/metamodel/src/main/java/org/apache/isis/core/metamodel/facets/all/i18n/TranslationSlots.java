@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.all.i18n;
+
+import org.apache.isis.applib.services.i18n.TranslationService;
+
+/**
+ * Optionally implemented by a {@link TranslationService} that is able to precompile the translations of texts known
+ * up-front, namely the names and descriptions of the metamodel.
+ *
+ * <p>
+ *     Each such text is registered (once, when its facet is created) to obtain a slot; thereafter it is translated
+ *     into the current locale by slot alone, rather than by looking up its context and text.
+ * </p>
+ */
+public interface TranslationSlots {
+
+    /**
+     * Registers the (non-null) text, if not already, returning the slot by which it can subsequently be
+     * {@link #translate(int) translated}.
+     */
+    int slotFor(final String context, final String text);
+
+    /**
+     * As per {@link TranslationService#translate(String, String)}, for the context and text of the slot.
+     */
+    String translate(final int slot);
+
+}
@@ -26,8 +26,6 @@
 import org.apache.isis.applib.events.UsabilityEvent;
 import org.apache.isis.applib.events.ValidityEvent;
 import org.apache.isis.applib.marker.Bounded;
-import org.apache.isis.applib.query.Query;
-import org.apache.isis.applib.query.QueryFindAllInstances;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.commons.authentication.AuthenticationSessionProvider;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
@@ -121,13 +119,12 @@ public String disabledReason(final ObjectAdapter inObject) {
         return "Bounded";
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public Object[] getChoices(
             ObjectAdapter adapter,
             final InteractionInitiatedBy interactionInitiatedBy) {
-        final Query query = new QueryFindAllInstances(getObjectSpecification().getFullIdentifier());
-        final List<ObjectAdapter> allInstancesAdapter = getPersistenceSessionService().allMatchingQuery(query);
+        final List<ObjectAdapter> allInstancesAdapter =
+                getPersistenceSessionService().allBoundedInstances(getObjectSpecification());
 
         final List<ObjectAdapter> adapters =
                 ObjectAdapter.Util.visibleAdapters(
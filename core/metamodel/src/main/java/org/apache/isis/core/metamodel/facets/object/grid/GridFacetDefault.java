@@ -18,6 +18,10 @@
  */
 package org.apache.isis.core.metamodel.facets.object.grid;
 
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Maps;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,7 +54,23 @@ public static GridFacet create(
 
     private final GridService2 gridService;
 
-    private Grid grid;
+    /**
+     * Normalized grids, keyed by layout variant (the empty string for the default layout).
+     *
+     * <p>
+     *     If the {@link GridService2} does not {@link GridService2#supportsReloading() support reloading} (ie in
+     *     production mode) then the grid is simply returned from here.  Otherwise the (cheap)
+     *     {@link GridService2#load(Class, String)} is consulted each time; it returns the same (cached) instance until
+     *     the <code>.layout.xml</code> file changes (the change being detected by its file watcher).  A grid is
+     *     therefore only normalized the first time it is loaded, and a cached grid is never re-normalized.
+     * </p>
+     */
+    private final ConcurrentMap<String, Grid> gridByLayout = Maps.newConcurrentMap();
+
+    /**
+     * The normalized grid to use if there is no <code>.layout.xml</code> file; independent of any layout variant.
+     */
+    private volatile Grid defaultGrid;
 
     private GridFacetDefault(
             final FacetHolder facetHolder,
@@ -60,25 +80,54 @@ private GridFacetDefault(
     }
 
     public Grid getGrid(final ObjectAdapter objectAdapterIfAny) {
-        if (!gridService.supportsReloading() && this.grid != null) {
-            return this.grid;
-        }
-        final Class<?> domainClass = getSpecification().getCorrespondingClass();
         final LayoutFacet layoutFacet = getFacetHolder().getFacet(LayoutFacet.class);
         final String layout = layoutFacet != null && objectAdapterIfAny != null
                                 ? layoutFacet.layout(objectAdapterIfAny)
                                 : null;
-        this.grid = load(domainClass, layout);
+        final String layoutKey = layout != null ? layout : "";
+
+        final boolean reloading = gridService.supportsReloading();
+        final Grid cachedGrid = gridByLayout.get(layoutKey);
+        if(cachedGrid != null && !reloading) {
+            return cachedGrid;
+        }
 
-        return this.grid;
+        final Class<?> domainClass = getSpecification().getCorrespondingClass();
+        final Grid loadedGrid = gridService.load(domainClass, layout);
+        if(loadedGrid == null) {
+            final Grid grid = defaultGrid(domainClass);
+            if(reloading) {
+                gridByLayout.remove(layoutKey);
+            } else {
+                gridByLayout.putIfAbsent(layoutKey, grid);
+            }
+            return grid;
+        }
+        if(loadedGrid == cachedGrid) {
+            return cachedGrid;
+        }
+        return normalizeAndCache(layoutKey, loadedGrid);
+    }
+
+    /**
+     * Normalizes (in place) a grid that has not been seen before; synchronized so that a grid shared by the
+     * {@link GridService2} is never normalized by more than one thread.
+     */
+    private synchronized Grid normalizeAndCache(final String layoutKey, final Grid loadedGrid) {
+        if(gridByLayout.get(layoutKey) != loadedGrid) {
+            gridService.normalize(loadedGrid);
+            gridByLayout.put(layoutKey, loadedGrid);
+        }
+        return loadedGrid;
     }
 
-    private Grid load(final Class<?> domainClass, final String layout) {
-        Grid grid = gridService.load(domainClass, layout);
+    private Grid defaultGrid(final Class<?> domainClass) {
+        Grid grid = defaultGrid;
         if(grid == null) {
             grid = gridService.defaultGridFor(domainClass);
+            gridService.normalize(grid);
+            defaultGrid = grid;
         }
-        gridService.normalize(grid);
         return grid;
     }
 
@@ -49,5 +49,11 @@ public Object getProperty(
             final ObjectAdapter inObject,
             final InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * As per {@link #getProperty(ObjectAdapter, InteractionInitiatedBy)}, but without any filtering for visibility
+     * (and so without the need to create adapters for the referenced object(s)).
+     */
+    public Object getRawProperty(final ObjectAdapter inObject);
+
     ObjectSpecification getOnType();
 }
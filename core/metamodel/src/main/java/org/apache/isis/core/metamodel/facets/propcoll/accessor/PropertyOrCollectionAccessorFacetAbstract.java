@@ -76,6 +76,15 @@ public abstract Object getProperty(
             ObjectAdapter inObject,
             final InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * Default implementation simply delegates to {@link #getProperty(ObjectAdapter, InteractionInitiatedBy)}, as
+     * {@link InteractionInitiatedBy#FRAMEWORK framework}; subclasses should override if they can do better.
+     */
+    @Override
+    public Object getRawProperty(final ObjectAdapter inObject) {
+        return getProperty(inObject, InteractionInitiatedBy.FRAMEWORK);
+    }
+
     protected ObjectSpecification getSpecification(final Class<?> type) {
         return type != null ? getSpecificationLoader().loadSpecification(type) : null;
     }
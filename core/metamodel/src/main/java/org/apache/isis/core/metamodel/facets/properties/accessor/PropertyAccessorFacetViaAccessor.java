@@ -74,7 +74,7 @@ public Intent getIntent(final Method method) {
     public Object getProperty(
             final ObjectAdapter owningAdapter,
             final InteractionInitiatedBy interactionInitiatedBy) {
-        final Object referencedObject = ObjectAdapter.InvokeUtils.invoke(method, owningAdapter);
+        final Object referencedObject = getRawProperty(owningAdapter);
 
         if(referencedObject == null) {
             return null;
@@ -92,6 +92,11 @@ public Object getProperty(
         return referencedObject;
     }
 
+    @Override
+    public Object getRawProperty(final ObjectAdapter owningAdapter) {
+        return ObjectAdapter.InvokeUtils.invoke(method, owningAdapter);
+    }
+
     @Override
     protected String toStringValues() {
         return "method=" + method;
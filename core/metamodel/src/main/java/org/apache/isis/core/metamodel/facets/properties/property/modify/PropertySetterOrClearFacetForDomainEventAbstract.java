@@ -44,12 +44,14 @@
 import org.apache.isis.core.metamodel.facets.properties.publish.PublishedPropertyFacet;
 import org.apache.isis.core.metamodel.facets.properties.update.clear.PropertyClearFacet;
 import org.apache.isis.core.metamodel.facets.properties.update.modify.PropertySetterFacet;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.ixn.InteractionDtoServiceInternal;
 import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
 import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.core.runtime.system.transaction.TransactionalClosure;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 import org.apache.isis.schema.ixn.v1.PropertyEditDto;
 
 public abstract class PropertySetterOrClearFacetForDomainEventAbstract
@@ -63,6 +65,7 @@
     private final PropertyDomainEventFacetAbstract propertyDomainEventFacet;
 
     private final ServicesInjector servicesInjector;
+    private PhaseTimer phaseTimer;
     private final PersistenceSessionServiceInternal persistenceSessionServiceInternal;
 
 
@@ -262,8 +265,13 @@ public Object execute(final Interaction.PropertyEdit currentExecution) {
                                 currentExecution.setEvent(event);
 
                                 // invoke method
-                                style.invoke(PropertySetterOrClearFacetForDomainEventAbstract.this, owningProperty,
-                                        targetAdapter, newValueAdapter, interactionInitiatedBy);
+                                final long invokedAtNanos = getPhaseTimer().start();
+                                try {
+                                    style.invoke(PropertySetterOrClearFacetForDomainEventAbstract.this, owningProperty,
+                                            targetAdapter, newValueAdapter, interactionInitiatedBy);
+                                } finally {
+                                    getPhaseTimer().record(PhaseType.INVOCATION, invokedAtNanos);
+                                }
 
 
 
@@ -364,4 +372,12 @@ private PersistenceSessionServiceInternal getPersistenceSessionServiceInternal()
         attributeMap.put("setterFacet", setterFacet);
         attributeMap.put("clearFacet", clearFacet);
     }
+
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(servicesInjector);
+        }
+        return phaseTimer;
+    }
+
 }
@@ -52,7 +52,7 @@ public DateAndTimeValueSemanticsProviderAbstract(final FacetHolder holder, final
 
         final String formatRequired = getConfiguration().getString(ConfigurationConstants.ROOT + "value.format.datetime");
         if (formatRequired == null) {
-            format = formats().get(defaultFormat());
+            format = formatFor(defaultFormat());
         } else {
             setMask(formatRequired);
         }
@@ -74,10 +74,7 @@ protected Map<String, DateFormat> formats() {
     }
 
     @Override
-    protected DateFormat format() {
-        final Locale locale = Locale.getDefault();
-        final TimeZone timeZone = TimeZone.getDefault();
-
+    protected DateFormat titleFormat(final Locale locale, final TimeZone timeZone) {
         final DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.SHORT, locale);
         dateFormat.setTimeZone(timeZone);
         return dateFormat;
@@ -88,12 +85,10 @@ public String toString() {
         return "JavaDateTimeValueSemanticsProvider: " + format;
     }
 
-    protected List<DateFormat> formatsToTry() {
+    @Override
+    protected List<DateFormat> formatsToTry(final Locale locale, final TimeZone timeZone) {
         List<DateFormat> formats = new ArrayList<DateFormat>();
 
-        final Locale locale = Locale.getDefault();
-        final TimeZone timeZone = TimeZone.getDefault();
-
         formats.add(DateFormat.getDateTimeInstance(DateFormat.LONG, DateFormat.LONG, locale));
         formats.add(createDateFormat("yyyy-MM-dd HH:mm:ss.SSS"));
         formats.add(createDateFormat("yyyyMMdd'T'HHmmssSSS"));
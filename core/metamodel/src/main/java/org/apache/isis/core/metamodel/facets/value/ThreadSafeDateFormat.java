@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.facets.value;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+import com.google.common.base.Function;
+import com.google.common.collect.FluentIterable;
+
+/**
+ * An immutable, thread-safe equivalent of a (fully configured) {@link DateFormat}.
+ *
+ * <p>
+ *     The format supplied is copied on construction and thereafter never modified; each thread formats and parses
+ *     using its own clone of that copy.  Instances can therefore be shared freely, without any synchronization.
+ * </p>
+ */
+public final class ThreadSafeDateFormat {
+
+    public static ThreadSafeDateFormat of(final DateFormat dateFormat) {
+        return new ThreadSafeDateFormat(dateFormat);
+    }
+
+    public static List<ThreadSafeDateFormat> ofAll(final List<DateFormat> dateFormats) {
+        return FluentIterable.from(dateFormats).transform(new Function<DateFormat, ThreadSafeDateFormat>() {
+            @Override
+            public ThreadSafeDateFormat apply(final DateFormat dateFormat) {
+                return of(dateFormat);
+            }
+        }).toList();
+    }
+
+    private final DateFormat prototype;
+
+    private final ThreadLocal<DateFormat> dateFormat = new ThreadLocal<DateFormat>() {
+        @Override
+        protected DateFormat initialValue() {
+            return (DateFormat) prototype.clone();
+        }
+    };
+
+    private ThreadSafeDateFormat(final DateFormat dateFormat) {
+        this.prototype = (DateFormat) dateFormat.clone();
+    }
+
+    public String format(final Date date) {
+        return dateFormat.get().format(date);
+    }
+
+    /**
+     * As per {@link DateFormat#parse(String)}.
+     */
+    public Date parse(final String source) throws ParseException {
+        return dateFormat.get().parse(source);
+    }
+
+    /**
+     * As per {@link #parse(String)}, but returning <tt>null</tt> (rather than throwing an exception) if the source
+     * cannot be parsed.
+     */
+    public Date tryParse(final String source) {
+        final ParsePosition position = new ParsePosition(0);
+        final Date date = dateFormat.get().parse(source, position);
+        return position.getIndex() != 0 ? date : null;
+    }
+
+    /**
+     * Parses using each of the formats in turn, returning the first successful result (or <tt>null</tt> if none).
+     *
+     * <p>
+     *     Unlike calling {@link #parse(String)} on each, a format that does not match does not incur the cost of
+     *     an exception.
+     * </p>
+     */
+    public static Date tryParse(final List<ThreadSafeDateFormat> formats, final String source) {
+        for (final ThreadSafeDateFormat format : formats) {
+            final Date date = format.tryParse(source);
+            if (date != null) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return prototype instanceof SimpleDateFormat
+                ? ((SimpleDateFormat) prototype).toPattern()
+                : prototype.toString();
+    }
+
+}
@@ -24,12 +24,14 @@
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 
 import org.apache.isis.applib.adapters.EncodingException;
@@ -92,8 +94,24 @@ protected static DateFormat createDateEncodingFormat(final String mask) {
         return encodingFormat;
     }
  
-    private final DateFormat encodingFormat;
-    protected DateFormat format;
+    /**
+     * The title format and parse-attempt chain for a particular default {@link Locale} and {@link TimeZone}.
+     */
+    private static class LocalizedFormats {
+        private final ThreadSafeDateFormat titleFormat;
+        private final List<ThreadSafeDateFormat> formatsToTry;
+
+        private LocalizedFormats(final ThreadSafeDateFormat titleFormat, final List<ThreadSafeDateFormat> formatsToTry) {
+            this.titleFormat = titleFormat;
+            this.formatsToTry = formatsToTry;
+        }
+    }
+
+    private final Map<String, ThreadSafeDateFormat> compiledFormats;
+    private final ThreadSafeDateFormat encodingFormat;
+    private final ConcurrentMap<String, LocalizedFormats> localizedFormatsByKey = Maps.newConcurrentMap();
+    private final ConcurrentMap<String, ThreadSafeDateFormat> formatsByMask = Maps.newConcurrentMap();
+    protected ThreadSafeDateFormat format;
     private String configuredFormat;
     private String propertyType;
 
@@ -112,24 +130,33 @@ public ValueSemanticsProviderAbstractTemporal(final String propertyName, final F
     public ValueSemanticsProviderAbstractTemporal(final String propertyType, final Class<? extends Facet> facetType, final FacetHolder holder, final Class<T> adaptedClass, final int typicalLength, final Immutability immutability, final EqualByContent equalByContent, final T defaultValue,
                                                   final ServicesInjector context) {
         super(facetType, holder, adaptedClass, typicalLength, null, immutability, equalByContent, defaultValue, context);
-        configureFormats();
+        compiledFormats = compileFormats();
 
         this.propertyType = propertyType;
         configuredFormat = getConfiguration().getString(FORMAT_KEY_PREFIX + propertyType, defaultFormat()).toLowerCase().trim();
         buildFormat(configuredFormat);
 
-        encodingFormat = formats().get(ISO_ENCODING_FORMAT);
+        encodingFormat = formatFor(ISO_ENCODING_FORMAT);
     }
 
-    protected void configureFormats() {
-        final Map<String, DateFormat> formats = formats();
-        for (final Map.Entry<String, DateFormat> mapEntry : formats.entrySet()) {
-            final DateFormat format = mapEntry.getValue();
+    /**
+     * Copies each of the (shared) {@link #formats()}, configured for this provider, into a thread-safe format.
+     */
+    private Map<String, ThreadSafeDateFormat> compileFormats() {
+        final ImmutableMap.Builder<String, ThreadSafeDateFormat> builder = ImmutableMap.builder();
+        for (final Map.Entry<String, DateFormat> mapEntry : formats().entrySet()) {
+            final DateFormat format = (DateFormat) mapEntry.getValue().clone();
             format.setLenient(false);
             if (ignoreTimeZone()) {
                 format.setTimeZone(UTC_TIME_ZONE);
             }
+            builder.put(mapEntry.getKey(), ThreadSafeDateFormat.of(format));
         }
+        return builder.build();
+    }
+
+    protected ThreadSafeDateFormat formatFor(final String formatName) {
+        return compiledFormats.get(formatName);
     }
 
     protected void buildDefaultFormatIfRequired() {
@@ -145,8 +172,7 @@ protected void buildDefaultFormatIfRequired() {
     }
 
     protected void buildFormat(final String configuredFormat) {
-        final Map<String, DateFormat> formats = formats();
-        format = formats.get(configuredFormat);
+        format = formatFor(configuredFormat);
         if (format == null) {
             setMask(configuredFormat);
         }
@@ -175,23 +201,49 @@ protected T doParse(
     }
 
     private T parseDate(final String dateString) {
-        List<DateFormat> elements = formatsToTry();
-        return setDate(parseDate(dateString, elements.iterator()));
+        final Date date = ThreadSafeDateFormat.tryParse(localizedFormats().formatsToTry, dateString);
+        if (date == null) {
+            throw new TextEntryParseException("Not recognised as a date: " + dateString);
+        }
+        return setDate(date);
     }
 
-    protected abstract List<DateFormat> formatsToTry();
+    /**
+     * The formats to attempt, in turn, to parse a date entered by the user.
+     *
+     * <p>
+     *     Only called once for each combination of (default) locale and time zone; the resultant chain is compiled
+     *     and retained.
+     * </p>
+     */
+    protected abstract List<DateFormat> formatsToTry(Locale locale, TimeZone timeZone);
 
-    private Date parseDate(final String dateString, final Iterator<DateFormat> elements) {
-        final DateFormat format = elements.next();
-        try {
-            return format.parse(dateString);
-        } catch (final ParseException e) {
-            if (elements.hasNext()) {
-                return parseDate(dateString, elements);
-            } else {
-                throw new TextEntryParseException("Not recognised as a date: " + dateString);
+    /**
+     * The format to use for titles.
+     *
+     * <p>
+     *     As for {@link #formatsToTry(Locale, TimeZone)}, only called once for each combination of (default) locale and
+     *     time zone.
+     * </p>
+     */
+    protected abstract DateFormat titleFormat(Locale locale, TimeZone timeZone);
+
+    private LocalizedFormats localizedFormats() {
+        final Locale locale = Locale.getDefault();
+        final TimeZone timeZone = TimeZone.getDefault();
+        final String key = locale + "|" + timeZone.getID();
+
+        LocalizedFormats localizedFormats = localizedFormatsByKey.get(key);
+        if (localizedFormats == null) {
+            localizedFormats = new LocalizedFormats(
+                    ThreadSafeDateFormat.of(titleFormat(locale, timeZone)),
+                    ThreadSafeDateFormat.ofAll(formatsToTry(locale, timeZone)));
+            final LocalizedFormats existing = localizedFormatsByKey.putIfAbsent(key, localizedFormats);
+            if (existing != null) {
+                localizedFormats = existing;
             }
         }
+        return localizedFormats;
     }
 
     private T relativeDate(final Object object, final String str, final boolean add) {
@@ -258,21 +310,26 @@ public String titleString(final Object value) {
             return null;
         }
         final Date date = dateValue(value);
-        final DateFormat f = format();
+        final ThreadSafeDateFormat f = format();
         return titleString(f, date);
     }
 
-    protected DateFormat format() {
-        return format;
+    protected ThreadSafeDateFormat format() {
+        return localizedFormats().titleFormat;
     }
 
     @Override
     public String titleStringWithMask(final Object value, final String usingMask) {
         final Date date = dateValue(value);
-        return titleString(new SimpleDateFormat(usingMask), date);
+        ThreadSafeDateFormat formatWithMask = formatsByMask.get(usingMask);
+        if (formatWithMask == null) {
+            formatWithMask = ThreadSafeDateFormat.of(new SimpleDateFormat(usingMask));
+            formatsByMask.putIfAbsent(usingMask, formatWithMask);
+        }
+        return titleString(formatWithMask, date);
     }
 
-    private String titleString(final DateFormat formatter, final Date date) {
+    private String titleString(final ThreadSafeDateFormat formatter, final Date date) {
         return date == null ? "" : formatter.format(date);
     }
 
@@ -286,7 +343,7 @@ protected String doEncode(final Object object) {
         return encode(date);
     }
 
-    private synchronized String encode(final Date date) {
+    private String encode(final Date date) {
         return encodingFormat.format(date);
     }
 
@@ -312,7 +369,7 @@ protected T doRestore(final String data) {
         }
     }
 
-    private synchronized Date parse(final String data) throws ParseException {
+    private Date parse(final String data) throws ParseException {
         return encodingFormat.parse(data);
     }
 
@@ -355,9 +412,10 @@ protected boolean ignoreTimeZone() {
     protected abstract T setDate(Date date);
 
     public void setMask(final String mask) {
-        format = new SimpleDateFormat(mask);
-        format.setTimeZone(UTC_TIME_ZONE);
-        format.setLenient(false);
+        final DateFormat maskFormat = new SimpleDateFormat(mask);
+        maskFormat.setTimeZone(UTC_TIME_ZONE);
+        maskFormat.setLenient(false);
+        format = ThreadSafeDateFormat.of(maskFormat);
     }
 
     protected boolean isEmpty() {
@@ -25,6 +25,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 import com.google.common.collect.Maps;
 
@@ -48,7 +49,7 @@ public JodaDateTimeValueSemanticsProviderAbstract(final FacetHolder holder, fina
 
         final String formatRequired = getConfiguration().getString(ConfigurationConstants.ROOT + "value.format.date");
         if (formatRequired == null) {
-            format = formats().get(defaultFormat());
+            format = formatFor(defaultFormat());
         } else {
             setMask(formatRequired);
         }
@@ -90,18 +91,14 @@ public String toString() {
     }
 
     @Override
-    protected DateFormat format() {
-        final Locale locale = Locale.getDefault();
-
+    protected DateFormat titleFormat(final Locale locale, final TimeZone timeZone) {
         final DateFormat dateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
         dateFormat.setTimeZone(UTC_TIME_ZONE);
         return dateFormat;
     }
 
-    protected List<DateFormat> formatsToTry() {
-
-        final Locale locale = Locale.getDefault();
-
+    @Override
+    protected List<DateFormat> formatsToTry(final Locale locale, final TimeZone timeZone) {
         List<DateFormat> formats = new ArrayList<>();
 
         formats.add(DateFormat.getDateInstance(DateFormat.LONG, locale));
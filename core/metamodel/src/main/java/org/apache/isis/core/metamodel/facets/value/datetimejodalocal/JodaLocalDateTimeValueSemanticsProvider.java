@@ -234,7 +234,7 @@ protected String doEncode(final Object object) {
         return encode(date);
     }
 
-    private synchronized String encode(final LocalDateTime date) {
+    private String encode(final LocalDateTime date) {
         return encodingFormatter.print(date);
     }
 
@@ -247,7 +247,7 @@ protected LocalDateTime doRestore(final String data) {
         }
     }
 
-    private synchronized LocalDateTime parse(final String data) {
+    private LocalDateTime parse(final String data) {
         return encodingFormatter.parseLocalDateTime(data);
     }
 
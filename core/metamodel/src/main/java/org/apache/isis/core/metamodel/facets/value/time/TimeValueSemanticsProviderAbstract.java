@@ -25,6 +25,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.isis.core.commons.config.ConfigurationConstants;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
@@ -47,7 +48,7 @@ public TimeValueSemanticsProviderAbstract(final FacetHolder holder, final Class<
 
         final String formatRequired = getConfiguration().getString(ConfigurationConstants.ROOT + "value.format.time");
         if (formatRequired == null) {
-            format = formats().get(defaultFormat());
+            format = formatFor(defaultFormat());
         } else {
             setMask(formatRequired);
         }
@@ -78,20 +79,17 @@ public String toString() {
         return "TimeValueSemanticsProvider: " + format;
     }
     
-@Override 
-     protected DateFormat format() {
-
-        final Locale locale = Locale.getDefault();
+    @Override
+    protected DateFormat titleFormat(final Locale locale, final TimeZone timeZone) {
         final DateFormat dateFormat = DateFormat.getTimeInstance(DateFormat.SHORT, locale);
          dateFormat.setTimeZone(UTC_TIME_ZONE); 
          return dateFormat; 
      } 
   
-     protected List<DateFormat> formatsToTry() {
+    @Override
+    protected List<DateFormat> formatsToTry(final Locale locale, final TimeZone timeZone) {
          List<DateFormat> formats = new ArrayList<DateFormat>();
 
-         final Locale locale = Locale.getDefault();
-
          formats.add(DateFormat.getTimeInstance(DateFormat.LONG, locale));
          formats.add(DateFormat.getTimeInstance(DateFormat.MEDIUM, locale)); 
          formats.add(DateFormat.getTimeInstance(DateFormat.SHORT, locale)); 
@@ -48,7 +48,7 @@ public TimeStampValueSemanticsProviderAbstract(final FacetHolder holder, final C
         super("timestamp", holder, adaptedClass, TYPICAL_LENGTH, Immutability.NOT_IMMUTABLE, EqualByContent.NOT_HONOURED, (T) DEFAULT_VALUE, context);
         final String formatRequired = getConfiguration().getString(ConfigurationConstants.ROOT + "value.format.timestamp");
         if (formatRequired == null) {
-            format = formats().get(defaultFormat());
+            format = formatFor(defaultFormat());
         } else {
             setMask(formatRequired);
         }
@@ -75,23 +75,17 @@ public String toString() {
     }
 
     @Override
-    protected DateFormat format() {
-
-        final Locale locale = Locale.getDefault();
-        final TimeZone timeZone = TimeZone.getDefault();
-
+    protected DateFormat titleFormat(final Locale locale, final TimeZone timeZone) {
         final DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale);
         dateFormat.setTimeZone(timeZone);
 
         return dateFormat;
     }
 
-    protected List<DateFormat> formatsToTry() {
+    @Override
+    protected List<DateFormat> formatsToTry(final Locale locale, final TimeZone timeZone) {
         final List<DateFormat> formats = new ArrayList<DateFormat>();
 
-        final Locale locale = Locale.getDefault();
-        final TimeZone timeZone = TimeZone.getDefault();
-
         formats.add(DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.LONG, locale));
         formats.add(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale));
         formats.add(createDateFormat("yyyy-MM-dd HH:mm:ss.SSS"));
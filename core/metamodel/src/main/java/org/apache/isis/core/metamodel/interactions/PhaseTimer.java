@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.interactions;
+
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+
+/**
+ * Records the time spent in the {@link PhaseType phases} of the current {@link Interaction}.
+ *
+ * <p>
+ *     Disabled unless {@value #ENABLED_KEY} is set; a disabled timer neither reads the clock nor looks up the
+ *     current interaction.  Callers are expected to obtain a timer once (eg lazily, held in a field) rather than
+ *     per call:
+ * </p>
+ * <pre>
+ * final long startedAtNanos = phaseTimer.start();
+ * try {
+ *     ...
+ * } finally {
+ *     phaseTimer.record(PhaseType.FLUSH, startedAtNanos);
+ * }
+ * </pre>
+ *
+ * <p>
+ *     Does nothing if called outside of a request (eg while bootstrapping).
+ * </p>
+ */
+public final class PhaseTimer {
+
+    public static final String ENABLED_KEY = "isis.services.metrics.phaseTimings";
+    public static final boolean ENABLED_DEFAULT = false;
+
+    public static final PhaseTimer DISABLED = new PhaseTimer(null);
+
+    public static PhaseTimer create(final ServicesInjector servicesInjector) {
+        if(servicesInjector == null) {
+            return DISABLED;
+        }
+        final IsisConfiguration configuration = servicesInjector.getConfigurationServiceInternal();
+        if(configuration == null || !configuration.getBoolean(ENABLED_KEY, ENABLED_DEFAULT)) {
+            return DISABLED;
+        }
+        return create(configuration, servicesInjector.lookupService(InteractionContext.class));
+    }
+
+    public static PhaseTimer create(
+            final IsisConfiguration configuration,
+            final InteractionContext interactionContext) {
+        if(configuration == null || interactionContext == null) {
+            return DISABLED;
+        }
+        return configuration.getBoolean(ENABLED_KEY, ENABLED_DEFAULT)
+                ? new PhaseTimer(interactionContext)
+                : DISABLED;
+    }
+
+    private final InteractionContext interactionContext;
+
+    private PhaseTimer(final InteractionContext interactionContext) {
+        this.interactionContext = interactionContext;
+    }
+
+    public boolean isEnabled() {
+        return interactionContext != null;
+    }
+
+    /**
+     * @return the current time in nanos to pass to {@link #record(PhaseType, long)}, or <tt>0</tt> if disabled.
+     */
+    public long start() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void record(final PhaseType phaseType, final long startedAtNanos) {
+        if(!isEnabled()) {
+            return;
+        }
+        final long nanos = System.nanoTime() - startedAtNanos;
+        final Interaction interaction = currentInteraction();
+        if(interaction != null) {
+            interaction.recordPhase(phaseType, nanos);
+        }
+    }
+
+    private Interaction currentInteraction() {
+        try {
+            return interactionContext.getInteraction();
+        } catch (final IllegalStateException ex) {
+            // the request-scoped InteractionContext is not available on this thread
+            return null;
+        }
+    }
+
+}
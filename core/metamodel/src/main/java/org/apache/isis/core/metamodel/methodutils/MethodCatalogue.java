@@ -0,0 +1,215 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.core.commons.lang.ClassExtensions;
+import org.apache.isis.core.commons.lang.MethodUtil;
+
+/**
+ * The (as yet unclaimed) methods of a class being introspected, indexed by name and by identity.
+ *
+ * <p>
+ *     Supports the same searches as {@link MethodUtil#removeMethod(List, MethodScope, String, Class, Class[])} and
+ *     {@link MethodUtil#removeMethods(List, MethodScope, String, Class, boolean, int)} (with the same results, in the
+ *     same order), but only examines those methods whose name matches, rather than every method of the class.
+ *     Removing a method is O(1).
+ * </p>
+ */
+public class MethodCatalogue {
+
+    /**
+     * In the order originally provided; any method that has been removed is set to <tt>null</tt>.
+     */
+    private final Method[] methods;
+
+    private final Map<Method, Integer> indexByMethod = Maps.newHashMap();
+
+    /**
+     * Indices (ascending) of the methods with each name; sorted by name so that all names with a given prefix are
+     * contiguous.  Not updated on removal; instead the corresponding entry in {@link #methods} is checked.
+     */
+    private final NavigableMap<String, List<Integer>> indicesByName = Maps.newTreeMap();
+
+    public MethodCatalogue(final Method[] methods) {
+        this.methods = methods.clone();
+        for (int i = 0; i < this.methods.length; i++) {
+            final Method method = this.methods[i];
+            indexByMethod.put(method, i);
+            List<Integer> indices = indicesByName.get(method.getName());
+            if (indices == null) {
+                indices = Lists.newArrayListWithCapacity(1);
+                indicesByName.put(method.getName(), indices);
+            }
+            indices.add(i);
+        }
+    }
+
+    /**
+     * The methods not yet removed, in their original order.
+     */
+    public List<Method> getMethods() {
+        final List<Method> remaining = Lists.newArrayListWithCapacity(methods.length);
+        for (final Method method : methods) {
+            if (method != null) {
+                remaining.add(method);
+            }
+        }
+        return remaining;
+    }
+
+    public boolean contains(final Method method) {
+        return indexOf(method) != -1;
+    }
+
+    public void removeMethod(final Method method) {
+        final int idx = indexOf(method);
+        if (idx != -1) {
+            methods[idx] = null;
+        }
+    }
+
+    public void removeMethods(final List<Method> methodsToRemove) {
+        for (final Method method : methodsToRemove) {
+            removeMethod(method);
+        }
+    }
+
+    /**
+     * As per {@link MethodUtil#removeMethod(List, MethodScope, String, Class, Class[])}.
+     */
+    public Method removeMethod(
+            final MethodScope methodScope,
+            final String name,
+            final Class<?> returnType,
+            final Class<?>[] paramTypes) {
+
+        final List<Integer> indices = indicesByName.get(name);
+        if (indices == null) {
+            return null;
+        }
+        method: for (final int idx : indices) {
+            final Method method = methods[idx];
+            if (method == null) {
+                continue;
+            }
+            if (!Modifier.isPublic(method.getModifiers())) {
+                continue;
+            }
+            if (!MethodUtil.inScope(method, methodScope)) {
+                continue;
+            }
+            if (returnType != null && returnType != method.getReturnType()) {
+                continue;
+            }
+            if (paramTypes != null) {
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                if (paramTypes.length != parameterTypes.length) {
+                    continue;
+                }
+                for (int c = 0; c < paramTypes.length; c++) {
+                    if ((paramTypes[c] != null) && (paramTypes[c] != parameterTypes[c])) {
+                        continue method;
+                    }
+                }
+            }
+            methods[idx] = null;
+            return method;
+        }
+        return null;
+    }
+
+    /**
+     * As per {@link MethodUtil#removeMethods(List, MethodScope, String, Class, boolean, int)}.
+     */
+    public List<Method> removeMethods(
+            final MethodScope methodScope,
+            final String prefix,
+            final Class<?> returnType,
+            final boolean canBeVoid,
+            final int paramCount) {
+
+        final int[] candidates = indicesWithPrefix(prefix);
+        if (candidates.length == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<Method> validMethods = Lists.newArrayList();
+        for (final int idx : candidates) {
+            final Method method = methods[idx];
+            if (method == null) {
+                continue;
+            }
+            if (!MethodUtil.inScope(method, methodScope)) {
+                continue;
+            }
+            if (method.getParameterTypes().length != paramCount) {
+                continue;
+            }
+            if (!ClassExtensions.isCompatibleAsReturnType(returnType, canBeVoid, method.getReturnType())) {
+                continue;
+            }
+            validMethods.add(method);
+            methods[idx] = null;
+        }
+        return validMethods;
+    }
+
+    /**
+     * Indices of all methods (including any since removed) whose name starts with the prefix, in their original
+     * order.
+     */
+    private int[] indicesWithPrefix(final String prefix) {
+        final NavigableMap<String, List<Integer>> withPrefix =
+                indicesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        int count = 0;
+        for (final List<Integer> indices : withPrefix.values()) {
+            count += indices.size();
+        }
+        final int[] candidates = new int[count];
+        int i = 0;
+        for (final List<Integer> indices : withPrefix.values()) {
+            for (final int idx : indices) {
+                candidates[i++] = idx;
+            }
+        }
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    private int indexOf(final Method method) {
+        if (method == null) {
+            return -1;
+        }
+        final Integer idx = indexByMethod.get(method);
+        return idx != null && methods[idx] != null ? idx : -1;
+    }
+
+}
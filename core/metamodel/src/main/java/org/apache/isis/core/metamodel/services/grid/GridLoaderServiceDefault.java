@@ -18,12 +18,14 @@
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 
@@ -126,10 +128,23 @@ static class DomainClassAndLayoutAndXml {
     // cache (used only in prototyping mode)
     private final Map<DomainClassAndLayoutAndXml, Grid> gridByDomainClassAndLayoutAndXml = Maps.newHashMap();
 
+    // cache (used only in prototyping mode), invalidated when the watcher detects a change to a .layout.xml file
+    private final Map<DomainClassAndLayout, Grid> gridByDomainClassAndLayout = Maps.newConcurrentMap();
+    private GridResourceWatcher watcher;
+
     private JAXBContext jaxbContext;
 
     @PostConstruct
     public void init(){
+        if(supportsReloading()) {
+            watcher = GridResourceWatcher.start(new GridResourceWatcher.Listener() {
+                @Override
+                public void onChanged(final Path directory) {
+                    invalidate(directory);
+                }
+            });
+        }
+
         final List<Class<? extends Grid>> pageImplementations =
                 FluentIterable.from(gridSystemServices)
                     .transform(
@@ -151,6 +166,21 @@ public Class<? extends Grid> apply(final GridSystemService input) {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if(watcher != null) {
+            watcher.close();
+        }
+    }
+
+    private void invalidate(final Path directory) {
+        for (final DomainClassAndLayout dcal : gridByDomainClassAndLayout.keySet()) {
+            if(directory.equals(GridResourceWatcher.directoryOf(dcal.domainClass))) {
+                gridByDomainClassAndLayout.remove(dcal);
+            }
+        }
+    }
+
     @Override
     public boolean supportsReloading() {
         return !deploymentCategoryProvider.getDeploymentCategory().isProduction();
@@ -164,6 +194,11 @@ public void remove(final Class<?> domainClass) {
             return;
         }
         badXmlByDomainClassAndLayout.remove(dcal);
+        for (final DomainClassAndLayout cached : gridByDomainClassAndLayout.keySet()) {
+            if(cached.domainClass == domainClass) {
+                gridByDomainClassAndLayout.remove(cached);
+            }
+        }
         final String xml = loadXml(dcal);
         if(xml == null) {
             return;
@@ -180,6 +215,16 @@ public boolean existsFor(final Class<?> domainClass) {
     @Override
     public Grid load(final Class<?> domainClass, final String layoutIfAny) {
         final DomainClassAndLayout dcal = new DomainClassAndLayout(domainClass, layoutIfAny);
+
+        // start watching before reading the XML, so that no change can be missed
+        final boolean watched = supportsReloading() && watcher != null && watcher.watch(domainClass);
+        if(watched) {
+            final Grid grid = gridByDomainClassAndLayout.get(dcal);
+            if(grid != null) {
+                return grid;
+            }
+        }
+
         final String xml = loadXml(dcal);
         if(xml == null) {
             return null;
@@ -189,6 +234,9 @@ public Grid load(final Class<?> domainClass, final String layoutIfAny) {
         if(supportsReloading()) {
             final Grid grid = gridByDomainClassAndLayoutAndXml.get(dcalax);
             if(grid != null) {
+                if(watched) {
+                    gridByDomainClassAndLayout.put(dcal, grid);
+                }
                 return grid;
             }
 
@@ -214,6 +262,9 @@ public Grid load(final Class<?> domainClass, final String layoutIfAny) {
             grid.setDomainClass(domainClass);
             if(supportsReloading()) {
                 gridByDomainClassAndLayoutAndXml.put(dcalax, grid);
+                if(watched) {
+                    gridByDomainClassAndLayout.put(dcal, grid);
+                }
             }
             return grid;
         } catch(Exception ex) {
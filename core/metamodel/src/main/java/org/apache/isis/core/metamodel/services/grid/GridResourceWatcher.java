@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.grid;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the (file system) directories from which <code>.layout.xml</code> files are loaded, and notifies a
+ * {@link Listener} whenever any XML file within one of them is created, modified or deleted.
+ *
+ * <p>
+ *     Used only in prototyping mode, so that {@link GridLoaderServiceDefault} can cache parsed grids rather than
+ *     re-reading the <code>.layout.xml</code> resource on every render.  Resources loaded from jar files are not
+ *     watched (they cannot change).
+ * </p>
+ */
+class GridResourceWatcher implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GridResourceWatcher.class);
+
+    interface Listener {
+        void onChanged(final Path directory);
+    }
+
+    /**
+     * @return <tt>null</tt> if the platform does not support watching the file system.
+     */
+    static GridResourceWatcher start(final Listener listener) {
+        final WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Unable to create watch service; .layout.xml files will be re-read on every request", e);
+            return null;
+        }
+        final GridResourceWatcher watcher = new GridResourceWatcher(watchService, listener);
+        final Thread thread = new Thread(watcher, "isis-layout-xml-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    private final WatchService watchService;
+    private final Listener listener;
+    private final Map<WatchKey, Path> directoryByKey = Maps.newConcurrentMap();
+    private final Set<Path> directories = Collections.newSetFromMap(Maps.<Path, Boolean>newConcurrentMap());
+
+    private GridResourceWatcher(final WatchService watchService, final Listener listener) {
+        this.watchService = watchService;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the directory of the domain class (where its <code>.layout.xml</code> files live), if it was
+     * loaded from the file system.
+     *
+     * @return whether the directory is (now) being watched.
+     */
+    boolean watch(final Class<?> domainClass) {
+        final Path directory = directoryOf(domainClass);
+        if(directory == null) {
+            return false;
+        }
+        if(!directories.add(directory)) {
+            return true;
+        }
+        try {
+            final WatchKey key = directory.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            directoryByKey.put(key, directory);
+            return true;
+        } catch (IOException | ClosedWatchServiceException e) {
+            directories.remove(directory);
+            LOG.debug("Unable to watch directory {}", directory, e);
+            return false;
+        }
+    }
+
+    /**
+     * @return <tt>null</tt> if the class was not loaded from the file system.
+     */
+    static Path directoryOf(final Class<?> domainClass) {
+        final String className = domainClass.getName();
+        final URL url = domainClass.getResource(className.substring(className.lastIndexOf('.') + 1) + ".class");
+        if(url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI()).getParent();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while(true) {
+                final WatchKey key = watchService.take();
+                final Path directory = directoryByKey.get(key);
+                boolean changed = false;
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    final Object context = event.context();
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                       context instanceof Path && context.toString().endsWith(".xml")) {
+                        changed = true;
+                    }
+                }
+                if(changed && directory != null) {
+                    listener.onChanged(directory);
+                }
+                if(!key.reset()) {
+                    directoryByKey.remove(key);
+                    if(directory != null) {
+                        directories.remove(directory);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // shutting down
+        }
+    }
+
+    void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+}
@@ -151,7 +151,29 @@ public interface PersistenceSessionServiceInternal extends AdapterManager {
 
     //endregion
 
-    //region > allMatchingQuery, firstMatchingQuery
+    //region > evict, evictAll
+
+    /**
+     * Provided by the <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>TransactionServiceDefault</tt>.
+     */
+    @Programmatic
+    boolean evict(ObjectAdapter adapter);
+
+    /**
+     * Provided by the <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>TransactionServiceDefault</tt>.
+     */
+    @Programmatic
+    int evictAll();
+
+    //endregion
+
+    //region > allMatchingQuery, firstMatchingQuery, count, allBoundedInstances
     /**
      * Provided by <tt>PersistenceSession</tt> when used by framework.
      *
@@ -171,6 +193,25 @@ public interface PersistenceSessionServiceInternal extends AdapterManager {
     @Programmatic
     <T> ObjectAdapter firstMatchingQuery(Query<T> query);
 
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by <tt>RepositoryServiceInternalDefault</tt>.
+     */
+    @Programmatic
+    <T> long count(Query<T> query);
+
+    /**
+     * Provided by <tt>PersistenceSession</tt> when used by framework.
+     *
+     * <p>
+     * Called by the choices facets of bounded types; as per {@link #allMatchingQuery(Query)} for all instances of
+     * the type, but possibly resolved from a cache shared across sessions.
+     */
+    @Programmatic
+    List<ObjectAdapter> allBoundedInstances(ObjectSpecification spec);
+
     void executeWithinTransaction(TransactionalClosure transactionalClosure);
 
 
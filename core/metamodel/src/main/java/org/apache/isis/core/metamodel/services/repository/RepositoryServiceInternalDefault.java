@@ -35,7 +35,7 @@
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryFindAllInstances;
 import org.apache.isis.applib.services.factory.FactoryService;
-import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.repository.RepositoryService2;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
@@ -45,7 +45,7 @@
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class RepositoryServiceInternalDefault implements RepositoryService {
+public class RepositoryServiceInternalDefault implements RepositoryService2 {
 
 
 
@@ -139,7 +139,7 @@ public void removeAndFlush(final Object domainObject) {
     // //////////////////////////////////////
 
 
-    //region > allInstances, allMatches, uniqueMatch, firstMatch
+    //region > allInstances, allMatches, count, uniqueMatch, firstMatch
 
     @Programmatic
     @Override
@@ -178,6 +178,16 @@ <T> List<T> submitQuery(final Query<T> query) {
     }
 
 
+    @Programmatic
+    @Override
+    public <T> long count(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        return persistenceSessionServiceInternal.count(query);
+    }
+
+
     // //////////////////////////////////////
 
 
@@ -19,9 +19,12 @@
 package org.apache.isis.core.metamodel.services.swagger;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.PostConstruct;
 
+import com.google.common.collect.Maps;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +41,6 @@
 )
 public class SwaggerServiceDefault implements SwaggerService {
 
-    @SuppressWarnings("unused")
     private final static Logger LOG = LoggerFactory.getLogger(SwaggerServiceDefault.class);
 
     public static final String KEY_RESTFUL_BASE_PATH = "isis.services.swagger.restfulBasePath";
@@ -46,6 +48,8 @@ public class SwaggerServiceDefault implements SwaggerService {
 
     private String basePath;
 
+    private final ConcurrentMap<String, CachedSpec> cachedSpecs = Maps.newConcurrentMap();
+
     @PostConstruct
     public void init(final Map<String,String> properties) {
         this.basePath = getPropertyElse(properties, KEY_RESTFUL_BASE_PATH, KEY_RESTFUL_BASE_PATH_DEFAULT);
@@ -59,15 +63,58 @@ static String getPropertyElse(final Map<String, String> properties, final String
         return basePath;
     }
 
+    /**
+     * Returns the spec as previously generated for this visibility and format, unless the metamodel has since
+     * {@link SpecificationLoader#getMetaModelVersion() changed}.
+     *
+     * <p>
+     *     In production the metamodel is fixed once fully introspected, so each spec is generated at most once (or
+     *     twice if generating it caused any further specifications to be lazily loaded); when prototyping the spec is
+     *     regenerated only when it is next requested after a specification is invalidated.
+     * </p>
+     */
     @Programmatic
     @Override
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
 
-        final SwaggerSpecGenerator swaggerSpecGenerator = new SwaggerSpecGenerator(specificationLoader);
-        final String swaggerSpec = swaggerSpecGenerator.generate(basePath, visibility, format);
-        return swaggerSpec;
+        final String key = visibility + ":" + format;
+        final long metaModelVersion = specificationLoader.getMetaModelVersion();
+
+        CachedSpec cachedSpec = cachedSpecs.get(key);
+        if (cachedSpec != null && cachedSpec.metaModelVersion == metaModelVersion) {
+            return cachedSpec.spec;
+        }
+
+        synchronized (this) {
+            cachedSpec = cachedSpecs.get(key);
+            if (cachedSpec != null && cachedSpec.metaModelVersion == specificationLoader.getMetaModelVersion()) {
+                return cachedSpec.spec;
+            }
+
+            final SwaggerSpecGenerator swaggerSpecGenerator = newSwaggerSpecGenerator();
+            final String swaggerSpec = swaggerSpecGenerator.generate(basePath, visibility, format);
+
+            // read again, since generating the spec may itself have caused specifications to be loaded
+            cachedSpecs.put(key, new CachedSpec(specificationLoader.getMetaModelVersion(), swaggerSpec));
+            LOG.debug("generated swagger spec for {}", key);
+            return swaggerSpec;
+        }
+    }
+
+    SwaggerSpecGenerator newSwaggerSpecGenerator() {
+        return new SwaggerSpecGenerator(specificationLoader);
+    }
+
+    private static class CachedSpec {
+        private final long metaModelVersion;
+        private final String spec;
+
+        private CachedSpec(final long metaModelVersion, final String spec) {
+            this.metaModelVersion = metaModelVersion;
+            this.spec = spec;
+        }
     }
 
 
@@ -24,15 +24,17 @@
 import org.apache.isis.applib.services.command.Command;
 import org.apache.isis.applib.services.xactn.Transaction2;
 import org.apache.isis.applib.services.xactn.TransactionService3;
+import org.apache.isis.applib.services.xactn.TransactionService4;
 import org.apache.isis.applib.services.xactn.TransactionState;
 import org.apache.isis.core.commons.exceptions.IsisException;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
 
 @DomainService(
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class TransactionServiceDefault implements TransactionService3 {
+public class TransactionServiceDefault implements TransactionService4 {
 
 
     @Override
@@ -93,6 +95,17 @@ public TransactionState getTransactionState() {
         return persistenceSessionServiceInternal.getTransactionState();
     }
 
+    @Override
+    public boolean evict(final Object domainObject) {
+        final ObjectAdapter adapter = persistenceSessionServiceInternal.getAdapterFor(domainObject);
+        return adapter != null && persistenceSessionServiceInternal.evict(adapter);
+    }
+
+    @Override
+    public int evictAll() {
+        return persistenceSessionServiceInternal.evictAll();
+    }
+
     @javax.inject.Inject
     PersistenceSessionServiceInternal persistenceSessionServiceInternal;
 
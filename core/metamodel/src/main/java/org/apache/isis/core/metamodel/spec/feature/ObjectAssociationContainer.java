@@ -74,4 +74,14 @@ public interface ObjectAssociationContainer {
      */
     List<OneToManyAssociation> getCollections(Contributed contributed);
 
+    /**
+     * The regular (that is, {@link Contributed#EXCLUDED not contributed}) {@link OneToOneAssociation properties}
+     * that are persisted, in member order sequence.
+     *
+     * <p>
+     *     Computed once and cached; used by the framework when capturing the state of objects (eg for auditing).
+     * </p>
+     */
+    List<OneToOneAssociation> getPersistedProperties();
+
 }
@@ -41,6 +41,19 @@ public interface OneToOneAssociation extends ObjectAssociation, OneToOneFeature,
      */
     void initAssociation(ObjectAdapter inObject, ObjectAdapter associate);
 
+    /**
+     * The value of this property in the specified object, as a pojo.
+     *
+     * <p>
+     *     Unlike {@link #get(ObjectAdapter, InteractionInitiatedBy)}, the referenced object is neither filtered for
+     *     visibility nor wrapped in an adapter, so (for a regular property) no adapter is created at all.  Intended
+     *     for the framework's own internal use, eg to compare, sort or encode property values; callers that need an
+     *     adapter (or need invisible references to be excluded) should use
+     *     {@link #get(ObjectAdapter, InteractionInitiatedBy)} instead.
+     * </p>
+     */
+    Object getRawValue(ObjectAdapter ownerAdapter);
+
 
 
     /**
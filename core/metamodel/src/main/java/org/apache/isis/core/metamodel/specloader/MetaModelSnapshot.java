@@ -0,0 +1,255 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * An opt-in record, persisted to a local file, that the metamodel built for a given classpath and configuration
+ * was fully introspected and validated without error; used to skip validation when the classpath is unchanged.
+ *
+ * <p>
+ * The snapshot is keyed by a hash of the classpath entries and of the configuration properties (other than those
+ * passed through to DataNucleus, such as the connection URL, which do not affect the metamodel).  If on a subsequent
+ * start the key still matches then the snapshot is {@link #isCurrent() current}, and the {@link SpecificationLoader}
+ * skips the eager full introspection of all specifications and the
+ * {@link org.apache.isis.core.metamodel.specloader.validator.MetaModelValidator meta-model validation};
+ * specifications are instead introspected lazily, as if in prototype mode.  If the key does not match then the full
+ * introspection and validation is performed as usual, and (if valid) a new snapshot written.
+ * </p>
+ *
+ * <p>
+ * Only the classpath entries themselves are stat'd: the path, size and timestamp of each jar, and the path and
+ * timestamp of each directory.  The files within a directory are not visited, because for large
+ * <tt>target/classes</tt> trees that could cost more than the validation that the snapshot saves.  A class recompiled
+ * in place (eg by an IDE) therefore does not make the snapshot stale; delete the snapshot file (or rebuild the
+ * directory) to force full introspection and validation.
+ * </p>
+ *
+ * <p>
+ * Nothing is restored from the snapshot: it does not capture the specifications or their facets (many of which
+ * hold references to reflective {@link java.lang.reflect.Method}s), only the <i>outcome</i> of the validation.
+ * </p>
+ *
+ * <p>
+ * The name of the file is derived from the classpath of the application (though not the timestamps of its
+ * entries), so that different applications sharing the same snapshot directory do not overwrite each other's
+ * snapshot.
+ * </p>
+ */
+class MetaModelSnapshot {
+
+    private final static Logger LOG = LoggerFactory.getLogger(MetaModelSnapshot.class);
+
+    private static final String KEY_PROPERTY = "key";
+    /**
+     * As per <tt>PersistenceSessionFactory#DATANUCLEUS_CONFIG_PREFIX</tt> (in the runtime).
+     */
+    private static final String DATANUCLEUS_CONFIG_PREFIX = "isis.persistor.datanucleus.impl.";
+    private static final String SPEC_COUNT_PROPERTY = "specCount";
+
+    private final boolean enabled;
+    private final String directory;
+    private final Map<String, String> configurationMap;
+
+    private Set<String> classpathEntries;
+    private File file;
+    private String key;
+    private Boolean current;
+
+    MetaModelSnapshot(final IsisConfiguration configuration) {
+        this.enabled = SpecificationLoader.CONFIG_PROPERTY_SNAPSHOT.from(configuration);
+        this.directory = SpecificationLoader.CONFIG_PROPERTY_SNAPSHOT_DIRECTORY.from(configuration);
+        this.configurationMap = configuration.asMap();
+    }
+
+    //region > isCurrent
+
+    /**
+     * Whether snapshots are enabled and the snapshot on disk was written for the same classpath and configuration.
+     */
+    boolean isCurrent() {
+        if(!enabled) {
+            return false;
+        }
+        if(current == null) {
+            current = readAndMatch();
+        }
+        return current;
+    }
+
+    private boolean readAndMatch() {
+        final File file = getFile();
+        if(!file.exists()) {
+            LOG.info("No metamodel snapshot found at '{}'", file);
+            return false;
+        }
+        final Properties properties = new Properties();
+        try (final InputStream is = new FileInputStream(file)) {
+            properties.load(is);
+        } catch (IOException e) {
+            LOG.warn("Unable to read metamodel snapshot '{}'; will ignore", file, e);
+            return false;
+        }
+        final boolean matches = getKey().equals(properties.getProperty(KEY_PROPERTY));
+        if(matches) {
+            LOG.info("Metamodel snapshot '{}' is current ({} specs)", file, properties.getProperty(SPEC_COUNT_PROPERTY));
+        } else {
+            LOG.info("Metamodel snapshot '{}' is stale (classpath or configuration has changed)", file);
+        }
+        return matches;
+    }
+
+    //endregion
+
+    //region > write
+
+    /**
+     * Records that the metamodel, comprising the provided specifications, has been validated successfully.
+     */
+    void write(final Collection<ObjectSpecification> specifications) {
+        if(!enabled) {
+            return;
+        }
+        final File file = getFile();
+        final Properties properties = new Properties();
+        properties.setProperty(KEY_PROPERTY, getKey());
+        properties.setProperty(SPEC_COUNT_PROPERTY, "" + specifications.size());
+        try {
+            Files.createParentDirs(file);
+            try (final OutputStream os = new FileOutputStream(file)) {
+                properties.store(os, "Isis metamodel snapshot; delete to force full introspection and validation");
+            }
+            current = true;
+            LOG.info("Wrote metamodel snapshot '{}'", file);
+        } catch (IOException e) {
+            LOG.warn("Unable to write metamodel snapshot '{}'", file, e);
+        }
+    }
+
+    //endregion
+
+    //region > file, key
+
+    File getFile() {
+        if(file == null) {
+            final Hasher hasher = Hashing.sha1().newHasher();
+            for (final String classpathEntry : getClasspathEntries()) {
+                hasher.putString(classpathEntry, Charsets.UTF_8);
+            }
+            file = new File(directory, "isis-metamodel-" + hasher.hash().toString().substring(0, 16) + ".snapshot");
+        }
+        return file;
+    }
+
+    String getKey() {
+        if(key == null) {
+            key = computeKey();
+        }
+        return key;
+    }
+
+    private String computeKey() {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        final File snapshotDirectory = new File(directory).getAbsoluteFile();
+        for (final String classpathEntry : getClasspathEntries()) {
+            hash(hasher, new File(classpathEntry), snapshotDirectory);
+        }
+        for (final Map.Entry<String, String> entry : new TreeMap<String, String>(configurationMap).entrySet()) {
+            if(entry.getKey().startsWith(DATANUCLEUS_CONFIG_PREFIX)) {
+                continue;
+            }
+            hasher.putString(entry.getKey(), Charsets.UTF_8);
+            hasher.putString("" + entry.getValue(), Charsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    private Set<String> getClasspathEntries() {
+        if(classpathEntries == null) {
+            classpathEntries = findClasspathEntries();
+        }
+        return classpathEntries;
+    }
+
+    private static Set<String> findClasspathEntries() {
+        final Set<String> classpathEntries = Sets.newTreeSet();
+        final String classPath = System.getProperty("java.class.path");
+        if(classPath != null) {
+            for (final String entry : Splitter.on(File.pathSeparatorChar).omitEmptyStrings().split(classPath)) {
+                classpathEntries.add(entry);
+            }
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        while(classLoader != null) {
+            if(classLoader instanceof URLClassLoader) {
+                for (final URL url : ((URLClassLoader) classLoader).getURLs()) {
+                    if("file".equals(url.getProtocol())) {
+                        classpathEntries.add(url.getPath());
+                    }
+                }
+            }
+            classLoader = classLoader.getParent();
+        }
+        return classpathEntries;
+    }
+
+    /**
+     * The snapshot directory is skipped, in case it is itself on the classpath; otherwise writing the snapshot would
+     * itself make the snapshot stale.
+     */
+    private static void hash(final Hasher hasher, final File file, final File snapshotDirectory) {
+        if(file.getAbsoluteFile().equals(snapshotDirectory)) {
+            return;
+        }
+        hasher.putString(file.getPath(), Charsets.UTF_8);
+        if(!file.isDirectory()) {
+            hasher.putLong(file.length());
+        }
+        hasher.putLong(file.lastModified());
+    }
+
+    //endregion
+
+}
@@ -16,11 +16,13 @@
  */
 package org.apache.isis.core.metamodel.specloader;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
@@ -38,6 +40,7 @@
 import org.apache.isis.core.commons.components.ApplicationScopedComponent;
 import org.apache.isis.core.commons.config.ConfigPropertyBoolean;
 import org.apache.isis.core.commons.config.ConfigPropertyEnum;
+import org.apache.isis.core.commons.config.ConfigPropertyString;
 import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.commons.ensure.Assert;
 import org.apache.isis.core.commons.exceptions.IsisException;
@@ -99,6 +102,21 @@ public class SpecificationLoader implements ApplicationScopedComponent {
     public static final ConfigPropertyEnum<IntrospectionMode> CONFIG_PROPERTY_MODE =
             new ConfigPropertyEnum<>("isis.reflector.introspector.mode", IntrospectionMode.LAZY_UNLESS_PRODUCTION);
 
+    /**
+     * Whether to use a {@link MetaModelSnapshot} to skip full introspection and validation on restarts for which
+     * the classpath and configuration are unchanged.
+     */
+    public static final ConfigPropertyBoolean CONFIG_PROPERTY_SNAPSHOT =
+            new ConfigPropertyBoolean("isis.reflector.snapshot", false);
+
+    /**
+     * The directory in which the {@link MetaModelSnapshot} is written; the name of the file within it is specific
+     * to the application's classpath.
+     */
+    public static final ConfigPropertyString CONFIG_PROPERTY_SNAPSHOT_DIRECTORY =
+            new ConfigPropertyString("isis.reflector.snapshot.directory",
+                    System.getProperty("java.io.tmpdir") + File.separator + "isis");
+
 
     //region > constructor, fields
     private final ClassSubstitutor classSubstitutor = new ClassSubstitutor();
@@ -113,6 +131,7 @@ public class SpecificationLoader implements ApplicationScopedComponent {
     private final SpecificationCacheDefault cache = new SpecificationCacheDefault();
     private final List<LayoutMetadataReader> layoutMetadataReaders;
     private final PostProcessor postProcessor;
+    private final MetaModelSnapshot snapshot;
 
 
 
@@ -133,6 +152,8 @@ public SpecificationLoader(
         this.postProcessor = new PostProcessor(programmingModel, servicesInjector);
 
         this.layoutMetadataReaders = layoutMetadataReaders;
+
+        this.snapshot = new MetaModelSnapshot(configuration);
     }
 
 
@@ -221,8 +242,12 @@ public void init() {
 
         final IntrospectionMode mode = CONFIG_PROPERTY_MODE.from(configuration);
         if(mode.isFullIntrospect(servicesInjector.getDeploymentCategoryProvider().getDeploymentCategory())) {
-            LOG.info("Introspecting all cached specs up to {}", IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-            introspect(cachedSpecifications, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            if(snapshot.isCurrent()) {
+                LOG.info("Metamodel snapshot is current, so skipping introspection of all cached specs");
+            } else {
+                LOG.info("Introspecting all cached specs up to {}", IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+                introspect(cachedSpecifications, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
         }
 
         LOG.info("init() - done");
@@ -372,6 +397,7 @@ public void invalidateCache(final Class<?> cls) {
             }
             spec = spec.superclass();
         }
+        metaModelVersion.incrementAndGet();
     }
 
 
@@ -381,6 +407,21 @@ private void recache(final ObjectSpecification newSpec) {
 
     //endregion
 
+    //region > metaModelVersion
+
+    private final AtomicLong metaModelVersion = new AtomicLong();
+
+    /**
+     * Incremented whenever a specification is added to (or {@link #invalidateCache(Class) invalidated} within) the
+     * metamodel; allows anything derived from the metamodel as a whole to be cached until it changes.
+     */
+    @Programmatic
+    public long getMetaModelVersion() {
+        return metaModelVersion.get();
+    }
+
+    //endregion
+
     //region > validation
 
     private ValidationFailures validationFailures;
@@ -392,9 +433,15 @@ public void validateAndAssert() {
             LOG.info("Meta model validation skipped (full introspection of metamodel not configured)");
             return;
         }
+        if(snapshot.isCurrent()) {
+            LOG.info("Meta model validation skipped (metamodel snapshot is current)");
+            return;
+        }
 
         ValidationFailures validationFailures = validate();
         validationFailures.assertNone();
+
+        snapshot.write(allCachedSpecifications());
     }
 
     @Programmatic
@@ -514,6 +561,7 @@ private ObjectSpecification internalLoadSpecification(
             // put into the cache prior to introspecting, to prevent
             // infinite loops
             cache.cache(typeName, specification);
+            metaModelVersion.incrementAndGet();
 
             final ObjectSpecificationAbstract specSpi = (ObjectSpecificationAbstract) specification;
             specSpi.introspectUpTo(upTo);
@@ -29,7 +29,6 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
-import org.apache.isis.core.commons.lang.ListExtensions;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facetapi.MethodRemover;
@@ -76,7 +75,45 @@ public class FacetProcessor implements ServicesInjectorAware {
      * <p>
      * If <tt>null</tt>, indicates that the cache hasn't been built.
      */
-    private List<String> cachedMethodPrefixes;
+    private MethodPrefixes cachedMethodPrefixes;
+
+    /**
+     * A trie of method prefixes, so that a method name is checked against all of them in a single pass over (at most)
+     * its characters.
+     */
+    static class MethodPrefixes {
+
+        private final Map<Character, MethodPrefixes> children = Maps.newHashMap();
+        private boolean endOfPrefix;
+
+        void add(final String prefix) {
+            MethodPrefixes node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                final Character ch = prefix.charAt(i);
+                MethodPrefixes child = node.children.get(ch);
+                if (child == null) {
+                    child = new MethodPrefixes();
+                    node.children.put(ch, child);
+                }
+                node = child;
+            }
+            node.endOfPrefix = true;
+        }
+
+        boolean anyPrefixOf(final String methodName) {
+            MethodPrefixes node = this;
+            for (int i = 0; !node.endOfPrefix; i++) {
+                if (i == methodName.length()) {
+                    return false;
+                }
+                node = node.children.get(methodName.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 
     /**
      * All registered {@link FacetFactory factories} that implement
@@ -227,11 +264,8 @@ public void findAndRemoveCollectionAccessors(final MethodRemover methodRemover,
      */
     public boolean recognizes(final Method method) {
         cacheMethodPrefixesIfRequired();
-        final String methodName = method.getName();
-        for (final String prefix : cachedMethodPrefixes) {
-            if (methodName.startsWith(prefix)) {
-                return true;
-            }
+        if (cachedMethodPrefixes.anyPrefixOf(method.getName())) {
+            return true;
         }
 
         cacheMethodFilteringFacetFactoriesIfRequired();
@@ -418,13 +452,16 @@ private synchronized void cacheMethodPrefixesIfRequired() {
         if (cachedMethodPrefixes != null) {
             return;
         }
-        cachedMethodPrefixes = Lists.newArrayList();
+        final MethodPrefixes methodPrefixes = new MethodPrefixes();
         for (final FacetFactory facetFactory : factories) {
             if (facetFactory instanceof MethodPrefixBasedFacetFactory) {
                 final MethodPrefixBasedFacetFactory methodPrefixBasedFacetFactory = (MethodPrefixBasedFacetFactory) facetFactory;
-                ListExtensions.mergeWith(cachedMethodPrefixes, methodPrefixBasedFacetFactory.getPrefixes());
+                for (final String prefix : methodPrefixBasedFacetFactory.getPrefixes()) {
+                    methodPrefixes.add(prefix);
+                }
             }
         }
+        cachedMethodPrefixes = methodPrefixes;
     }
 
     private synchronized void cacheMethodFilteringFacetFactoriesIfRequired() {
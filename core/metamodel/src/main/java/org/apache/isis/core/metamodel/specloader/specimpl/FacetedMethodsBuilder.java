@@ -21,7 +21,6 @@
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +52,7 @@
 import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader;
 import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader.ReaderException;
 import org.apache.isis.core.metamodel.layoutmetadata.LayoutMetadataReader2;
+import org.apache.isis.core.metamodel.methodutils.MethodCatalogue;
 import org.apache.isis.core.metamodel.methodutils.MethodScope;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
@@ -70,9 +70,9 @@ public class FacetedMethodsBuilder {
     private static final class FacetedMethodsMethodRemover implements MethodRemover {
 
         private final Class<?> introspectedClass;
-        private final List<Method> methods;
+        private final MethodCatalogue methods;
 
-        private FacetedMethodsMethodRemover(final Class<?> introspectedClass, final List<Method> methods) {
+        private FacetedMethodsMethodRemover(final Class<?> introspectedClass, final MethodCatalogue methods) {
             this.introspectedClass = introspectedClass;
             this.methods = methods;
         }
@@ -83,7 +83,7 @@ public void removeMethod(
                 final String methodName,
                 final Class<?> returnType,
                 final Class<?>[] parameterTypes) {
-            MethodUtil.removeMethod(methods, methodScope, methodName, returnType, parameterTypes);
+            methods.removeMethod(methodScope, methodName, returnType, parameterTypes);
         }
 
         @Override
@@ -93,44 +93,24 @@ public List<Method> removeMethods(
                 final Class<?> returnType,
                 final boolean canBeVoid,
                 final int paramCount) {
-            return MethodUtil.removeMethods(methods, methodScope, prefix, returnType, canBeVoid, paramCount);
+            return methods.removeMethods(methodScope, prefix, returnType, canBeVoid, paramCount);
         }
 
         @Override
         public void removeMethod(final Method method) {
-            if (method == null) {
-                return;
-            }
-            for (int i = 0; i < methods.size(); i++) {
-                if (methods.get(i) == null) {
-                    continue;
-                }
-                if (methods.get(i).equals(method)) {
-                    methods.set(i, null);
-                }
-            }
+            methods.removeMethod(method);
         }
 
         @Override
         public void removeMethods(final List<Method> methodsToRemove) {
-            for (int i = 0; i < methods.size(); i++) {
-                if (methods.get(i) == null) {
-                    continue;
-                }
-                for (final Method method : methodsToRemove) {
-                    if (methods.get(i).equals(method)) {
-                        methods.set(i, null);
-                        break;
-                    }
-                }
-            }
+            methods.removeMethods(methodsToRemove);
         }
     }
 
     private final ObjectSpecificationAbstract spec;
 
     private final Class<?> introspectedClass;
-    private final List<Method> methods;
+    private final MethodCatalogue methods;
 
     private List<FacetedMethod> associationFacetMethods;
     private List<FacetedMethod> actionFacetedMethods;
@@ -163,7 +143,7 @@ public FacetedMethodsBuilder(
 
         this.spec = spec;
         this.introspectedClass = spec.getCorrespondingClass();
-        this.methods = Arrays.asList(introspectedClass.getMethods());
+        this.methods = new MethodCatalogue(introspectedClass.getMethods());
 
         this.methodRemover = new FacetedMethodsMethodRemover(introspectedClass, methods);
 
@@ -323,7 +303,7 @@ private List<FacetedMethod> createAssociationFacetedMethods(Properties propertie
         if (LOG.isDebugEnabled()) {
             LOG.debug("introspecting {}: properties and collections", getClassName());
         }
-        final Set<Method> associationCandidateMethods = getFacetProcessor().findAssociationCandidateAccessors(methods, new HashSet<Method>());
+        final Set<Method> associationCandidateMethods = getFacetProcessor().findAssociationCandidateAccessors(methods.getMethods(), new HashSet<Method>());
 
         // Ensure all return types are known
         final List<Class<?>> typesToLoad = Lists.newArrayList();
@@ -462,14 +442,14 @@ private List<FacetedMethod> findActionFacetedMethods(
 
         final List<FacetedMethod> actionFacetedMethods = Lists.newArrayList();
 
-        for (int i = 0; i < methods.size(); i++) {
-            final Method method = methods.get(i);
-            if (method == null) {
+        for (final Method method : methods.getMethods()) {
+            // may have been removed (as a supporting method) while processing an earlier action
+            if (!methods.contains(method)) {
                 continue;
             }
             final FacetedMethod actionPeer = findActionFacetedMethod(methodScope, recognisedHelpersStrategy, method, metadataProperties);
             if (actionPeer != null) {
-                methods.set(i, null);
+                methods.removeMethod(method);
                 actionFacetedMethods.add(actionPeer);
             }
         }
@@ -605,7 +585,7 @@ private void findAndRemovePrefixedNonVoidMethods(
 
     /**
      * Searches for all methods matching the prefix and returns them, also
-     * removing it from the {@link #methods array of methods} if found.
+     * removing it from the {@link #methods catalogue of methods} if found.
      */
     private List<Method> findAndRemovePrefixedMethods(
             final MethodScope methodScope,
@@ -613,7 +593,7 @@ private List<Method> findAndRemovePrefixedMethods(
             final Class<?> returnType,
             final boolean canBeVoid,
             final int paramCount) {
-        return MethodUtil.removeMethods(methods, methodScope, prefix, returnType, canBeVoid, paramCount);
+        return methods.removeMethods(methodScope, prefix, returnType, canBeVoid, paramCount);
     }
 
     // ////////////////////////////////////////////////////////////////////////////
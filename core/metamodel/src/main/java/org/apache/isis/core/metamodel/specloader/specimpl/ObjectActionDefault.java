@@ -71,6 +71,7 @@
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.isis.schema.cmd.v1.CommandDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 public class ObjectActionDefault extends ObjectMemberAbstract implements ObjectAction {
 
@@ -303,15 +304,20 @@ public Consent isProposedArgumentSetValid(
             final ObjectAdapter[] proposedArguments,
             final InteractionInitiatedBy interactionInitiatedBy) {
 
-        final InteractionResultSet resultSet = new InteractionResultSet();
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            final InteractionResultSet resultSet = new InteractionResultSet();
 
-        validateArgumentsIndividually(targetObject, proposedArguments, interactionInitiatedBy, resultSet);
-        if (resultSet.isAllowed()) {
-            // only check the action's own validity if all the arguments are OK.
-            validateArgumentSet(targetObject, proposedArguments, interactionInitiatedBy, resultSet);
-        }
+            validateArgumentsIndividually(targetObject, proposedArguments, interactionInitiatedBy, resultSet);
+            if (resultSet.isAllowed()) {
+                // only check the action's own validity if all the arguments are OK.
+                validateArgumentSet(targetObject, proposedArguments, interactionInitiatedBy, resultSet);
+            }
 
-        return resultSet.createConsent();
+            return resultSet.createConsent();
+        } finally {
+            getPhaseTimer().record(PhaseType.VALIDATION, startedAtNanos);
+        }
     }
 
     /**
@@ -333,11 +339,16 @@ public Consent isEachIndividualArgumentValid(
             final ObjectAdapter[] proposedArguments,
             final InteractionInitiatedBy interactionInitiatedBy) {
 
-        final InteractionResultSet resultSet = new InteractionResultSet();
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            final InteractionResultSet resultSet = new InteractionResultSet();
 
-        validateArgumentsIndividually(objectAdapter, proposedArguments, interactionInitiatedBy, resultSet);
+            validateArgumentsIndividually(objectAdapter, proposedArguments, interactionInitiatedBy, resultSet);
 
-        return resultSet.createConsent();
+            return resultSet.createConsent();
+        } finally {
+            getPhaseTimer().record(PhaseType.VALIDATION, startedAtNanos);
+        }
     }
 
     private void validateArgumentsIndividually(
@@ -376,10 +387,15 @@ public Consent isArgumentSetValid(
             final ObjectAdapter[] proposedArguments,
             final InteractionInitiatedBy interactionInitiatedBy) {
 
-        final InteractionResultSet resultSet = new InteractionResultSet();
-        validateArgumentSet(objectAdapter, proposedArguments, interactionInitiatedBy, resultSet);
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            final InteractionResultSet resultSet = new InteractionResultSet();
+            validateArgumentSet(objectAdapter, proposedArguments, interactionInitiatedBy, resultSet);
 
-        return resultSet.createConsent();
+            return resultSet.createConsent();
+        } finally {
+            getPhaseTimer().record(PhaseType.VALIDATION, startedAtNanos);
+        }
     }
 
     protected void validateArgumentSet(
@@ -51,6 +51,7 @@
 import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.InteractionContext;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
@@ -76,6 +77,7 @@ public static ObjectSpecification getSpecification(final SpecificationLoader spe
     private final SpecificationLoader specificationLoader;
     private final ServicesInjector servicesInjector;
     private final PersistenceSessionServiceInternal persistenceSessionServiceInternal;
+    private PhaseTimer phaseTimer;
     //endregion
 
     protected ObjectMemberAbstract(
@@ -402,6 +404,13 @@ public PersistenceSessionServiceInternal getPersistenceSessionService() {
         return persistenceSessionServiceInternal;
     }
 
+    protected PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(getServicesInjector());
+        }
+        return phaseTimer;
+    }
+
     protected <T> T lookupService(final Class<T> serviceClass) {
         return getServicesInjector().lookupService(serviceClass);
     }
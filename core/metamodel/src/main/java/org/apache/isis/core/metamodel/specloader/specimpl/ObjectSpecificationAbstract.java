@@ -341,6 +341,7 @@ protected void sortAndUpdateAssociations(final List<ObjectAssociation> associati
         synchronized (this.associations) {
             this.associations.clear();
             this.associations.addAll(orderedAssociations);
+            this.persistedProperties = null;
         }
     }
 
@@ -792,6 +793,24 @@ public List<OneToManyAssociation> getCollections(Contributed contributed) {
         return list;
     }
 
+    private volatile List<OneToOneAssociation> persistedProperties;
+
+    @Override
+    public List<OneToOneAssociation> getPersistedProperties() {
+        List<OneToOneAssociation> properties = this.persistedProperties;
+        if(properties == null) {
+            final List<OneToOneAssociation> persisted = Lists.newArrayList();
+            for (final OneToOneAssociation property : getProperties(Contributed.EXCLUDED)) {
+                if(!property.isNotPersisted()) {
+                    persisted.add(property);
+                }
+            }
+            properties = Collections.unmodifiableList(persisted);
+            this.persistedProperties = properties;
+        }
+        return properties;
+    }
+
     //endregion
 
     //region > getObjectActions
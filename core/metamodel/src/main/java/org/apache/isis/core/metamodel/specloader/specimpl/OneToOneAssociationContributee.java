@@ -105,6 +105,11 @@ public ObjectAdapter get(final ObjectAdapter ownerAdapter, final InteractionInit
         return serviceAction.execute(getServiceAdapter(), null, new ObjectAdapter[]{ownerAdapter}, interactionInitiatedBy);
     }
 
+    @Override
+    public Object getRawValue(final ObjectAdapter ownerAdapter) {
+        return ObjectAdapter.Util.unwrap(get(ownerAdapter, InteractionInitiatedBy.FRAMEWORK));
+    }
+
     @Override
     public ObjectSpecification getOnType() {
         return serviceAction.getOnType();
@@ -57,6 +57,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.schema.cmd.v1.CommandDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 public class OneToOneAssociationDefault extends ObjectAssociationAbstract implements OneToOneAssociation {
 
@@ -108,7 +109,12 @@ public Consent isAssociationValid(
             final ObjectAdapter ownerAdapter,
             final ObjectAdapter proposedAdapter,
             final InteractionInitiatedBy interactionInitiatedBy) {
-        return isAssociationValidResult(ownerAdapter, proposedAdapter, interactionInitiatedBy).createConsent();
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            return isAssociationValidResult(ownerAdapter, proposedAdapter, interactionInitiatedBy).createConsent();
+        } finally {
+            getPhaseTimer().record(PhaseType.VALIDATION, startedAtNanos);
+        }
     }
 
     private InteractionResult isAssociationValidResult(
@@ -152,6 +158,12 @@ public ObjectAdapter get(
         return getPersistenceSessionService().adapterFor(referencedPojo);
     }
 
+    @Override
+    public Object getRawValue(final ObjectAdapter ownerAdapter) {
+        final PropertyOrCollectionAccessorFacet facet = getFacet(PropertyOrCollectionAccessorFacet.class);
+        return facet.getRawProperty(ownerAdapter);
+    }
+
     // REVIEW: UNUSED
     private PropertyAccessContext createAccessInteractionContext(
             final ObjectAdapter ownerAdapter,
@@ -141,6 +141,11 @@ public ObjectAdapter exec() {
         );
     }
 
+    @Override
+    public Object getRawValue(final ObjectAdapter ownerAdapter) {
+        return ObjectAdapter.Util.unwrap(get(ownerAdapter, InteractionInitiatedBy.FRAMEWORK));
+    }
+
     @Override
     public Identifier getIdentifier() {
         return identifier;
@@ -26,9 +26,12 @@
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.runtime.authorization.AuthorizationManager;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 public abstract class AuthorizationFacetAbstract extends FacetAbstract implements AuthorizationFacet {
 
@@ -38,24 +41,45 @@ public static Class<? extends Facet> type() {
 
     private final AuthorizationManager authorizationManager;
     private final AuthenticationSessionProvider authenticationSessionProvider;
+    private final ServicesInjector servicesInjector;
+    private PhaseTimer phaseTimer;
 
     public AuthorizationFacetAbstract(
             final FacetHolder holder,
             final AuthorizationManager authorizationManager,
-            final AuthenticationSessionProvider authenticationSessionProvider) {
+            final AuthenticationSessionProvider authenticationSessionProvider,
+            final ServicesInjector servicesInjector) {
         super(type(), holder, Derivation.NOT_DERIVED);
         this.authorizationManager = authorizationManager;
         this.authenticationSessionProvider = authenticationSessionProvider;
+        this.servicesInjector = servicesInjector;
     }
 
     @Override
     public String hides(final VisibilityContext<? extends VisibilityEvent> ic) {
-        return authorizationManager.isVisible(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to view";
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            return authorizationManager.isVisible(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to view";
+        } finally {
+            getPhaseTimer().record(PhaseType.AUTHORIZATION, startedAtNanos);
+        }
     }
 
     @Override
     public String disables(final UsabilityContext<? extends UsabilityEvent> ic) {
-        return authorizationManager.isUsable(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to edit";
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            return authorizationManager.isUsable(getAuthenticationSession(), ic.getTarget(), ic.getIdentifier()) ? null : "Not authorized to edit";
+        } finally {
+            getPhaseTimer().record(PhaseType.AUTHORIZATION, startedAtNanos);
+        }
+    }
+
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(servicesInjector);
+        }
+        return phaseTimer;
     }
 
     protected AuthenticationSession getAuthenticationSession() {
@@ -45,7 +45,7 @@ public void process(final ProcessMethodContext processMethodContext) {
     }
 
     private AuthorizationFacetImpl createFacet(final FacetHolder holder) {
-        return new AuthorizationFacetImpl(holder, getAuthorizationManager(), getAuthenticationSessionProvider());
+        return new AuthorizationFacetImpl(holder, getAuthorizationManager(), getAuthenticationSessionProvider(), servicesInjector);
     }
 
     // //////////////////////////////////////////////////////////////////
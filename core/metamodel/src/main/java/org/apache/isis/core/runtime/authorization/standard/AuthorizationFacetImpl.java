@@ -21,6 +21,7 @@
 
 import org.apache.isis.core.commons.authentication.AuthenticationSessionProvider;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.runtime.authorization.AuthorizationManager;
 
 public class AuthorizationFacetImpl extends AuthorizationFacetAbstract {
@@ -28,8 +29,9 @@ public class AuthorizationFacetImpl extends AuthorizationFacetAbstract {
     public AuthorizationFacetImpl(
             final FacetHolder holder,
             final AuthorizationManager authorizationManager,
-            final AuthenticationSessionProvider authenticationSessionProvider) {
-        super(holder, authorizationManager, authenticationSessionProvider);
+            final AuthenticationSessionProvider authenticationSessionProvider,
+            final ServicesInjector servicesInjector) {
+        super(holder, authorizationManager, authenticationSessionProvider, servicesInjector);
     }
 
 }
@@ -0,0 +1,669 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.snapshot;
+
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.UUID;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.ViewModel;
+import org.apache.isis.applib.snapshot.SnapshottableWithInclusions;
+import org.apache.isis.core.commons.exceptions.IsisException;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.FacetUtil;
+import org.apache.isis.core.metamodel.facets.collections.modify.CollectionFacet;
+import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
+import org.apache.isis.core.metamodel.facets.object.parseable.ParseableFacet;
+import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Streaming equivalent of {@link XmlSnapshot}, writing the snapshot (and its schema) using StAX directly to an
+ * {@link OutputStream} while traversing the object graph, rather than building up (and then merging) DOM trees.
+ *
+ * <p>
+ * The XML written is the same as that of {@link XmlSnapshot}, and paths are included with the same semantics:
+ * each path is navigated from the root object; a path that cannot be navigated (a field that does not exist, or
+ * is a value) is ignored, and any annotation is applied to the element of the last field of the path.  Paths that
+ * share a common prefix are merged.
+ * </p>
+ *
+ * <p>
+ * Memory is bounded by the depth of the included paths and the number of distinct types encountered, not by the
+ * number of objects in the graph.  The XSD schema is derived from the types actually encountered, and so is only
+ * available once the XML has been written.
+ * </p>
+ *
+ * <p>
+ * Typical use:
+ * </p>
+ * <pre>
+ * new XmlSnapshotWriter(customerAdapter)
+ *     .include(&quot;placeOfBirth&quot;)
+ *     .include(&quot;orders/product&quot;)
+ *     .write(xmlOut, xsdOut);
+ * </pre>
+ */
+public class XmlSnapshotWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlSnapshotWriter.class);
+
+    private final ObjectAdapter rootAdapter;
+    private final String prefix;
+    private final String uri;
+    private final String fullyQualifiedClassName;
+
+    /**
+     * The included paths, merged into a tree.
+     */
+    private final PathNode rootPath = new PathNode();
+
+    /**
+     * Populated as the XML is written; the schema of the root object (and, through its fields, of every object
+     * included).
+     */
+    private ClassSchema rootSchema;
+
+    private final Map<ObjectAdapter, String> viewModelFakeOids = Maps.newHashMap();
+
+    private final Helper helper = new Helper();
+
+    public XmlSnapshotWriter(final ObjectAdapter rootAdapter) {
+        this(rootAdapter, new XmlSchema());
+    }
+
+    /**
+     * @param schema - only the {@link XmlSchema#getUriBase() URI base} and {@link XmlSchema#getPrefix() prefix}
+     *                 are used.
+     */
+    public XmlSnapshotWriter(final ObjectAdapter rootAdapter, final XmlSchema schema) {
+        this.rootAdapter = rootAdapter;
+        this.prefix = schema.getPrefix();
+        this.fullyQualifiedClassName = rootAdapter.getSpecification().getFullIdentifier();
+        this.uri = schema.getUriBase()
+                + helper.packageNameFor(fullyQualifiedClassName) + "/" + helper.classNameFor(fullyQualifiedClassName);
+
+        for (final String path : getPathsFor(rootAdapter.getObject())) {
+            include(path);
+        }
+    }
+
+    private static List<String> getPathsFor(final Object object) {
+        if (!(object instanceof SnapshottableWithInclusions)) {
+            return Collections.emptyList();
+        }
+        final List<String> paths = ((SnapshottableWithInclusions) object).snapshotInclusions();
+        if (paths == null) {
+            return Collections.emptyList();
+        }
+        return paths;
+    }
+
+    //region > include
+
+    public XmlSnapshotWriter include(final String path) {
+        return include(path, null);
+    }
+
+    public XmlSnapshotWriter include(final String path, final String annotation) {
+        PathNode node = rootPath;
+        for (final StringTokenizer tok = new StringTokenizer(path, "/"); tok.hasMoreTokens();) {
+            node = node.childFor(tok.nextToken());
+        }
+        if (node != rootPath && annotation != null) {
+            node.annotation = annotation;
+        }
+        return this;
+    }
+
+    /**
+     * A node in the tree of included paths; the root node represents the root object.
+     */
+    static class PathNode {
+        private final Map<String, PathNode> children = Maps.newLinkedHashMap();
+        private String annotation;
+
+        PathNode childFor(final String fieldName) {
+            PathNode child = children.get(fieldName);
+            if (child == null) {
+                child = new PathNode();
+                children.put(fieldName, child);
+            }
+            return child;
+        }
+
+        PathNode getChild(final String fieldName) {
+            return children.get(fieldName);
+        }
+
+        String getAnnotation() {
+            return annotation;
+        }
+    }
+
+    //endregion
+
+    //region > write (XML)
+
+    /**
+     * Writes the XML only.
+     */
+    public void writeXml(final OutputStream xmlOut) {
+        write(xmlOut, null);
+    }
+
+    /**
+     * Writes the XML to the first output stream, then (if not <tt>null</tt>) the XSD to the second.  Neither stream
+     * is closed.
+     */
+    public void write(final OutputStream xmlOut, final OutputStream xsdOutIfAny) {
+        final XMLOutputFactory factory = XMLOutputFactory.newInstance();
+        try {
+            final XMLStreamWriter xml = factory.createXMLStreamWriter(xmlOut, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            rootSchema = new ClassSchema(rootAdapter.getSpecification(), true);
+            writeObject(xml, rootAdapter, rootPath, rootSchema, true);
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+
+            if (xsdOutIfAny != null) {
+                final XMLStreamWriter xsd = factory.createXMLStreamWriter(xsdOutIfAny, "UTF-8");
+                writeXsd(xsd);
+                xsd.flush();
+                xsd.close();
+            }
+        } catch (final XMLStreamException e) {
+            LOG.error("unable to write snapshot", e);
+            throw new IsisException(e);
+        }
+    }
+
+    private void writeObject(
+            final XMLStreamWriter xml,
+            final ObjectAdapter adapter,
+            final PathNode pathNode,
+            final ClassSchema classSchema,
+            final boolean root) throws XMLStreamException {
+
+        final ObjectSpecification nos = adapter.getSpecification();
+
+        xml.writeStartElement(prefix, nos.getShortIdentifier(), uri);
+        if (root) {
+            xml.writeNamespace(prefix, uri);
+            xml.writeNamespace(IsisSchema.NS_PREFIX, IsisSchema.NS_URI);
+            xml.writeNamespace(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI);
+            xml.writeAttribute(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI, "schemaLocation",
+                    uri + " " + fullyQualifiedClassName + ".xsd");
+        }
+        writeIsisAttribute(xml, "fqn", nos.getFullIdentifier());
+        writeIsisAttribute(xml, "singular", nos.getSingularName());
+        writeIsisAttribute(xml, "plural", nos.getPluralName());
+        writeIsisAttribute(xml, "feature", IsisSchema.FEATURE_CLASS);
+        writeIsisAttribute(xml, "oid", oidAsString(adapter));
+        writeIsisTitle(xml, adapter.titleString());
+
+        final Set<String> fieldNames = Sets.newHashSet();
+        for (final ObjectAssociation field : nos.getAssociations(Contributed.INCLUDED)) {
+            final String fieldName = field.getId();
+            if (!fieldNames.add(fieldName)) {
+                continue;
+            }
+            final PathNode fieldPath = pathNode.getChild(fieldName);
+
+            if (field.getSpecification().containsFacet(ValueFacet.class)) {
+                writeValue(xml, adapter, (OneToOneAssociation) field, fieldPath, classSchema);
+            } else if (field instanceof OneToOneAssociation) {
+                writeReference(xml, adapter, (OneToOneAssociation) field, fieldPath, classSchema);
+            } else if (field instanceof OneToManyAssociation) {
+                writeCollection(xml, adapter, (OneToManyAssociation) field, fieldPath, classSchema);
+            } else {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("writeObject: field '{}' is unknown type; ignored", fieldName);
+                }
+            }
+        }
+
+        xml.writeEndElement();
+    }
+
+    private void writeValue(
+            final XMLStreamWriter xml,
+            final ObjectAdapter adapter,
+            final OneToOneAssociation valueAssociation,
+            final PathNode fieldPath,
+            final ClassSchema classSchema) throws XMLStreamException {
+
+        final ObjectSpecification fieldNos = valueAssociation.getSpecification();
+        // skip fields of type XmlValue
+        if (fieldNos.getFullIdentifier() != null && fieldNos.getFullIdentifier().endsWith("XmlValue")) {
+            return;
+        }
+
+        String datatype = null;
+        String valueStr = null;
+        try {
+            final ObjectAdapter value = valueAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+            datatype = value.getSpecification().getShortIdentifier();
+
+            // return parsed string, else encoded string, else title.
+            final ParseableFacet parseableFacet = fieldNos.getFacet(ParseableFacet.class);
+            final EncodableFacet encodeableFacet = fieldNos.getFacet(EncodableFacet.class);
+            if (parseableFacet != null) {
+                valueStr = parseableFacet.parseableTitle(value);
+            } else if (encodeableFacet != null) {
+                valueStr = encodeableFacet.toEncodedString(value);
+            } else {
+                valueStr = value.titleString();
+            }
+        } catch (final Exception ex) {
+            LOG.warn("writeValue: field '{}': get() threw exception - skipping XML generation", valueAssociation.getId());
+        }
+
+        writeFieldStartElement(xml, valueAssociation, fieldPath);
+        if (datatype != null) {
+            writeIsisAttribute(xml, "feature", IsisSchema.FEATURE_VALUE);
+            writeIsisAttribute(xml, "datatype", IsisSchema.NS_PREFIX + ":" + datatype);
+            if (!Strings.isNullOrEmpty(valueStr)) {
+                xml.writeCharacters(valueStr);
+            } else {
+                writeIsisAttribute(xml, "isEmpty", "" + true);
+            }
+        }
+        xml.writeEndElement();
+
+        classSchema.fieldFor(valueAssociation, FieldSchema.Feature.VALUE, datatype);
+    }
+
+    private void writeReference(
+            final XMLStreamWriter xml,
+            final ObjectAdapter adapter,
+            final OneToOneAssociation oneToOneAssociation,
+            final PathNode fieldPath,
+            final ClassSchema classSchema) throws XMLStreamException {
+
+        final FieldSchema fieldSchema = classSchema.fieldFor(oneToOneAssociation, FieldSchema.Feature.REFERENCE, null);
+
+        ObjectAdapter referencedObjectAdapter = null;
+        boolean ok = false;
+        try {
+            referencedObjectAdapter = oneToOneAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+            ok = true;
+        } catch (final Exception ex) {
+            LOG.warn("writeReference: field '{}': get() threw exception - skipping XML generation", oneToOneAssociation.getId());
+        }
+
+        writeFieldStartElement(xml, oneToOneAssociation, fieldPath);
+        if (ok) {
+            // as per XmlSnapshot, the type is that of the owning object
+            writeIsisAttribute(xml, "feature", IsisSchema.FEATURE_REFERENCE);
+            writeIsisAttribute(xml, "type", prefix + ":" + adapter.getSpecification().getFullIdentifier());
+            if (referencedObjectAdapter != null) {
+                writeIsisTitle(xml, referencedObjectAdapter.titleString());
+            } else {
+                writeIsisAttribute(xml, "isEmpty", "" + true);
+            }
+        }
+
+        if (referencedObjectAdapter != null && isNavigable(oneToOneAssociation, fieldPath)) {
+            writeObject(xml, referencedObjectAdapter, fieldPath,
+                    fieldSchema.childFor(referencedObjectAdapter.getSpecification()), false);
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeCollection(
+            final XMLStreamWriter xml,
+            final ObjectAdapter adapter,
+            final OneToManyAssociation oneToManyAssociation,
+            final PathNode fieldPath,
+            final ClassSchema classSchema) throws XMLStreamException {
+
+        final FieldSchema fieldSchema = classSchema.fieldFor(oneToManyAssociation, FieldSchema.Feature.COLLECTION, null);
+
+        ObjectAdapter collection = null;
+        try {
+            collection = oneToManyAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+        } catch (final Exception ex) {
+            LOG.warn("writeCollection: field '{}': get() threw exception - skipping XML generation", oneToManyAssociation.getId());
+        }
+
+        writeFieldStartElement(xml, oneToManyAssociation, fieldPath);
+        if (collection != null) {
+            final CollectionFacet facet = collection.getSpecification().getFacet(CollectionFacet.class);
+            writeIsisAttribute(xml, "feature", IsisSchema.FEATURE_COLLECTION);
+            writeIsisAttribute(xml, "type", prefix + ":" + oneToManyAssociation.getSpecification().getFullIdentifier());
+            writeIsisAttribute(xml, "size", "" + facet.size(collection));
+
+            if (fieldPath != null) {
+                for (final ObjectAdapter referencedObject : facet.iterable(collection)) {
+                    writeObject(xml, referencedObject, fieldPath,
+                            fieldSchema.childFor(referencedObject.getSpecification()), false);
+                }
+            }
+        }
+        xml.writeEndElement();
+    }
+
+    /**
+     * As per {@link XmlSnapshot}, a reference is only navigated if included, and only if its type has associations
+     * of its own.
+     */
+    private static boolean isNavigable(final OneToOneAssociation field, final PathNode fieldPath) {
+        return fieldPath != null && !field.getSpecification().getAssociations(Contributed.INCLUDED).isEmpty();
+    }
+
+    private void writeFieldStartElement(
+            final XMLStreamWriter xml,
+            final ObjectAssociation field,
+            final PathNode fieldPath) throws XMLStreamException {
+        xml.writeStartElement(prefix, field.getId(), uri);
+        if (fieldPath != null && fieldPath.getAnnotation() != null) {
+            writeIsisAttribute(xml, "annotation", IsisSchema.NS_PREFIX + ":" + fieldPath.getAnnotation());
+        }
+    }
+
+    private static void writeIsisAttribute(
+            final XMLStreamWriter xml,
+            final String attributeName,
+            final String attributeValue) throws XMLStreamException {
+        xml.writeAttribute(IsisSchema.NS_PREFIX, IsisSchema.NS_URI, attributeName, attributeValue);
+    }
+
+    private static void writeIsisTitle(final XMLStreamWriter xml, final String titleStr) throws XMLStreamException {
+        xml.writeStartElement(IsisSchema.NS_PREFIX, "title", IsisSchema.NS_URI);
+        xml.writeCharacters(titleStr);
+        xml.writeEndElement();
+    }
+
+    private String oidAsString(final ObjectAdapter adapter) {
+        if(adapter.getObject() instanceof ViewModel) {
+            // return a fake oid for view models;
+            // a snapshot may be being used to create the memento/OID
+            String fakeOid = viewModelFakeOids.get(adapter);
+            if(fakeOid == null) {
+                fakeOid = "viewmodel-fakeoid-" + UUID.randomUUID().toString();
+                viewModelFakeOids.put(adapter, fakeOid);
+            }
+            return fakeOid;
+        } else {
+            return adapter.getOid().enString();
+        }
+    }
+
+    //endregion
+
+    //region > schema (XSD)
+
+    /**
+     * The schema of an element representing an object, keyed (within its owning {@link FieldSchema}) by the short
+     * identifier of its type.
+     */
+    static class ClassSchema {
+        private final String name;
+        private final boolean root;
+        private final Map<String, String> extensions;
+        private final Map<String, FieldSchema> fields = Maps.newLinkedHashMap();
+
+        ClassSchema(final ObjectSpecification spec, final boolean root) {
+            this.name = spec.getShortIdentifier();
+            this.root = root;
+            this.extensions = extensionsFor(spec);
+        }
+
+        FieldSchema fieldFor(final ObjectAssociation field, final FieldSchema.Feature feature, final String datatype) {
+            FieldSchema fieldSchema = fields.get(field.getId());
+            if (fieldSchema == null) {
+                fieldSchema = new FieldSchema(field, feature);
+                fields.put(field.getId(), fieldSchema);
+            }
+            if (fieldSchema.datatype == null) {
+                fieldSchema.datatype = datatype;
+            }
+            return fieldSchema;
+        }
+    }
+
+    static class FieldSchema {
+        enum Feature {
+            VALUE,
+            REFERENCE,
+            COLLECTION
+        }
+
+        private final String name;
+        private final Feature feature;
+        private final String referencedClassName;
+        private final Map<String, String> extensions;
+        private String datatype;
+        private final Map<String, ClassSchema> children = Maps.newLinkedHashMap();
+
+        FieldSchema(final ObjectAssociation field, final Feature feature) {
+            this.name = field.getId();
+            this.feature = feature;
+            this.referencedClassName = field.getSpecification().getFullIdentifier();
+            this.extensions = extensionsFor(field);
+        }
+
+        ClassSchema childFor(final ObjectSpecification spec) {
+            ClassSchema child = children.get(spec.getShortIdentifier());
+            if (child == null) {
+                child = new ClassSchema(spec, false);
+                children.put(spec.getShortIdentifier(), child);
+            }
+            return child;
+        }
+    }
+
+    private static Map<String, String> extensionsFor(final FacetHolder facetHolder) {
+        final Map<String, String> extensions = Maps.newLinkedHashMap();
+        for (final Map.Entry<Class<? extends Facet>, Facet> entry : FacetUtil.getFacetsByType(facetHolder).entrySet()) {
+            extensions.put("x-" + entry.getKey().getSimpleName(), entry.getValue().toString());
+        }
+        return extensions;
+    }
+
+    private void writeXsd(final XMLStreamWriter xsd) throws XMLStreamException {
+        xsd.writeStartDocument("UTF-8", "1.0");
+
+        xsd.writeStartElement(XsMetaModel.W3_ORG_XS_PREFIX, "schema", XsMetaModel.W3_ORG_XS_URI);
+        xsd.writeNamespace(XsMetaModel.W3_ORG_XS_PREFIX, XsMetaModel.W3_ORG_XS_URI);
+        xsd.writeNamespace(IsisSchema.NS_PREFIX, IsisSchema.NS_URI);
+        xsd.writeNamespace(prefix, uri);
+        xsd.writeAttribute("elementFormDefault", "qualified");
+        xsd.writeAttribute("targetNamespace", uri);
+
+        writeXsEmptyElement(xsd, "import");
+        xsd.writeAttribute("namespace", IsisSchema.NS_URI);
+        xsd.writeAttribute("schemaLocation", IsisSchema.DEFAULT_LOCATION);
+
+        if (rootSchema != null) {
+            writeXsClass(xsd, rootSchema);
+        }
+
+        xsd.writeEndElement();
+        xsd.writeEndDocument();
+    }
+
+    private static void writeXsClass(final XMLStreamWriter xsd, final ClassSchema classSchema) throws XMLStreamException {
+        writeXsStartElement(xsd, "element");
+        xsd.writeAttribute("name", classSchema.name);
+        if (!classSchema.root) {
+            writeXsCardinality(xsd, 0, Integer.MAX_VALUE);
+        }
+        writeXsStartComplexType(xsd);
+        writeXsStartElement(xsd, "sequence");
+        writeXsIsisRef(xsd, "title");
+        writeXsExtensions(xsd, classSchema.extensions);
+        for (final FieldSchema fieldSchema : classSchema.fields.values()) {
+            writeXsField(xsd, fieldSchema);
+        }
+        xsd.writeEndElement(); // sequence
+        writeXsIsisAttribute(xsd, "feature", IsisSchema.FEATURE_CLASS, true);
+        writeXsIsisAttribute(xsd, "oid");
+        writeXsIsisAttribute(xsd, "fqn");
+        writeXsIsisAttribute(xsd, "singular");
+        writeXsIsisAttribute(xsd, "plural");
+        writeXsIsisAttribute(xsd, "annotation");
+        xsd.writeEndElement(); // complexType
+        xsd.writeEndElement(); // element
+    }
+
+    private static void writeXsField(final XMLStreamWriter xsd, final FieldSchema fieldSchema) throws XMLStreamException {
+        writeXsStartElement(xsd, "element");
+        xsd.writeAttribute("name", fieldSchema.name);
+        writeXsCardinality(xsd, 0, Integer.MAX_VALUE);
+        writeXsStartComplexType(xsd);
+        writeXsStartElement(xsd, "sequence");
+        switch (fieldSchema.feature) {
+        case VALUE:
+            writeXsExtensions(xsd, fieldSchema.extensions);
+            xsd.writeEndElement(); // sequence
+            writeXsIsisAttribute(xsd, "feature", IsisSchema.FEATURE_VALUE, true);
+            if (fieldSchema.datatype != null) {
+                writeXsIsisAttribute(xsd, "datatype", IsisSchema.NS_PREFIX + ":" + fieldSchema.datatype, true);
+            } else {
+                writeXsIsisAttribute(xsd, "datatype");
+            }
+            writeXsIsisAttribute(xsd, "isEmpty");
+            break;
+        case REFERENCE:
+            writeXsIsisRef(xsd, "title");
+            writeXsExtensions(xsd, fieldSchema.extensions);
+            // placeholder
+            writeXsEmptyElement(xsd, "sequence");
+            writeXsCardinality(xsd, 0, 1);
+            for (final ClassSchema child : fieldSchema.children.values()) {
+                writeXsClass(xsd, child);
+            }
+            xsd.writeEndElement(); // sequence
+            writeXsIsisAttribute(xsd, "feature", IsisSchema.FEATURE_REFERENCE, true);
+            writeXsIsisAttribute(xsd, "type", "app:" + fieldSchema.referencedClassName, false);
+            writeXsIsisAttribute(xsd, "isEmpty");
+            break;
+        case COLLECTION:
+        default:
+            writeXsIsisRef(xsd, "oids");
+            writeXsExtensions(xsd, fieldSchema.extensions);
+            for (final ClassSchema child : fieldSchema.children.values()) {
+                writeXsClass(xsd, child);
+            }
+            xsd.writeEndElement(); // sequence
+            writeXsIsisAttribute(xsd, "feature", IsisSchema.FEATURE_COLLECTION, true);
+            writeXsIsisAttribute(xsd, "type", "app:" + fieldSchema.referencedClassName, false);
+            writeXsIsisAttribute(xsd, "size");
+            break;
+        }
+        writeXsIsisAttribute(xsd, "annotation");
+        xsd.writeEndElement(); // complexType
+        xsd.writeEndElement(); // element
+    }
+
+    private static void writeXsExtensions(
+            final XMLStreamWriter xsd,
+            final Map<String, String> extensions) throws XMLStreamException {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        writeXsStartElement(xsd, "element");
+        xsd.writeAttribute("name", "isis-extensions");
+        writeXsCardinality(xsd, 0, Integer.MAX_VALUE);
+        writeXsStartComplexType(xsd);
+        writeXsStartElement(xsd, "sequence");
+        for (final Map.Entry<String, String> extension : extensions.entrySet()) {
+            writeXsEmptyElement(xsd, "element");
+            xsd.writeAttribute("name", extension.getKey());
+            xsd.writeAttribute("default", extension.getValue());
+            xsd.writeAttribute("minOccurs", "0");
+        }
+        xsd.writeEndElement(); // sequence
+        xsd.writeEndElement(); // complexType
+        xsd.writeEndElement(); // element
+    }
+
+    private static void writeXsStartComplexType(final XMLStreamWriter xsd) throws XMLStreamException {
+        writeXsStartElement(xsd, "complexType");
+        xsd.writeAttribute("mixed", "true");
+    }
+
+    private static void writeXsIsisRef(final XMLStreamWriter xsd, final String isisElementRef) throws XMLStreamException {
+        writeXsEmptyElement(xsd, "element");
+        xsd.writeAttribute("ref", IsisSchema.NS_PREFIX + ":" + isisElementRef);
+        writeXsCardinality(xsd, 0, 1);
+    }
+
+    private static void writeXsIsisAttribute(final XMLStreamWriter xsd, final String isisAttributeRef) throws XMLStreamException {
+        writeXsIsisAttribute(xsd, isisAttributeRef, null, true);
+    }
+
+    /**
+     * <code>xs:attribute ref="isis:xxx" fixed="yyy"</code>, or <code>default="yyy"</code> if not
+     * <tt>useFixed</tt>.
+     */
+    private static void writeXsIsisAttribute(
+            final XMLStreamWriter xsd,
+            final String isisAttributeRef,
+            final String value,
+            final boolean useFixed) throws XMLStreamException {
+        writeXsEmptyElement(xsd, "attribute");
+        xsd.writeAttribute("ref", IsisSchema.NS_PREFIX + ":" + isisAttributeRef);
+        if (value != null) {
+            xsd.writeAttribute(useFixed ? "fixed" : "default", value);
+        }
+    }
+
+    private static void writeXsCardinality(final XMLStreamWriter xsd, final int minOccurs, final int maxOccurs) throws XMLStreamException {
+        xsd.writeAttribute("minOccurs", "" + minOccurs);
+        xsd.writeAttribute("maxOccurs", maxOccurs == Integer.MAX_VALUE ? "unbounded" : "" + maxOccurs);
+    }
+
+    private static void writeXsStartElement(final XMLStreamWriter xsd, final String localName) throws XMLStreamException {
+        xsd.writeStartElement(XsMetaModel.W3_ORG_XS_PREFIX, localName, XsMetaModel.W3_ORG_XS_URI);
+    }
+
+    private static void writeXsEmptyElement(final XMLStreamWriter xsd, final String localName) throws XMLStreamException {
+        xsd.writeEmptyElement(XsMetaModel.W3_ORG_XS_PREFIX, localName, XsMetaModel.W3_ORG_XS_URI);
+    }
+
+    //endregion
+
+}
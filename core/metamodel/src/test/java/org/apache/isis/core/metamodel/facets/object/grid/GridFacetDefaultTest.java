@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.object.grid;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.layout.grid.Grid;
+import org.apache.isis.applib.services.grid.GridService2;
+import org.apache.isis.core.metamodel.facets.object.layout.LayoutFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class GridFacetDefaultTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    ObjectSpecification mockSpecification;
+    @Mock
+    GridService2 mockGridService;
+    @Mock
+    Grid mockGrid;
+    @Mock
+    Grid mockChangedGrid;
+
+    GridFacet gridFacet;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecification).getFacet(LayoutFacet.class);
+            will(returnValue(null));
+            allowing(mockSpecification).getCorrespondingClass();
+            will(returnValue(Customer.class));
+        }});
+        gridFacet = GridFacetDefault.create(mockSpecification, mockGridService);
+    }
+
+    @Test
+    public void when_reloading_a_cached_grid_is_not_normalized_again() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockGridService).supportsReloading();
+            will(returnValue(true));
+            exactly(2).of(mockGridService).load(Customer.class, null);
+            will(returnValue(mockGrid));
+
+            oneOf(mockGridService).normalize(mockGrid);
+        }});
+
+        assertThat(gridFacet.getGrid(null), sameInstance(mockGrid));
+        assertThat(gridFacet.getGrid(null), sameInstance(mockGrid));
+    }
+
+    @Test
+    public void when_reloading_a_changed_grid_is_normalized() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockGridService).supportsReloading();
+            will(returnValue(true));
+            exactly(2).of(mockGridService).load(Customer.class, null);
+            will(onConsecutiveCalls(returnValue(mockGrid), returnValue(mockChangedGrid)));
+
+            oneOf(mockGridService).normalize(mockGrid);
+            oneOf(mockGridService).normalize(mockChangedGrid);
+        }});
+
+        assertThat(gridFacet.getGrid(null), sameInstance(mockGrid));
+        assertThat(gridFacet.getGrid(null), sameInstance(mockChangedGrid));
+    }
+
+    @Test
+    public void when_not_reloading_loaded_only_once() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockGridService).supportsReloading();
+            will(returnValue(false));
+            oneOf(mockGridService).load(Customer.class, null);
+            will(returnValue(mockGrid));
+
+            oneOf(mockGridService).normalize(mockGrid);
+        }});
+
+        assertThat(gridFacet.getGrid(null), sameInstance(mockGrid));
+        assertThat(gridFacet.getGrid(null), sameInstance(mockGrid));
+    }
+
+    static class Customer {
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.facets.value;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ThreadSafeDateFormatTest {
+
+    private ThreadSafeDateFormat format;
+
+    @Before
+    public void setUp() throws Exception {
+        final DateFormat dateFormat = new SimpleDateFormat("yyyyMMdd'T'HHmmssSSS");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        format = ThreadSafeDateFormat.of(dateFormat);
+    }
+
+    @Test
+    public void format_and_parse() throws Exception {
+        final Date date = new Date(1234567890123L);
+
+        assertThat(format.format(date), is("20090213T233130123"));
+        assertThat(format.parse("20090213T233130123"), is(date));
+    }
+
+    @Test
+    public void unaffected_by_subsequent_changes_to_the_original() throws Exception {
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        final ThreadSafeDateFormat threadSafeDateFormat = ThreadSafeDateFormat.of(dateFormat);
+
+        dateFormat.applyPattern("dd/MM/yyyy");
+
+        assertThat(threadSafeDateFormat.toString(), is("yyyy-MM-dd"));
+    }
+
+    @Test
+    public void tryParse_when_not_recognised() throws Exception {
+        assertThat(format.tryParse("not a date"), is(nullValue()));
+    }
+
+    @Test
+    public void tryParse_uses_first_format_that_matches() throws Exception {
+        final DateFormat isoFormat = new SimpleDateFormat("yyyy-MM-dd");
+        isoFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final List<ThreadSafeDateFormat> formats = ThreadSafeDateFormat.ofAll(
+                Arrays.asList(new SimpleDateFormat("dd/MM/yyyy"), isoFormat));
+
+        assertThat(ThreadSafeDateFormat.tryParse(formats, "2009-02-13"), is(new Date(1234483200000L)));
+        assertThat(ThreadSafeDateFormat.tryParse(formats, "13 Feb 2009"), is(nullValue()));
+    }
+
+    @Test
+    public void concurrent_use() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> futures = Lists.newArrayList();
+            for (int i = 0; i < 8; i++) {
+                final long offset = i * 86400000L;
+                futures.add(executorService.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        for (int j = 0; j < 1000; j++) {
+                            final Date date = new Date(1234567890123L + offset + j);
+                            if (!date.equals(format.parse(format.format(date)))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (final Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.interactions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PhaseTimerTest {
+
+    private IsisConfigurationDefault configuration;
+    private InteractionContext interactionContext;
+    private Interaction interaction;
+
+    @Before
+    public void setUp() throws Exception {
+        configuration = new IsisConfigurationDefault();
+        interaction = new Interaction();
+        interactionContext = new InteractionContext();
+        interactionContext.setInteraction(interaction);
+    }
+
+    @Test
+    public void disabled_by_default() throws Exception {
+        final PhaseTimer phaseTimer = PhaseTimer.create(configuration, interactionContext);
+
+        assertThat(phaseTimer, is(sameInstance(PhaseTimer.DISABLED)));
+        assertThat(phaseTimer.start(), is(0L));
+
+        phaseTimer.record(PhaseType.FLUSH, 0L);
+
+        assertThat(interaction.getUnattributedPhaseTimings().isEmpty(), is(true));
+    }
+
+    @Test
+    public void when_enabled_records_against_current_interaction() throws Exception {
+        configuration.put(PhaseTimer.ENABLED_KEY, "true");
+        final PhaseTimer phaseTimer = PhaseTimer.create(configuration, interactionContext);
+
+        assertThat(phaseTimer.isEnabled(), is(true));
+
+        phaseTimer.record(PhaseType.FLUSH, phaseTimer.start());
+
+        assertThat(interaction.getUnattributedPhaseTimings().getCount(PhaseType.FLUSH), is(1L));
+    }
+
+    @Test
+    public void when_enabled_but_no_interaction_context_then_disabled() throws Exception {
+        configuration.put(PhaseTimer.ENABLED_KEY, "true");
+
+        assertThat(PhaseTimer.create(configuration, null), is(sameInstance(PhaseTimer.DISABLED)));
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.methodutils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.commons.lang.MethodUtil;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MethodCatalogueTest {
+
+    public static class Customer {
+        public String getFirstName() { return null; }
+        public void setFirstName(final String firstName) { }
+        public String getLastName() { return null; }
+        public String disableLastName() { return null; }
+        public String hideLastName() { return null; }
+        public Customer placeOrder(final String product, final int quantity) { return this; }
+        public String disablePlaceOrder(final String product, final int quantity) { return null; }
+        public static String iconName() { return null; }
+    }
+
+    private Method[] methods;
+    private MethodCatalogue catalogue;
+
+    @Before
+    public void setUp() throws Exception {
+        methods = Customer.class.getMethods();
+        catalogue = new MethodCatalogue(methods);
+    }
+
+    @Test
+    public void removeMethods_by_prefix_same_as_linear_scan() throws Exception {
+        final List<Method> expected = MethodUtil.removeMethods(
+                Arrays.asList(methods.clone()), MethodScope.OBJECT, "get", null, false, 0);
+
+        final List<Method> actual = catalogue.removeMethods(MethodScope.OBJECT, "get", null, false, 0);
+
+        assertThat(actual, is(expected));
+        assertThat(catalogue.removeMethods(MethodScope.OBJECT, "get", null, false, 0), is(Collections.<Method>emptyList()));
+    }
+
+    @Test
+    public void removeMethods_by_prefix_honours_parameter_count_and_return_type() throws Exception {
+        final List<Method> disableMethods = catalogue.removeMethods(MethodScope.OBJECT, "disable", String.class, false, 2);
+
+        assertThat(disableMethods.size(), is(1));
+        assertThat(disableMethods.get(0).getName(), is("disablePlaceOrder"));
+        assertThat(catalogue.contains(Customer.class.getMethod("disableLastName")), is(true));
+    }
+
+    @Test
+    public void removeMethod_by_name() throws Exception {
+        final Method method = catalogue.removeMethod(MethodScope.OBJECT, "hideLastName", String.class, new Class<?>[0]);
+
+        assertThat(method, is(Customer.class.getMethod("hideLastName")));
+        assertThat(catalogue.contains(method), is(false));
+        assertThat(catalogue.removeMethod(MethodScope.OBJECT, "hideLastName", String.class, new Class<?>[0]), is(nullValue()));
+    }
+
+    @Test
+    public void removeMethod_by_name_honours_scope() throws Exception {
+        assertThat(catalogue.removeMethod(MethodScope.OBJECT, "iconName", null, null), is(nullValue()));
+        assertThat(catalogue.removeMethod(MethodScope.CLASS, "iconName", null, null), is(Customer.class.getMethod("iconName")));
+    }
+
+    @Test
+    public void removeMethod_and_getMethods() throws Exception {
+        final Method placeOrder = Customer.class.getMethod("placeOrder", String.class, int.class);
+
+        catalogue.removeMethod(placeOrder);
+
+        assertThat(catalogue.contains(placeOrder), is(false));
+        assertThat(catalogue.getMethods().size(), is(methods.length - 1));
+        assertThat(catalogue.getMethods().contains(placeOrder), is(false));
+    }
+
+}
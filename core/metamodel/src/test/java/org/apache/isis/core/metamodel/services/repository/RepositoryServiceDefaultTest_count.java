@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.services.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryDefault;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.metamodel.services.persistsession.PersistenceSessionServiceInternal;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RepositoryServiceDefaultTest_count {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private RepositoryServiceInternalDefault repositoryService;
+
+    @Mock
+    private TransactionService mockTransactionService;
+
+    @Mock
+    private PersistenceSessionServiceInternal mockPersistenceSessionServiceInternal;
+
+    private Query<Object> query;
+
+    @Before
+    public void setUp() throws Exception {
+        repositoryService = new RepositoryServiceInternalDefault();
+        repositoryService.transactionService = mockTransactionService;
+        repositoryService.persistenceSessionServiceInternal = mockPersistenceSessionServiceInternal;
+
+        query = new QueryDefault<>(Object.class, "findByName", "name", "Fred");
+    }
+
+    @Test
+    public void whenAutoflush() throws Exception {
+        // given
+        Map map = new HashMap();
+        repositoryService.init(map);
+        // expect
+        final Sequence sequence = context.sequence("flushThenCount");
+        context.checking(new Expectations() {{
+            oneOf(mockTransactionService).flushTransaction();
+            inSequence(sequence);
+            oneOf(mockPersistenceSessionServiceInternal).count(query);
+            inSequence(sequence);
+            will(returnValue(42L));
+        }});
+        // when
+        final long count = repositoryService.count(query);
+        // then
+        assertThat(count, is(42L));
+    }
+
+    @Test
+    public void whenDisableAutoflush() throws Exception {
+        // given
+        Map map = new HashMap() {{
+            put("isis.services.container.disableAutoFlush", "true");
+        }};
+        repositoryService.init(map);
+        // expect
+        context.checking(new Expectations() {{
+            never(mockTransactionService).flushTransaction();
+            oneOf(mockPersistenceSessionServiceInternal).count(query);
+            will(returnValue(0L));
+        }});
+        // when
+        final long count = repositoryService.count(query);
+        // then
+        assertThat(count, is(0L));
+    }
+
+}
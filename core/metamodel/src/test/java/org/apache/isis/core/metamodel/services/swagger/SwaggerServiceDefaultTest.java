@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.swagger;
+
+import java.util.Collections;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.swagger.SwaggerService;
+import org.apache.isis.core.metamodel.services.swagger.internal.SwaggerSpecGenerator;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SwaggerServiceDefaultTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private SpecificationLoader mockSpecificationLoader;
+
+    private SwaggerServiceDefault swaggerService;
+
+    private long metaModelVersion;
+    private int generated;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).getMetaModelVersion();
+            will(new CustomAction("metaModelVersion") {
+                @Override
+                public Object invoke(final Invocation invocation) throws Throwable {
+                    return metaModelVersion;
+                }
+            });
+        }});
+
+        swaggerService = new SwaggerServiceDefault() {
+            @Override
+            SwaggerSpecGenerator newSwaggerSpecGenerator() {
+                return new SwaggerSpecGenerator(mockSpecificationLoader) {
+                    @Override
+                    public String generate(
+                            final String basePath,
+                            final SwaggerService.Visibility visibility,
+                            final SwaggerService.Format format) {
+                        return visibility + ":" + format + ":" + (++generated);
+                    }
+                };
+            }
+        };
+        swaggerService.specificationLoader = mockSpecificationLoader;
+        swaggerService.init(Collections.<String, String>emptyMap());
+    }
+
+    @Test
+    public void generated_once_while_metamodel_unchanged() throws Exception {
+        final String spec = swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.JSON);
+
+        assertThat(swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.JSON), is(spec));
+        assertThat(generated, is(1));
+    }
+
+    @Test
+    public void generated_separately_for_each_visibility_and_format() throws Exception {
+        swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.JSON);
+        swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.YAML);
+        swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PRIVATE, SwaggerService.Format.JSON);
+
+        assertThat(generated, is(3));
+    }
+
+    @Test
+    public void regenerated_when_metamodel_changes() throws Exception {
+        swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.JSON);
+
+        metaModelVersion++;
+
+        assertThat(swaggerService.generateSwaggerSpec(SwaggerService.Visibility.PUBLIC, SwaggerService.Format.JSON),
+                is("PUBLIC:JSON:2"));
+    }
+
+}
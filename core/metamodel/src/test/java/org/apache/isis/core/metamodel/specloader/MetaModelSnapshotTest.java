@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MetaModelSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    IsisConfigurationDefault configuration;
+
+    @Before
+    public void setUp() throws Exception {
+        configuration = new IsisConfigurationDefault();
+        configuration.put("isis.reflector.snapshot", "true");
+        configuration.put("isis.reflector.snapshot.directory", temporaryFolder.getRoot().getAbsolutePath());
+    }
+
+    @Test
+    public void not_current_if_disabled() throws Exception {
+        configuration.put("isis.reflector.snapshot", "false");
+
+        final MetaModelSnapshot snapshot = new MetaModelSnapshot(configuration);
+        snapshot.write(Collections.<ObjectSpecification>emptyList());
+
+        assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(false));
+    }
+
+    @Test
+    public void not_current_if_never_written() throws Exception {
+        assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(false));
+    }
+
+    @Test
+    public void current_once_written() throws Exception {
+        final MetaModelSnapshot snapshot = new MetaModelSnapshot(configuration);
+        assertThat(snapshot.isCurrent(), is(false));
+
+        snapshot.write(Collections.<ObjectSpecification>emptyList());
+
+        assertThat(snapshot.isCurrent(), is(true));
+        assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(true));
+    }
+
+    @Test
+    public void written_to_file_specific_to_the_application_within_directory() throws Exception {
+        final MetaModelSnapshot snapshot = new MetaModelSnapshot(configuration);
+        snapshot.write(Collections.<ObjectSpecification>emptyList());
+
+        final File file = snapshot.getFile();
+        assertThat(file.exists(), is(true));
+        assertThat(file.getParentFile(), is(temporaryFolder.getRoot().getAbsoluteFile()));
+        assertThat(file.getName().matches("isis-metamodel-[0-9a-f]{16}\\.snapshot"), is(true));
+        assertThat(new MetaModelSnapshot(configuration).getFile(), is(file));
+    }
+
+    @Test
+    public void current_once_written_even_if_directory_is_on_classpath() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(
+                new URL[] { temporaryFolder.getRoot().toURI().toURL() }, contextClassLoader));
+        try {
+            new MetaModelSnapshot(configuration).write(Collections.<ObjectSpecification>emptyList());
+
+            assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(true));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    public void stale_if_configuration_changes() throws Exception {
+        new MetaModelSnapshot(configuration).write(Collections.<ObjectSpecification>emptyList());
+
+        configuration.put("some.other.property", "someValue");
+
+        assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(false));
+    }
+
+    @Test
+    public void not_stale_if_only_datanucleus_configuration_changes() throws Exception {
+        configuration.put("isis.persistor.datanucleus.impl.javax.jdo.option.ConnectionURL", "jdbc:hsqldb:mem:test-1");
+        new MetaModelSnapshot(configuration).write(Collections.<ObjectSpecification>emptyList());
+
+        configuration.put("isis.persistor.datanucleus.impl.javax.jdo.option.ConnectionURL", "jdbc:hsqldb:mem:test-2");
+
+        assertThat(new MetaModelSnapshot(configuration).isCurrent(), is(true));
+    }
+
+}
@@ -153,6 +153,17 @@ public List<OneToOneAssociation> getProperties(final Contributed contributed) {
         return new ArrayList<OneToOneAssociation>(list);
     }
 
+    @Override
+    public List<OneToOneAssociation> getPersistedProperties() {
+        final List<OneToOneAssociation> properties = new ArrayList<OneToOneAssociation>();
+        for (final OneToOneAssociation property : getProperties(Contributed.EXCLUDED)) {
+            if(!property.isNotPersisted()) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<OneToManyAssociation> getCollections(final Contributed contributed) {
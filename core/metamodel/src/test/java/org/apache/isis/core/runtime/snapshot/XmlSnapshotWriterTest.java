@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+
+import org.jmock.Expectations;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.parseable.ParseableFacet;
+import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class XmlSnapshotWriterTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private ObjectAdapter mockCustomerAdapter;
+    private ObjectSpecification mockCustomerSpec;
+    private Oid mockOid;
+    private OneToOneAssociation mockNameField;
+    private ObjectSpecification mockStringSpec;
+    private ObjectAdapter mockNameAdapter;
+
+    @Before
+    public void setUp() throws Exception {
+        mockCustomerAdapter = context.mock(ObjectAdapter.class, "customerAdapter");
+        mockCustomerSpec = context.mock(ObjectSpecification.class, "customerSpec");
+        mockOid = context.mock(Oid.class);
+        mockNameField = context.mock(OneToOneAssociation.class);
+        mockStringSpec = context.mock(ObjectSpecification.class, "stringSpec");
+        mockNameAdapter = context.mock(ObjectAdapter.class, "nameAdapter");
+
+        context.checking(new Expectations() {{
+            allowing(mockCustomerAdapter).getSpecification();
+            will(returnValue(mockCustomerSpec));
+            allowing(mockCustomerAdapter).getObject();
+            will(returnValue(new Object()));
+            allowing(mockCustomerAdapter).getOid();
+            will(returnValue(mockOid));
+            allowing(mockCustomerAdapter).titleString();
+            will(returnValue("Fred Smith"));
+            allowing(mockOid).enString();
+            will(returnValue("CUS:1"));
+
+            allowing(mockCustomerSpec).getFullIdentifier();
+            will(returnValue("com.mycompany.Customer"));
+            allowing(mockCustomerSpec).getShortIdentifier();
+            will(returnValue("Customer"));
+            allowing(mockCustomerSpec).getSingularName();
+            will(returnValue("Customer"));
+            allowing(mockCustomerSpec).getPluralName();
+            will(returnValue("Customers"));
+            allowing(mockCustomerSpec).getAssociations(Contributed.INCLUDED);
+            will(returnValue(Collections.<ObjectAssociation>singletonList(mockNameField)));
+            allowing(mockCustomerSpec).getFacetTypes();
+            will(returnValue(new Class[0]));
+
+            allowing(mockNameField).getId();
+            will(returnValue("name"));
+            allowing(mockNameField).getSpecification();
+            will(returnValue(mockStringSpec));
+            allowing(mockNameField).getFacetTypes();
+            will(returnValue(new Class[0]));
+            allowing(mockNameField).get(mockCustomerAdapter, InteractionInitiatedBy.FRAMEWORK);
+            will(returnValue(mockNameAdapter));
+
+            allowing(mockStringSpec).containsFacet(ValueFacet.class);
+            will(returnValue(true));
+            allowing(mockStringSpec).getFullIdentifier();
+            will(returnValue("java.lang.String"));
+            allowing(mockStringSpec).getShortIdentifier();
+            will(returnValue("String"));
+
+            allowing(mockNameAdapter).getSpecification();
+            will(returnValue(mockStringSpec));
+            allowing(mockNameAdapter).titleString();
+            will(returnValue("Fred"));
+        }});
+    }
+
+    private void givenParseableTitleOfName(final String parseableTitle) {
+        final ParseableFacet mockParseableFacet = context.mock(ParseableFacet.class);
+        context.checking(new Expectations() {{
+            allowing(mockStringSpec).getFacet(ParseableFacet.class);
+            will(returnValue(mockParseableFacet));
+            allowing(mockParseableFacet).parseableTitle(mockNameAdapter);
+            will(returnValue(parseableTitle));
+
+            allowing(mockStringSpec).getFacet(with(any(Class.class)));
+            will(returnValue(null));
+        }});
+    }
+
+    @Test
+    public void writes_xml_and_xsd() throws Exception {
+        givenParseableTitleOfName("Fred");
+
+        final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream xsdOut = new ByteArrayOutputStream();
+
+        new XmlSnapshotWriter(mockCustomerAdapter).write(xmlOut, xsdOut);
+
+        final String xml = xmlOut.toString("UTF-8");
+        assertThat(xml, containsString("<app:Customer xmlns:app=\"http://isis.apache.org/ns/app/com.mycompany/Customer\""));
+        assertThat(xml, containsString("isis:oid=\"CUS:1\""));
+        assertThat(xml, containsString("<isis:title>Fred Smith</isis:title>"));
+        assertThat(xml, containsString("<app:name isis:feature=\"value\" isis:datatype=\"isis:String\">Fred</app:name>"));
+
+        final String xsd = xsdOut.toString("UTF-8");
+        assertThat(xsd, containsString("targetNamespace=\"http://isis.apache.org/ns/app/com.mycompany/Customer\""));
+        assertThat(xsd, containsString("<xs:element name=\"Customer\">"));
+        assertThat(xsd, containsString("<xs:element name=\"name\" minOccurs=\"0\" maxOccurs=\"unbounded\">"));
+        assertThat(xsd, containsString("<xs:attribute ref=\"isis:datatype\" fixed=\"isis:String\""));
+    }
+
+    @Test
+    public void annotation_applied_to_last_field_of_path() throws Exception {
+        givenParseableTitleOfName("Fred");
+
+        final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+
+        new XmlSnapshotWriter(mockCustomerAdapter)
+                .include("name", "important")
+                .writeXml(xmlOut);
+
+        assertThat(xmlOut.toString("UTF-8"), containsString("<app:name isis:annotation=\"isis:important\""));
+    }
+
+    @Test
+    public void path_that_cannot_be_navigated_is_ignored() throws Exception {
+        givenParseableTitleOfName("Fred");
+
+        final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+
+        new XmlSnapshotWriter(mockCustomerAdapter)
+                .include("address/street", "important")
+                .include("name/length")
+                .writeXml(xmlOut);
+
+        final String xml = xmlOut.toString("UTF-8");
+        assertThat(xml, not(containsString("annotation")));
+        assertThat(xml, containsString("<app:name isis:feature=\"value\" isis:datatype=\"isis:String\">Fred</app:name>"));
+    }
+
+    @Test
+    public void null_value_written_as_empty() throws Exception {
+        givenParseableTitleOfName(null);
+
+        final ByteArrayOutputStream xmlOut = new ByteArrayOutputStream();
+
+        new XmlSnapshotWriter(mockCustomerAdapter).writeXml(xmlOut);
+
+        final String xml = xmlOut.toString("UTF-8");
+        assertThat(xml, containsString("isis:datatype=\"isis:String\" isis:isEmpty=\"true\""));
+        assertThat(xml, containsString("</app:Customer>"));
+    }
+
+}
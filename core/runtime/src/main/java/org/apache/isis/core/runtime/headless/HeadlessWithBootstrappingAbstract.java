@@ -96,6 +96,35 @@ protected HeadlessWithBootstrappingAbstract(
     }
 
 
+    /**
+     * How the changes made by each test are discarded.
+     */
+    public enum Isolation {
+        /**
+         * Module ref data is set up (and committed) before, and the module teardown fixture is run after, every test.
+         * (If a preceding {@link #ROLLBACK} test left the ref data in place, it is not set up again).
+         */
+        TEARDOWN,
+        /**
+         * Module ref data is set up (and committed) only once for each bootstrapped system; all changes made by a
+         * test (even if committed by the test) are simply rolled back afterwards.  Considerably faster than
+         * {@link #TEARDOWN}, but requires that the database supports savepoints.
+         */
+        ROLLBACK;
+
+        static Isolation parse(final String str) {
+            return Strings.isNullOrEmpty(str) ? TEARDOWN : valueOf(str.trim().toUpperCase());
+        }
+    }
+
+    /**
+     * Defaults to the <tt>isis.integTest.isolation</tt> system property (<tt>teardown</tt> or <tt>rollback</tt>),
+     * else {@link Isolation#TEARDOWN}; can be overridden by subclasses.
+     */
+    protected Isolation getIsolation() {
+        return Isolation.parse(System.getProperty("isis.integTest.isolation"));
+    }
+
     private LocalDate timeBeforeTest;
 
     protected void bootstrapAndSetupIfRequired() {
@@ -110,7 +139,19 @@ protected void bootstrapAndSetupIfRequired() {
 
         beginTransaction();
 
-        isisSystemBootstrapper.setupModuleRefData();
+        // a previous test (of either isolation) may have left the ref data in place already
+        isisSystemBootstrapper.setupModuleRefDataIfRequired();
+
+        switch (getIsolation()) {
+        case ROLLBACK:
+            // commit the ref data, else it would be discarded along with the test's own changes
+            transactionService.nextTransaction(TransactionService3.Policy.UNLESS_MARKED_FOR_ABORT);
+            isisSystemBootstrapper.startIsolatedTransaction();
+            break;
+        case TEARDOWN:
+        default:
+            break;
+        }
 
         timeBeforeTest = Clock.getTimeAsLocalDate();
     }
@@ -128,9 +169,16 @@ protected void tearDownAllModules() {
             return;
         }
 
-        transactionService.nextTransaction(TransactionService3.Policy.ALWAYS);
-
-        isisSystemBootstrapper.tearDownAllModules();
+        switch (getIsolation()) {
+        case ROLLBACK:
+            isisSystemBootstrapper.rollbackIsolatedTransaction();
+            break;
+        case TEARDOWN:
+        default:
+            transactionService.nextTransaction(TransactionService3.Policy.ALWAYS);
+            isisSystemBootstrapper.tearDownAllModules();
+            break;
+        }
 
         // reinstate clock
         setFixtureClockDate(timeBeforeTest);
@@ -304,11 +304,31 @@ public void openSession(AuthenticationSession authenticationSession) throws Exce
     }
 
     public void closeSession() throws Exception {
-        if(isisSessionFactory.inSession()) {
+        if(isisSessionFactory != null && isisSessionFactory.inSession()) {
             isisSessionFactory.closeSession();
         }
     }
 
+    /**
+     * Closes any session and shuts down this system (as the JVM shutdown hook otherwise would), releasing its
+     * resources (eg in-memory database); the system cannot be used thereafter.
+     */
+    void tearDownSystem() {
+        if(isisSessionFactory == null) {
+            return;
+        }
+        IsisContext.setSessionFactory(isisSessionFactory);
+        try {
+            closeSession();
+            isisSessionFactory.destroyServicesAndShutdown();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            isisSessionFactory = null;
+            IsisContext.testReset();
+        }
+    }
+
     //endregion
 
     //region > beginTran, endTran, commitTran, abortTran
@@ -437,6 +457,39 @@ public void abortTran() {
 
     //endregion
 
+    //region > startIsolatedTransaction, rollbackIsolatedTransaction
+
+    /**
+     * Starts an isolated transaction, such that all changes made from now on, even if committed, can be discarded
+     * using {@link #rollbackIsolatedTransaction()}.  Expects a transaction to be in progress.
+     *
+     * @see PersistenceSession#startIsolatedTransaction()
+     */
+    public void startIsolatedTransaction() {
+        getPersistenceSession().startIsolatedTransaction();
+    }
+
+    /**
+     * Discards all changes made since {@link #startIsolatedTransaction()}, then opens a new session (so that no
+     * objects are retained in memory) and begins a new transaction.
+     */
+    public void rollbackIsolatedTransaction() {
+        final PersistenceSession persistenceSession = getPersistenceSession();
+        final IsisTransaction transaction = getTransactionManager().getCurrentTransaction();
+        if(transaction != null && transaction.getState().canAbort()) {
+            getTransactionManager().abortTransaction();
+        }
+        persistenceSession.rollbackIsolatedTransaction();
+        try {
+            nextSession();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        beginTran();
+    }
+
+    //endregion
+
     //region > getService
 
     @SuppressWarnings("unchecked")
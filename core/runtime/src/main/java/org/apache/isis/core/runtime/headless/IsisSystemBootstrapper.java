@@ -19,9 +19,13 @@
 package org.apache.isis.core.runtime.headless;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
-import javax.jdo.PersistenceManagerFactory;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,12 +37,10 @@
 import org.apache.isis.applib.fixtures.TickingFixtureClock;
 import org.apache.isis.applib.fixturescripts.FixtureScript;
 import org.apache.isis.applib.fixturescripts.FixtureScripts;
-import org.apache.isis.applib.services.jdosupport.IsisJdoSupport;
 import org.apache.isis.applib.services.metamodel.MetaModelService4;
 import org.apache.isis.applib.services.registry.ServiceRegistry2;
 import org.apache.isis.core.runtime.headless.logging.LogConfig;
 import org.apache.isis.core.runtime.system.context.IsisContext;
-import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 import org.apache.isis.objectstore.jdo.datanucleus.IsisConfigurationForJdoIntegTests;
 
 public class IsisSystemBootstrapper {
@@ -50,6 +52,30 @@ public class IsisSystemBootstrapper {
      */
     private static ThreadLocal<AppManifest2> isftAppManifest = new ThreadLocal<>();
 
+    /**
+     * Every {@link IsisSystem} bootstrapped (on this thread), keyed by the set of modules of the {@link AppManifest}
+     * used to bootstrap it, so that test classes using the same modules can share the same system.
+     */
+    private static ThreadLocal<Map<Set<Class<?>>, IsisSystem>> isftByModules =
+            new ThreadLocal<Map<Set<Class<?>>, IsisSystem>>() {
+                @Override
+                protected Map<Set<Class<?>>, IsisSystem> initialValue() {
+                    return Maps.newHashMap();
+                }
+            };
+
+    /**
+     * Those {@link IsisSystem}s whose {@link #setupModuleRefDataIfRequired() module ref data} has been set up and
+     * committed (and not since torn down).
+     */
+    private static ThreadLocal<Set<IsisSystem>> isftsWithRefData =
+            new ThreadLocal<Set<IsisSystem>>() {
+                @Override
+                protected Set<IsisSystem> initialValue() {
+                    return Sets.newIdentityHashSet();
+                }
+            };
+
 
     private final LogConfig logConfig;
     private final AppManifest2 appManifest2;
@@ -93,8 +119,61 @@ public void setupModuleRefData() {
         MetaModelService4 metaModelService4 = lookupService(MetaModelService4.class);
         FixtureScript refDataSetupFixture = metaModelService4.getAppManifest2().getRefDataSetupFixture();
         runFixtureScript(refDataSetupFixture);
+        isftsWithRefData.get().add(getIsisSystem());
     }
 
+    /**
+     * As per {@link #setupModuleRefData()}, but only if not already set up (and committed) for the current
+     * {@link IsisSystem}; intended for use with {@link #startIsolatedTransaction() isolated transactions}.
+     *
+     * <p>
+     * Expects a transaction to have been started
+     * </p>
+     */
+    public void setupModuleRefDataIfRequired() {
+        if(!isftsWithRefData.get().contains(getIsisSystem())) {
+            setupModuleRefData();
+        }
+    }
+
+    /**
+     * Starts an isolated transaction, so that all changes made by a test can subsequently be discarded using
+     * {@link #rollbackIsolatedTransaction()} rather than by running the
+     * {@link #tearDownAllModules() teardown fixture}.
+     */
+    public void startIsolatedTransaction() {
+        getIsisSystem().startIsolatedTransaction();
+    }
+
+    public void rollbackIsolatedTransaction() {
+        getIsisSystem().rollbackIsolatedTransaction();
+    }
+
+
+    /**
+     * Shuts down every {@link IsisSystem} bootstrapped on this thread (including the current one, if any), each of
+     * which is otherwise retained for reuse until the JVM exits.
+     *
+     * <p>
+     *     Intended to be called (eg from a suite's <tt>@AfterClass</tt>) once a group of test classes is known not
+     *     to be followed by any others bootstrapped with the same modules, to release the memory (and in-memory
+     *     database) held by their systems.  A subsequent {@link #bootstrapIfRequired()} will bootstrap afresh.
+     * </p>
+     */
+    public static void tearDownRetainedSystems() {
+        if(IsisSystem.getElseNull() != null) {
+            suspendCurrentSystem();
+        }
+        final Map<Set<Class<?>>, IsisSystem> retained = isftByModules.get();
+        try {
+            for (final IsisSystem isft : retained.values()) {
+                isft.tearDownSystem();
+            }
+        } finally {
+            retained.clear();
+            isftsWithRefData.get().clear();
+        }
+    }
 
     private void bootstrapUsing(AppManifest2 appManifest2) {
 
@@ -105,11 +184,17 @@ private void bootstrapUsing(AppManifest2 appManifest2) {
             // nothing to do
             break;
         case BOOTSTRAPPED_DIFFERENT_MODULES:
-            // TODO: this doesn't work correctly yet; not tearing down HSQLDB correctly.
-            if(false) {
-                teardownSystem();
-            } else {
-                throw new RuntimeException("Bootstrapping different modules is not yet supported");
+            // the current system is retained (with its own in-memory database) in case it is needed again
+            suspendCurrentSystem();
+
+            final IsisSystem previouslyBootstrapped = isftByModules.get().get(modulesOf(appManifest2));
+            if(previouslyBootstrapped != null) {
+                resumeSystem(previouslyBootstrapped, appManifest2);
+
+                log("##########################################################################");
+                log("# Reusing previously bootstrapped system");
+                log("##########################################################################");
+                break;
             }
             // fall through
         case NOT_BOOTSTRAPPED:
@@ -147,6 +232,37 @@ static boolean haveSameModules(
         return m1Modules.containsAll(m2Modules) && m2Modules.containsAll(m1Modules);
     }
 
+    static Set<Class<?>> modulesOf(final AppManifest appManifest) {
+        return ImmutableSet.copyOf(appManifest.getModules());
+    }
+
+    /**
+     * Closes the session of the current system and detaches it from the {@link IsisContext}, so that another system
+     * can be bootstrapped or {@link #resumeSystem(IsisSystem, AppManifest2) resumed}.
+     */
+    private static void suspendCurrentSystem() {
+        final IsisSystem isft = IsisSystem.get();
+        try {
+            isft.closeSession();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        IsisContext.testReset();
+        IsisSystem.set(null);
+        isftAppManifest.set(null);
+    }
+
+    private static void resumeSystem(final IsisSystem isft, final AppManifest2 appManifest2) {
+        IsisContext.setSessionFactory(isft.getIsisSessionFactory());
+        IsisSystem.set(isft);
+        isftAppManifest.set(appManifest2);
+        try {
+            isft.openSession();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static IsisSystem setupSystem(final AppManifest2 appManifest2) {
 
         final IsisConfigurationForJdoIntegTests configuration = new IsisConfigurationForJdoIntegTests();
@@ -164,6 +280,7 @@ private static IsisSystem setupSystem(final AppManifest2 appManifest2) {
         // used to bootstrap the system onto thread-loca
         IsisSystem.set(isft);
         isftAppManifest.set(appManifest2);
+        isftByModules.get().put(modulesOf(appManifest2), isft);
 
         return isft;
     }
@@ -178,24 +295,12 @@ enum SystemState {
         BOOTSTRAPPED_DIFFERENT_MODULES
     }
 
-    private static void teardownSystem() {
-        final IsisSessionFactory isisSessionFactory = lookupService(IsisSessionFactory.class);
-
-        // TODO: this ought to be part of isisSessionFactory's responsibilities
-        final IsisJdoSupport isisJdoSupport = lookupService(IsisJdoSupport.class);
-        final PersistenceManagerFactory pmf =
-                isisJdoSupport.getJdoPersistenceManager().getPersistenceManagerFactory();
-        isisSessionFactory.destroyServicesAndShutdown();
-        pmf.close();
-
-        IsisContext.testReset();
-    }
-
     public void tearDownAllModules() {
         final MetaModelService4 metaModelService4 = lookupService(MetaModelService4.class);
 
         FixtureScript fixtureScript = metaModelService4.getAppManifest2().getTeardownFixture();
         runFixtureScript(fixtureScript);
+        isftsWithRefData.get().remove(getIsisSystem());
     }
 
 
@@ -305,12 +305,22 @@ private String objectTitleString(ObjectAdapter contextAdapterIfAny) {
         if (getObject() instanceof String) {
             return (String) getObject();
         }
+        // the title is only cached if not relative to some other (context) object
+        if (contextAdapterIfAny == null) {
+            final String cachedTitle = persistenceSession.getCachedTitle(this);
+            if (cachedTitle != null) {
+                return cachedTitle;
+            }
+        }
         final ObjectSpecification specification = getSpecification();
         String title = specification.getTitle(contextAdapterIfAny, this);
-        
+
         if (title == null) {
             title = getDefaultTitle();
         }
+        if (contextAdapterIfAny == null) {
+            persistenceSession.cacheTitle(this, title);
+        }
         return title;
     }
 
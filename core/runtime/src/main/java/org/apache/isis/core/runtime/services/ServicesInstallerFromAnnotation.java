@@ -35,6 +35,7 @@
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.reflections.Reflections;
 import org.reflections.vfs.Vfs;
@@ -44,6 +45,7 @@
 import org.apache.isis.applib.AppManifest;
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryIndex;
 import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryServiceUsingReflections;
 import org.apache.isis.core.commons.config.IsisConfigurationDefault;
 import org.apache.isis.core.metamodel.facets.object.domainservice.DomainServiceMenuOrder;
@@ -213,9 +215,15 @@ public void appendServices(final SortedMap<String, SortedSet<String>> positioned
         Set<Class<?>> domainServiceTypes = AppManifest.Registry.instance().getDomainServiceTypes();
         if(domainServiceTypes == null) {
             // if no appManifest
-            Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
-            final Reflections reflections = new Reflections(packagePrefixList);
-            domainServiceTypes = reflections.getTypesAnnotatedWith(DomainService.class);
+            final ClassDiscoveryIndex index = ClassDiscoveryIndex.load(Thread.currentThread().getContextClassLoader());
+            if(index != null && index.covers(packagePrefixList)) {
+                // the index may cover more packages than were asked for
+                domainServiceTypes = withinPackages(packagePrefixList, index.getTypesAnnotatedWith(DomainService.class));
+            } else {
+                Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
+                final Reflections reflections = new Reflections(packagePrefixList);
+                domainServiceTypes = reflections.getTypesAnnotatedWith(DomainService.class);
+            }
         }
 
         final List<Class<?>> domainServiceClasses = Lists.newArrayList(Iterables.filter(domainServiceTypes, instantiatable()));
@@ -231,6 +239,19 @@ public void appendServices(final SortedMap<String, SortedSet<String>> positioned
         }
     }
 
+    static Set<Class<?>> withinPackages(final List<String> packageNames, final Set<Class<?>> types) {
+        final Set<Class<?>> typesWithin = Sets.newLinkedHashSet();
+        for (final Class<?> type : types) {
+            for (final String packageName : packageNames) {
+                if(type.getName().startsWith(packageName + ".")) {
+                    typesWithin.add(type);
+                    break;
+                }
+            }
+        }
+        return typesWithin;
+    }
+
     //endregion
 
     //region > helpers: nameOf, asList
@@ -37,9 +37,12 @@
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.facets.actions.action.invocation.CommandUtil;
 import org.apache.isis.core.metamodel.facets.object.audit.AuditableFacet;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
+import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
 import org.apache.isis.core.runtime.services.changes.AdapterAndProperty;
 import org.apache.isis.core.runtime.services.changes.ChangedObjectsServiceInternal;
 import org.apache.isis.core.runtime.services.changes.PreAndPostValues;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 /**
  * Wrapper around {@link org.apache.isis.applib.services.audit.AuditingService3}.  Is a no-op if there is no injected service.
@@ -76,14 +79,19 @@ public void audit() {
         if(!canAudit()) {
             return;
         }
-        final Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> changedObjectProperties =
-                changedObjectsServiceInternal.getChangedObjectProperties();
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            final Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> changedObjectProperties =
+                    changedObjectsServiceInternal.getChangedObjectProperties();
 
-        final String currentUser = userService.getUser().getName();
-        final java.sql.Timestamp currentTime = clockService.nowAsJavaSqlTimestamp();
+            final String currentUser = userService.getUser().getName();
+            final java.sql.Timestamp currentTime = clockService.nowAsJavaSqlTimestamp();
 
-        for (Map.Entry<AdapterAndProperty, PreAndPostValues> auditEntry : changedObjectProperties) {
-            auditChangedProperty(currentTime, currentUser, auditEntry);
+            for (Map.Entry<AdapterAndProperty, PreAndPostValues> auditEntry : changedObjectProperties) {
+                auditChangedProperty(currentTime, currentUser, auditEntry);
+            }
+        } finally {
+            getPhaseTimer().record(PhaseType.AUDITING, startedAtNanos);
         }
     }
 
@@ -148,7 +156,18 @@ private void auditChangedProperty(
     @javax.inject.Inject
     InteractionContext interactionContext;
 
+    @javax.inject.Inject
+    ConfigurationServiceInternal configurationServiceInternal;
+
     @javax.inject.Inject
     TransactionService transactionService;
 
+    private PhaseTimer phaseTimer;
+
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(configurationServiceInternal, interactionContext);
+        }
+        return phaseTimer;
+    }
 }
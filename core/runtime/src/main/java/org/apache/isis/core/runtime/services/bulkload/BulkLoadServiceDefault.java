@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.bulkload;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.NatureOfService;
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.services.bulkload.BulkLoadService;
+import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+
+@DomainService(
+        nature = NatureOfService.DOMAIN,
+        menuOrder = "" + Integer.MAX_VALUE
+)
+public class BulkLoadServiceDefault implements BulkLoadService {
+
+    public static final String CHUNK_SIZE_KEY = "isis.services.bulkLoad.chunkSize";
+    public static final int CHUNK_SIZE_DEFAULT = 1000;
+
+    private int defaultChunkSize;
+
+    @PostConstruct
+    @Programmatic
+    public void init(final Map<String,String> properties) {
+        final String chunkSize = properties.get(CHUNK_SIZE_KEY);
+        this.defaultChunkSize = chunkSize != null ? Integer.parseInt(chunkSize.trim()) : CHUNK_SIZE_DEFAULT;
+    }
+
+    @Programmatic
+    @Override
+    public int getDefaultChunkSize() {
+        return defaultChunkSize;
+    }
+
+    @Programmatic
+    @Override
+    public void bulkLoad(final int chunkSize, final Runnable runnable) {
+        bulkLoad(chunkSize, new PublishingServiceInternal.Block<Void>() {
+            @Override
+            public Void exec() {
+                runnable.run();
+                return null;
+            }
+        });
+    }
+
+    @Programmatic
+    @Override
+    public <T> T bulkLoad(final int chunkSize, final Callable<T> callable) {
+        return bulkLoad(chunkSize, new PublishingServiceInternal.Block<T>() {
+            @Override
+            public T exec() {
+                try {
+                    return callable.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+    }
+
+    private <T> T bulkLoad(final int chunkSize, final PublishingServiceInternal.Block<T> block) {
+        final PersistenceSession persistenceSession = getPersistenceSession();
+        if (persistenceSession.isBulkLoading()) {
+            // already bulk loading, so just carry on with the current chunk size
+            return block.exec();
+        }
+        persistenceSession.startBulkLoad(chunkSize);
+        try {
+            return publishingServiceInternal.withPublishingSuppressed(block);
+        } finally {
+            persistenceSession.endBulkLoad();
+        }
+    }
+
+    @Programmatic
+    @Override
+    public boolean isBulkLoading() {
+        return getPersistenceSession().isBulkLoading();
+    }
+
+    protected PersistenceSession getPersistenceSession() {
+        return isisSessionFactory.getCurrentSession().getPersistenceSession();
+    }
+
+    @javax.inject.Inject
+    IsisSessionFactory isisSessionFactory;
+
+    @javax.inject.Inject
+    PublishingServiceInternal publishingServiceInternal;
+
+}
@@ -27,6 +27,7 @@
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 
 public class AdapterAndProperty {
 
@@ -104,7 +105,18 @@ public String toString() {
     }
 
     public Object getPropertyValue() {
-        ObjectAdapter referencedAdapter = property.get(objectAdapter, InteractionInitiatedBy.FRAMEWORK);
+        return valueOf(objectAdapter, property);
+    }
+
+    /**
+     * Values are read directly as pojos (no adapter need be created); references are read via their adapter, so that
+     * a referenced object that has since been deleted is treated as <tt>null</tt>.
+     */
+    static Object valueOf(final ObjectAdapter objectAdapter, final ObjectAssociation property) {
+        if(property instanceof OneToOneAssociation && property.getSpecification().isValue()) {
+            return ((OneToOneAssociation) property).getRawValue(objectAdapter);
+        }
+        final ObjectAdapter referencedAdapter = property.get(objectAdapter, InteractionInitiatedBy.FRAMEWORK);
         return referencedAdapter == null ? null : referencedAdapter.getObject();
     }
 
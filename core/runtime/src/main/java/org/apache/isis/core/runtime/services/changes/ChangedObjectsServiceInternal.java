@@ -19,14 +19,15 @@
 package org.apache.isis.core.runtime.services.changes;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
 import javax.enterprise.context.RequestScoped;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
@@ -37,9 +38,6 @@
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
-import org.apache.isis.core.metamodel.spec.feature.Contributed;
-import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
-import org.apache.isis.core.runtime.system.transaction.IsisTransaction;
 
 @DomainService(
         nature = NatureOfService.DOMAIN,
@@ -49,14 +47,14 @@
 public class ChangedObjectsServiceInternal implements WithTransactionScope {
 
     /**
-     * Used for auditing: this contains the pre- values of every property of every object enlisted.
+     * Used for auditing: this contains the pre- values of every persisted property of every object enlisted.
      *
      * <p>
      *     When {@link #getChangedObjectProperties()} is called, then this is cleared out and {@link #changedObjectProperties} is non-null, containing
      *     the actual differences.
      * </p>
      */
-    private final Map<AdapterAndProperty, PreAndPostValues> enlistedObjectProperties = Maps.newLinkedHashMap();
+    private final Map<ObjectAdapter, ObjectPreValues> enlistedObjects = Maps.newLinkedHashMap();
 
     /**
      * Used for auditing; contains the pre- and post- values of every property of every object that actually changed.
@@ -96,18 +94,11 @@ public void enlistCreated(final ObjectAdapter adapter) {
 
         enlistForPublishing(adapter, PublishedObject.ChangeKind.CREATE);
 
-        for (ObjectAssociation property : adapter.getSpecification().getAssociations(Contributed.EXCLUDED, ObjectAssociation.Filters.PROPERTIES)) {
-            final AdapterAndProperty aap = AdapterAndProperty.of(adapter, property);
-            if(property.isNotPersisted()) {
-                continue;
-            }
-            if(enlistedObjectProperties.containsKey(aap)) {
-                // already enlisted, so ignore
-                continue;
-            }
-            PreAndPostValues papv = PreAndPostValues.pre(IsisTransaction.Placeholder.NEW);
-            enlistedObjectProperties.put(aap, papv);
+        if(enlistedObjects.containsKey(adapter)) {
+            // already enlisted, so ignore
+            return;
         }
+        enlistedObjects.put(adapter, ObjectPreValues.created(adapter));
     }
 
 
@@ -130,18 +121,7 @@ public void enlistUpdating(final ObjectAdapter adapter) {
 
         enlistForPublishing(adapter, PublishedObject.ChangeKind.UPDATE);
 
-        for (ObjectAssociation property : adapter.getSpecification().getAssociations(Contributed.EXCLUDED, ObjectAssociation.Filters.PROPERTIES)) {
-            final AdapterAndProperty aap = AdapterAndProperty.of(adapter, property);
-            if(property.isNotPersisted()) {
-                continue;
-            }
-            if(enlistedObjectProperties.containsKey(aap)) {
-                // already enlisted, so ignore
-                continue;
-            }
-            PreAndPostValues papv = PreAndPostValues.pre(aap.getPropertyValue());
-            enlistedObjectProperties.put(aap, papv);
-        }
+        enlistCapturingPreValues(adapter);
     }
 
     /**
@@ -167,21 +147,18 @@ public void enlistDeleting(final ObjectAdapter adapter) {
             return;
         }
 
-        for (ObjectAssociation property : adapter.getSpecification().getAssociations(Contributed.EXCLUDED, ObjectAssociation.Filters.PROPERTIES)) {
-            final AdapterAndProperty aap = AdapterAndProperty.of(adapter, property);
-            if(property.isNotPersisted()) {
-                continue;
-            }
-            if(enlistedObjectProperties.containsKey(aap)) {
-                // already enlisted, so ignore
-                continue;
-            }
-            PreAndPostValues papv = PreAndPostValues.pre(aap.getPropertyValue());
-            enlistedObjectProperties.put(aap, papv);
-        }
+        enlistCapturingPreValues(adapter);
     }
 
 
+    private void enlistCapturingPreValues(final ObjectAdapter adapter) {
+        if(enlistedObjects.containsKey(adapter)) {
+            // already enlisted, so ignore
+            return;
+        }
+        enlistedObjects.put(adapter, ObjectPreValues.capture(adapter));
+    }
+
     /**
      * @return <code>true</code> if successfully enlisted, <code>false</code> if was already enlisted
      */
@@ -224,38 +201,27 @@ private boolean enlistForPublishing(final ObjectAdapter adapter, final Published
     public Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> getChangedObjectProperties() {
         return changedObjectProperties != null
                     ? changedObjectProperties
-                    : (changedObjectProperties = capturePostValuesAndDrain(enlistedObjectProperties));
+                    : (changedObjectProperties = capturePostValuesAndDrain(enlistedObjects));
     }
 
-    private Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> capturePostValuesAndDrain(final Map<AdapterAndProperty, PreAndPostValues> changedObjectProperties) {
+    private Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> capturePostValuesAndDrain(final Map<ObjectAdapter, ObjectPreValues> enlistedObjects) {
         return AdapterManager.ConcurrencyChecking.executeWithConcurrencyCheckingDisabled(new Callable<Set<Map.Entry<AdapterAndProperty, PreAndPostValues>>>() {
             @Override
             public Set<Map.Entry<AdapterAndProperty, PreAndPostValues>> call() {
                 final Map<AdapterAndProperty, PreAndPostValues> processedObjectProperties = Maps.newLinkedHashMap();
 
-                while(!changedObjectProperties.isEmpty()) {
+                // reading the post values could cause further objects to be enlisted, hence the loop
+                while(!enlistedObjects.isEmpty()) {
 
-                    final Set<AdapterAndProperty> keys = Sets.newLinkedHashSet(changedObjectProperties.keySet());
-                    for (final AdapterAndProperty aap : keys) {
-
-                        final PreAndPostValues papv = changedObjectProperties.remove(aap);
-
-                        final ObjectAdapter adapter = aap.getAdapter();
-                        if(adapter.isDestroyed()) {
-                            // don't touch the object!!!
-                            // JDO, for example, will complain otherwise...
-                            papv.setPost(IsisTransaction.Placeholder.DELETED);
-                        } else {
-                            papv.setPost(aap.getPropertyValue());
-                        }
-
-                        // if we encounter the same objectProperty again, this will simply overwrite it
-                        processedObjectProperties.put(aap, papv);
+                    final List<ObjectAdapter> adapters = Lists.newArrayList(enlistedObjects.keySet());
+                    for (final ObjectAdapter adapter : adapters) {
+                        final ObjectPreValues preValues = enlistedObjects.remove(adapter);
+                        preValues.appendChangesTo(processedObjectProperties);
                     }
                 }
 
-                return Collections.unmodifiableSet(
-                        Sets.filter(processedObjectProperties.entrySet(), PreAndPostValues.Predicates.SHOULD_AUDIT));            }
+                return Collections.unmodifiableSet(processedObjectProperties.entrySet());
+            }
         });
     }
 
@@ -292,7 +258,7 @@ public int numberObjectPropertiesModified() {
     @Override
     @Programmatic
     public void resetForNextTransaction() {
-        enlistedObjectProperties.clear();
+        enlistedObjects.clear();
         changedObjectProperties = null;
     }
 
@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.changes;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtime.system.transaction.IsisTransaction;
+
+/**
+ * The pre-modification values of the {@link org.apache.isis.core.metamodel.spec.ObjectSpecification#getPersistedProperties() persisted properties}
+ * of a single enlisted object, held compactly as arrays indexed by property.
+ *
+ * <p>
+ *     {@link AdapterAndProperty} and {@link PreAndPostValues} instances are only created (by
+ *     {@link #appendChangesTo(Map)}) for those properties whose values actually changed.
+ * </p>
+ */
+class ObjectPreValues {
+
+    private final ObjectAdapter adapter;
+    private final List<OneToOneAssociation> properties;
+    /**
+     * <tt>null</tt> if the object was created (in which case every pre value is {@link IsisTransaction.Placeholder#NEW}).
+     */
+    private final Object[] preValues;
+    /**
+     * Eagerly calculated for references, because the object referenced could end up being deleted by the time that
+     * the xactn completes; lazily calculated (<tt>null</tt> here) for values.
+     */
+    private final String[] preStrings;
+
+    static ObjectPreValues created(final ObjectAdapter adapter) {
+        return new ObjectPreValues(adapter, false);
+    }
+
+    static ObjectPreValues capture(final ObjectAdapter adapter) {
+        return new ObjectPreValues(adapter, true);
+    }
+
+    private ObjectPreValues(final ObjectAdapter adapter, final boolean capture) {
+        this.adapter = adapter;
+        this.properties = adapter.getSpecification().getPersistedProperties();
+        if(!capture) {
+            this.preValues = null;
+            this.preStrings = null;
+            return;
+        }
+        final int numProperties = properties.size();
+        this.preValues = new Object[numProperties];
+        this.preStrings = new String[numProperties];
+        for (int i = 0; i < numProperties; i++) {
+            final OneToOneAssociation property = properties.get(i);
+            final Object preValue = valueOf(property);
+            preValues[i] = preValue;
+            if(preValue != null && !property.getSpecification().isValue()) {
+                preStrings[i] = ChangedObjectsServiceInternal.asString(preValue);
+            }
+        }
+    }
+
+    ObjectAdapter getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Captures the post-modification values, and for each property that has changed, adds an entry to the map.
+     */
+    void appendChangesTo(final Map<AdapterAndProperty, PreAndPostValues> changes) {
+
+        // don't touch the object if destroyed!!!
+        // JDO, for example, will complain otherwise...
+        final boolean destroyed = adapter.isDestroyed();
+
+        for (int i = 0; i < properties.size(); i++) {
+            final OneToOneAssociation property = properties.get(i);
+
+            final Object pre = preValues != null ? preValues[i] : IsisTransaction.Placeholder.NEW;
+            final Object post = destroyed ? IsisTransaction.Placeholder.DELETED : valueOf(property);
+
+            if(!PreAndPostValues.shouldAudit(pre, post)) {
+                continue;
+            }
+
+            final String preString = preStrings != null && preStrings[i] != null
+                    ? preStrings[i]
+                    : ChangedObjectsServiceInternal.asString(pre);
+
+            // if we encounter the same objectProperty again, this will simply overwrite it
+            changes.put(AdapterAndProperty.of(adapter, property), PreAndPostValues.of(pre, preString, post));
+        }
+    }
+
+    private Object valueOf(final OneToOneAssociation property) {
+        return AdapterAndProperty.valueOf(adapter, property);
+    }
+
+}
@@ -53,13 +53,22 @@ public boolean apply(Map.Entry<?, PreAndPostValues> input) {
     private String postString;
 
     public static PreAndPostValues pre(Object preValue) {
-        return new PreAndPostValues(preValue, null);
+        return new PreAndPostValues(preValue, ChangedObjectsServiceInternal.asString(preValue), null);
     }
 
-    private PreAndPostValues(Object pre, Object post) {
+    /**
+     * For when the <tt>toString</tt> of the pre value has already been captured.
+     */
+    static PreAndPostValues of(Object preValue, String preString, Object postValue) {
+        final PreAndPostValues papv = new PreAndPostValues(preValue, preString, null);
+        papv.setPost(postValue);
+        return papv;
+    }
+
+    private PreAndPostValues(Object pre, String preString, Object post) {
         this.pre = pre;
         this.post = post;
-        this.preString = ChangedObjectsServiceInternal.asString(pre);
+        this.preString = preString;
     }
 
     /**
@@ -96,15 +105,19 @@ public String toString() {
     }
 
     public boolean shouldAudit() {
+        return shouldAudit(getPre(), getPost());
+    }
+
+    static boolean shouldAudit(final Object pre, final Object post) {
         // don't audit objects that were created and then immediately deleted within the same xactn
-        if (getPre() == IsisTransaction.Placeholder.NEW && getPost() == IsisTransaction.Placeholder.DELETED) {
+        if (pre == IsisTransaction.Placeholder.NEW && post == IsisTransaction.Placeholder.DELETED) {
             return false;
         }
         // but do always audit objects that have just been created or deleted
-        if (getPre() == IsisTransaction.Placeholder.NEW || getPost() == IsisTransaction.Placeholder.DELETED) {
+        if (pre == IsisTransaction.Placeholder.NEW || post == IsisTransaction.Placeholder.DELETED) {
             return true;
         }
         // else - for updated objects - audit only if the property value has changed
-        return !Objects.equal(getPre(), getPost());
+        return !Objects.equal(pre, post);
     }
 }
@@ -38,6 +38,14 @@ abstract class PoAbstract {
 
     abstract String translate(final String context, final String msgId, final String msgIdPlural, int num);
 
+    /**
+     * Translates the context and msgId of the {@link TranslationServicePo#slotFor(String, String) slot}.
+     */
+    String translate(final int slot) {
+        final ContextAndMsgId key = translationServicePo.slotKey(slot);
+        return translate(key.getContext(), key.getMsgId());
+    }
+
     TranslationService.Mode getMode() {
         return mode;
     }
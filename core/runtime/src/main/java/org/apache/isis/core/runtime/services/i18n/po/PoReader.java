@@ -23,6 +23,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
@@ -42,8 +43,8 @@ class PoReader extends PoAbstract {
     public static final String UNDERSCORE = "_";
     public static Logger LOG = LoggerFactory.getLogger(PoReader.class);
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = Maps.newHashMap();
+    private final ConcurrentMap<Locale, PoTranslations> translationsByLocale = Maps.newConcurrentMap();
+    private final Map<Locale, Boolean> usesFallbackByLocale = Maps.newConcurrentMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -116,8 +117,42 @@ String translate(final String context, final String msgId, final String msgIdPlu
         return translate(context, msgIdToUse, type);
     }
 
+    @Override
+    String translate(final int slot) {
+        if(translationsResolver == null) {
+            return super.translate(slot);
+        }
+        final Locale targetLocale = targetLocaleElseNull();
+        if(targetLocale == null) {
+            return translationServicePo.slotKey(slot).getMsgId();
+        }
+
+        final PoTranslations translations = translationsFor(targetLocale);
+        final String translation = translations.translationOf(slot);
+        if(translation != null) {
+            return translation;
+        }
+        compileSlots(targetLocale, translations);
+        return translations.translationOf(slot);
+    }
+
+    /**
+     * Translates every slot registered since the translations were last compiled (the original msgId being used
+     * if there is no translation).
+     */
+    private void compileSlots(final Locale locale, final PoTranslations translations) {
+        final int numNotTranslated = translations.compileSlots(translationServicePo);
+
+        // as for individual translations, only log if not using fallback (ie translations are genuinely missing)
+        if(numNotTranslated > 0 && !translations.usesFallback()) {
+            logInfoIfNotPreviously(String.format(
+                    "No translation found for %d metamodel texts for locale: %s",
+                    numNotTranslated, locale));
+        }
+    }
+
     void clearCache() {
-        translationByKeyByLocale.clear();
+        translationsByLocale.clear();
         usesFallbackByLocale.clear();
         init();
     }
@@ -125,66 +160,57 @@ void clearCache() {
     private String translate(
             final String context, final String msgId, final ContextAndMsgId.Type type) {
 
-        final Locale targetLocale;
-        try {
-            targetLocale = localeProvider.getLocale();
-            if(targetLocale == null) {
-                // eg if request from RO viewer and the (default) LocaleProviderWicket is being used.
-                return msgId;
-            }
-        } catch(final RuntimeException ex){
-            logInfoIfNotPreviously("Failed to obtain locale, returning the original msgId");
+        final Locale targetLocale = targetLocaleElseNull();
+        if(targetLocale == null) {
             return msgId;
         }
 
+        final PoTranslations translations = translationsFor(targetLocale);
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
-
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context, msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else without a context
+        final String translation = translations.lookup(context, msgId);
+        if (translation != null) {
             return translation;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
-
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
         // 1. language_country
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!translations.usesFallback()) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context, msgId, type));
         }
 
         return msgId;
     }
 
-
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private Locale targetLocaleElseNull() {
+        try {
+            // null eg if request from RO viewer and the (default) LocaleProviderWicket is being used.
+            return localeProvider.getLocale();
+        } catch(final RuntimeException ex){
+            logInfoIfNotPreviously("Failed to obtain locale, returning the original msgId");
+            return null;
+        }
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
+    /**
+     * The translations for the locale, read and compiled the first time that the locale is encountered.
+     */
+    private PoTranslations translationsFor(final Locale locale) {
+        PoTranslations translations = translationsByLocale.get(locale);
+        if(translations != null) {
+            return translations;
         }
 
-        translationsByKey = Maps.newHashMap();
+        final Map<ContextAndMsgId, String> translationsByKey = Maps.newHashMap();
         read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
+        translations = new PoTranslations(translationsByKey, Boolean.TRUE.equals(usesFallbackByLocale.get(locale)));
 
-        return translationsByKey;
+        final PoTranslations existing = translationsByLocale.putIfAbsent(locale, translations);
+        return existing != null ? existing : translations;
     }
 
 
@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.i18n.po;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * The translations read from the <tt>.po</tt> file for a single locale, compiled into an immutable table (and so
+ * safe to be shared between threads without any synchronization).
+ *
+ * <p>
+ *     Translations are trimmed when compiled, and any that are empty are omitted.  Because they are keyed by msgId
+ *     and then by context, looking up a translation does not require a {@link ContextAndMsgId} key to be allocated.
+ * </p>
+ */
+class PoTranslations {
+
+    private final ImmutableMap<String, ImmutableMap<String, String>> translationByContextByMsgId;
+    private final boolean usesFallback;
+
+    /**
+     * The translated text of each {@link TranslationServicePo#slotFor(String, String) slot} registered by the time
+     * that they were (lazily) compiled, indexed by slot; grown (by doubling) as further slots are compiled.
+     */
+    private volatile String[] translationBySlot = new String[0];
+    /**
+     * Guarded by <tt>this</tt>.
+     */
+    private int numSlotsCompiled;
+
+    PoTranslations(final Map<ContextAndMsgId, String> translationsByKey, final boolean usesFallback) {
+        final Map<String, ImmutableMap.Builder<String, String>> builderByMsgId = Maps.newHashMap();
+        for (final Map.Entry<ContextAndMsgId, String> entry : translationsByKey.entrySet()) {
+            final String translation = entry.getValue() != null ? entry.getValue().trim() : null;
+            if(Strings.isNullOrEmpty(translation)) {
+                continue;
+            }
+            final ContextAndMsgId key = entry.getKey();
+            ImmutableMap.Builder<String, String> builder = builderByMsgId.get(key.getMsgId());
+            if(builder == null) {
+                builder = ImmutableMap.builder();
+                builderByMsgId.put(key.getMsgId(), builder);
+            }
+            builder.put(key.getContext(), translation);
+        }
+        final ImmutableMap.Builder<String, ImmutableMap<String, String>> builder = ImmutableMap.builder();
+        for (final Map.Entry<String, ImmutableMap.Builder<String, String>> entry : builderByMsgId.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue().build());
+        }
+        this.translationByContextByMsgId = builder.build();
+        this.usesFallback = usesFallback;
+    }
+
+    /**
+     * The translation for the msgId in the given context, else in no context, else <tt>null</tt>.
+     */
+    String lookup(final String context, final String msgId) {
+        final ImmutableMap<String, String> translationByContext = translationByContextByMsgId.get(msgId);
+        if(translationByContext == null) {
+            return null;
+        }
+        final String translation = translationByContext.get(context != null ? context : "");
+        return translation != null ? translation : translationByContext.get("");
+    }
+
+    /**
+     * The translated text of the slot, or <tt>null</tt> if the slot was registered since they were
+     * {@link #compileSlots(TranslationServicePo) compiled}.
+     */
+    String translationOf(final int slot) {
+        final String[] translationBySlot = this.translationBySlot;
+        return slot < translationBySlot.length ? translationBySlot[slot] : null;
+    }
+
+    /**
+     * Translates (or else uses the msgId of) each slot registered since last compiled, extending rather than
+     * rebuilding the table.
+     *
+     * @return the number of those slots for which there was no translation.
+     */
+    synchronized int compileSlots(final TranslationServicePo translationServicePo) {
+        final int numSlots = translationServicePo.numSlots();
+        String[] translationBySlot = this.translationBySlot;
+        if(numSlots > translationBySlot.length) {
+            translationBySlot = Arrays.copyOf(translationBySlot, Math.max(numSlots, 2 * translationBySlot.length));
+        }
+        int numNotTranslated = 0;
+        for (int slot = numSlotsCompiled; slot < numSlots; slot++) {
+            final ContextAndMsgId key = translationServicePo.slotKey(slot);
+            final String translation = lookup(key.getContext(), key.getMsgId());
+            if(translation == null) {
+                numNotTranslated++;
+            }
+            translationBySlot[slot] = translation != null ? translation : key.getMsgId();
+        }
+        numSlotsCompiled = numSlots;
+        this.translationBySlot = translationBySlot;
+        return numNotTranslated;
+    }
+
+    boolean usesFallback() {
+        return usesFallback;
+    }
+
+}
@@ -18,11 +18,14 @@
  */
 package org.apache.isis.core.runtime.services.i18n.po;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
+import com.google.common.collect.Maps;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,12 +37,13 @@
 import org.apache.isis.applib.services.i18n.TranslationsResolver;
 import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
 import org.apache.isis.core.metamodel.deployment.DeploymentCategoryProvider;
+import org.apache.isis.core.metamodel.facets.all.i18n.TranslationSlots;
 
 @DomainService(
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class TranslationServicePo implements TranslationService {
+public class TranslationServicePo implements TranslationService, TranslationSlots {
 
     public static Logger LOG = LoggerFactory.getLogger(TranslationServicePo.class);
 
@@ -108,6 +112,63 @@ public String translate(final String context, final String singularText, final S
         return po.translate(context, singularText, pluralText, num);
     }
 
+    //region > slots
+
+    private final Map<ContextAndMsgId, Integer> slotByKey = Maps.newHashMap();
+
+    /**
+     * Grown (by doubling) as slots are registered; only the first {@link #numSlots} entries are in use.
+     */
+    private volatile ContextAndMsgId[] slotKeys = new ContextAndMsgId[64];
+    private volatile int numSlots;
+
+    /**
+     * Called (by the translated facets) while the metamodel is being built.
+     */
+    @Override
+    @Programmatic
+    public synchronized int slotFor(final String context, final String text) {
+        final ContextAndMsgId key = new ContextAndMsgId(context, text, ContextAndMsgId.Type.REGULAR);
+        final Integer existing = slotByKey.get(key);
+        if(existing != null) {
+            return existing;
+        }
+        final int slot = numSlots;
+        if(slot == slotKeys.length) {
+            slotKeys = Arrays.copyOf(slotKeys, 2 * slot);
+        }
+        slotKeys[slot] = key;
+        slotByKey.put(key, slot);
+        // publishes the key (written above) to any thread that subsequently reads the number of slots
+        numSlots = slot + 1;
+        return slot;
+    }
+
+    @Override
+    @Programmatic
+    public String translate(final int slot) {
+        return po.translate(slot);
+    }
+
+    /**
+     * Not API; the number of slots registered so far.
+     */
+    int numSlots() {
+        return numSlots;
+    }
+
+    /**
+     * Not API; the key of a slot registered so far.
+     */
+    ContextAndMsgId slotKey(final int slot) {
+        if(slot >= numSlots) {
+            throw new IndexOutOfBoundsException("No such slot: " + slot);
+        }
+        return slotKeys[slot];
+    }
+
+    //endregion
+
     @Override
     public Mode getMode() {
         return po.getMode();
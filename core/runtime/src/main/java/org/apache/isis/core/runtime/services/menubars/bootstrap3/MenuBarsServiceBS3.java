@@ -90,15 +90,16 @@ public BS3MenuBars menuBars() {
     @Programmatic
     public BS3MenuBars menuBars(final Type type) {
 
-        final BS3MenuBars fallbackMenuBars = deriveMenuBarsFromMetaModelFacets();
-
         if(type == Type.FALLBACK) {
-            return fallbackMenuBars;
+            return deriveMenuBarsFromMetaModelFacets();
         }
 
         // else load (and only fallback if nothing could be loaded)...
         if(menuBars == null || menuBarsLoaderService.supportsReloading()) {
 
+            // only derived if need be; this method is called for every page rendered by the Wicket viewer
+            final BS3MenuBars fallbackMenuBars = deriveMenuBarsFromMetaModelFacets();
+
             BS3MenuBars menuBars = menuBarsLoaderService.menuBars();
             if(menuBars == null) {
                 menuBars = fallbackMenuBars;
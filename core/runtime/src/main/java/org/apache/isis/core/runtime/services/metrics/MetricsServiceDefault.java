@@ -20,6 +20,7 @@
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.RequestScoped;
 import javax.jdo.listener.InstanceLifecycleEvent;
 import javax.jdo.listener.InstanceLifecycleListener;
@@ -29,7 +30,9 @@
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.services.WithTransactionScope;
-import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.InteractionContext;
+import org.apache.isis.applib.services.metrics.MetricsService2;
 import org.apache.isis.core.runtime.services.changes.ChangedObjectsServiceInternal;
 
 @RequestScoped
@@ -37,10 +40,20 @@
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class MetricsServiceDefault implements MetricsService, InstanceLifecycleListener, LoadLifecycleListener, WithTransactionScope {
+public class MetricsServiceDefault implements MetricsService2, InstanceLifecycleListener, LoadLifecycleListener, WithTransactionScope {
+
+    public static final String STATEMENT_COUNTS_KEY = "isis.services.metrics.statementCounts";
+    public static final boolean STATEMENT_COUNTS_DEFAULT = false;
 
     private AtomicInteger numberLoaded = new AtomicInteger(0);
 
+    /**
+     * The (cumulative, per-thread) {@link StatementCounts} as of the start of the request/transaction.
+     */
+    private int statementsExecutedBaseline = StatementCounts.current().getStatementsExecuted();
+    private int rowsFetchedBaseline = StatementCounts.current().getRowsFetched();
+    private int rowsUpdatedBaseline = StatementCounts.current().getRowsUpdated();
+
     @Override
     public int numberObjectsLoaded() {
         return numberLoaded.get();
@@ -51,6 +64,26 @@ public int numberObjectsDirtied() {
         return changedObjectsServiceInternal.numberObjectsDirtied();
     }
 
+    @Override
+    public boolean isCountingStatements() {
+        return StatementCounts.isEnabled();
+    }
+
+    @Override
+    public int numberStatementsExecuted() {
+        return StatementCounts.current().getStatementsExecuted() - statementsExecutedBaseline;
+    }
+
+    @Override
+    public int numberRowsFetched() {
+        return StatementCounts.current().getRowsFetched() - rowsFetchedBaseline;
+    }
+
+    @Override
+    public int numberRowsUpdated() {
+        return StatementCounts.current().getRowsUpdated() - rowsUpdatedBaseline;
+    }
+
     @Programmatic
     @Override
     public void postLoad(final InstanceLifecycleEvent event) {
@@ -65,9 +98,36 @@ public void postLoad(final InstanceLifecycleEvent event) {
     @Override
     public void resetForNextTransaction() {
         numberLoaded.set(0);
+
+        final StatementCounts statementCounts = StatementCounts.current();
+        statementsExecutedBaseline = statementCounts.getStatementsExecuted();
+        rowsFetchedBaseline = statementCounts.getRowsFetched();
+        rowsUpdatedBaseline = statementCounts.getRowsUpdated();
+    }
+
+    /**
+     * As the request ends, contributes the metrics of the interaction's executions to the (application-wide)
+     * {@link MetricsSummaryServiceInternal}.
+     */
+    @Programmatic
+    @PreDestroy
+    public void summarizeInteraction() {
+        if(metricsSummaryServiceInternal == null) {
+            return;
+        }
+        final Interaction interaction = interactionContext.getInteraction();
+        if(interaction != null) {
+            metricsSummaryServiceInternal.summarize(interaction);
+        }
     }
 
     @javax.inject.Inject
     ChangedObjectsServiceInternal changedObjectsServiceInternal;
 
+    @javax.inject.Inject
+    InteractionContext interactionContext;
+
+    @javax.inject.Inject
+    MetricsSummaryServiceInternal metricsSummaryServiceInternal;
+
 }
@@ -0,0 +1,258 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.NatureOfService;
+import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.PhaseTimings;
+import org.apache.isis.schema.common.v1.DifferenceDto;
+import org.apache.isis.schema.common.v1.InteractionType;
+import org.apache.isis.schema.ixn.v1.MemberExecutionDto;
+import org.apache.isis.schema.ixn.v1.MetricsDto;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+import org.apache.isis.schema.ixn.v1.StatementCountsDto;
+
+/**
+ * Accumulates, for the lifetime of the application, the metrics of every {@link Interaction.Execution} (action
+ * invocation or property edit) of each member, so that slow members can be identified in production (for example,
+ * by scraping the Restful Objects viewer's <tt>/metrics</tt> resource).
+ *
+ * <p>
+ *     Populated by {@link MetricsServiceDefault} as each request ends.
+ * </p>
+ */
+@DomainService(
+        nature = NatureOfService.DOMAIN,
+        menuOrder = "" + Integer.MAX_VALUE
+)
+public class MetricsSummaryServiceInternal {
+
+    private final ConcurrentMap<String, MemberSummary> summaryByMemberIdentifier = Maps.newConcurrentMap();
+
+    private final PhaseTimings unattributedPhaseTimings = new PhaseTimings();
+
+    /**
+     * Adds the metrics of all (completed) executions of the interaction, including any child executions.
+     */
+    @Programmatic
+    public void summarize(final Interaction interaction) {
+        for (final Object execution : interaction.getExecutions()) {
+            summarize((Interaction.Execution<?, ?>) execution);
+        }
+        final PhaseTimings phaseTimings = interaction.getUnattributedPhaseTimings();
+        if(!phaseTimings.isEmpty()) {
+            synchronized (unattributedPhaseTimings) {
+                unattributedPhaseTimings.addAll(phaseTimings);
+            }
+        }
+    }
+
+    private void summarize(final Interaction.Execution<?, ?> execution) {
+        if(execution.getElapsedNanos() >= 0) {
+            summaryFor(execution).add(execution);
+        }
+        for (final Interaction.Execution<?, ?> child : execution.getChildren()) {
+            summarize(child);
+        }
+    }
+
+    private MemberSummary summaryFor(final Interaction.Execution<?, ?> execution) {
+        final String memberIdentifier = execution.getMemberIdentifier();
+        MemberSummary summary = summaryByMemberIdentifier.get(memberIdentifier);
+        if(summary == null) {
+            summary = new MemberSummary(memberIdentifier, execution.getInteractionType());
+            final MemberSummary existing = summaryByMemberIdentifier.putIfAbsent(memberIdentifier, summary);
+            if(existing != null) {
+                summary = existing;
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * A snapshot of the summaries of all members executed so far, ordered by member identifier.
+     */
+    @Programmatic
+    public List<MemberSummary> getSummaries() {
+        final List<MemberSummary> summaries = Lists.newArrayList();
+        for (final MemberSummary summary : summaryByMemberIdentifier.values()) {
+            summaries.add(summary.copy());
+        }
+        Collections.sort(summaries, Ordering.natural().onResultOf(MemberSummary.GET_MEMBER_IDENTIFIER));
+        return summaries;
+    }
+
+    /**
+     * The time spent in phases not attributable to any execution (eg rendering an object when no action was
+     * invoked).
+     */
+    @Programmatic
+    public PhaseTimings getUnattributedPhaseTimings() {
+        final PhaseTimings phaseTimings = new PhaseTimings();
+        synchronized (unattributedPhaseTimings) {
+            phaseTimings.addAll(unattributedPhaseTimings);
+        }
+        return phaseTimings;
+    }
+
+    @Programmatic
+    public void reset() {
+        summaryByMemberIdentifier.clear();
+        synchronized (unattributedPhaseTimings) {
+            unattributedPhaseTimings.clear();
+        }
+    }
+
+    /**
+     * The accumulated metrics of all executions of a single member.
+     */
+    public static class MemberSummary {
+
+        static final Function<MemberSummary, String> GET_MEMBER_IDENTIFIER =
+                new Function<MemberSummary, String>() {
+                    @Override
+                    public String apply(final MemberSummary input) {
+                        return input.getMemberIdentifier();
+                    }
+                };
+
+        private final String memberIdentifier;
+        private final InteractionType interactionType;
+
+        private long count;
+        private long errorCount;
+        private long totalNanos;
+        private long maxNanos;
+        private final PhaseTimings phaseTimings = new PhaseTimings();
+        private long statementsExecuted;
+        private long rowsFetched;
+        private long rowsUpdated;
+
+        MemberSummary(final String memberIdentifier, final InteractionType interactionType) {
+            this.memberIdentifier = memberIdentifier;
+            this.interactionType = interactionType;
+        }
+
+        synchronized void add(final Interaction.Execution<?, ?> execution) {
+            count++;
+            if(execution.getThrew() != null) {
+                errorCount++;
+            }
+            final long elapsedNanos = execution.getElapsedNanos();
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            phaseTimings.addAll(execution.getPhaseTimings());
+
+            final StatementCountsDto statementCounts = statementCountsOf(execution.getDto());
+            if(statementCounts != null) {
+                statementsExecuted += difference(statementCounts.getExecuted());
+                rowsFetched += difference(statementCounts.getRowsFetched());
+                rowsUpdated += difference(statementCounts.getRowsUpdated());
+            }
+        }
+
+        private static StatementCountsDto statementCountsOf(final MemberExecutionDto dto) {
+            final MetricsDto metrics = dto != null ? dto.getMetrics() : null;
+            return metrics != null ? metrics.getStatementCounts() : null;
+        }
+
+        private static int difference(final DifferenceDto differenceDto) {
+            if(differenceDto == null || differenceDto.getBefore() == null || differenceDto.getAfter() == null) {
+                return 0;
+            }
+            return differenceDto.getAfter() - differenceDto.getBefore();
+        }
+
+        synchronized MemberSummary copy() {
+            final MemberSummary copy = new MemberSummary(memberIdentifier, interactionType);
+            copy.count = count;
+            copy.errorCount = errorCount;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            copy.phaseTimings.addAll(phaseTimings);
+            copy.statementsExecuted = statementsExecuted;
+            copy.rowsFetched = rowsFetched;
+            copy.rowsUpdated = rowsUpdated;
+            return copy;
+        }
+
+        public String getMemberIdentifier() {
+            return memberIdentifier;
+        }
+
+        public InteractionType getInteractionType() {
+            return interactionType;
+        }
+
+        /**
+         * The number of (completed) executions.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The number of executions that threw an exception.
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getNanos(final PhaseType phaseType) {
+            return phaseTimings.getNanos(phaseType);
+        }
+
+        public long getPhaseCount(final PhaseType phaseType) {
+            return phaseTimings.getCount(phaseType);
+        }
+
+        public long getStatementsExecuted() {
+            return statementsExecuted;
+        }
+
+        public long getRowsFetched() {
+            return rowsFetched;
+        }
+
+        public long getRowsUpdated() {
+            return rowsUpdated;
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * A JDBC {@link Driver} that delegates to the driver of the underlying database, maintaining the
+ * {@link StatementCounts} of the calling thread.
+ *
+ * <p>
+ *     URLs are of the form <tt>jdbc:isis-counting:&lt;underlying URL without its "jdbc:" prefix&gt;</tt>, for example
+ *     <tt>jdbc:isis-counting:hsqldb:mem:test</tt>.  Rather than configure this directly, set
+ *     <tt>isis.services.metrics.statementCounts</tt>; the framework will then {@link #wrap(String) wrap} the
+ *     configured JDBC URL (and also load the configured driver).
+ * </p>
+ *
+ * <p>
+ *     Every statement executed is counted, as is every row read from a result set and every row reported as
+ *     inserted/updated/deleted by {@link Statement#executeUpdate(String)} and {@link Statement#executeBatch()}.
+ * </p>
+ */
+public class StatementCountingDriver implements Driver {
+
+    public static final String URL_PREFIX = "jdbc:isis-counting:";
+
+    private static final String JDBC_PREFIX = "jdbc:";
+
+    static {
+        try {
+            DriverManager.registerDriver(new StatementCountingDriver());
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Returns the URL that will connect (to the same database as the provided URL) through this driver, and
+     * {@link StatementCounts#enable() enables} statement counting.
+     */
+    public static String wrap(final String url) {
+        StatementCounts.enable();
+        if (url.startsWith(URL_PREFIX) || !url.startsWith(JDBC_PREFIX)) {
+            return url;
+        }
+        return URL_PREFIX + url.substring(JDBC_PREFIX.length());
+    }
+
+    static String unwrap(final String url) {
+        return JDBC_PREFIX + url.substring(URL_PREFIX.length());
+    }
+
+    @Override
+    public boolean acceptsURL(final String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public Connection connect(final String url, final Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        final String underlyingUrl = unwrap(url);
+        final Connection connection = DriverManager.getDriver(underlyingUrl).connect(underlyingUrl, info);
+        return connection != null ? proxy(Connection.class, connection) : null;
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) throws SQLException {
+        final String underlyingUrl = unwrap(url);
+        return DriverManager.getDriver(underlyingUrl).getPropertyInfo(underlyingUrl, info);
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    //region > proxies
+
+    private static <T> T proxy(final Class<T> type, final T delegate) {
+        final Object proxy = Proxy.newProxyInstance(
+                StatementCountingDriver.class.getClassLoader(), new Class<?>[] { type },
+                new CountingHandler(delegate));
+        return type.cast(proxy);
+    }
+
+    private static class CountingHandler implements InvocationHandler {
+
+        private final Object delegate;
+
+        CountingHandler(final Object delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(delegate, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (result == null) {
+                return null;
+            }
+            final String methodName = method.getName();
+            if (delegate instanceof ResultSet) {
+                if ("next".equals(methodName) && Boolean.TRUE.equals(result)) {
+                    StatementCounts.current().rowFetched();
+                }
+                return result;
+            }
+            if (delegate instanceof Statement) {
+                if (methodName.startsWith("execute")) {
+                    StatementCounts.current().statementExecuted();
+                    if (result instanceof Integer) {
+                        // executeUpdate
+                        StatementCounts.current().rowsUpdated((Integer) result);
+                    } else if (result instanceof int[]) {
+                        // executeBatch
+                        for (final int count : (int[]) result) {
+                            StatementCounts.current().rowsUpdated(count);
+                        }
+                    }
+                }
+                if (result instanceof ResultSet) {
+                    // executeQuery or getResultSet
+                    return proxy(ResultSet.class, (ResultSet) result);
+                }
+                return result;
+            }
+            // connection
+            if (result instanceof CallableStatement) {
+                return proxy(CallableStatement.class, (CallableStatement) result);
+            }
+            if (result instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, (PreparedStatement) result);
+            }
+            if (result instanceof Statement) {
+                return proxy(Statement.class, (Statement) result);
+            }
+            return result;
+        }
+    }
+
+    //endregion
+
+}
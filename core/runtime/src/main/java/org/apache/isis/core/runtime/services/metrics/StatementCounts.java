@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.metrics;
+
+/**
+ * Counts of the SQL statements executed (and rows fetched/updated) by the current thread, as maintained by the
+ * {@link StatementCountingDriver}.
+ *
+ * <p>
+ *     The counts are cumulative for the lifetime of the thread; consumers (ie {@link MetricsServiceDefault}) capture
+ *     a baseline and report the differences.
+ * </p>
+ */
+public final class StatementCounts {
+
+    private static final ThreadLocal<StatementCounts> CURRENT = new ThreadLocal<StatementCounts>() {
+        @Override
+        protected StatementCounts initialValue() {
+            return new StatementCounts();
+        }
+    };
+
+    private static volatile boolean enabled;
+
+    /**
+     * The counts for the current thread.
+     */
+    public static StatementCounts current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Whether connections are being obtained through the {@link StatementCountingDriver}; if not then the counts
+     * will always be zero.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void enable() {
+        enabled = true;
+    }
+
+    private int statementsExecuted;
+    private int rowsFetched;
+    private int rowsUpdated;
+
+    private StatementCounts() {
+    }
+
+    public int getStatementsExecuted() {
+        return statementsExecuted;
+    }
+
+    public int getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public int getRowsUpdated() {
+        return rowsUpdated;
+    }
+
+    void statementExecuted() {
+        statementsExecuted++;
+    }
+
+    void rowFetched() {
+        rowsFetched++;
+    }
+
+    void rowsUpdated(final int count) {
+        if(count > 0) {
+            rowsUpdated += count;
+        }
+    }
+
+}
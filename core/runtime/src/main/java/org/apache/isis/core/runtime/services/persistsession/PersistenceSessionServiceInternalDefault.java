@@ -177,6 +177,16 @@ public Transaction2 currentTransaction() {
         return getTransactionManager().getCurrentTransaction();
     }
 
+    @Override
+    public boolean evict(final ObjectAdapter adapter) {
+        return getPersistenceSession().evict(adapter);
+    }
+
+    @Override
+    public int evictAll() {
+        return getPersistenceSession().evictAll();
+    }
+
     @Override
     public <T> List<ObjectAdapter> allMatchingQuery(final Query<T> query) {
         return getPersistenceSession().allMatchingQuery(query);
@@ -187,6 +197,16 @@ public <T> ObjectAdapter firstMatchingQuery(final Query<T> query) {
         return getPersistenceSession().firstMatchingQuery(query);
     }
 
+    @Override
+    public <T> long count(final Query<T> query) {
+        return getPersistenceSession().count(query);
+    }
+
+    @Override
+    public List<ObjectAdapter> allBoundedInstances(final ObjectSpecification spec) {
+        return getPersistenceSession().allBoundedInstances(spec);
+    }
+
     @Override
     public void executeWithinTransaction(TransactionalClosure transactionalClosure) {
         getTransactionManager().executeWithinTransaction(transactionalClosure);
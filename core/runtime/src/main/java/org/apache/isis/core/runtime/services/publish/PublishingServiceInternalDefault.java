@@ -65,12 +65,15 @@
 import org.apache.isis.core.metamodel.facets.actions.publish.PublishedActionFacet;
 import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
 import org.apache.isis.core.metamodel.facets.object.publishedobject.PublishedObjectFacet;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
+import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
 import org.apache.isis.core.metamodel.services.ixn.InteractionDtoServiceInternal;
 import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.runtime.services.changes.ChangedObjectsServiceInternal;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 /**
  * Wrapper around {@link PublishingService}.  Is a no-op if there is no injected service.
@@ -120,8 +123,13 @@ public void publishObjects() {
         final Map<ObjectAdapter, ChangeKind> changeKindByEnlistedAdapter = Maps.newHashMap();
         changeKindByEnlistedAdapter.putAll(changedObjectsServiceInternal.getChangeKindByEnlistedAdapter());
 
-        publishObjectsToPublishingService(changeKindByEnlistedAdapter);
-        publishObjectsToPublisherServices(changeKindByEnlistedAdapter);
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            publishObjectsToPublishingService(changeKindByEnlistedAdapter);
+            publishObjectsToPublisherServices(changeKindByEnlistedAdapter);
+        } finally {
+            getPhaseTimer().record(PhaseType.PUBLISHING, startedAtNanos);
+        }
     }
 
     private void publishObjectsToPublishingService(final Map<ObjectAdapter, ChangeKind> changeKindByEnlistedAdapter) {
@@ -228,11 +236,16 @@ public void publishAction(
         if(suppress) {
             return;
         }
-        publishActionToPublishingService(
-                objectAction, identifiedHolder, targetAdapter, parameterAdapters, resultAdapter
-        );
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            publishActionToPublishingService(
+                    objectAction, identifiedHolder, targetAdapter, parameterAdapters, resultAdapter
+            );
 
-        publishToPublisherServices(execution);
+            publishToPublisherServices(execution);
+        } finally {
+            getPhaseTimer().record(PhaseType.PUBLISHING, startedAtNanos);
+        }
     }
 
     private void publishActionToPublishingService(
@@ -382,7 +395,12 @@ public void publishProperty(
             return;
         }
 
-        publishToPublisherServices(execution);
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            publishToPublisherServices(execution);
+        } finally {
+            getPhaseTimer().record(PhaseType.PUBLISHING, startedAtNanos);
+        }
     }
 
 
@@ -440,6 +458,9 @@ public <T> T withPublishingSuppressed(final Block<T> block) {
     @javax.inject.Inject
     private InteractionContext interactionContext;
 
+    @javax.inject.Inject
+    private ConfigurationServiceInternal configurationServiceInternal;
+
     @javax.inject.Inject
     private ClockService clockService;
 
@@ -457,4 +478,12 @@ private PersistenceSession getPersistenceSession() {
     }
     //endregion
 
+    private PhaseTimer phaseTimer;
+
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(configurationServiceInternal, interactionContext);
+        }
+        return phaseTimer;
+    }
 }
@@ -16,14 +16,18 @@
  */
 package org.apache.isis.core.runtime.services.xmlsnapshot;
 
+import java.io.OutputStream;
+
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.services.xmlsnapshot.XmlSnapshotService;
+import org.apache.isis.applib.services.xmlsnapshot.XmlSnapshotService2;
 import org.apache.isis.applib.services.xmlsnapshot.XmlSnapshotServiceAbstract;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.runtime.snapshot.XmlSnapshot;
 import org.apache.isis.core.runtime.snapshot.XmlSnapshotBuilder;
+import org.apache.isis.core.runtime.snapshot.XmlSnapshotWriter;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 
@@ -40,9 +44,9 @@
         nature = NatureOfService.DOMAIN,
         menuOrder = "" + Integer.MAX_VALUE
 )
-public class XmlSnapshotServiceDefault extends XmlSnapshotServiceAbstract {
+public class XmlSnapshotServiceDefault extends XmlSnapshotServiceAbstract implements XmlSnapshotService2 {
 
-    static class XmlSnapshotServiceDefaultBuilder implements XmlSnapshotService.Builder{
+    static class XmlSnapshotServiceDefaultBuilder implements XmlSnapshotService2.Builder2 {
         
         private final XmlSnapshotBuilder builder;
         public XmlSnapshotServiceDefaultBuilder(final Object domainObject) {
@@ -63,6 +67,11 @@ public XmlSnapshotService.Snapshot build() {
             XmlSnapshot xmlSnapshot = builder.build();
             return xmlSnapshot;
         }
+
+        @Override
+        public void writeTo(final OutputStream xmlOut, final OutputStream xsdOutIfAny) {
+            builder.writeTo(xmlOut, xsdOutIfAny);
+        }
     }
 
     /**
@@ -75,6 +84,16 @@ public XmlSnapshotService.Snapshot snapshotFor(final Object domainObject) {
         return new XmlSnapshot(adapter);
     }
 
+    /**
+     * Streams a simple snapshot of the domain object (and optionally its schema), without building a DOM.
+     */
+    @Programmatic
+    @Override
+    public void writeSnapshotFor(final Object domainObject, final OutputStream xmlOut, final OutputStream xsdOutIfAny) {
+        final ObjectAdapter adapter = getPersistenceSession().adapterFor(domainObject);
+        new XmlSnapshotWriter(adapter).write(xmlOut, xsdOutIfAny);
+    }
+
     /**
      * Creates a builder that allows a custom snapshot - traversing additional associated
      * properties or collections (using {@link Builder#includePath(String)} and 
@@ -82,7 +101,7 @@ public XmlSnapshotService.Snapshot snapshotFor(final Object domainObject) {
      */
     @Programmatic
     @Override
-    public Builder builderFor(final Object domainObject) {
+    public Builder2 builderFor(final Object domainObject) {
         return new XmlSnapshotServiceDefaultBuilder(domainObject);
     }
 
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtime.snapshot;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import com.google.common.collect.Lists;
@@ -34,6 +35,10 @@
  * XmlSnapshot snapshot = XmlSnapshotBuilder.create(customer).includePath(&quot;placeOfBirth&quot;).includePath(&quot;orders/product&quot;).build();
  * Element customerAsXml = snapshot.toXml();
  * </pre>
+ *
+ * <p>
+ * Alternatively, for large object graphs, the snapshot can be streamed using {@link #writeTo(OutputStream, OutputStream)}.
+ * </p>
  */
 public class XmlSnapshotBuilder {
 
@@ -83,6 +88,19 @@ public XmlSnapshot build() {
         return snapshot;
     }
 
+    /**
+     * Streams the snapshot (with the same paths included as {@link #build()}) using a {@link XmlSnapshotWriter},
+     * writing the XML to the first output stream and (if not <tt>null</tt>) the XSD to the second.
+     */
+    public void writeTo(final OutputStream xmlOut, final OutputStream xsdOutIfAny) {
+        final ObjectAdapter adapter = getPersistenceSession().adapterFor(domainObject);
+        final XmlSnapshotWriter writer = (schema != null) ? new XmlSnapshotWriter(adapter, schema) : new XmlSnapshotWriter(adapter);
+        for (final XmlSnapshotBuilder.PathAndAnnotation paa : paths) {
+            writer.include(paa.path, paa.annotation);
+        }
+        writer.write(xmlOut, xsdOutIfAny);
+    }
+
     // ///////////////////////////////////////////////////////
     // Dependencies (from context)
     // ///////////////////////////////////////////////////////
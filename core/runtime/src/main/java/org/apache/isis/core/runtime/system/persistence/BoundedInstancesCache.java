@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+
+/**
+ * Application-scoped cache of all of the instances of each bounded entity type (the choices for a reference to
+ * that type), held as their {@link RootOid oid}s along with their titles (for each locale in which they have been
+ * rendered).
+ *
+ * <p>
+ *     Pojos are bound to the <tt>PersistenceManager</tt> that loaded them, so cannot be shared across sessions; the
+ *     oids are instead resolved within the current session, without querying the database for the extent of the
+ *     type.
+ * </p>
+ *
+ * <p>
+ *     The instances of a type are {@link #invalidate(ObjectSpecId) invalidated} once a transaction that created,
+ *     updated or deleted any of them has committed.  Changes made by other nodes of a cluster are not seen, so the
+ *     cache is disabled unless {@link #ENABLED_KEY enabled} explicitly.
+ * </p>
+ *
+ * <p>
+ *     Nor is a cached title discarded when the state of some <i>other</i> object, from which it is derived, changes;
+ *     it is only discarded when an instance of the bounded type itself is changed.  The cache is therefore only
+ *     suitable for types whose titles are derived solely from their own state.
+ * </p>
+ */
+public class BoundedInstancesCache {
+
+    public static final String ENABLED_KEY = "isis.persistor.boundedInstancesCache.enabled";
+    public static final boolean ENABLED_DEFAULT = false;
+
+    public static final BoundedInstancesCache DISABLED = new BoundedInstancesCache(false);
+
+    public static BoundedInstancesCache create(final IsisConfiguration configuration) {
+        final boolean enabled = configuration.getBoolean(ENABLED_KEY, ENABLED_DEFAULT);
+        return enabled ? new BoundedInstancesCache(true) : DISABLED;
+    }
+
+    /**
+     * The identifiers (in the order originally queried) and titles, by locale, of the instances of a type.
+     */
+    private static class Instances {
+        private final List<String> identifiers;
+        private final Map<String, ConcurrentMap<String, String>> titleByLocaleByIdentifier = Maps.newHashMap();
+
+        private Instances(final List<String> identifiers) {
+            this.identifiers = identifiers;
+            for (final String identifier : identifiers) {
+                titleByLocaleByIdentifier.put(identifier, Maps.<String, String>newConcurrentMap());
+            }
+        }
+    }
+
+    private final ConcurrentMap<ObjectSpecId, Instances> instancesBySpecId;
+
+    /**
+     * Incremented on every invalidation, so that instances queried before (but {@link #put(ObjectSpecId, List, long)
+     * put} after) a change was committed are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    BoundedInstancesCache(final boolean enabled) {
+        this.instancesBySpecId = enabled ? Maps.<ObjectSpecId, Instances>newConcurrentMap() : null;
+    }
+
+    public boolean isEnabled() {
+        return instancesBySpecId != null;
+    }
+
+    /**
+     * To be obtained before querying for the instances to {@link #put(ObjectSpecId, List, long) put}.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @return (new) persistent oids of the cached instances of the type, or <tt>null</tt> if not cached.
+     */
+    public List<RootOid> get(final ObjectSpecId specId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final Instances instances = instancesBySpecId.get(specId);
+        if (instances == null) {
+            return null;
+        }
+        final List<RootOid> oids = Lists.newArrayListWithCapacity(instances.identifiers.size());
+        for (final String identifier : instances.identifiers) {
+            // a new oid each time, since the version of an oid is updated when it is resolved
+            oids.add(new RootOid(specId, identifier, Oid.State.PERSISTENT));
+        }
+        return oids;
+    }
+
+    /**
+     * Caches the instances of the type, unless invalidated since the {@link #currentGeneration() generation}
+     * obtained before they were queried.
+     */
+    public void put(final ObjectSpecId specId, final List<RootOid> oids, final long generationWhenQueried) {
+        if (!isEnabled()) {
+            return;
+        }
+        final ImmutableList.Builder<String> identifiers = ImmutableList.builder();
+        for (final RootOid oid : oids) {
+            identifiers.add(oid.getIdentifier());
+        }
+        instancesBySpecId.put(specId, new Instances(identifiers.build()));
+        if (generation.get() != generationWhenQueried) {
+            // an invalidation raced with the query
+            instancesBySpecId.remove(specId);
+        }
+    }
+
+    /**
+     * @return the title of the instance in this locale, or <tt>null</tt> if the instances of its type are not
+     * cached or its title has not yet been {@link #putTitle(RootOid, Locale, String) put}.
+     */
+    public String getTitle(final RootOid oid, final Locale locale) {
+        final Map<String, String> titleByLocale = titlesFor(oid);
+        return titleByLocale != null ? titleByLocale.get(keyFor(locale)) : null;
+    }
+
+    /**
+     * Ignored unless the instances of the object's type are cached (and include the object).
+     */
+    public void putTitle(final RootOid oid, final Locale locale, final String title) {
+        final Map<String, String> titleByLocale = titlesFor(oid);
+        if (titleByLocale == null || title == null) {
+            return;
+        }
+        titleByLocale.put(keyFor(locale), title);
+    }
+
+    private Map<String, String> titlesFor(final RootOid oid) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final Instances instances = instancesBySpecId.get(oid.getObjectSpecId());
+        return instances != null ? instances.titleByLocaleByIdentifier.get(oid.getIdentifier()) : null;
+    }
+
+    public void invalidate(final ObjectSpecId specId) {
+        if (!isEnabled()) {
+            return;
+        }
+        generation.incrementAndGet();
+        instancesBySpecId.remove(specId);
+    }
+
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        generation.incrementAndGet();
+        instancesBySpecId.clear();
+    }
+
+    /**
+     * The number of types whose instances are cached.
+     */
+    public int size() {
+        return isEnabled() ? instancesBySpecId.size() : 0;
+    }
+
+    private static String keyFor(final Locale locale) {
+        return locale != null ? locale.toString() : "";
+    }
+
+}
@@ -28,9 +28,11 @@
 import com.google.common.base.Joiner;
 import com.google.common.collect.Maps;
 
+import org.datanucleus.ClassLoaderResolver;
 import org.datanucleus.PersistenceNucleusContext;
 import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
+import org.datanucleus.metadata.AbstractClassMetaData;
 import org.datanucleus.metadata.MetaDataListener;
 import org.datanucleus.metadata.MetaDataManager;
 import org.datanucleus.store.StoreManager;
@@ -179,7 +181,7 @@ private void createSchema(
 
         final MetaDataManager metaDataManager = nucleusContext.getMetaDataManager();
 
-        registerMetadataListener(metaDataManager, datanucleusProps);
+        registerMetadataListener(metaDataManager, nucleusContext.getClassLoaderResolver(null), datanucleusProps);
 
         schemaAwareStoreManager.createSchemaForClasses(persistableClassNameSet, asProperties(datanucleusProps));
     }
@@ -190,6 +192,7 @@ private boolean isSet(final Map<String, String> props, final String key) {
 
     private void registerMetadataListener(
             final MetaDataManager metaDataManager,
+            final ClassLoaderResolver classLoaderResolver,
             final Map<String, String> datanucleusProps) {
         final MetaDataListener listener = createMetaDataListener();
         if(listener == null) {
@@ -201,6 +204,16 @@ private void registerMetadataListener(
         }
 
 
+        // the metadata of any classes already registered with JDO (because a PMF has previously been created for them
+        // within this JVM, eg by an earlier integration test) is loaded as soon as this PMF is created, so before the
+        // listener is registered
+        for (final String className : metaDataManager.getClassesWithMetaData()) {
+            final AbstractClassMetaData cmd = metaDataManager.getMetaDataForClass(className, classLoaderResolver);
+            if(cmd != null) {
+                listener.loaded(cmd);
+            }
+        }
+
         // and install the listener for any classes that are lazily loaded subsequently
         // (shouldn't be any, this is mostly backwards compatibility with previous design).
         metaDataManager.registerListener(listener);
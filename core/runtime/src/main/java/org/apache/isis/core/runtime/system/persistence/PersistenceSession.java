@@ -20,23 +20,31 @@
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.jdo.FetchGroup;
 import javax.jdo.FetchPlan;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
+import javax.jdo.datastore.JDOConnection;
 import javax.jdo.identity.SingleFieldIdentity;
 import javax.jdo.listener.InstanceLifecycleListener;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.exceptions.NucleusObjectNotFoundException;
@@ -46,6 +54,7 @@
 
 import org.apache.isis.applib.annotation.Bulk;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryFindAllInstances;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.BookmarkService2;
 import org.apache.isis.applib.services.clock.ClockService;
@@ -59,6 +68,7 @@
 import org.apache.isis.applib.services.exceprecog.ExceptionRecognizer;
 import org.apache.isis.applib.services.exceprecog.ExceptionRecognizer2;
 import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.i18n.LocaleProvider;
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactn.InteractionContext;
 import org.apache.isis.applib.services.metrics.MetricsService;
@@ -98,9 +108,12 @@
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatedLifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.choices.ChoicesFacetFromBoundedAbstract;
 import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
 import org.apache.isis.core.metamodel.facets.object.viewmodel.ViewModelFacet;
+import org.apache.isis.core.metamodel.facets.objectvalue.choices.ChoicesFacet;
 import org.apache.isis.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacet;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.container.query.QueryCardinality;
 import org.apache.isis.core.metamodel.spec.FreeStandingList;
@@ -139,6 +152,7 @@
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryFindUsingApplibQueryProcessor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.queries.PersistenceQueryProcessor;
 import org.apache.isis.objectstore.jdo.datanucleus.persistence.spi.JdoObjectIdSerializer;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 
 import static org.apache.isis.core.commons.ensure.Ensure.ensureThatArg;
 import static org.hamcrest.CoreMatchers.is;
@@ -173,6 +187,26 @@ public class PersistenceSession implements
 
     public static final String SERVICE_IDENTIFIER = "1";
 
+    /**
+     * If set to a positive value, then on each commit, if the number of mapped adapters exceeds this threshold,
+     * then all clean objects are {@link #evictAll() evicted}.  Any evicted adapter still held by a caller is
+     * re-mapped when next looked up.
+     *
+     * <p>
+     *     Intended for long-running sessions (background jobs, bulk imports) that would otherwise accumulate
+     *     every object they touch until the session is closed.  Disabled by default.
+     * </p>
+     */
+    public static final String EVICT_THRESHOLD_KEY = "isis.persistor.evictThreshold";
+    public static final int EVICT_THRESHOLD_DEFAULT = 0;
+
+    /**
+     * DataNucleus' flush mode, overridden to <tt>MANUAL</tt> while {@link #startBulkLoad(int) bulk loading} so that
+     * objects are only flushed (and the resultant SQL statements batched) when the transaction is flushed or
+     * committed.
+     */
+    private static final String FLUSH_MODE_KEY = "datanucleus.flush.mode";
+
     //endregion
 
     //region > constructor, fields, finalize()
@@ -190,6 +224,7 @@ public class PersistenceSession implements
     private final CommandService commandService;
 
     private final InteractionContext interactionContext;
+    private final PhaseTimer phaseTimer;
     private final EventBusService eventBusService ;
     private final ChangedObjectsServiceInternal changedObjectsServiceInternal;
     private final FactoryService factoryService;
@@ -221,6 +256,10 @@ public class PersistenceSession implements
 
     private final boolean concurrencyCheckingGloballyEnabled;
 
+    private final int evictThreshold;
+    private final TitleCache titleCache;
+    private final BoundedInstancesCache boundedInstancesCache;
+    private final LocaleProvider localeProvider;
 
     /**
      * Initialize the object store so that calls to this object store access
@@ -230,7 +269,9 @@ public PersistenceSession(
             final ServicesInjector servicesInjector,
             final AuthenticationSession authenticationSession,
             final PersistenceManagerFactory jdoPersistenceManagerFactory,
-            final FixturesInstalledFlag fixturesInstalledFlag) {
+            final FixturesInstalledFlag fixturesInstalledFlag,
+            final TitleCache titleCache,
+            final BoundedInstancesCache boundedInstancesCache) {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("creating {}", this);
@@ -239,6 +280,8 @@ public PersistenceSession(
         this.servicesInjector = servicesInjector;
         this.jdoPersistenceManagerFactory = jdoPersistenceManagerFactory;
         this.fixturesInstalledFlag = fixturesInstalledFlag;
+        this.titleCache = titleCache;
+        this.boundedInstancesCache = boundedInstancesCache;
 
         // injected
         this.configuration = servicesInjector.getConfigurationServiceInternal();
@@ -248,6 +291,7 @@ public PersistenceSession(
         this.commandContext = lookupService(CommandContext.class);
         this.commandService = lookupService(CommandService.class);
         this.interactionContext = lookupService(InteractionContext.class);
+        this.phaseTimer = PhaseTimer.create(servicesInjector);
         this.eventBusService = lookupService(EventBusService.class);
         this.changedObjectsServiceInternal = lookupService(ChangedObjectsServiceInternal.class);
         this.metricsService = lookupService(MetricsService.class);
@@ -255,6 +299,7 @@ public PersistenceSession(
         this.clockService = lookupService(ClockService.class);
         this.userService = lookupService(UserService.class);
         this.bulkInteractionContext = lookupService(Bulk.InteractionContext.class);
+        this.localeProvider = lookupServiceIfAny(LocaleProvider.class);
 
         // sub-components
         final AdapterManager adapterManager = this;
@@ -267,6 +312,8 @@ public PersistenceSession(
                 this.configuration.getBoolean("isis.persistor.disableConcurrencyChecking", false);
         this.concurrencyCheckingGloballyEnabled = !concurrencyCheckingGloballyDisabled;
 
+        this.evictThreshold = this.configuration.getInteger(EVICT_THRESHOLD_KEY, EVICT_THRESHOLD_DEFAULT);
+
     }
 
     @Override
@@ -430,6 +477,9 @@ public void close() {
             LOG.error("close: failed to end transaction; continuing to avoid memory leakage");
         }
 
+        // an isolated transaction is never committed
+        rollbackIsolatedTransaction();
+
         Bulk.InteractionContext.current.set(null);
 
         // tell the proxy of all request-scoped services to invoke @PreDestroy
@@ -447,6 +497,10 @@ public void close() {
                 "close: failed to close JDO persistenceManager; continuing to avoid memory leakage");
         }
 
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("close: adapter map high-water mark: {}", getAdapterMapHighWaterMark());
+        }
+
         try {
             oidAdapterMap.close();
         } catch(final Throwable ex) {
@@ -460,6 +514,8 @@ public void close() {
             // ignore
             LOG.error("close: pojoAdapterMap#close() failed; continuing to avoid memory leakage");
         }
+        evictedAdapterByOid.clear();
+        evictedAdapterByPojo.clear();
 
         this.state = State.CLOSED;
     }
@@ -532,7 +588,7 @@ private void completeCommandFromInteractionAndClearDomainEvents() {
 
     //endregion
 
-    //region > QuerySubmitter impl, findInstancesInTransaction
+    //region > QuerySubmitter impl, findInstancesInTransaction, count
 
     public <T> List<ObjectAdapter> allMatchingQuery(final Query<T> query) {
         final ObjectAdapter instances = findInstancesInTransaction(query, QueryCardinality.MULTIPLE);
@@ -580,6 +636,30 @@ public List<ObjectAdapter> execute() {
         return adapterFor(results);
     }
 
+    /**
+     * The number of instances that match the specified query (ignoring any range), counted by the database using a
+     * <tt>COUNT</tt> projection rather than by loading the matching instances.
+     *
+     * @throws org.apache.isis.core.runtime.persistence.UnsupportedFindException
+     *             if the criteria is not support by this persistor
+     */
+    public <T> long count(final Query<T> query) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("count using (applib) Query: {}", query);
+        }
+
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = lookupProcessorFor(persistenceQuery);
+
+        return transactionManager.executeWithinTransaction(
+                new TransactionalClosureWithReturn<Long>() {
+                    @Override
+                    public Long execute() {
+                        return countPersistenceQuery(processor, persistenceQuery);
+                    }
+                });
+    }
+
     /**
      * Converts the {@link Query applib representation of a query} into the
      * {@link PersistenceQuery NOF-internal representation}.
@@ -614,6 +694,13 @@ private <Q extends PersistenceQuery> List<ObjectAdapter> processPersistenceQuery
         return persistenceQueryProcessor.process((Q) persistenceQuery);
     }
 
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> long countPersistenceQuery(
+            final PersistenceQueryProcessor<Q> persistenceQueryProcessor,
+            final PersistenceQuery persistenceQuery) {
+        return persistenceQueryProcessor.count((Q) persistenceQuery);
+    }
+
     public IsisConfiguration getConfiguration() {
         return configuration;
     }
@@ -806,6 +893,9 @@ public List<ObjectAdapter> getServices() {
     void postLifecycleEventIfRequired(
             final ObjectAdapter adapter,
             final Class<? extends LifecycleEventFacet> lifecycleEventFacetClass) {
+        if(isBulkLoading()) {
+            return;
+        }
         final LifecycleEventFacet facet = adapter.getSpecification().getFacet(lifecycleEventFacetClass);
         if(facet != null) {
             final Class<? extends AbstractLifecycleEvent<?>> eventType = facet.getEventType();
@@ -983,7 +1073,7 @@ private Object loadPersistentPojo(final RootOid rootOid) {
         return result;
     }
 
-    private Map<RootOid,Object> loadPersistentPojos(final List<RootOid> rootOids) {
+    private Map<RootOid,Object> loadPersistentPojos(final List<RootOid> rootOids, final boolean validate) {
 
         if(rootOids.isEmpty()) {
             return zip(rootOids, Collections.emptyList());
@@ -1007,7 +1097,7 @@ private Map<RootOid,Object> loadPersistentPojos(final List<RootOid> rootOids) {
         fetchPlan.addGroup(FetchGroup.DEFAULT);
         final List<Object> persistentPojos = Lists.newArrayList();
         try {
-            final Collection<Object> pojos = persistenceManager.getObjectsById(dnOids, true);
+            final Collection<Object> pojos = persistenceManager.getObjectsById(dnOids, validate);
             for (final Object pojo : pojos) {
                 try {
                     persistentPojos.add(pojo);
@@ -1164,6 +1254,10 @@ public void execute() {
             }
 
         });
+
+        if(isBulkLoading()) {
+            persistedInBulk();
+        }
     }
 
     private void makePersistentTransactionAssumed(final ObjectAdapter adapter) {
@@ -1295,10 +1389,15 @@ public void execute(final List<PersistenceCommand> commands) {
 
     private void executeCommands(final List<PersistenceCommand> commands) {
 
-        for (final PersistenceCommand command : commands) {
-            command.execute(null);
+        final long startedAtNanos = phaseTimer.start();
+        try {
+            for (final PersistenceCommand command : commands) {
+                command.execute(null);
+            }
+            persistenceManager.flush();
+        } finally {
+            phaseTimer.record(PhaseType.FLUSH, startedAtNanos);
         }
-        persistenceManager.flush();
     }
     //endregion
 
@@ -1330,6 +1429,11 @@ private Oid remappedFrom(final Oid transientOid) {
     //region > transactions
     public void startTransaction() {
         final javax.jdo.Transaction transaction = persistenceManager.currentTransaction();
+        if (isolated) {
+            // the JDO transaction spans all Isis transactions; just mark where this one started
+            isolatedSavepoint = setSavepoint();
+            return;
+        }
         if (transaction.isActive()) {
             throw new IllegalStateException("Transaction already active");
         }
@@ -1338,20 +1442,517 @@ public void startTransaction() {
 
     public void endTransaction() {
         final javax.jdo.Transaction transaction = persistenceManager.currentTransaction();
+        if (isolated) {
+            // flush rather than commit, so that the work can be rolled back by rollbackIsolatedTransaction()
+            final long startedAtNanos = phaseTimer.start();
+            try {
+                persistenceManager.flush();
+            } finally {
+                phaseTimer.record(PhaseType.FLUSH, startedAtNanos);
+            }
+            invalidateChangedBoundedInstances();
+            return;
+        }
         if (transaction.isActive()) {
-            transaction.commit();
+            // any remaining dirty objects are flushed as part of the commit
+            final long startedAtNanos = phaseTimer.start();
+            try {
+                transaction.commit();
+            } finally {
+                phaseTimer.record(PhaseType.FLUSH, startedAtNanos);
+            }
+        }
+        invalidateChangedBoundedInstances();
+        if (evictThreshold > 0 && oidAdapterMap.size() > evictThreshold) {
+            final int evicted = evictAll();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("endTransaction: evicted {} clean object(s); threshold {}", evicted, evictThreshold);
+            }
         }
     }
 
     public void abortTransaction() {
+        // nothing was committed, so any cached bounded instances are still current
+        changedBoundedSpecIds.clear();
+        final javax.jdo.Transaction transaction = persistenceManager.currentTransaction();
+        if (isolated) {
+            rollbackToSavepoint(isolatedSavepoint);
+            return;
+        }
+        if (transaction.isActive()) {
+            transaction.rollback();
+        }
+    }
+
+    //endregion
+
+    //region > isolated transaction
+
+    private boolean isolated;
+    private Savepoint isolatedSavepoint;
+
+    /**
+     * Starts an isolated transaction, intended for integration tests that want to discard all of their changes
+     * afterwards, rather than tearing them down.
+     *
+     * <p>
+     *     Until {@link #rollbackIsolatedTransaction() rolled back}, the current JDO transaction is kept open for all
+     *     subsequent Isis transactions: committing an Isis transaction only flushes it (so its changes are visible
+     *     to subsequent queries) while aborting one rolls back to a JDBC savepoint taken when it started.
+     * </p>
+     */
+    public void startIsolatedTransaction() {
+        ensureOpened();
+        if (isolated) {
+            throw new IllegalStateException("Isolated transaction already started");
+        }
+        final javax.jdo.Transaction transaction = persistenceManager.currentTransaction();
+        if (!transaction.isActive()) {
+            transaction.begin();
+        }
+        isolatedSavepoint = setSavepoint();
+        isolated = true;
+    }
+
+    /**
+     * Rolls back all of the changes made since the {@link #startIsolatedTransaction() isolated transaction} was
+     * started.
+     *
+     * <p>
+     *     Objects already held in memory will not reflect the rollback, so the caller would normally then close this
+     *     session and open another.
+     * </p>
+     */
+    public void rollbackIsolatedTransaction() {
+        if (!isolated) {
+            return;
+        }
+        isolated = false;
+        isolatedSavepoint = null;
         final javax.jdo.Transaction transaction = persistenceManager.currentTransaction();
         if (transaction.isActive()) {
             transaction.rollback();
         }
+        // instances cached while isolated may have been created by the work just rolled back
+        boundedInstancesCache.invalidateAll();
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    private Savepoint setSavepoint() {
+        final JDOConnection jdoConnection = persistenceManager.getDataStoreConnection();
+        try {
+            return ((Connection) jdoConnection.getNativeConnection()).setSavepoint();
+        } catch (final SQLException ex) {
+            throw new IsisException("Unable to set savepoint", ex);
+        } finally {
+            jdoConnection.close();
+        }
+    }
+
+    private void rollbackToSavepoint(final Savepoint savepoint) {
+        final JDOConnection jdoConnection = persistenceManager.getDataStoreConnection();
+        try {
+            ((Connection) jdoConnection.getNativeConnection()).rollback(savepoint);
+        } catch (final SQLException ex) {
+            throw new IsisException("Unable to roll back to savepoint", ex);
+        } finally {
+            jdoConnection.close();
+        }
+        // anything cached may now be out of step with the database
+        persistenceManager.evictAll();
+    }
+
+    //endregion
+
+
+    //region > bulk load
+
+    /**
+     * The number of objects to persist between commits while bulk loading; zero if not bulk loading.
+     */
+    private int bulkLoadChunkSize;
+    private int bulkLoadPersistedCount;
+    private Object flushModeBeforeBulkLoad;
+
+    /**
+     * Starts bulk loading: objects subsequently persisted, updated or deleted are not enlisted as changed (so are
+     * neither audited nor published), no lifecycle events are posted, JDO only flushes when explicitly requested
+     * (allowing its SQL statements to be batched), and the transaction is committed after every
+     * <tt>chunkSize</tt> objects persisted.
+     */
+    public void startBulkLoad(final int chunkSize) {
+        ensureOpened();
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive; was: " + chunkSize);
+        }
+        if (isBulkLoading()) {
+            throw new IllegalStateException("Already bulk loading");
+        }
+        // anything pending is flushed in the usual way
+        transactionManager.flushTransaction();
+
+        flushModeBeforeBulkLoad = persistenceManager.getProperties().get(FLUSH_MODE_KEY);
+        persistenceManager.setProperty(FLUSH_MODE_KEY, "MANUAL");
+        bulkLoadChunkSize = chunkSize;
+        bulkLoadPersistedCount = 0;
+    }
+
+    /**
+     * Ends bulk loading, flushing any objects persisted since the last chunk was committed (though leaving the
+     * transaction itself to be completed in the usual way).
+     */
+    public void endBulkLoad() {
+        if (!isBulkLoading()) {
+            return;
+        }
+        try {
+            final IsisTransaction transaction = transactionManager.getCurrentTransaction();
+            if (transaction != null && transaction.getState().canCommit()) {
+                transactionManager.flushTransaction();
+            }
+        } finally {
+            bulkLoadChunkSize = 0;
+            bulkLoadPersistedCount = 0;
+            persistenceManager.setProperty(
+                    FLUSH_MODE_KEY, flushModeBeforeBulkLoad != null ? flushModeBeforeBulkLoad : "AUTO");
+            flushModeBeforeBulkLoad = null;
+        }
+    }
+
+    public boolean isBulkLoading() {
+        return bulkLoadChunkSize > 0;
+    }
+
+    private void persistedInBulk() {
+        if (++bulkLoadPersistedCount < bulkLoadChunkSize) {
+            return;
+        }
+        bulkLoadPersistedCount = 0;
+
+        if (transactionManager.getTransactionLevel() == 1) {
+            transactionManager.endTransaction();
+            transactionManager.startTransaction();
+        } else {
+            // can't commit a nested transaction, so just flush
+            transactionManager.flushTransaction();
+        }
+        final int evicted = evictAll();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("bulk load: completed chunk of {} object(s); evicted {} clean object(s)", bulkLoadChunkSize, evicted);
+        }
+    }
+
+    //endregion
+
+    //region > evict, evictAll, getAdapterMapHighWaterMark
+
+    /**
+     * Removes the adapter (and any of its collection adapters) from the maps, and asks JDO to evict the
+     * underlying pojo from its level 1 cache, so that both may be garbage collected.
+     *
+     * <p>
+     *     Only clean objects are evicted: that is, persistent entities that are not new, dirty or deleted and
+     *     that have not been enlisted as changed in the current transaction.  Services, view models, transient
+     *     and value objects are never evicted.  If the pojo is subsequently used again then a new adapter will be
+     *     created for it on demand.
+     * </p>
+     *
+     * @return <tt>true</tt> if the object was evicted.
+     */
+    public boolean evict(final ObjectAdapter adapter) {
+        if (!isClean(adapter)) {
+            return false;
+        }
+        unmapRootAndCollections(adapter, false);
+        persistenceManager.evict(adapter.getObject());
+        return true;
+    }
+
+    /**
+     * Adapters {@link #evictAll() evicted} in bulk, held only weakly.
+     *
+     * <p>
+     *     Unlike an explicit {@link #evict(ObjectAdapter) eviction}, the caller of {@link #evictAll()} (eg the end of
+     *     a transaction part way through an action) cannot know which adapters are still in use.  If an evicted
+     *     adapter is still reachable when its oid or pojo is next looked up then it is re-mapped, rather than a
+     *     second adapter being created for the same object; otherwise it is simply garbage collected.
+     * </p>
+     */
+    private final Map<Oid, ObjectAdapter> evictedAdapterByOid = new MapMaker().weakValues().makeMap();
+    /**
+     * As per {@link #evictedAdapterByOid}; the pojos are compared by identity.
+     */
+    private final Map<Object, ObjectAdapter> evictedAdapterByPojo = new MapMaker().weakKeys().weakValues().makeMap();
+
+    /**
+     * As per {@link #evict(ObjectAdapter)}, for all clean objects currently mapped.  Any evicted adapter still held
+     * by a caller is re-mapped when next looked up.
+     *
+     * @return the number of objects evicted.
+     */
+    public int evictAll() {
+        final List<ObjectAdapter> evictable = Lists.newArrayList();
+        for (final Oid oid : oidAdapterMap) {
+            if (!(oid instanceof RootOid)) {
+                continue;
+            }
+            final ObjectAdapter adapter = oidAdapterMap.getAdapter(oid);
+            if (isClean(adapter)) {
+                evictable.add(adapter);
+            }
+        }
+        if (evictable.isEmpty()) {
+            return 0;
+        }
+
+        final List<Object> pojos = Lists.newArrayListWithCapacity(evictable.size());
+        for (final ObjectAdapter adapter : evictable) {
+            unmapRootAndCollections(adapter, true);
+            pojos.add(adapter.getObject());
+        }
+        persistenceManager.evictAll(pojos);
+        return pojos.size();
+    }
+
+    /**
+     * Whether the adapter is for a persistent entity that is not new, dirty or deleted and that has not been enlisted
+     * as changed in the current transaction.
+     */
+    private boolean isClean(final ObjectAdapter adapter) {
+        if (adapter == null || adapter.isParentedCollection() || adapter.isValue()) {
+            return false;
+        }
+        final Object pojo = adapter.getObject();
+        if (!(pojo instanceof Persistable)) {
+            return false;
+        }
+        final Persistable persistable = (Persistable) pojo;
+        if (!persistable.dnIsPersistent() ||
+            persistable.dnIsNew() || persistable.dnIsDirty() || persistable.dnIsDeleted()) {
+            return false;
+        }
+        return !changedObjectsServiceInternal.isEnlisted(adapter);
+    }
+
+    private void unmapRootAndCollections(final ObjectAdapter adapter, final boolean retainWeakly) {
+        final RootAndCollectionAdapters rootAndCollectionAdapters = new RootAndCollectionAdapters(adapter, this);
+        for (final ObjectAdapter collectionAdapter : rootAndCollectionAdapters) {
+            unmapEvicted(collectionAdapter, retainWeakly);
+        }
+        unmapEvicted(adapter, retainWeakly);
+    }
+
+    private void unmapEvicted(final ObjectAdapter adapter, final boolean retainWeakly) {
+        unmap(adapter);
+        if (retainWeakly) {
+            evictedAdapterByOid.put(adapter.getOid(), adapter);
+            evictedAdapterByPojo.put(adapter.getObject(), adapter);
+        }
+    }
+
+    /**
+     * Re-maps an adapter (if any) that was {@link #evictedAdapterByOid evicted} but is evidently still in use.
+     */
+    private ObjectAdapter remapEvicted(final ObjectAdapter adapter) {
+        if (adapter == null) {
+            return null;
+        }
+        final Object pojo = adapter.getObject();
+        evictedAdapterByOid.remove(adapter.getOid());
+        evictedAdapterByPojo.remove(pojo);
+        // as per mapAndInjectServices
+        if (!adapter.isParentedCollection() || !adapter.getSpecification().isImmutable()) {
+            pojoAdapterMap.add(pojo, adapter);
+        }
+        oidAdapterMap.add(adapter.getOid(), adapter);
+        return adapter;
+    }
+
+    /**
+     * The largest number of adapters mapped at any one time since this session was {@link #open() opened};
+     * evicting objects does not reduce this figure.
+     */
+    public int getAdapterMapHighWaterMark() {
+        return Math.max(oidAdapterMap.getHighWaterMark(), pojoAdapterMap.getHighWaterMark());
+    }
+
+    //endregion
+
+    //region > allBoundedInstances
+
+    /**
+     * The spec ids of the bounded types (see {@link #allBoundedInstances(ObjectSpecification)}) with instances that
+     * have been created, updated or deleted in the current transaction.
+     */
+    private final Set<ObjectSpecId> changedBoundedSpecIds = Sets.newHashSet();
+
+    /**
+     * All instances of the specified bounded type, resolved (without querying the database) from the
+     * {@link BoundedInstancesCache} if possible.
+     *
+     * <p>
+     *     The cache is bypassed for any type whose instances have been changed in the current transaction.  If the
+     *     titles of all of the cached instances are also cached then the instances are returned as hollow objects;
+     *     otherwise they are loaded in bulk.
+     * </p>
+     */
+    public List<ObjectAdapter> allBoundedInstances(final ObjectSpecification spec) {
+        final QueryFindAllInstances<?> query = new QueryFindAllInstances<Object>(spec.getFullIdentifier());
+        final ObjectSpecId specId = spec.getSpecId();
+        if (!boundedInstancesCache.isEnabled() || changedBoundedSpecIds.contains(specId)) {
+            return allMatchingQuery(query);
+        }
+
+        final List<RootOid> cachedOids = boundedInstancesCache.get(specId);
+        if (cachedOids != null) {
+            // if any title must be (re)computed, load the instances in bulk now rather than one by one afterwards
+            final boolean validate = !allTitlesCached(cachedOids);
+            final Map<RootOid, ObjectAdapter> adapterByOid = transactionManager.executeWithinTransaction(
+                    new TransactionalClosureWithReturn<Map<RootOid, ObjectAdapter>>() {
+                        @Override
+                        public Map<RootOid, ObjectAdapter> execute() {
+                            return adaptersFor(cachedOids, ConcurrencyChecking.NO_CHECK, validate);
+                        }
+                    });
+            return inOrderOf(cachedOids, adapterByOid);
+        }
+
+        final long generation = boundedInstancesCache.currentGeneration();
+        final List<ObjectAdapter> adapters = allMatchingQuery(query);
+        final List<RootOid> oids = Lists.newArrayListWithCapacity(adapters.size());
+        for (final ObjectAdapter adapter : adapters) {
+            oids.add((RootOid) adapter.getOid());
+        }
+        boundedInstancesCache.put(specId, oids, generation);
+        return adapters;
+    }
+
+    /**
+     * The adapters in the order of the provided oids (the order originally queried), skipping any that could not be
+     * loaded; {@link #adaptersFor(List)} puts those already mapped in the session ahead of those loaded in bulk.
+     */
+    static List<ObjectAdapter> inOrderOf(final List<RootOid> oids, final Map<RootOid, ObjectAdapter> adapterByOid) {
+        final List<ObjectAdapter> adapters = Lists.newArrayListWithCapacity(oids.size());
+        for (final RootOid oid : oids) {
+            final ObjectAdapter adapter = adapterByOid.get(oid);
+            if (adapter != null) {
+                adapters.add(adapter);
+            }
+        }
+        return adapters;
+    }
+
+    private boolean allTitlesCached(final List<RootOid> oids) {
+        final Locale locale = currentLocale();
+        for (final RootOid oid : oids) {
+            if (boundedInstancesCache.getTitle(oid, locale) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Notes the type (and any bounded supertypes) of an object that has been created, updated or deleted, so that
+     * their {@link BoundedInstancesCache cached} instances are invalidated once the transaction has committed.
+     */
+    private void noteBoundedInstanceChanged(final ObjectAdapter adapter) {
+        if (!boundedInstancesCache.isEnabled()) {
+            return;
+        }
+        for (ObjectSpecification spec = adapter.getSpecification(); spec != null; spec = spec.superclass()) {
+            if (spec.getFacet(ChoicesFacet.class) instanceof ChoicesFacetFromBoundedAbstract) {
+                changedBoundedSpecIds.add(spec.getSpecId());
+            }
+        }
+    }
+
+    private void invalidateChangedBoundedInstances() {
+        for (final ObjectSpecId specId : changedBoundedSpecIds) {
+            boundedInstancesCache.invalidate(specId);
+        }
+        changedBoundedSpecIds.clear();
     }
 
     //endregion
 
+    //region > getCachedTitle, cacheTitle
+
+    /**
+     * The {@link TitleCache cached} title of this version of the object, if any.
+     *
+     * <p>
+     *     Titles are only cached for {@link #isClean(ObjectAdapter) clean} versioned entities; never for transient
+     *     objects, view models or objects that have been modified in the current transaction.
+     * </p>
+     */
+    public String getCachedTitle(final ObjectAdapter adapter) {
+        if (isBoundedTitleCacheable(adapter)) {
+            final String title = boundedInstancesCache.getTitle((RootOid) adapter.getOid(), currentLocale());
+            if (title != null) {
+                return title;
+            }
+        }
+        if (!isTitleCacheable(adapter)) {
+            return null;
+        }
+        return titleCache.get((RootOid) adapter.getOid(), adapter.getVersion(), currentLocale());
+    }
+
+    public void cacheTitle(final ObjectAdapter adapter, final String title) {
+        if (isBoundedTitleCacheable(adapter)) {
+            boundedInstancesCache.putTitle((RootOid) adapter.getOid(), currentLocale(), title);
+        }
+        if (!isTitleCacheable(adapter)) {
+            return;
+        }
+        titleCache.put((RootOid) adapter.getOid(), adapter.getVersion(), currentLocale(), title);
+    }
+
+    /**
+     * Unlike {@link #isTitleCacheable(ObjectAdapter)}, does not require the version of the object, because the
+     * instances of a {@link #allBoundedInstances(ObjectSpecification) bounded} type are resolved (as hollow objects)
+     * from the {@link BoundedInstancesCache} without being loaded.
+     */
+    private boolean isBoundedTitleCacheable(final ObjectAdapter adapter) {
+        if (!boundedInstancesCache.isEnabled()) {
+            return false;
+        }
+        final Oid oid = adapter.getOid();
+        return oid instanceof RootOid &&
+               !oid.isViewModel() &&
+               !oid.isTransient() &&
+               isClean(adapter) &&
+               !changedBoundedSpecIds.contains(((RootOid) oid).getObjectSpecId()) &&
+               !titleCache.isExcluded(adapter.getSpecification().getCorrespondingClass());
+    }
+
+    private boolean isTitleCacheable(final ObjectAdapter adapter) {
+        if (!titleCache.isEnabled()) {
+            return false;
+        }
+        final Oid oid = adapter.getOid();
+        return oid instanceof RootOid &&
+               !oid.isViewModel() &&
+               adapter.getVersion() != null &&
+               isClean(adapter) &&
+               !titleCache.isExcluded(adapter.getSpecification().getCorrespondingClass());
+    }
+
+    private void invalidateCachedTitle(final ObjectAdapter adapter) {
+        if (titleCache.isEnabled() && adapter.getOid() instanceof RootOid) {
+            titleCache.invalidate((RootOid) adapter.getOid());
+        }
+    }
+
+    private Locale currentLocale() {
+        return localeProvider != null ? localeProvider.getLocale() : null;
+    }
+
+    //endregion
 
     //region > dependencies (from constructor)
 
@@ -1414,7 +2015,8 @@ public javax.jdo.Query newJdoQuery (Class<?> cls, String filter) {
     public ObjectAdapter getAdapterFor(final Object pojo) {
         ensureThatArg(pojo, is(notNullValue()));
 
-        return pojoAdapterMap.getAdapter(pojo);
+        final ObjectAdapter adapter = pojoAdapterMap.getAdapter(pojo);
+        return adapter != null ? adapter : remapEvicted(evictedAdapterByPojo.get(pojo));
     }
 
     @Override
@@ -1422,7 +2024,8 @@ public ObjectAdapter getAdapterFor(final Oid oid) {
         ensureThatArg(oid, is(notNullValue()));
         ensureMapsConsistent(oid);
 
-        return oidAdapterMap.getAdapter(oid);
+        final ObjectAdapter adapter = oidAdapterMap.getAdapter(oid);
+        return adapter != null ? adapter : remapEvicted(evictedAdapterByOid.get(oid));
     }
 
 
@@ -1576,6 +2179,17 @@ public Map<RootOid, ObjectAdapter> adaptersFor(final List<RootOid> rootOids) {
     public Map<RootOid,ObjectAdapter> adaptersFor(
             final List<RootOid> rootOids,
             final ConcurrencyChecking concurrencyChecking) {
+        return adaptersFor(rootOids, concurrencyChecking, true);
+    }
+
+    /**
+     * @param validate - whether to check that each (not yet loaded) object exists in the database; if not, then
+     *                 a hollow object is returned, whose state is loaded on first access.
+     */
+    private Map<RootOid,ObjectAdapter> adaptersFor(
+            final List<RootOid> rootOids,
+            final ConcurrencyChecking concurrencyChecking,
+            final boolean validate) {
 
         final Map<RootOid, ObjectAdapter> adapterByOid = Maps.newLinkedHashMap();
 
@@ -1600,7 +2214,7 @@ public Map<RootOid,ObjectAdapter> adaptersFor(
         }
 
         // recreate, in bulk, all those not yet loaded
-        final Map<RootOid, Object> pojoByOid = loadPersistentPojos(notYetLoadedOids);
+        final Map<RootOid, Object> pojoByOid = loadPersistentPojos(notYetLoadedOids, validate);
         for (Map.Entry<RootOid, Object> entry : pojoByOid.entrySet()) {
             final RootOid rootOid = entry.getKey();
             final Object pojo = entry.getValue();
@@ -2145,7 +2759,11 @@ protected IsisTransaction getCurrentTransaction() {
     public void enlistDeletingAndInvokeIsisRemovingCallbackFacet(final Persistable pojo) {
         ObjectAdapter adapter = adapterFor(pojo);
 
-        changedObjectsServiceInternal.enlistDeleting(adapter);
+        if(!isBulkLoading()) {
+            changedObjectsServiceInternal.enlistDeleting(adapter);
+        }
+        invalidateCachedTitle(adapter);
+        noteBoundedInstanceChanged(adapter);
 
         CallbackFacet.Util.callCallback(adapter, RemovingCallbackFacet.class);
         postLifecycleEventIfRequired(adapter, RemovingLifecycleEventFacet.class);
@@ -2333,7 +2951,10 @@ public void enlistCreatedAndRemapIfRequiredThenInvokeIsisInvokePersistingOrUpdat
             CallbackFacet.Util.callCallback(adapter, PersistedCallbackFacet.class);
             postLifecycleEventIfRequired(adapter, PersistedLifecycleEventFacet.class);
 
-            changedObjectsServiceInternal.enlistCreated(adapter);
+            if(!isBulkLoading()) {
+                changedObjectsServiceInternal.enlistCreated(adapter);
+            }
+            noteBoundedInstanceChanged(adapter);
 
         } else {
             // updating;
@@ -2376,9 +2997,13 @@ public void enlistUpdatingAndInvokeIsisUpdatingCallback(final Persistable pojo)
 
         final boolean wasAlreadyEnlisted = changedObjectsServiceInternal.isEnlisted(adapter);
 
-        // we call this come what may;
+        // we call this come what may (unless bulk loading);
         // additional properties may now have been changed, and the changeKind for publishing might also be modified
-        changedObjectsServiceInternal.enlistUpdating(adapter);
+        if(!isBulkLoading()) {
+            changedObjectsServiceInternal.enlistUpdating(adapter);
+        }
+        invalidateCachedTitle(adapter);
+        noteBoundedInstanceChanged(adapter);
 
         if(!wasAlreadyEnlisted) {
             // prevent an infinite loop... don't call the 'updating()' callback on this object if we have already done so
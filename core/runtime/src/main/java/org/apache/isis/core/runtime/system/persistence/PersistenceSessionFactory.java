@@ -37,6 +37,8 @@
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.runtime.persistence.FixturesInstalledFlag;
+import org.apache.isis.core.runtime.services.metrics.MetricsServiceDefault;
+import org.apache.isis.core.runtime.services.metrics.StatementCountingDriver;
 import org.apache.isis.objectstore.jdo.datanucleus.JDOStateManagerForIsis;
 import org.apache.isis.objectstore.jdo.service.RegisterEntities;
 
@@ -70,9 +72,14 @@ public PersistenceSessionFactory(final IsisConfigurationDefault isisConfiguratio
 
 
     private DataNucleusApplicationComponents applicationComponents;
+    private TitleCache titleCache = TitleCache.DISABLED;
+    private BoundedInstancesCache boundedInstancesCache = BoundedInstancesCache.DISABLED;
 
     @Programmatic
     public void init(final IsisConfigurationDefault configuration) {
+        this.titleCache = TitleCache.create(configuration);
+        this.boundedInstancesCache = BoundedInstancesCache.create(configuration);
+
         final RegisterEntities registerEntities = new RegisterEntities(configuration.asMap());
         final Set<String> classesToBePersisted = registerEntities.getEntityTypes();
 
@@ -82,6 +89,10 @@ public void init(final IsisConfigurationDefault configuration) {
             final IsisConfiguration dataNucleusConfig = this.configuration.createSubset(DATANUCLEUS_CONFIG_PREFIX);
             final Map<String, String> datanucleusProps = dataNucleusConfig.asMap();
             addDataNucleusPropertiesIfRequired(datanucleusProps);
+            if(configuration.getBoolean(
+                    MetricsServiceDefault.STATEMENT_COUNTS_KEY, MetricsServiceDefault.STATEMENT_COUNTS_DEFAULT)) {
+                countStatementsIfPossible(datanucleusProps);
+            }
 
             DataNucleusApplicationComponents applicationComponents1 = new DataNucleusApplicationComponents(
                     jdoObjectstoreConfig,
@@ -156,6 +167,37 @@ private static void addDataNucleusPropertiesIfRequired(
         }
     }
 
+    /**
+     * Routes JDBC connections through the {@link StatementCountingDriver}, so that the {@link MetricsServiceDefault}
+     * can report on the number of SQL statements executed.  Not possible if using a JNDI datasource.
+     */
+    private static void countStatementsIfPossible(final Map<String, String> props) {
+        final String url = props.get("javax.jdo.option.ConnectionURL");
+        if(props.get(PropertyNames.PROPERTY_CONNECTION_FACTORY_NAME) != null || url == null) {
+            LOG.warn("{} is set, but not using a JDBC connection URL; statements will not be counted",
+                    MetricsServiceDefault.STATEMENT_COUNTS_KEY);
+            return;
+        }
+
+        // ensure the underlying driver is registered, since DataNucleus will now load only our driver
+        final String driverName = props.get("javax.jdo.option.ConnectionDriverName");
+        if(driverName == null) {
+            LOG.warn("{} is set, but no JDBC driver name is configured; statements will not be counted",
+                    MetricsServiceDefault.STATEMENT_COUNTS_KEY);
+            return;
+        }
+        try {
+            Class.forName(driverName, true, Thread.currentThread().getContextClassLoader());
+        } catch (final ClassNotFoundException ex) {
+            LOG.warn("could not load JDBC driver {}; statements will not be counted", driverName);
+            return;
+        }
+
+        props.put("javax.jdo.option.ConnectionDriverName", StatementCountingDriver.class.getName());
+        props.put("javax.jdo.option.ConnectionURL", StatementCountingDriver.wrap(url));
+        LOG.info("counting SQL statements executed against {}", url);
+    }
+
     private static void putIfNotPresent(
             final Map<String, String> props,
             String key,
@@ -192,7 +234,7 @@ public PersistenceSession createPersistenceSession(
         return new PersistenceSession(
                 servicesInjector,
                 authenticationSession, persistenceManagerFactory,
-                fixturesInstalledFlag);
+                fixturesInstalledFlag, titleCache, boundedInstancesCache);
     }
 
 
@@ -0,0 +1,170 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.adapter.version.Version;
+
+/**
+ * Application-scoped cache of the titles of persistent objects, keyed by their {@link RootOid oid} and
+ * {@link Version version} (and the locale in which the title was rendered).
+ *
+ * <p>
+ *     Since an object's version changes whenever it is updated, a cached title is never returned for a newer version
+ *     of the object, even if that update was made by some other node.  Entries are in any case
+ *     {@link #invalidate(RootOid) invalidated} as soon as an object is enlisted as updated or deleted.
+ * </p>
+ *
+ * <p>
+ *     Titles that are derived from <i>other</i> objects (eg a <tt>@Title</tt> on a reference property) will however
+ *     only be refreshed once the object itself changes or is evicted from the cache.  Nor are titles cached per user,
+ *     so a title that depends on the current user (or on anything other than the object's own state and the locale)
+ *     would be shown to other users.  For these reasons the cache is disabled unless a
+ *     {@link #MAX_SIZE_KEY maximum size} is configured, and any such types (and their subclasses) should be
+ *     {@link #EXCLUDE_KEY excluded}.
+ * </p>
+ */
+public class TitleCache {
+
+    public static final String MAX_SIZE_KEY = "isis.persistor.titleCache.maxSize";
+    public static final int MAX_SIZE_DEFAULT = 0;
+
+    /**
+     * Comma-separated fully qualified class names of the types (including their subclasses) whose titles are never
+     * cached, either by this cache or along with the instances of bounded types (see <tt>BoundedInstancesCache</tt>).
+     */
+    public static final String EXCLUDE_KEY = "isis.persistor.titleCache.exclude";
+
+    public static final TitleCache DISABLED = new TitleCache(0);
+
+    public static TitleCache create(final IsisConfiguration configuration) {
+        final int maxSize = configuration.getInteger(MAX_SIZE_KEY, MAX_SIZE_DEFAULT);
+        // the exclusions also apply to the titles cached along with bounded instances, so are read regardless
+        final Set<String> excludedClassNames = ImmutableSet.copyOf(configuration.getList(EXCLUDE_KEY));
+        return maxSize > 0 || !excludedClassNames.isEmpty()
+                ? new TitleCache(maxSize, excludedClassNames)
+                : DISABLED;
+    }
+
+    /**
+     * The titles of each version of an object, by locale.
+     */
+    private static class VersionedTitles {
+        private final Version version;
+        private final ConcurrentMap<String, String> titleByLocale = Maps.newConcurrentMap();
+
+        private VersionedTitles(final Version version) {
+            this.version = version;
+        }
+    }
+
+    private final Cache<RootOid, VersionedTitles> titlesByOid;
+    private final Set<String> excludedClassNames;
+
+    TitleCache(final int maxSize) {
+        this(maxSize, Collections.<String>emptySet());
+    }
+
+    TitleCache(final int maxSize, final Set<String> excludedClassNames) {
+        this.titlesByOid = maxSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(maxSize).<RootOid, VersionedTitles>build()
+                : null;
+        this.excludedClassNames = excludedClassNames;
+    }
+
+    public boolean isEnabled() {
+        return titlesByOid != null;
+    }
+
+    /**
+     * Whether the titles of instances of this class are never cached, because it (or a superclass) is
+     * {@link #EXCLUDE_KEY excluded}.
+     */
+    public boolean isExcluded(final Class<?> cls) {
+        if (excludedClassNames.isEmpty()) {
+            return false;
+        }
+        for (Class<?> c = cls; c != null; c = c.getSuperclass()) {
+            if (excludedClassNames.contains(c.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the cached title, or <tt>null</tt> if none for this version of the object in this locale.
+     */
+    public String get(final RootOid oid, final Version version, final Locale locale) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final VersionedTitles titles = titlesByOid.getIfPresent(oid);
+        if (titles == null || titles.version.different(version)) {
+            return null;
+        }
+        return titles.titleByLocale.get(keyFor(locale));
+    }
+
+    public void put(final RootOid oid, final Version version, final Locale locale, final String title) {
+        if (!isEnabled() || title == null) {
+            return;
+        }
+        VersionedTitles titles = titlesByOid.getIfPresent(oid);
+        if (titles == null || titles.version.different(version)) {
+            titles = new VersionedTitles(version);
+            titlesByOid.put(oid, titles);
+        }
+        titles.titleByLocale.put(keyFor(locale), title);
+    }
+
+    public void invalidate(final RootOid oid) {
+        if (!isEnabled()) {
+            return;
+        }
+        titlesByOid.invalidate(oid);
+    }
+
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        titlesByOid.invalidateAll();
+    }
+
+    public long size() {
+        return isEnabled() ? titlesByOid.size() : 0;
+    }
+
+    private static String keyFor(final Locale locale) {
+        return locale != null ? locale.toString() : "";
+    }
+
+}
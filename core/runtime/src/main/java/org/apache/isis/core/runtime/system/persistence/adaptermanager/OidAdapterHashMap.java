@@ -41,15 +41,20 @@ public class OidAdapterHashMap implements Iterable<Oid>, SessionScopedComponent
 
     private final Map<Oid, ObjectAdapter> adapterByOidMap = Maps.newHashMapWithExpectedSize(DEFAULT_OID_ADAPTER_MAP_SIZE);
 
+    /**
+     * The largest number of adapters held at any one time since {@link #open() opened}.
+     */
+    private int highWaterMark;
+
     //region > open, close
 
     public void open() {
-        // nothing to do
+        highWaterMark = 0;
     }
 
     public void close() {
         if(LOG.isDebugEnabled()) {
-            LOG.debug("close");
+            LOG.debug("close; high-water mark: {}", highWaterMark);
         }
         adapterByOidMap.clear();
     }
@@ -63,6 +68,7 @@ public void close() {
     public void add(final Oid oid, final ObjectAdapter adapter) {
 
         adapterByOidMap.put(oid, adapter);
+        highWaterMark = Math.max(highWaterMark, adapterByOidMap.size());
         // log at end so that if toString needs adapters they're in maps.
         if (LOG.isDebugEnabled()) {
             // do not call toString() on adapter because would call hashCode on
@@ -85,6 +91,22 @@ public boolean remove(final Oid oid) {
 
     //endregion
 
+    //region > size, getHighWaterMark
+
+    public int size() {
+        return adapterByOidMap.size();
+    }
+
+    /**
+     * The largest number of adapters held at any one time since {@link #open() opened}; adapters that are
+     * subsequently removed (eg evicted) do not reduce this figure.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    //endregion
+
     //region > getAdapter, iterator
     /**
      * Get the adapter identified by the specified OID.
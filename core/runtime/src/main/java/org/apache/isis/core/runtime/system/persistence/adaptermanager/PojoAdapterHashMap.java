@@ -55,6 +55,11 @@ public boolean equals(final Object obj) {
 
     protected final Map<Object, ObjectAdapter> adapterByPojoMap;
 
+    /**
+     * The largest number of adapters held at any one time since {@link #open() opened}.
+     */
+    private int highWaterMark;
+
     //region > Constructors, finalize
     public PojoAdapterHashMap() {
         this(DEFAULT_POJO_ADAPTER_MAP_SIZE);
@@ -76,12 +81,12 @@ protected void finalize() throws Throwable {
     //region > open, close
 
     public void open() {
-        // nothing to do
+        highWaterMark = 0;
     }
 
     public void close() {
         if(LOG.isDebugEnabled()) {
-            LOG.debug("close");
+            LOG.debug("close; high-water mark: {}", highWaterMark);
         }
         adapterByPojoMap.clear();
     }
@@ -92,6 +97,7 @@ public void close() {
 
     public void add(final Object pojo, final ObjectAdapter adapter) {
         adapterByPojoMap.put(key(pojo), adapter);
+        highWaterMark = Math.max(highWaterMark, adapterByPojoMap.size());
 
         if(LOG.isDebugEnabled()) {
             LOG.debug("add adapter: #{} -> #{}", key(pojo), Long.toHexString(adapter.hashCode()));
@@ -106,6 +112,21 @@ public void remove(final ObjectAdapter object) {
 
     //endregion
 
+    //region > size, getHighWaterMark
+
+    public int size() {
+        return adapterByPojoMap.size();
+    }
+
+    /**
+     * The largest number of adapters held at any one time since {@link #open() opened}.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    //endregion
+
     //region > getAdapter, containsPojo
 
     public boolean containsPojo(final Object pojo) {
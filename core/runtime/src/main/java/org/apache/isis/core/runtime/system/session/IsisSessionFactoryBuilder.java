@@ -36,11 +36,14 @@
 import org.apache.isis.applib.services.fixturespec.FixtureScriptsDefault;
 import org.apache.isis.core.commons.config.IsisConfigurationDefault;
 import org.apache.isis.core.commons.lang.ListExtensions;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
 import org.apache.isis.core.metamodel.deployment.DeploymentCategoryProvider;
 import org.apache.isis.core.metamodel.facetapi.MetaModelRefiner;
+import org.apache.isis.core.metamodel.facets.object.grid.GridFacet;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelInvalidException;
 import org.apache.isis.core.runtime.authentication.AuthenticationManager;
@@ -273,6 +276,10 @@ public void run() {
                             try {
                                 specificationLoader.validateAndAssert();
 
+                                if(deploymentCategory.isProduction()) {
+                                    preloadGrids(specificationLoader);
+                                }
+
                             } catch (final MetaModelInvalidException ex) {
                                 // no need to use a higher level, such as error(...); the calling code will expose any metamodel
                                 // validation errors in their own particular way.
@@ -294,6 +301,28 @@ public void run() {
         return isisSessionFactory;
     }
 
+    /**
+     * Eagerly loads and normalizes the (default) {@link GridFacet#getGrid(ObjectAdapter) grid} for every entity
+     * and view model, so that the first render of each does not pay this cost.
+     */
+    private static void preloadGrids(final SpecificationLoader specificationLoader) {
+        LOG.info("Preloading grids");
+        for (final ObjectSpecification objectSpec : specificationLoader.allSpecifications()) {
+            if(!objectSpec.isPersistenceCapableOrViewModel()) {
+                continue;
+            }
+            final GridFacet gridFacet = objectSpec.getFacet(GridFacet.class);
+            if(gridFacet == null) {
+                continue;
+            }
+            try {
+                gridFacet.getGrid(null);
+            } catch(final RuntimeException ex) {
+                LOG.warn("Unable to preload grid for {}", objectSpec.getFullIdentifier(), ex);
+            }
+        }
+    }
+
     private static Collection<MetaModelRefiner> refiners(Object... possibleRefiners ) {
         return ListExtensions.filtered(Arrays.asList(possibleRefiners), MetaModelRefiner.class);
     }
@@ -36,8 +36,8 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
-import org.reflections.Reflections;
-import org.reflections.vfs.Vfs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.isis.applib.AppManifest;
 import org.apache.isis.applib.annotation.DomainObject;
@@ -51,7 +51,7 @@
 import org.apache.isis.applib.annotation.ViewModelLayout;
 import org.apache.isis.applib.fixturescripts.DiscoverableFixtureScript;
 import org.apache.isis.applib.fixturescripts.FixtureScript;
-import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryServiceUsingReflections;
+import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryIndex;
 import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.commons.config.IsisConfigurationDefault;
 import org.apache.isis.core.commons.factory.InstanceUtil;
@@ -81,6 +81,8 @@
  */
 public abstract class IsisComponentProvider {
 
+    private static final Logger LOG = LoggerFactory.getLogger(IsisComponentProvider.class);
+
     //region > constructor, fields
 
     private final AppManifest appManifest;
@@ -146,25 +148,23 @@ private void findAndRegisterTypes(final AppManifest appManifest) {
         moduleAndFrameworkPackages.addAll(AppManifest.Registry.FRAMEWORK_PROVIDED_SERVICES);
         Iterables.addAll(moduleAndFrameworkPackages, modulePackages);
 
-        Vfs.setDefaultURLTypes(ClassDiscoveryServiceUsingReflections.getUrlTypes());
-
-        final Reflections reflections = new Reflections(moduleAndFrameworkPackages);
+        final ClassDiscoveryIndex index = classDiscoveryIndexFor(moduleAndFrameworkPackages);
 
         final Set<Class<?>> domainServiceTypes = Sets.newLinkedHashSet();
-        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainService.class));
+        domainServiceTypes.addAll(index.getTypesAnnotatedWith(DomainService.class));
 
-        domainServiceTypes.addAll(reflections.getTypesAnnotatedWith(DomainServiceLayout.class));
+        domainServiceTypes.addAll(index.getTypesAnnotatedWith(DomainServiceLayout.class));
 
 
         final Set<Class<?>> persistenceCapableTypes = Sets.newLinkedHashSet();
-        persistenceCapableTypes.addAll(reflections.getTypesAnnotatedWith(PersistenceCapable.class));
+        persistenceCapableTypes.addAll(index.getTypesAnnotatedWith(PersistenceCapable.class));
 
         // the fixtureScript types are introspected just to provide a drop-down when running fixture scripts
         // in prototyping mode (though they may be introspected lazily if actually run).
         // we therefore try to limit the set of fixture types eagerly introspected at startup
         final Set<Class<? extends FixtureScript>> fixtureScriptTypes = Sets.newLinkedHashSet();
         fixtureScriptTypes.addAll(
-                FluentIterable.from(reflections.getSubTypesOf(FixtureScript.class)).
+                FluentIterable.from(index.getSubTypesOf(FixtureScript.class)).
                         filter(new Predicate<Class<?>>(){
                             @Override
                             public boolean apply(@Nullable final Class<?> aClass) {
@@ -177,11 +177,11 @@ public boolean apply(@Nullable final Class<?> aClass) {
                         .toList());
 
         final Set<Class<?>> domainObjectTypes = Sets.newLinkedHashSet();
-        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObject.class));
-        domainObjectTypes.addAll(reflections.getTypesAnnotatedWith(DomainObjectLayout.class));
+        domainObjectTypes.addAll(index.getTypesAnnotatedWith(DomainObject.class));
+        domainObjectTypes.addAll(index.getTypesAnnotatedWith(DomainObjectLayout.class));
 
         final Set<Class<?>> mixinTypes = Sets.newHashSet();
-        mixinTypes.addAll(reflections.getTypesAnnotatedWith(Mixin.class));
+        mixinTypes.addAll(index.getTypesAnnotatedWith(Mixin.class));
         mixinTypes.addAll(
                 Lists.newArrayList(Iterables.filter(domainObjectTypes, new Predicate<Class<?>>() {
                     @Override
@@ -194,11 +194,11 @@ public boolean apply(@Nullable final Class<?> input) {
         );
 
         final Set<Class<?>> viewModelTypes = Sets.newLinkedHashSet();
-        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModel.class));
-        viewModelTypes.addAll(reflections.getTypesAnnotatedWith(ViewModelLayout.class));
+        viewModelTypes.addAll(index.getTypesAnnotatedWith(ViewModel.class));
+        viewModelTypes.addAll(index.getTypesAnnotatedWith(ViewModelLayout.class));
 
         final Set<Class<?>> xmlElementTypes = Sets.newLinkedHashSet();
-        xmlElementTypes.addAll(reflections.getTypesAnnotatedWith(XmlElement.class));
+        xmlElementTypes.addAll(index.getTypesAnnotatedWith(XmlElement.class));
 
         // add in any explicitly registered services...
         domainServiceTypes.addAll(appManifest.getAdditionalServices());
@@ -226,6 +226,24 @@ public String apply(@Nullable final String s) {
         registry.setXmlElementTypes(withinPackageAndNotAnonymous(packagesWithDotSuffix, xmlElementTypes));
     }
 
+    /**
+     * Uses the {@link ClassDiscoveryIndex} generated at build time (by the <tt>isis-maven-plugin</tt>'s
+     * <tt>index</tt> goal) if there is one that covers all the packages, otherwise scans the classpath.
+     */
+    private static ClassDiscoveryIndex classDiscoveryIndexFor(final List<String> packageNames) {
+        final ClassDiscoveryIndex index =
+                ClassDiscoveryIndex.load(Thread.currentThread().getContextClassLoader());
+        if(index != null) {
+            if(index.covers(packageNames)) {
+                LOG.info("using class discovery index '{}'", ClassDiscoveryIndex.RESOURCE_NAME);
+                return index;
+            }
+            LOG.warn("class discovery index '{}' does not cover all packages {} (indexed: {}); scanning classpath instead",
+                    ClassDiscoveryIndex.RESOURCE_NAME, packageNames, index.getPackageNames());
+        }
+        return ClassDiscoveryIndex.scan(packageNames);
+    }
+
     static <T> Set<Class<? extends T>> withinPackageAndNotAnonymous(
             final List<String> packagesWithDotSuffix,
             final Set<Class<? extends T>> classes) {
@@ -59,4 +59,24 @@ public List<ObjectAdapter> process(final PersistenceQueryFindAllInstances persis
             jdoQuery.closeAll();
         }
     }
+
+    public long count(final PersistenceQueryFindAllInstances persistenceQuery) {
+
+        final ObjectSpecification specification = persistenceQuery.getSpecification();
+
+        final Class<?> cls = specification.getCorrespondingClass();
+        final Query jdoQuery = persistenceSession.newJdoQuery(cls);
+        jdoQuery.setResult("count(this)");
+        jdoQuery.setUnique(true);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("count(): class={}", specification.getFullIdentifier());
+        }
+
+        try {
+            return QueryUtil.countOf(jdoQuery.execute());
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
 }
@@ -18,14 +18,20 @@
  */
 package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.jdo.Query;
 
 import com.google.common.collect.Lists;
+import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.datanucleus.api.jdo.JDOQuery;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +48,36 @@ public class PersistenceQueryFindUsingApplibQueryProcessor extends PersistenceQu
     
     private static final Logger LOG = LoggerFactory.getLogger(PersistenceQueryFindUsingApplibQueryProcessor.class);
 
+    /**
+     * The "shape" of a named query, which (along with its class and name) determines whether a previously
+     * compiled {@link Query} can be reused.
+     */
+    enum Shape {
+        UNBOUNDED,
+        RANGED,
+        COUNT
+    }
+
+    /**
+     * Compiled named queries, reused for subsequent executions (with different arguments, and ranges) within the
+     * same {@link PersistenceSession} (their lifetime being tied to its <tt>PersistenceManager</tt>).
+     *
+     * <p>
+     *     Because a {@link PersistenceSession} lasts only for a single interaction (eg request), this only saves
+     *     the re-compilation of a named query that is executed more than once within that interaction (eg a
+     *     count followed by a page of results, or one query per row of a table).  Reuse across interactions is
+     *     already provided by DataNucleus' own (<tt>PersistenceManagerFactory</tt>-level) query compilation cache.
+     * </p>
+     */
+    private final Map<String, Query> namedQueryByKey = Maps.newHashMap();
+
+    /**
+     * Keys (of {@link #namedQueryByKey}) of those {@link Shape#COUNT count} queries that declare their own result,
+     * grouping or range, and so cannot simply be projected to a <tt>count(this)</tt>; these are counted by
+     * executing the named query as declared.
+     */
+    private final Set<String> countedByResults = Sets.newHashSet();
+
     public PersistenceQueryFindUsingApplibQueryProcessor(final PersistenceSession persistenceSession) {
         super(persistenceSession);
     }
@@ -100,13 +136,12 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
 
         final Class<?> cls = objectSpec.getCorrespondingClass();
-        final Query jdoQuery = persistenceSession.newJdoNamedQuery(cls, queryName);
-        
-        // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
-        jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
-        
+        final Query jdoQuery;
         if(persistenceQuery.hasRange()) {
+            jdoQuery = namedQueryFor(cls, queryName, Shape.RANGED);
             jdoQuery.setRange(persistenceQuery.getStart(), persistenceQuery.getEnd());
+        } else {
+            jdoQuery = namedQueryFor(cls, queryName, Shape.UNBOUNDED);
         }
         
         if (LOG.isDebugEnabled()) {
@@ -128,6 +163,94 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         }
     }
 
+    public long count(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        final String queryName = persistenceQuery.getQueryName();
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+
+        if((objectSpec.getFullIdentifier() + "#pk").equals(queryName)) {
+            return getResultsPk(persistenceQuery).size();
+        }
+
+        final Map<String, Object> argumentsByParameterName = unwrap(
+                persistenceQuery.getArgumentsAdaptersByParameterName());
+        final Class<?> cls = objectSpec.getCorrespondingClass();
+        final Query jdoQuery = namedQueryFor(cls, queryName, Shape.COUNT);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("count: {} # {} ( {} )", cls.getName(), queryName, argumentsByParameterName);
+        }
+
+        try {
+            final Object result = jdoQuery.executeWithMap(argumentsByParameterName);
+            return countedByResults.contains(keyFor(cls, queryName, Shape.COUNT))
+                    ? sizeOf(result)
+                    : QueryUtil.countOf(result);
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
+
+    private Query namedQueryFor(final Class<?> cls, final String queryName, final Shape shape) {
+        final String key = keyFor(cls, queryName, shape);
+        Query jdoQuery = namedQueryByKey.get(key);
+        if(jdoQuery == null) {
+            jdoQuery = persistenceSession.newJdoNamedQuery(cls, queryName);
+            if(shape == Shape.COUNT && declaresResultOrRange(jdoQuery)) {
+                // projecting to count(this) would override the named query's own clauses, and so change its meaning
+                countedByResults.add(key);
+                jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+                jdoQuery.compile();
+                namedQueryByKey.put(key, jdoQuery);
+                return jdoQuery;
+            }
+            switch (shape) {
+            case COUNT:
+                // any ordering is irrelevant (and, for some databases, not permitted alongside an aggregate)
+                jdoQuery.setOrdering(null);
+                jdoQuery.setResult("count(this)");
+                jdoQuery.setUnique(true);
+                break;
+            case RANGED:
+            case UNBOUNDED:
+            default:
+                // http://www.datanucleus.org/servlet/jira/browse/NUCCORE-1103
+                jdoQuery.addExtension("datanucleus.multivaluedFetch", "none");
+                break;
+            }
+            jdoQuery.compile();
+            namedQueryByKey.put(key, jdoQuery);
+        }
+        return jdoQuery;
+    }
+
+    private static String keyFor(final Class<?> cls, final String queryName, final Shape shape) {
+        return cls.getName() + "#" + queryName + "#" + shape;
+    }
+
+    /**
+     * Whether the (named) query declares its own <tt>RESULT</tt>, <tt>GROUP BY</tt> or <tt>RANGE</tt> clause, or is
+     * declared as <tt>UNIQUE</tt>.
+     */
+    static boolean declaresResultOrRange(final Query jdoQuery) {
+        if(!(jdoQuery instanceof JDOQuery)) {
+            return false;
+        }
+        final org.datanucleus.store.query.Query internalQuery = ((JDOQuery) jdoQuery).getInternalQuery();
+        return !Strings.isNullOrEmpty(internalQuery.getResult())
+                || !Strings.isNullOrEmpty(internalQuery.getGrouping())
+                || !Strings.isNullOrEmpty(internalQuery.getRange())
+                || internalQuery.getRangeFromIncl() != 0
+                || internalQuery.getRangeToExcl() != Long.MAX_VALUE
+                || internalQuery.isUnique();
+    }
+
+    private static long sizeOf(final Object result) {
+        if(result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        return result != null ? 1L : 0L;
+    }
+
     private List<?> firstIfAnyOf(final List<?> results) {
         return results.isEmpty()
                 ? Collections.emptyList()
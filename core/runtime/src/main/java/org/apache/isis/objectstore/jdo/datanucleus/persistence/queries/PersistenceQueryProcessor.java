@@ -25,6 +25,11 @@
 
 public interface PersistenceQueryProcessor<T extends PersistenceQuery> {
 	List<ObjectAdapter> process(T query);
+
+	/**
+	 * The number of objects matching the query (ignoring any range), counted by the database without loading them.
+	 */
+	long count(T query);
 }
 
 // Copyright (c) Naked Objects Group Ltd.
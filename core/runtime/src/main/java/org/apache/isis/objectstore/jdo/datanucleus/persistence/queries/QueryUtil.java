@@ -55,6 +55,13 @@ public static Query createQuery(
         return jdoQuery;
     }
 
+    /**
+     * The result of a (unique) <tt>count(this)</tt> query; JDO specifies a {@link Long}, but be lenient.
+     */
+    public static long countOf(final Object result) {
+        return result != null ? ((Number) result).longValue() : 0L;
+    }
+
     private static StringBuilder appendSelect(
             final StringBuilder buf,
             final String select, 
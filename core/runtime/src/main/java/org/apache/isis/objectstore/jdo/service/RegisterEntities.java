@@ -39,6 +39,7 @@
 import org.slf4j.LoggerFactory;
 
 import org.apache.isis.applib.AppManifest;
+import org.apache.isis.applib.services.classdiscovery.ClassDiscoveryIndex;
 
 public class RegisterEntities {
 
@@ -92,10 +93,15 @@ Set<Class<?>> searchForPersistenceCapables(final Map<String, String> configurati
 
         final Set<Class<?>> persistenceCapableTypes = Sets.newLinkedHashSet();
         final List<String> domPackages = parseDomPackages(packagePrefixes);
+        final ClassDiscoveryIndex index = ClassDiscoveryIndex.load(Thread.currentThread().getContextClassLoader());
         for (final String packageName : domPackages) {
-            Reflections reflections = new Reflections(packageName);
-            final Set<Class<?>> entityTypesInPackage =
-                    reflections.getTypesAnnotatedWith(PersistenceCapable.class);
+            final Set<Class<?>> entityTypesInPackage;
+            if(index != null && index.covers(Collections.singletonList(packageName))) {
+                entityTypesInPackage = withinPackage(packageName, index.getTypesAnnotatedWith(PersistenceCapable.class));
+            } else {
+                Reflections reflections = new Reflections(packageName);
+                entityTypesInPackage = reflections.getTypesAnnotatedWith(PersistenceCapable.class);
+            }
 
             if(!entitiesIn(entityTypesInPackage)) {
                 throw new IllegalArgumentException(String.format(
@@ -109,6 +115,16 @@ Set<Class<?>> searchForPersistenceCapables(final Map<String, String> configurati
         return persistenceCapableTypes;
     }
 
+    private static Set<Class<?>> withinPackage(final String packageName, final Set<Class<?>> types) {
+        final Set<Class<?>> typesWithin = Sets.newLinkedHashSet();
+        for (final Class<?> type : types) {
+            if(type.getName().startsWith(packageName + ".")) {
+                typesWithin.add(type);
+            }
+        }
+        return typesWithin;
+    }
+
     private String lookupPackagePrefixes(final Map<String, String> configuration) {
         final String packagePrefixes = configuration.get(PACKAGE_PREFIX_KEY);
         if(Strings.isNullOrEmpty(packagePrefixes)) {
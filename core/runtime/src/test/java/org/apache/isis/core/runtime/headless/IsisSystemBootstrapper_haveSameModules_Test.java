@@ -51,4 +51,10 @@ public void when_they_do() throws Exception {
     public void when_they_dont() throws Exception {
         assertFalse(IsisSystemBootstrapper.haveSameModules(m1, m3));
     }
+
+    @Test
+    public void modulesOf_same_key_when_they_do() throws Exception {
+        assertTrue(IsisSystemBootstrapper.modulesOf(m1).equals(IsisSystemBootstrapper.modulesOf(m1_different_order)));
+        assertFalse(IsisSystemBootstrapper.modulesOf(m1).equals(IsisSystemBootstrapper.modulesOf(m3)));
+    }
 }
\ No newline at end of file
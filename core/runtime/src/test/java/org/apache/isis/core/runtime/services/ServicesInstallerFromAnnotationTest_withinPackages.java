@@ -0,0 +1,57 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
+import org.junit.Test;
+
+import org.apache.isis.core.runtime.services.eventbus.EventBusServiceDefault;
+import org.apache.isis.core.runtime.services.metrics.MetricsServiceDefault;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ServicesInstallerFromAnnotationTest_withinPackages {
+
+    private final Set<Class<?>> types = Sets.<Class<?>>newLinkedHashSet(
+            Arrays.<Class<?>>asList(EventBusServiceDefault.class, MetricsServiceDefault.class));
+
+    @Test
+    public void same_or_sub_package() throws Exception {
+        assertThat(ServicesInstallerFromAnnotation.withinPackages(
+                Collections.singletonList("org.apache.isis.core.runtime.services.eventbus"), types),
+                is((Set<Class<?>>) Sets.<Class<?>>newHashSet(EventBusServiceDefault.class)));
+        assertThat(ServicesInstallerFromAnnotation.withinPackages(
+                Collections.singletonList("org.apache.isis.core.runtime"), types),
+                is(types));
+    }
+
+    @Test
+    public void other_or_prefix_package() throws Exception {
+        assertThat(ServicesInstallerFromAnnotation.withinPackages(
+                Arrays.asList("org.apache.isis.core.runtime.services.event", "com.mycompany"), types).isEmpty(),
+                is(true));
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.bulkload;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.facetapi.IdentifiedHolder;
+import org.apache.isis.core.metamodel.services.publishing.PublishingServiceInternal;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BulkLoadServiceDefaultTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    PersistenceSession mockPersistenceSession;
+
+    BulkLoadServiceDefault bulkLoadService;
+
+    final PublishingServiceInternal publishingServiceInternal = new PublishingServiceInternal() {
+        @Override public void publishObjects() { }
+        @Override public void publishAction(
+                final Interaction.Execution execution,
+                final ObjectAction objectAction,
+                final IdentifiedHolder identifiedHolder,
+                final ObjectAdapter targetAdapter,
+                final List<ObjectAdapter> parameterAdapters,
+                final ObjectAdapter resultAdapter) { }
+        @Override public void publishProperty(final Interaction.Execution execution) { }
+        @Override public <T> T withPublishingSuppressed(final Block<T> block) {
+            publishingSuppressed = true;
+            try {
+                return block.exec();
+            } finally {
+                publishingSuppressed = false;
+            }
+        }
+    };
+
+    boolean publishingSuppressed;
+
+    @Before
+    public void setUp() throws Exception {
+        bulkLoadService = new BulkLoadServiceDefault() {
+            @Override
+            protected PersistenceSession getPersistenceSession() {
+                return mockPersistenceSession;
+            }
+        };
+        bulkLoadService.publishingServiceInternal = publishingServiceInternal;
+    }
+
+    @Test
+    public void default_chunk_size() throws Exception {
+        bulkLoadService.init(Collections.<String, String>emptyMap());
+        assertThat(bulkLoadService.getDefaultChunkSize(), is(BulkLoadServiceDefault.CHUNK_SIZE_DEFAULT));
+
+        bulkLoadService.init(ImmutableMap.of(BulkLoadServiceDefault.CHUNK_SIZE_KEY, "250"));
+        assertThat(bulkLoadService.getDefaultChunkSize(), is(250));
+    }
+
+    @Test
+    public void starts_and_ends_bulk_load_around_block_with_publishing_suppressed() throws Exception {
+        final Sequence sequence = context.sequence("bulkLoad");
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).isBulkLoading();
+            inSequence(sequence);
+            will(returnValue(false));
+
+            oneOf(mockPersistenceSession).startBulkLoad(500);
+            inSequence(sequence);
+
+            oneOf(mockPersistenceSession).endBulkLoad();
+            inSequence(sequence);
+        }});
+
+        final Boolean result = bulkLoadService.bulkLoad(500, new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                return publishingSuppressed;
+            }
+        });
+
+        assertThat(result, is(true));
+        assertThat(publishingSuppressed, is(false));
+    }
+
+    @Test
+    public void ends_bulk_load_even_if_block_fails() throws Exception {
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).isBulkLoading();
+            will(returnValue(false));
+
+            oneOf(mockPersistenceSession).startBulkLoad(500);
+            oneOf(mockPersistenceSession).endBulkLoad();
+        }});
+
+        try {
+            bulkLoadService.bulkLoad(500, new Runnable() {
+                @Override
+                public void run() {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            fail();
+        } catch (final IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+        }
+    }
+
+    @Test
+    public void when_already_bulk_loading_just_executes_block() throws Exception {
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).isBulkLoading();
+            will(returnValue(true));
+
+            never(mockPersistenceSession).startBulkLoad(with(any(Integer.class)));
+            never(mockPersistenceSession).endBulkLoad();
+        }});
+
+        final int[] count = new int[1];
+        bulkLoadService.bulkLoad(500, new Runnable() {
+            @Override
+            public void run() {
+                count[0]++;
+            }
+        });
+
+        assertThat(count[0], is(1));
+    }
+
+}
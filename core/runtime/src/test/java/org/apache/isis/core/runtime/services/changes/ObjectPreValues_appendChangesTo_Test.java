@@ -0,0 +1,156 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.changes;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtime.system.transaction.IsisTransaction;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ObjectPreValues_appendChangesTo_Test {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    ObjectAdapter mockAdapter;
+    @Mock
+    ObjectSpecification mockSpec;
+    @Mock
+    ObjectSpecification mockValueSpec;
+    @Mock
+    OneToOneAssociation mockNameProperty;
+    @Mock
+    OneToOneAssociation mockAgeProperty;
+
+    Map<AdapterAndProperty, PreAndPostValues> changes;
+
+    @Before
+    public void setUp() throws Exception {
+        changes = Maps.newLinkedHashMap();
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).getSpecification();
+            will(returnValue(mockSpec));
+
+            allowing(mockAdapter).getOid();
+            will(returnValue(RootOid.create(ObjectSpecId.of("CUS"), "123")));
+
+            allowing(mockSpec).getPersistedProperties();
+            will(returnValue(Arrays.asList(mockNameProperty, mockAgeProperty)));
+
+            allowing(mockNameProperty).getSpecification();
+            will(returnValue(mockValueSpec));
+            allowing(mockNameProperty).getId();
+            will(returnValue("name"));
+
+            allowing(mockAgeProperty).getSpecification();
+            will(returnValue(mockValueSpec));
+            allowing(mockAgeProperty).getId();
+            will(returnValue("age"));
+
+            allowing(mockValueSpec).isValue();
+            will(returnValue(true));
+        }});
+    }
+
+    @Test
+    public void only_changed_properties_are_appended() throws Exception {
+
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).isDestroyed();
+            will(returnValue(false));
+
+            exactly(2).of(mockNameProperty).getRawValue(mockAdapter);
+            will(onConsecutiveCalls(returnValue("Joe"), returnValue("Bill")));
+
+            exactly(2).of(mockAgeProperty).getRawValue(mockAdapter);
+            will(returnValue(21));
+
+            never(mockNameProperty).get(mockAdapter, InteractionInitiatedBy.FRAMEWORK);
+            never(mockAgeProperty).get(mockAdapter, InteractionInitiatedBy.FRAMEWORK);
+        }});
+
+        final ObjectPreValues preValues = ObjectPreValues.capture(mockAdapter);
+        preValues.appendChangesTo(changes);
+
+        assertThat(changes.size(), is(1));
+        final Map.Entry<AdapterAndProperty, PreAndPostValues> entry = changes.entrySet().iterator().next();
+        assertThat(entry.getKey().getPropertyId(), is("name"));
+        assertThat(entry.getValue().getPreString(), is("Joe"));
+        assertThat(entry.getValue().getPostString(), is("Bill"));
+    }
+
+    @Test
+    public void created_appends_all_properties() throws Exception {
+
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).isDestroyed();
+            will(returnValue(false));
+
+            oneOf(mockNameProperty).getRawValue(mockAdapter);
+            will(returnValue("Bill"));
+
+            oneOf(mockAgeProperty).getRawValue(mockAdapter);
+            will(returnValue(21));
+        }});
+
+        final ObjectPreValues preValues = ObjectPreValues.created(mockAdapter);
+        preValues.appendChangesTo(changes);
+
+        assertThat(changes.size(), is(2));
+        for (final PreAndPostValues papv : changes.values()) {
+            assertThat(papv.getPre(), is((Object) IsisTransaction.Placeholder.NEW));
+        }
+    }
+
+    @Test
+    public void created_and_then_deleted_appends_nothing() throws Exception {
+
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).isDestroyed();
+            will(returnValue(true));
+
+            never(mockNameProperty).getRawValue(mockAdapter);
+            never(mockAgeProperty).getRawValue(mockAdapter);
+        }});
+
+        final ObjectPreValues preValues = ObjectPreValues.created(mockAdapter);
+        preValues.appendChangesTo(changes);
+
+        assertThat(changes.isEmpty(), is(true));
+    }
+}
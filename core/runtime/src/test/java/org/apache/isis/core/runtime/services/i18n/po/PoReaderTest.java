@@ -232,4 +232,82 @@ protected List<String> readPo(final Locale locale) {
        }
     }
 
+    public static class TranslateSlot extends PoReaderTest {
+
+        @Test
+        public void translatedAndNot() throws Exception {
+
+            // given
+            final String msgContext =
+                    "org.apache.isis.applib.services.bookmark.BookmarkHolderAssociationContributions#object()";
+            final String msgId = "Work of art";
+            final String msgStr = "Objet d'art";
+
+            context.checking(new Expectations() {{
+                allowing(mockTranslationServicePo).numSlots();
+                will(returnValue(2));
+                allowing(mockTranslationServicePo).slotKey(0);
+                will(returnValue(new ContextAndMsgId(msgContext, msgId, ContextAndMsgId.Type.REGULAR)));
+                allowing(mockTranslationServicePo).slotKey(1);
+                will(returnValue(new ContextAndMsgId(msgContext, "Something to translate", ContextAndMsgId.Type.REGULAR)));
+            }});
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = Lists.newArrayList();
+                    lines.add(String.format("#: %s", msgContext));
+                    lines.add(String.format("msgid \"%s\"", msgId));
+                    lines.add(String.format("msgstr \"%s\"", msgStr));
+                    return lines;
+                }
+            };
+
+            // when, then
+            assertThat(poReader.translate(0), is(equalTo(msgStr)));
+            assertThat(poReader.translate(1), is(equalTo("Something to translate")));
+        }
+
+        @Test
+        public void slotRegisteredAfterCompiled() throws Exception {
+
+            // given
+            final String msgContext =
+                    "org.apache.isis.applib.services.bookmark.BookmarkHolderAssociationContributions#object()";
+
+            context.checking(new Expectations() {{
+                // only the first slot when first compiled, then a second one
+                oneOf(mockTranslationServicePo).numSlots();
+                will(returnValue(1));
+                oneOf(mockTranslationServicePo).numSlots();
+                will(returnValue(2));
+
+                // each slot is compiled only once
+                oneOf(mockTranslationServicePo).slotKey(0);
+                will(returnValue(new ContextAndMsgId(msgContext, "Work of art", ContextAndMsgId.Type.REGULAR)));
+                oneOf(mockTranslationServicePo).slotKey(1);
+                will(returnValue(new ContextAndMsgId(msgContext, "Bookmark", ContextAndMsgId.Type.REGULAR)));
+            }});
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = Lists.newArrayList();
+                    lines.add(String.format("#: %s", msgContext));
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgstr \"Objet d'art\"");
+                    lines.add(String.format("#: %s", msgContext));
+                    lines.add("msgid \"Bookmark\"");
+                    lines.add("msgstr \"Signet\"");
+                    return lines;
+                }
+            };
+
+            // when, then
+            assertThat(poReader.translate(0), is(equalTo("Objet d'art")));
+            assertThat(poReader.translate(1), is(equalTo("Signet")));
+            assertThat(poReader.translate(0), is(equalTo("Objet d'art")));
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.services.i18n.po;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TranslationServicePoTest_slotFor {
+
+    TranslationServicePo translationServicePo;
+
+    @Before
+    public void setUp() throws Exception {
+        translationServicePo = new TranslationServicePo();
+    }
+
+    @Test
+    public void same_key_same_slot() throws Exception {
+        final int slot = translationServicePo.slotFor("someContext", "Some text");
+
+        assertThat(translationServicePo.slotFor("otherContext", "Some text"), is(slot + 1));
+        assertThat(translationServicePo.slotFor("someContext", "Some text"), is(slot));
+        assertThat(translationServicePo.numSlots(), is(2));
+    }
+
+    @Test
+    public void grows_beyond_initial_capacity() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(translationServicePo.slotFor("someContext", "Text " + i), is(i));
+        }
+
+        assertThat(translationServicePo.numSlots(), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(translationServicePo.slotKey(i).getMsgId(), is(equalTo("Text " + i)));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void no_such_slot() throws Exception {
+        translationServicePo.slotFor("someContext", "Some text");
+
+        translationServicePo.slotKey(1);
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.services.metrics;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class StatementCountingDriverTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_ONLY);
+
+    @Mock
+    Connection mockConnection;
+    @Mock
+    PreparedStatement mockPreparedStatement;
+    @Mock
+    ResultSet mockResultSet;
+
+    /**
+     * The driver of the "underlying" database, handing out {@link #mockConnection}.
+     */
+    public static class StubDriver implements Driver {
+
+        static Connection connection;
+
+        @Override
+        public Connection connect(final String url, final Properties info) {
+            return acceptsURL(url) ? connection : null;
+        }
+
+        @Override
+        public boolean acceptsURL(final String url) {
+            return url.startsWith("jdbc:stub:");
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+
+    private StubDriver stubDriver;
+    private StatementCountingDriver driver;
+
+    @Before
+    public void setUp() throws Exception {
+        stubDriver = new StubDriver();
+        StubDriver.connection = mockConnection;
+        DriverManager.registerDriver(stubDriver);
+        driver = new StatementCountingDriver();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        DriverManager.deregisterDriver(stubDriver);
+        StubDriver.connection = null;
+    }
+
+    @Test
+    public void wrap_and_unwrap() throws Exception {
+        final String url = StatementCountingDriver.wrap("jdbc:stub:test");
+
+        assertThat(url, is("jdbc:isis-counting:stub:test"));
+        assertThat(StatementCountingDriver.unwrap(url), is("jdbc:stub:test"));
+        assertThat(StatementCountingDriver.wrap(url), is(url));
+        assertThat(StatementCounts.isEnabled(), is(true));
+    }
+
+    @Test
+    public void does_not_accept_other_urls() throws Exception {
+        assertThat(driver.acceptsURL("jdbc:stub:test"), is(false));
+        assertThat(driver.connect("jdbc:stub:test", new Properties()), is(nullValue()));
+    }
+
+    @Test
+    public void counts_statements_and_rows() throws Exception {
+        final Sequence rows = context.sequence("rows");
+        context.checking(new Expectations() {{
+            allowing(mockConnection).prepareStatement("select * from Customer");
+            will(returnValue(mockPreparedStatement));
+            allowing(mockConnection).prepareStatement("delete from Customer");
+            will(returnValue(mockPreparedStatement));
+
+            oneOf(mockPreparedStatement).executeQuery();
+            will(returnValue(mockResultSet));
+            oneOf(mockPreparedStatement).executeUpdate();
+            will(returnValue(3));
+
+            exactly(2).of(mockResultSet).next();
+            inSequence(rows);
+            will(returnValue(true));
+            oneOf(mockResultSet).next();
+            inSequence(rows);
+            will(returnValue(false));
+        }});
+
+        final StatementCounts counts = StatementCounts.current();
+        final int statementsBefore = counts.getStatementsExecuted();
+        final int rowsFetchedBefore = counts.getRowsFetched();
+        final int rowsUpdatedBefore = counts.getRowsUpdated();
+
+        final Connection connection = driver.connect("jdbc:isis-counting:stub:test", new Properties());
+        final ResultSet resultSet = connection.prepareStatement("select * from Customer").executeQuery();
+        while (resultSet.next()) {
+            // just iterating
+        }
+        connection.prepareStatement("delete from Customer").executeUpdate();
+
+        assertThat(counts.getStatementsExecuted() - statementsBefore, is(2));
+        assertThat(counts.getRowsFetched() - rowsFetchedBefore, is(2));
+        assertThat(counts.getRowsUpdated() - rowsUpdatedBefore, is(3));
+    }
+
+    @Test(expected = SQLException.class)
+    public void exceptions_thrown_by_the_underlying_driver_are_propagated() throws Exception {
+        context.checking(new Expectations() {{
+            oneOf(mockConnection).prepareStatement("select * from Nowhere");
+            will(throwException(new SQLException("no such table")));
+        }});
+
+        driver.connect("jdbc:isis-counting:stub:test", new Properties()).prepareStatement("select * from Nowhere");
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.adapter.version.Version;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BoundedInstancesCacheTest {
+
+    private BoundedInstancesCache cache;
+    private ObjectSpecId specId;
+    private RootOid oid1;
+    private RootOid oid2;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new BoundedInstancesCache(true);
+        specId = ObjectSpecId.of("CTY");
+        oid1 = RootOid.create(specId, "1");
+        oid2 = RootOid.create(specId, "2");
+    }
+
+    @Test
+    public void hit_in_original_order() throws Exception {
+        cache.put(specId, Arrays.asList(oid2, oid1), cache.currentGeneration());
+
+        assertThat(cache.get(specId), is(Arrays.asList(oid2, oid1)));
+        assertThat(cache.get(ObjectSpecId.of("CUS")), is(nullValue()));
+    }
+
+    @Test
+    public void oids_are_new_and_unversioned() throws Exception {
+        oid1.setVersion(Version.create(3L));
+        cache.put(specId, Arrays.asList(oid1), cache.currentGeneration());
+
+        final List<RootOid> oids = cache.get(specId);
+
+        assertThat(oids.get(0), is(not(sameInstance(oid1))));
+        assertThat(oids.get(0).getVersion(), is(nullValue()));
+        assertThat(oids.get(0).isPersistent(), is(true));
+    }
+
+    @Test
+    public void not_put_if_invalidated_since_queried() throws Exception {
+        final long generation = cache.currentGeneration();
+        cache.invalidate(ObjectSpecId.of("CUS"));
+
+        cache.put(specId, Arrays.asList(oid1, oid2), generation);
+
+        assertThat(cache.get(specId), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void titles_only_for_cached_instances() throws Exception {
+        cache.putTitle(oid1, Locale.UK, "London");
+        assertThat(cache.getTitle(oid1, Locale.UK), is(nullValue()));
+
+        cache.put(specId, Arrays.asList(oid1, oid2), cache.currentGeneration());
+        cache.putTitle(oid1, Locale.UK, "London");
+        cache.putTitle(RootOid.create(specId, "3"), Locale.UK, "Paris");
+
+        assertThat(cache.getTitle(RootOid.create(specId, "1"), Locale.UK), is("London"));
+        assertThat(cache.getTitle(oid1, Locale.FRANCE), is(nullValue()));
+        assertThat(cache.getTitle(RootOid.create(specId, "3"), Locale.UK), is(nullValue()));
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        cache.put(specId, Arrays.asList(oid1, oid2), cache.currentGeneration());
+        cache.putTitle(oid1, Locale.UK, "London");
+
+        cache.invalidate(specId);
+
+        assertThat(cache.get(specId), is(nullValue()));
+        assertThat(cache.getTitle(oid1, Locale.UK), is(nullValue()));
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        cache.put(specId, Arrays.asList(oid1), cache.currentGeneration());
+        cache.put(ObjectSpecId.of("CUS"), Arrays.asList(RootOid.create(ObjectSpecId.of("CUS"), "1")), cache.currentGeneration());
+        assertThat(cache.size(), is(2));
+
+        cache.invalidateAll();
+
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        final BoundedInstancesCache disabled = BoundedInstancesCache.DISABLED;
+        disabled.put(specId, Arrays.asList(oid1), disabled.currentGeneration());
+        disabled.putTitle(oid1, Locale.UK, "London");
+
+        assertThat(disabled.isEnabled(), is(false));
+        assertThat(disabled.get(specId), is(nullValue()));
+        assertThat(disabled.getTitle(oid1, Locale.UK), is(nullValue()));
+    }
+
+}
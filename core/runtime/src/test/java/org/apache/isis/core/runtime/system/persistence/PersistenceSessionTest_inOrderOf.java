@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PersistenceSessionTest_inOrderOf {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    ObjectAdapter mockAdapter1;
+    @Mock
+    ObjectAdapter mockAdapter2;
+    @Mock
+    ObjectAdapter mockAdapter3;
+
+    private RootOid oid1;
+    private RootOid oid2;
+    private RootOid oid3;
+
+    @Before
+    public void setUp() throws Exception {
+        final ObjectSpecId specId = ObjectSpecId.of("CTY");
+        oid1 = RootOid.create(specId, "1");
+        oid2 = RootOid.create(specId, "2");
+        oid3 = RootOid.create(specId, "3");
+    }
+
+    @Test
+    public void already_mapped_adapter_does_not_jump_ahead_of_those_loaded_in_bulk() throws Exception {
+        // as returned by adaptersFor(...): the already mapped adapter first, then those loaded in bulk
+        final Map<RootOid, ObjectAdapter> adapterByOid = Maps.newLinkedHashMap();
+        adapterByOid.put(oid3, mockAdapter3);
+        adapterByOid.put(oid1, mockAdapter1);
+        adapterByOid.put(oid2, mockAdapter2);
+
+        final List<ObjectAdapter> adapters =
+                PersistenceSession.inOrderOf(Arrays.asList(oid1, oid2, oid3), adapterByOid);
+
+        assertThat(adapters, is(Arrays.asList(mockAdapter1, mockAdapter2, mockAdapter3)));
+    }
+
+    @Test
+    public void skips_those_that_could_not_be_loaded() throws Exception {
+        final Map<RootOid, ObjectAdapter> adapterByOid = Maps.newLinkedHashMap();
+        adapterByOid.put(oid3, mockAdapter3);
+        adapterByOid.put(oid1, mockAdapter1);
+
+        final List<ObjectAdapter> adapters =
+                PersistenceSession.inOrderOf(Arrays.asList(oid1, oid2, oid3), adapterByOid);
+
+        assertThat(adapters, is(Arrays.asList(mockAdapter1, mockAdapter3)));
+    }
+
+}
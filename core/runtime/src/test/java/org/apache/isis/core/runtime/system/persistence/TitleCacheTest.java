@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence;
+
+import java.util.Locale;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.adapter.version.Version;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TitleCacheTest {
+
+    private TitleCache titleCache;
+    private RootOid oid;
+
+    @Before
+    public void setUp() throws Exception {
+        titleCache = new TitleCache(10);
+        oid = RootOid.create(ObjectSpecId.of("CUS"), "1");
+    }
+
+    @Test
+    public void hit_for_same_version_and_locale() throws Exception {
+        titleCache.put(oid, Version.create(1L), Locale.UK, "Fred");
+
+        assertThat(titleCache.get(RootOid.create(ObjectSpecId.of("CUS"), "1"), Version.create(1L), Locale.UK), is("Fred"));
+    }
+
+    @Test
+    public void miss_for_different_version() throws Exception {
+        titleCache.put(oid, Version.create(1L), Locale.UK, "Fred");
+
+        assertThat(titleCache.get(oid, Version.create(2L), Locale.UK), is(nullValue()));
+    }
+
+    @Test
+    public void miss_for_different_locale() throws Exception {
+        titleCache.put(oid, Version.create(1L), Locale.UK, "Fred");
+
+        assertThat(titleCache.get(oid, Version.create(1L), Locale.FRANCE), is(nullValue()));
+        assertThat(titleCache.get(oid, Version.create(1L), null), is(nullValue()));
+    }
+
+    @Test
+    public void newer_version_replaces_older() throws Exception {
+        titleCache.put(oid, Version.create(1L), Locale.UK, "Fred");
+        titleCache.put(oid, Version.create(2L), Locale.UK, "Freddie");
+
+        assertThat(titleCache.get(oid, Version.create(1L), Locale.UK), is(nullValue()));
+        assertThat(titleCache.get(oid, Version.create(2L), Locale.UK), is("Freddie"));
+        assertThat(titleCache.size(), is(1L));
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        titleCache.put(oid, Version.create(1L), Locale.UK, "Fred");
+
+        titleCache.invalidate(oid);
+
+        assertThat(titleCache.get(oid, Version.create(1L), Locale.UK), is(nullValue()));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        TitleCache.DISABLED.put(oid, Version.create(1L), Locale.UK, "Fred");
+
+        assertThat(TitleCache.DISABLED.isEnabled(), is(false));
+        assertThat(TitleCache.DISABLED.get(oid, Version.create(1L), Locale.UK), is(nullValue()));
+    }
+
+    public static class Customer {
+    }
+
+    public static class PreferredCustomer extends Customer {
+    }
+
+    @Test
+    public void excluded_including_subclasses() throws Exception {
+        final TitleCache titleCache = new TitleCache(10, ImmutableSet.of(Customer.class.getName()));
+
+        assertThat(titleCache.isExcluded(Customer.class), is(true));
+        assertThat(titleCache.isExcluded(PreferredCustomer.class), is(true));
+        assertThat(titleCache.isExcluded(Object.class), is(false));
+        assertThat(this.titleCache.isExcluded(Customer.class), is(false));
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.system.persistence.adaptermanager;
+
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class OidAdapterHashMapTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    ObjectAdapter mockAdapter1;
+    @Mock
+    ObjectAdapter mockAdapter2;
+
+    RootOid oid1;
+    RootOid oid2;
+
+    OidAdapterHashMap map;
+
+    @Before
+    public void setUp() throws Exception {
+        oid1 = RootOid.create(ObjectSpecId.of("CUS"), "1");
+        oid2 = RootOid.create(ObjectSpecId.of("CUS"), "2");
+
+        map = new OidAdapterHashMap();
+        map.open();
+    }
+
+    @Test
+    public void high_water_mark_is_not_reduced_by_removal() throws Exception {
+        map.add(oid1, mockAdapter1);
+        map.add(oid2, mockAdapter2);
+
+        map.remove(oid1);
+
+        assertThat(map.size(), is(1));
+        assertThat(map.getHighWaterMark(), is(2));
+        assertThat(map.getAdapter(oid1), is(nullValue()));
+        assertThat(map.getAdapter(oid2), is(mockAdapter2));
+    }
+
+    @Test
+    public void high_water_mark_is_reset_when_reopened() throws Exception {
+        map.add(oid1, mockAdapter1);
+        map.close();
+
+        map.open();
+
+        assertThat(map.size(), is(0));
+        assertThat(map.getHighWaterMark(), is(0));
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.objectstore.jdo.datanucleus.persistence.queries;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.jdo.Query;
+
+import org.datanucleus.api.jdo.JDOQuery;
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.services.container.query.QueryCardinality;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.runtime.persistence.query.PersistenceQueryFindUsingApplibQueryDefault;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PersistenceQueryFindUsingApplibQueryProcessorTest {
+
+    public static class Customer {
+    }
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    PersistenceSession mockPersistenceSession;
+
+    @Mock
+    ObjectSpecification mockSpecification;
+
+    @Mock
+    Query mockRangedQuery;
+
+    @Mock
+    Query mockUnboundedQuery;
+
+    @Mock
+    Query mockCountQuery;
+
+    @Mock
+    JDOQuery mockJdoQuery;
+
+    @Mock
+    org.datanucleus.store.query.Query<?> mockInternalQuery;
+
+    PersistenceQueryFindUsingApplibQueryProcessor processor;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecification).getFullIdentifier();
+            will(returnValue(Customer.class.getName()));
+
+            allowing(mockSpecification).getCorrespondingClass();
+            will(returnValue(Customer.class));
+        }});
+        processor = new PersistenceQueryFindUsingApplibQueryProcessor(mockPersistenceSession);
+    }
+
+    @Test
+    public void ranged_query_compiled_once_and_reused_with_different_range() throws Exception {
+
+        final Sequence sequence = context.sequence("ranged");
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findByName");
+            inSequence(sequence);
+            will(returnValue(mockRangedQuery));
+            oneOf(mockRangedQuery).addExtension("datanucleus.multivaluedFetch", "none");
+            inSequence(sequence);
+            oneOf(mockRangedQuery).compile();
+            inSequence(sequence);
+
+            // first page
+            oneOf(mockRangedQuery).setRange(0L, 10L);
+            inSequence(sequence);
+            oneOf(mockRangedQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(Collections.emptyList()));
+            oneOf(mockRangedQuery).closeAll();
+            inSequence(sequence);
+
+            // second page, same compiled query
+            oneOf(mockRangedQuery).setRange(10L, 20L);
+            inSequence(sequence);
+            oneOf(mockRangedQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(Collections.emptyList()));
+            oneOf(mockRangedQuery).closeAll();
+            inSequence(sequence);
+        }});
+
+        processor.process(queryFor("findByName", 0, 10));
+        processor.process(queryFor("findByName", 10, 10));
+    }
+
+    @Test
+    public void ranged_query_not_reused_for_unbounded() throws Exception {
+
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findByName");
+            will(returnValue(mockRangedQuery));
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findByName");
+            will(returnValue(mockUnboundedQuery));
+
+            ignoring(mockRangedQuery).addExtension(with(any(String.class)), with(any(Object.class)));
+            ignoring(mockRangedQuery).compile();
+            oneOf(mockRangedQuery).setRange(0L, 10L);
+            oneOf(mockRangedQuery).executeWithMap(with(any(Map.class)));
+            will(returnValue(Collections.emptyList()));
+            oneOf(mockRangedQuery).closeAll();
+
+            // no range is ever set on the unbounded query
+            ignoring(mockUnboundedQuery).addExtension(with(any(String.class)), with(any(Object.class)));
+            ignoring(mockUnboundedQuery).compile();
+            oneOf(mockUnboundedQuery).executeWithMap(with(any(Map.class)));
+            will(returnValue(Collections.emptyList()));
+            oneOf(mockUnboundedQuery).closeAll();
+        }});
+
+        processor.process(queryFor("findByName", 0, 10));
+        processor.process(queryFor("findByName"));
+    }
+
+    @Test
+    public void count_of_named_query_with_ordering() throws Exception {
+
+        final Sequence sequence = context.sequence("count");
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findByNameOrderByName");
+            inSequence(sequence);
+            will(returnValue(mockCountQuery));
+
+            // the named query's ORDER BY is removed, and it is projected to a unique count
+            oneOf(mockCountQuery).setOrdering(null);
+            inSequence(sequence);
+            oneOf(mockCountQuery).setResult("count(this)");
+            inSequence(sequence);
+            oneOf(mockCountQuery).setUnique(true);
+            inSequence(sequence);
+            oneOf(mockCountQuery).compile();
+            inSequence(sequence);
+
+            oneOf(mockCountQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(3L));
+            oneOf(mockCountQuery).closeAll();
+            inSequence(sequence);
+
+            // any range is ignored, and the compiled query reused
+            oneOf(mockCountQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(5L));
+            oneOf(mockCountQuery).closeAll();
+            inSequence(sequence);
+        }});
+
+        assertThat(processor.count(queryFor("findByNameOrderByName")), is(3L));
+        assertThat(processor.count(queryFor("findByNameOrderByName", 0, 2)), is(5L));
+    }
+
+    @Test
+    public void count_of_named_query_declaring_its_own_result() throws Exception {
+
+        givenNamedQueryDeclaring("distinct name", null);
+
+        final Sequence sequence = context.sequence("count");
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findDistinctNames");
+            inSequence(sequence);
+            will(returnValue(mockJdoQuery));
+
+            // left as declared; its results are counted instead
+            never(mockJdoQuery).setResult(with(any(String.class)));
+            never(mockJdoQuery).setOrdering(with(any(String.class)));
+            never(mockJdoQuery).setUnique(with(any(boolean.class)));
+            oneOf(mockJdoQuery).addExtension("datanucleus.multivaluedFetch", "none");
+            inSequence(sequence);
+            oneOf(mockJdoQuery).compile();
+            inSequence(sequence);
+
+            oneOf(mockJdoQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(Arrays.asList("Fred", "Joe", "Mary")));
+            oneOf(mockJdoQuery).closeAll();
+            inSequence(sequence);
+
+            // reused, and still counted by its results
+            oneOf(mockJdoQuery).executeWithMap(with(any(Map.class)));
+            inSequence(sequence);
+            will(returnValue(Arrays.asList("Fred")));
+            oneOf(mockJdoQuery).closeAll();
+            inSequence(sequence);
+        }});
+
+        assertThat(processor.count(queryFor("findDistinctNames")), is(3L));
+        assertThat(processor.count(queryFor("findDistinctNames")), is(1L));
+    }
+
+    @Test
+    public void count_of_named_query_declaring_its_own_range() throws Exception {
+
+        givenNamedQueryDeclaring(null, "0,10");
+
+        context.checking(new Expectations() {{
+            oneOf(mockPersistenceSession).newJdoNamedQuery(Customer.class, "findFirstTen");
+            will(returnValue(mockJdoQuery));
+
+            never(mockJdoQuery).setResult(with(any(String.class)));
+            ignoring(mockJdoQuery).addExtension(with(any(String.class)), with(any(Object.class)));
+            ignoring(mockJdoQuery).compile();
+
+            oneOf(mockJdoQuery).executeWithMap(with(any(Map.class)));
+            will(returnValue(Arrays.asList(new Customer(), new Customer())));
+            oneOf(mockJdoQuery).closeAll();
+        }});
+
+        assertThat(processor.count(queryFor("findFirstTen")), is(2L));
+    }
+
+    @Test
+    public void declaresResultOrRange_when_declares_neither() throws Exception {
+        givenNamedQueryDeclaring(null, null);
+
+        assertThat(PersistenceQueryFindUsingApplibQueryProcessor.declaresResultOrRange(mockJdoQuery), is(false));
+    }
+
+    @Test
+    public void declaresResultOrRange_when_not_a_datanucleus_query() throws Exception {
+        assertThat(PersistenceQueryFindUsingApplibQueryProcessor.declaresResultOrRange(mockCountQuery), is(false));
+    }
+
+    private void givenNamedQueryDeclaring(final String result, final String range) {
+        context.checking(new Expectations() {{
+            allowing(mockJdoQuery).getInternalQuery();
+            will(returnValue(mockInternalQuery));
+
+            allowing(mockInternalQuery).getResult();
+            will(returnValue(result));
+            allowing(mockInternalQuery).getRange();
+            will(returnValue(range));
+            allowing(mockInternalQuery).getGrouping();
+            will(returnValue(null));
+            allowing(mockInternalQuery).getRangeFromIncl();
+            will(returnValue(0L));
+            allowing(mockInternalQuery).getRangeToExcl();
+            will(returnValue(Long.MAX_VALUE));
+            allowing(mockInternalQuery).isUnique();
+            will(returnValue(false));
+        }});
+    }
+
+    private PersistenceQueryFindUsingApplibQueryDefault queryFor(final String queryName, final long... range) {
+        return new PersistenceQueryFindUsingApplibQueryDefault(
+                mockSpecification, queryName, Collections.<String, ObjectAdapter>emptyMap(),
+                QueryCardinality.MULTIPLE, null, range);
+    }
+
+}
@@ -151,6 +151,16 @@ public Response layout(
     @ClientResponseType(entityType = String.class)
     public Response clearProperty(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
 
+    /**
+     * The raw value of a {@link org.apache.isis.applib.value.Blob} or {@link org.apache.isis.applib.value.Clob}
+     * property, streamed with its own media type (rather than base64-encoded within a JSON representation).
+     */
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/value")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyValue(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
+
     @POST
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
     public Response postPropertyNotAllowed(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
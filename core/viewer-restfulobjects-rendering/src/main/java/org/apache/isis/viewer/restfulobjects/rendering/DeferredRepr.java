@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
+/**
+ * Wraps a {@link ReprRenderer} so that it is only {@link ReprRenderer#render() rendered} when the enclosing
+ * {@link JsonRepresentation} is serialized.
+ *
+ * <p>
+ *     The rendered tree is written straight to the {@link JsonGenerator} and can then be garbage collected, so that
+ *     (when the response is streamed) only one element of a large list needs to be held in memory at a time.
+ * </p>
+ *
+ * @see RendererContext7#deferFollowLinks()
+ */
+public class DeferredRepr implements JsonSerializable {
+
+    private final ReprRenderer<?, ?> renderer;
+
+    public DeferredRepr(final ReprRenderer<?, ?> renderer) {
+        this.renderer = renderer;
+    }
+
+    @Override
+    public void serialize(
+            final JsonGenerator gen,
+            final SerializerProvider serializers) throws IOException {
+        final JsonRepresentation representation = renderer.render();
+        if (representation == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeTree(representation.asJsonNode());
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredRepr{" + renderer.getClass().getSimpleName() + "}";
+    }
+}
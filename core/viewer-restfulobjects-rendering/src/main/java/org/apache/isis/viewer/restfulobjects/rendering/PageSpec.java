@@ -0,0 +1,229 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * The range (<tt>x-ro-page</tt>, <tt>x-ro-page-size</tt>) and ordering (<tt>x-ro-sort-by</tt>) requested for a
+ * list or collection.
+ *
+ * <p>
+ *     Each sort key is the id of a property of the elements, optionally prefixed by <tt>-</tt> for descending order.
+ * </p>
+ */
+public final class PageSpec {
+
+    public static final PageSpec ALL = new PageSpec(0, 0, Collections.<String>emptyList());
+
+    public static PageSpec of(final int page, final int pageSize, final List<String> sortBy) {
+        return new PageSpec(Math.max(page, 0), Math.max(pageSize, 0), sortBy != null ? sortBy : Collections.<String>emptyList());
+    }
+
+    private final int page;
+    private final int pageSize;
+    private final List<String> sortBy;
+
+    private PageSpec(final int page, final int pageSize, final List<String> sortBy) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.sortBy = Collections.unmodifiableList(sortBy);
+    }
+
+    /**
+     * 1-based; or 0 if not {@link #isPaged() paged}.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public List<String> getSortBy() {
+        return sortBy;
+    }
+
+    public boolean isPaged() {
+        return page > 0 && pageSize > 0;
+    }
+
+    public boolean isSorted() {
+        return !sortBy.isEmpty();
+    }
+
+    public boolean hasPrevious() {
+        return isPaged() && page > 1;
+    }
+
+    public boolean hasNext(final int totalCount) {
+        return isPaged() && (long) page * pageSize < totalCount;
+    }
+
+    /**
+     * Sorts the adapters (if {@link #isSorted() requested}), then returns the requested page of them (if
+     * {@link #isPaged() requested}).
+     */
+    public List<ObjectAdapter> applyTo(
+            final Collection<ObjectAdapter> adapters,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        List<ObjectAdapter> list = isSorted()
+                ? new SortValues(sortBy, interactionInitiatedBy).sortedCopy(adapters)
+                : Lists.newArrayList(adapters);
+        if (isPaged()) {
+            final long from = (long) (page - 1) * pageSize;
+            if (from >= list.size()) {
+                return Collections.emptyList();
+            }
+            final int to = (int) Math.min(from + pageSize, list.size());
+            list = list.subList((int) from, to);
+        }
+        return list;
+    }
+
+    /**
+     * Reads the sort values of each adapter only once (rather than on every comparison), then sorts on them.
+     */
+    private static class SortValues {
+
+        private final List<String> propertyIds = Lists.newArrayList();
+        private final boolean[] descending;
+        private final InteractionInitiatedBy interactionInitiatedBy;
+        private final Map<String, OneToOneAssociation> propertyBySpecIdAndPropertyId = Maps.newHashMap();
+
+        SortValues(final List<String> sortBy, final InteractionInitiatedBy interactionInitiatedBy) {
+            this.descending = new boolean[sortBy.size()];
+            for (int i = 0; i < sortBy.size(); i++) {
+                final String key = sortBy.get(i);
+                descending[i] = key.startsWith("-");
+                propertyIds.add(descending[i] ? key.substring(1) : key);
+            }
+            this.interactionInitiatedBy = interactionInitiatedBy;
+        }
+
+        List<ObjectAdapter> sortedCopy(final Collection<ObjectAdapter> adapters) {
+            final List<AdapterAndSortValues> adaptersAndSortValues = Lists.newArrayListWithCapacity(adapters.size());
+            for (final ObjectAdapter adapter : adapters) {
+                final Object[] sortValues = new Object[propertyIds.size()];
+                for (int i = 0; i < sortValues.length; i++) {
+                    sortValues[i] = valueOf(adapter, propertyIds.get(i));
+                }
+                adaptersAndSortValues.add(new AdapterAndSortValues(adapter, sortValues));
+            }
+
+            Collections.sort(adaptersAndSortValues, new Comparator<AdapterAndSortValues>() {
+                @Override
+                public int compare(final AdapterAndSortValues a, final AdapterAndSortValues b) {
+                    for (int i = 0; i < descending.length; i++) {
+                        final int result = compareValues(a.sortValues[i], b.sortValues[i]);
+                        if (result != 0) {
+                            return descending[i] ? -result : result;
+                        }
+                    }
+                    return 0;
+                }
+            });
+
+            final List<ObjectAdapter> sorted = Lists.newArrayListWithCapacity(adaptersAndSortValues.size());
+            for (final AdapterAndSortValues adapterAndSortValues : adaptersAndSortValues) {
+                sorted.add(adapterAndSortValues.adapter);
+            }
+            return sorted;
+        }
+
+        private Object valueOf(final ObjectAdapter adapter, final String propertyId) {
+            final OneToOneAssociation property = propertyFor(adapter.getSpecification(), propertyId);
+            if (property == null ||
+                property.isVisible(adapter, interactionInitiatedBy, Where.ALL_TABLES).isVetoed()) {
+                return null;
+            }
+            final ObjectAdapter valueAdapter = property.get(adapter, interactionInitiatedBy);
+            if (valueAdapter == null) {
+                return null;
+            }
+            final Object value = valueAdapter.getObject();
+            return value instanceof Comparable ? value : valueAdapter.titleString(null);
+        }
+
+        private OneToOneAssociation propertyFor(final ObjectSpecification spec, final String propertyId) {
+            final String key = spec.getSpecId().asString() + "#" + propertyId;
+            if (propertyBySpecIdAndPropertyId.containsKey(key)) {
+                return propertyBySpecIdAndPropertyId.get(key);
+            }
+            OneToOneAssociation property = null;
+            for (final ObjectAssociation association : spec.getAssociations(Contributed.INCLUDED)) {
+                if (association.getId().equals(propertyId) && association instanceof OneToOneAssociation) {
+                    property = (OneToOneAssociation) association;
+                    break;
+                }
+            }
+            propertyBySpecIdAndPropertyId.put(key, property);
+            return property;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static int compareValues(final Object a, final Object b) {
+            if (a == b) {
+                return 0;
+            }
+            // nulls first
+            if (a == null) {
+                return -1;
+            }
+            if (b == null) {
+                return 1;
+            }
+            if (a.getClass() == b.getClass()) {
+                return ((Comparable) a).compareTo(b);
+            }
+            return a.toString().compareTo(b.toString());
+        }
+    }
+
+    private static class AdapterAndSortValues {
+        private final ObjectAdapter adapter;
+        private final Object[] sortValues;
+
+        AdapterAndSortValues(final ObjectAdapter adapter, final Object[] sortValues) {
+            this.adapter = adapter;
+            this.sortValues = sortValues;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageSpec{page=" + page + ", pageSize=" + pageSize + ", sortBy=" + sortBy + "}";
+    }
+}
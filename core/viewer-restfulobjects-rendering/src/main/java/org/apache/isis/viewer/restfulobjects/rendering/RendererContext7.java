@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.util.List;
+
+/**
+ * TODO: roll-up in the future (introduced only so that API does not break)
+ */
+public interface RendererContext7 extends RendererContext6 {
+
+    /**
+     * Whether the elements of lists and collections that are followed (using <tt>x-ro-follow-links</tt>) may be
+     * rendered only as the response is written, rather than up-front.
+     *
+     * <p>
+     *     This bounds the memory needed to render large collections, at the cost that any exception thrown while
+     *     rendering an element can no longer be mapped to an error response.
+     * </p>
+     */
+    boolean deferFollowLinks();
+
+    /**
+     * The range and ordering requested for the list or collection being rendered, or {@link PageSpec#ALL} if none.
+     */
+    PageSpec getPageSpec();
+
+    /**
+     * The (relative) URL to request the specified page of the current resource, or <tt>null</tt> if the resource
+     * cannot safely be re-requested (eg the result of invoking a non-safe action).
+     */
+    String urlForPage(int page);
+
+    /**
+     * The ids of the members to include when rendering domain objects (<tt>x-ro-members</tt>); if empty then all
+     * (visible) members are rendered.
+     */
+    List<String> getMemberProjection();
+
+}
@@ -47,6 +47,7 @@
 
     private final DeploymentCategory deploymentCategory;
     private final InteractionInitiatedBy interactionInitiatedBy;
+    private final boolean deferFollowLinks;
 
     protected boolean includesSelf;
 
@@ -62,6 +63,7 @@ public ReprRendererAbstract(
 
         this.deploymentCategory = determineDeploymentCategoryFrom(this.rendererContext);
         this.interactionInitiatedBy = determineInteractionInitiatedByFrom(this.rendererContext);
+        this.deferFollowLinks = determineDeferFollowLinksFrom(this.rendererContext);
     }
 
     private static DeploymentCategory determineDeploymentCategoryFrom(final RendererContext rendererContext) {
@@ -82,6 +84,10 @@ private static InteractionInitiatedBy determineInteractionInitiatedByFrom(
         }
     }
 
+    private static boolean determineDeferFollowLinksFrom(final RendererContext rendererContext) {
+        return rendererContext instanceof RendererContext7 && ((RendererContext7) rendererContext).deferFollowLinks();
+    }
+
     protected DeploymentCategory getDeploymentCategory() {
         return deploymentCategory;
     }
@@ -169,6 +175,61 @@ protected void addLink(final Rel rel, final ObjectSpecification objectSpec) {
 
     }
 
+    /**
+     * Puts the representation of the provided (followed) renderer into the map; it is rendered immediately unless
+     * the context {@link RendererContext7#deferFollowLinks() allows} it to be {@link DeferredRepr deferred}.
+     */
+    protected void putRenderedOrDeferred(
+            final JsonRepresentation map,
+            final String key,
+            final ReprRenderer<?, ?> renderer) {
+        if (deferFollowLinks) {
+            map.mapPut(key, new DeferredRepr(renderer));
+        } else {
+            map.mapPut(key, renderer.render());
+        }
+    }
+
+    /**
+     * The {@link PageSpec} requested of the context, if it {@link RendererContext7 supports} it.
+     */
+    protected PageSpec pageSpecFromContext() {
+        return rendererContext instanceof RendererContext7
+                ? ((RendererContext7) rendererContext).getPageSpec()
+                : PageSpec.ALL;
+    }
+
+    /**
+     * For a {@link PageSpec#isPaged() paged} list or collection, adds <tt>previous</tt> and <tt>next</tt> links
+     * (where the resource can be re-requested) along with the paging details as extensions.
+     */
+    protected void addPagingLinksAndExtensions(final PageSpec pageSpec, final int totalCount) {
+        if (!pageSpec.isPaged()) {
+            return;
+        }
+        if (rendererContext instanceof RendererContext7) {
+            final RendererContext7 rendererContext7 = (RendererContext7) rendererContext;
+            if (pageSpec.hasPrevious()) {
+                addLinkToPage(Rel.PREVIOUS, rendererContext7.urlForPage(pageSpec.getPage() - 1));
+            }
+            if (pageSpec.hasNext(totalCount)) {
+                addLinkToPage(Rel.NEXT, rendererContext7.urlForPage(pageSpec.getPage() + 1));
+            }
+        }
+        final JsonRepresentation extensions = getExtensions();
+        extensions.mapPut("page", pageSpec.getPage());
+        extensions.mapPut("pageSize", pageSpec.getPageSize());
+        extensions.mapPut("totalCount", totalCount);
+    }
+
+    private void addLinkToPage(final Rel rel, final String href) {
+        if (href == null) {
+            return;
+        }
+        // the href may contain url-encoded characters, so is passed as an arg rather than as the format
+        getLinks().arrayAdd(LinkBuilder.newBuilder(rendererContext, rel.getName(), representationType, "%s", href).build());
+    }
+
     /**
      * Will lazily create extensions map as required
      */
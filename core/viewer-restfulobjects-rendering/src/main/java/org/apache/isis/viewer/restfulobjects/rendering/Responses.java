@@ -97,7 +97,7 @@ public static Response.ResponseBuilder ofOk(
                     .header("Date", dateFormat.format(now))
                     .type(mediaType)
                     .cacheControl(caching.getCacheControl())
-                    .entity(JsonWriterUtil.jsonFor(entityRepresentation));
+                    .entity(JsonWriterUtil.streamingOutputFor(entityRepresentation));
         return addLastModifiedAndETagIfAvailable(response, version);
     }
 
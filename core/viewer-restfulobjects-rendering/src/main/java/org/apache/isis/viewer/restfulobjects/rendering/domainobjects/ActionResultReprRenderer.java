@@ -142,7 +142,8 @@ private void addResultTo(
                         new ListReprRenderer(rendererContext, null, representation).withElementRel(Rel.ELEMENT);
                 listReprRenderer.with(collectionAdapters)
                         .withReturnType(action.getReturnType())
-                        .withElementType(returnedAdapter.getElementSpecification());
+                        .withElementType(returnedAdapter.getElementSpecification())
+                        .withPageSpec(pageSpecFromContext());
 
                 return listReprRenderer;
 
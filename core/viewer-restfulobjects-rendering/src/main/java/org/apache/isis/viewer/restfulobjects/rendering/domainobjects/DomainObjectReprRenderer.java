@@ -38,6 +38,7 @@
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
+import org.apache.isis.viewer.restfulobjects.rendering.RendererContext7;
 import org.apache.isis.viewer.restfulobjects.rendering.ReprRendererAbstract;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.DomainTypeReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.util.OidUtils;
@@ -296,6 +297,9 @@ private DomainObjectReprRenderer withMembers(final ObjectAdapter objectAdapter)
     private void addProperties(final ObjectAdapter objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
         for (final ObjectAssociation assoc : associations) {
 
+            if (isExcludedByProjection(assoc.getId())) {
+                continue;
+            }
             if (mode.checkVisibility()) {
                 final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), rendererContext.getWhere());
                 if (!visibility.isAllowed()) {
@@ -331,6 +335,9 @@ private void addProperties(final ObjectAdapter objectAdapter, final JsonRepresen
     private void addCollections(final ObjectAdapter objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
         for (final ObjectAssociation assoc : associations) {
 
+            if (isExcludedByProjection(assoc.getId())) {
+                continue;
+            }
             if (mode.checkVisibility()) {
                 final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), rendererContext.getWhere());
                 if (!visibility.isAllowed()) {
@@ -361,6 +368,9 @@ private void addCollections(final ObjectAdapter objectAdapter, final JsonReprese
 
     private void addActions(final ObjectAdapter objectAdapter, final List<ObjectAction> actions, final JsonRepresentation members) {
         for (final ObjectAction action : actions) {
+            if (isExcludedByProjection(action.getId())) {
+                continue;
+            }
             final Consent visibility = action.isVisible(objectAdapter, getInteractionInitiatedBy(), rendererContext.getWhere());
             if (!visibility.isAllowed()) {
                 continue;
@@ -375,6 +385,22 @@ private void addActions(final ObjectAdapter objectAdapter, final List<ObjectActi
         }
     }
 
+    /**
+     * Whether the member has been excluded by the <tt>x-ro-members</tt> {@link RendererContext7#getMemberProjection()
+     * projection}; checked before visibility so that the members not requested incur no further cost.
+     *
+     * <p>
+     *     Only applies to regular representations; args and event serialization always include all members.
+     * </p>
+     */
+    private boolean isExcludedByProjection(final String memberId) {
+        if (!mode.isRegular() || !(rendererContext instanceof RendererContext7)) {
+            return false;
+        }
+        final List<String> memberProjection = ((RendererContext7) rendererContext).getMemberProjection();
+        return !memberProjection.isEmpty() && !memberProjection.contains(memberId);
+    }
+
     private void addPersistLinkIfTransientAndPersistable() {
         if (objectAdapter.representsPersistent()) {
             return;
@@ -82,8 +82,8 @@ public ObjectSpecId apply(Class<?> cls) {
          */
         public abstract ObjectAdapter asAdapter(JsonRepresentation repr, String format);
         
-        public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-            final Object value = unwrapAsObjectElseNullNode(objectAdapter);
+        public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+            final Object value = pojoElseNullNode(pojo);
             repr.mapPut("value", value);
             appendFormats(repr, this.format, this.xIsisFormat, suppressExtensions);
             return value;
@@ -113,8 +113,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof String) {
                     final String str = (String) obj;
                     repr.mapPut("value", str);
@@ -135,8 +135,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Boolean) {
                     final Boolean b = (Boolean) obj;
                     repr.mapPut("value", b);
@@ -166,8 +166,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Byte) {
                     final Byte b = (Byte) obj;
                     repr.mapPut("value", b);
@@ -197,8 +197,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Short) {
                     final Short s = (Short) obj;
                     repr.mapPut("value", s);
@@ -228,8 +228,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Integer) {
                     final Integer i = (Integer) obj;
                     repr.mapPut("value", i);
@@ -259,8 +259,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Long) {
                     final Long l = (Long) obj;
                     repr.mapPut("value", l);
@@ -293,8 +293,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Float) {
                     final Float f = (Float) obj;
                     repr.mapPut("value", f);
@@ -330,8 +330,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Double) {
                     final Double d = (Double) obj;
                     repr.mapPut("value", d);
@@ -363,8 +363,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof Character) {
                     final Character c = (Character) obj;
                     repr.mapPut("value", c);
@@ -397,8 +397,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof BigInteger) {
                     final BigInteger bi = (BigInteger) obj;
                     repr.mapPut("value", bi);
@@ -434,8 +434,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
                 return null;
             }
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof BigDecimal) {
                     final BigDecimal bd = (BigDecimal) obj;
                     repr.mapPut("value", bd);
@@ -474,8 +474,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof LocalDate) {
                     final LocalDate date = (LocalDate) obj;
                     final String dateStr = formatters.get(0).print(date.toDateTimeAtStartOfDay());
@@ -515,8 +515,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof LocalDateTime) {
                     final LocalDateTime date = (LocalDateTime) obj;
                     final String dateStr = formatters.get(0).print(date.toDateTime());
@@ -556,8 +556,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof DateTime) {
                     final DateTime date = (DateTime) obj;
                     final String dateStr = formatters.get(0).print(date.toDateTime());
@@ -597,8 +597,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof java.util.Date) {
                     final java.util.Date date = (java.util.Date) obj;
                     final DateTimeFormatter dateTimeFormatter = formatters.get(0);
@@ -637,8 +637,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof java.sql.Date) {
                     final java.sql.Date date = (java.sql.Date) obj;
                     final String dateStr = formatters.get(0).print(new DateTime(date));
@@ -677,8 +677,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof java.sql.Time) {
                     final java.sql.Time date = (java.sql.Time) obj;
                     final String dateStr = formatters.get(0).print(new DateTime(date));
@@ -714,8 +714,8 @@ public ObjectAdapter asAdapter(JsonRepresentation repr, String format) {
             }
 
             @Override
-            public Object appendValueAndFormat(ObjectAdapter objectAdapter, String format, JsonRepresentation repr, boolean suppressExtensions) {
-                final Object obj = unwrapAsObjectElseNullNode(objectAdapter);
+            public Object appendValueAndFormat(Object pojo, String format, JsonRepresentation repr, boolean suppressExtensions) {
+                final Object obj = pojoElseNullNode(pojo);
                 if(obj instanceof java.sql.Timestamp) {
                     final java.sql.Timestamp date = (java.sql.Timestamp) obj;
                     final long millisStr = date.getTime();
@@ -781,17 +781,37 @@ public static Object appendValueAndFormat(ObjectSpecification objectSpec, Object
 
         final JsonValueConverter jvc = converterBySpec.get(objectSpec.getSpecId());
         if(jvc != null) {
-            return jvc.appendValueAndFormat(objectAdapter, format, repr, suppressExtensions);
+            return jvc.appendValueAndFormat(ObjectAdapter.Util.unwrap(objectAdapter), format, repr, suppressExtensions);
         } else {
-            final EncodableFacet encodableFacet = objectSpec.getFacet(EncodableFacet.class);
-            if (encodableFacet == null) {
-                throw new IllegalArgumentException("objectSpec expected to have EncodableFacet");
-            }
-            Object value = objectAdapter != null? encodableFacet.toEncodedString(objectAdapter): NullNode.getInstance();
-            repr.mapPut("value", value);
-            appendFormats(repr, "string", "string", suppressExtensions);
-            return value;
+            return appendEncodedStringAndFormat(objectSpec, objectAdapter, repr, suppressExtensions);
+        }
+    }
+
+    /**
+     * As per {@link #appendValueAndFormat(ObjectSpecification, ObjectAdapter, JsonRepresentation, String, boolean)},
+     * but for a value held as a pojo; an adapter is only created (for the {@link EncodableFacet}) if the value's type
+     * has no built-in converter.
+     */
+    public static Object appendPojoValueAndFormat(ObjectSpecification objectSpec, Object pojo, JsonRepresentation repr, String format, boolean suppressExtensions) {
+
+        final JsonValueConverter jvc = converterBySpec.get(objectSpec.getSpecId());
+        if(jvc != null) {
+            return jvc.appendValueAndFormat(pojo, format, repr, suppressExtensions);
+        } else {
+            final ObjectAdapter objectAdapter = pojo != null ? adapterFor(pojo) : null;
+            return appendEncodedStringAndFormat(objectSpec, objectAdapter, repr, suppressExtensions);
+        }
+    }
+
+    private static Object appendEncodedStringAndFormat(ObjectSpecification objectSpec, ObjectAdapter objectAdapter, JsonRepresentation repr, boolean suppressExtensions) {
+        final EncodableFacet encodableFacet = objectSpec.getFacet(EncodableFacet.class);
+        if (encodableFacet == null) {
+            throw new IllegalArgumentException("objectSpec expected to have EncodableFacet");
         }
+        Object value = objectAdapter != null? encodableFacet.toEncodedString(objectAdapter): NullNode.getInstance();
+        repr.mapPut("value", value);
+        appendFormats(repr, "string", "string", suppressExtensions);
+        return value;
     }
     
     public static Object asObject(final ObjectAdapter objectAdapter, final String format) {
@@ -823,8 +843,8 @@ private static void appendFormats(JsonRepresentation repr, String format, String
         }
     }
 
-    private static Object unwrapAsObjectElseNullNode(ObjectAdapter objectAdapter) {
-        return objectAdapter != null? objectAdapter.getObject(): NullNode.getInstance();
+    private static Object pojoElseNullNode(Object pojo) {
+        return pojo != null? pojo: NullNode.getInstance();
     }
 
 
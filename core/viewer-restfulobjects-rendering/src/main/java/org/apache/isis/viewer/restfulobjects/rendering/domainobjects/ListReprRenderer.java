@@ -17,6 +17,9 @@
 package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.Collection;
+import java.util.List;
+
+import com.google.common.collect.Lists;
 
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -24,6 +27,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.Rel;
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.PageSpec;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
 import org.apache.isis.viewer.restfulobjects.rendering.ReprRendererAbstract;
 
@@ -34,6 +38,7 @@ public class ListReprRenderer extends ReprRendererAbstract<ListReprRenderer, Col
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private PageSpec pageSpec = PageSpec.ALL;
 
     public ListReprRenderer(final RendererContext resourceContext, final LinkFollowSpecs linkFollower, final JsonRepresentation representation) {
         super(resourceContext, linkFollower, RepresentationType.LIST, representation);
@@ -56,6 +61,14 @@ public ListReprRenderer withElementRel(Rel elementRel) {
         return this;
     }
 
+    /**
+     * The range and ordering of the elements to render; all elements (in their natural order) if not specified.
+     */
+    public ListReprRenderer withPageSpec(final PageSpec pageSpec) {
+        this.pageSpec = pageSpec != null ? pageSpec : PageSpec.ALL;
+        return this;
+    }
+
     public ListReprRenderer withReturnType(final ObjectSpecification returnType) {
         this.returnType = returnType;
         return this;
@@ -88,13 +101,18 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
-
+        final List<ObjectAdapter> visibleAdapters = Lists.newArrayList();
         for (final ObjectAdapter adapter : objectAdapters) {
             final ObjectSpecification specification = adapter.getSpecification();
             if (specification.isHidden()) {
                 continue;
             }
+            visibleAdapters.add(adapter);
+        }
+
+        final JsonRepresentation values = JsonRepresentation.newArray();
+
+        for (final ObjectAdapter adapter : pageSpec.applyTo(visibleAdapters, getInteractionInitiatedBy())) {
             final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
             values.arrayAdd(linkToObject);
 
@@ -102,11 +120,12 @@ private void addValue() {
             if (linkFollower.matches(linkToObject)) {
                 final DomainObjectReprRenderer renderer = new DomainObjectReprRenderer(getRendererContext(), linkFollower, JsonRepresentation.newMap()
                 );
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPut("value", domainObject);
+                putRenderedOrDeferred(linkToObject, "value", renderer.with(adapter));
             }
         }
         representation.mapPut("value", values);
+
+        addPagingLinksAndExtensions(pageSpec, visibleAdapters.size());
     }
 
 
@@ -29,13 +29,15 @@
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.Rel;
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
-import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.PageSpec;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
 
 public class ObjectCollectionReprRenderer extends AbstractObjectMemberReprRenderer<ObjectCollectionReprRenderer, OneToManyAssociation> {
 
+    private PageSpec pageSpec = PageSpec.ALL;
+
     public ObjectCollectionReprRenderer(
             final RendererContext rendererContext,
             final LinkFollowSpecs linkFollowSpecs,
@@ -45,6 +47,14 @@ public ObjectCollectionReprRenderer(
                 Where.PARENTED_TABLES);
     }
 
+    /**
+     * The range and ordering of the elements to render; all elements (in their natural order) if not specified.
+     */
+    public ObjectCollectionReprRenderer withPageSpec(final PageSpec pageSpec) {
+        this.pageSpec = pageSpec != null ? pageSpec : PageSpec.ALL;
+        return this;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -90,25 +100,30 @@ private void addValue(final LinkFollowSpecs linkFollower) {
         boolean eagerlyRender = rendererContext.honorUiHints() && renderEagerly(valueAdapter) || !followHref.isTerminated();
 
         final CollectionFacet facet = CollectionFacetUtils.getCollectionFacetFromSpec(valueAdapter);
+        final List<ObjectAdapter> elementAdapters = Lists.newArrayList(facet.iterable(valueAdapter));
         final List<JsonRepresentation> list = Lists.newArrayList();
-        for (final ObjectAdapter elementAdapter : facet.iterable(valueAdapter)) {
+        for (final ObjectAdapter elementAdapter : pageSpec.applyTo(elementAdapters, getInteractionInitiatedBy())) {
 
-            final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer.newLinkToBuilder(rendererContext, Rel.VALUE, elementAdapter);
+            final JsonRepresentation valueLink =
+                    DomainObjectReprRenderer.newLinkToBuilder(rendererContext, Rel.VALUE, elementAdapter).build();
             if(eagerlyRender) {
                 final DomainObjectReprRenderer renderer = new DomainObjectReprRenderer(getRendererContext(), followHref, JsonRepresentation.newMap()
                 );
                 renderer.with(elementAdapter);
                 if(mode.isEventSerialization()) {
                     renderer.asEventSerialization();
+                    valueLink.mapPut("value", renderer.render());
+                } else {
+                    putRenderedOrDeferred(valueLink, "value", renderer);
                 }
-
-                valueLinkBuilder.withValue(renderer.render());
             }
 
-            list.add(valueLinkBuilder.build());
+            list.add(valueLink);
         }
 
         representation.mapPut("value", list);
+
+        addPagingLinksAndExtensions(pageSpec, elementAdapters.size());
     }
 
     private boolean renderEagerly(ObjectAdapter valueAdapter) {
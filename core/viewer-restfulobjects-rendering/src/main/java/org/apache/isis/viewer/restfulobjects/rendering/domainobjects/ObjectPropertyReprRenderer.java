@@ -40,6 +40,7 @@
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.isis.viewer.restfulobjects.rendering.RendererContext;
+import org.apache.isis.viewer.restfulobjects.rendering.RendererContext5;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.PropertyDescriptionReprRenderer;
 
 public class ObjectPropertyReprRenderer extends AbstractObjectMemberReprRenderer<ObjectPropertyReprRenderer, OneToOneAssociation> {
@@ -82,36 +83,30 @@ public JsonRepresentation render() {
     // ///////////////////////////////////////////////////
 
     private Object addValue(final LinkFollowSpecs linkFollower) {
+        final ObjectSpecification memberSpec = objectMember.getSpecification();
+        if (memberSpec.containsFacet(ValueFacet.class) && rendererContext instanceof RendererContext5) {
+            // a value can be read and encoded as a pojo, without the overhead of wrapping it in an adapter
+            final Object value = objectMember.getRawValue(objectAdapter);
+
+            // use the runtime type if we have a value, else the compile time type of the member otherwise
+            final ObjectSpecification valueSpec = value != null
+                    ? ((RendererContext5) rendererContext).getSpecificationLoader().loadSpecification(value.getClass())
+                    : null;
+            final ObjectSpecification spec = valueSpec != null? valueSpec: memberSpec;
+            if (spec.containsFacet(ValueFacet.class)) {
+                final String format = formatFor(spec, valueSpec);
+                return JsonValueEncoder.appendPojoValueAndFormat(spec, value, representation, format, rendererContext.suppressMemberExtensions());
+            }
+        }
+
         final ObjectAdapter valueAdapter = objectMember.get(objectAdapter, getInteractionInitiatedBy());
         
         // use the runtime type if we have a value, else the compile time type of the member otherwise
-        final ObjectSpecification spec = valueAdapter != null? valueAdapter.getSpecification(): objectMember.getSpecification();
+        final ObjectSpecification spec = valueAdapter != null? valueAdapter.getSpecification(): memberSpec;
         
         final ValueFacet valueFacet = spec.getFacet(ValueFacet.class);
         if (valueFacet != null) {
-            String format = null;
-            final Class<?> specClass = spec.getCorrespondingClass();
-            if(specClass == java.math.BigDecimal.class) {
-                // look for facet on member, else on the value's spec
-                final BigDecimalValueFacet bigDecimalValueFacet =
-                        getFacet(BigDecimalValueFacet.class,
-                                objectMember,
-                                valueAdapter != null? valueAdapter.getSpecification(): null);
-                if(bigDecimalValueFacet != null) {
-                    final Integer precision = bigDecimalValueFacet.getPrecision();
-                    final Integer scale = bigDecimalValueFacet.getScale();
-                    format = String.format("big-decimal(%d,%d)", precision, scale);
-                }
-            } else if(specClass == java.math.BigInteger.class) {
-                // look for facet on member, else on the value's spec
-                final BigIntegerValueFacet bigIntegerValueFacet =
-                        getFacet(BigIntegerValueFacet.class,
-                                objectMember,
-                                valueAdapter != null? valueAdapter.getSpecification(): null);
-                if(bigIntegerValueFacet != null) {
-                    format = String.format("big-integer");
-                }
-            }
+            final String format = formatFor(spec, valueAdapter != null? valueAdapter.getSpecification(): null);
             return JsonValueEncoder.appendValueAndFormat(spec, valueAdapter, representation, format, rendererContext.suppressMemberExtensions());
         }
 
@@ -146,6 +141,28 @@ private Object addValue(final LinkFollowSpecs linkFollower) {
         }
     }
 
+    private String formatFor(final ObjectSpecification spec, final ObjectSpecification valueSpec) {
+        final Class<?> specClass = spec.getCorrespondingClass();
+        if(specClass == java.math.BigDecimal.class) {
+            // look for facet on member, else on the value's spec
+            final BigDecimalValueFacet bigDecimalValueFacet =
+                    getFacet(BigDecimalValueFacet.class, objectMember, valueSpec);
+            if(bigDecimalValueFacet != null) {
+                final Integer precision = bigDecimalValueFacet.getPrecision();
+                final Integer scale = bigDecimalValueFacet.getScale();
+                return String.format("big-decimal(%d,%d)", precision, scale);
+            }
+        } else if(specClass == java.math.BigInteger.class) {
+            // look for facet on member, else on the value's spec
+            final BigIntegerValueFacet bigIntegerValueFacet =
+                    getFacet(BigIntegerValueFacet.class, objectMember, valueSpec);
+            if(bigIntegerValueFacet != null) {
+                return String.format("big-integer");
+            }
+        }
+        return null;
+    }
+
     private static <T extends Facet> T getFacet(Class<T> facetType, FacetHolder... holders) {
         for (FacetHolder holder : holders) {
             if(holder == null) {
@@ -28,7 +28,11 @@
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.annotation.Programmatic;
+import org.apache.isis.applib.services.iactn.InteractionContext;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.interactions.PhaseTimer;
+import org.apache.isis.core.metamodel.services.configinternal.ConfigurationServiceInternal;
+import org.apache.isis.schema.ixn.v1.PhaseType;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ActionResultReprRenderer.SelfLink;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.MemberReprMode;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ObjectAndAction;
@@ -191,13 +195,18 @@ void assertContentNegotiationServiceHandled(final ResponseBuilder responseBuilde
      */
     ResponseBuilder buildResponse(
             final Function<ContentNegotiationService, ResponseBuilder> connegServiceBuildResponse) {
-        for (final ContentNegotiationService contentNegotiationService : contentNegotiationServices) {
-            final ResponseBuilder responseBuilder = connegServiceBuildResponse.apply(contentNegotiationService);
-            if(responseBuilder != null) {
-                return responseBuilder;
+        final long startedAtNanos = getPhaseTimer().start();
+        try {
+            for (final ContentNegotiationService contentNegotiationService : contentNegotiationServices) {
+                final ResponseBuilder responseBuilder = connegServiceBuildResponse.apply(contentNegotiationService);
+                if(responseBuilder != null) {
+                    return responseBuilder;
+                }
             }
+            return null;
+        } finally {
+            getPhaseTimer().record(PhaseType.RENDERING, startedAtNanos);
         }
-        return null;
     }
 
     /**
@@ -210,4 +219,19 @@ protected Response buildResponse(final ResponseBuilder responseBuilder) {
 
     @javax.inject.Inject
     List<ContentNegotiationService> contentNegotiationServices;
+
+    @javax.inject.Inject
+    InteractionContext interactionContext;
+
+    @javax.inject.Inject
+    ConfigurationServiceInternal configurationServiceInternal;
+
+    private PhaseTimer phaseTimer;
+
+    private PhaseTimer getPhaseTimer() {
+        if(phaseTimer == null) {
+            phaseTimer = PhaseTimer.create(configurationServiceInternal, interactionContext);
+        }
+        return phaseTimer;
+    }
 }
@@ -41,6 +41,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse;
 import org.apache.isis.viewer.restfulobjects.rendering.Caching;
+import org.apache.isis.viewer.restfulobjects.rendering.RendererContext7;
 import org.apache.isis.viewer.restfulobjects.rendering.Responses;
 import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ActionResultReprRenderer;
@@ -178,6 +179,9 @@ ResponseBuilder buildResponseTo(
 
             renderer.withMemberMode(objectAndCollection2.getMemberReprMode());
         }
+        if(rendererContext instanceof RendererContext7) {
+            renderer.withPageSpec(((RendererContext7) rendererContext).getPageSpec());
+        }
 
         return Responses.ofOk(renderer, Caching.NONE, rootRepresentation);
     }
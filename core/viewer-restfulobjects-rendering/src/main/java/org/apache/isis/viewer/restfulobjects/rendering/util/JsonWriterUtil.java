@@ -19,6 +19,10 @@
 package org.apache.isis.viewer.restfulobjects.rendering.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.isis.core.metamodel.deployment.DeploymentCategory;
 import org.apache.isis.core.runtime.system.context.IsisContext;
@@ -39,6 +43,21 @@ public static String jsonFor(final Object object) {
         }
     }
 
+    /**
+     * As {@link #jsonFor(Object)}, but returning an entity that writes the JSON directly to the response's output
+     * stream, rather than first building up the entire response as a string.
+     */
+    public static StreamingOutput streamingOutputFor(final Object object) {
+        final DeploymentCategory deploymentCategory = getIsisSessionFactory().getDeploymentCategory();
+        final JsonMapper jsonMapper = JsonMapper.instance(inferPrettyPrinting(deploymentCategory));
+        return new StreamingOutput() {
+            @Override
+            public void write(final OutputStream output) throws IOException, WebApplicationException {
+                jsonMapper.write(object, output);
+            }
+        };
+    }
+
     static IsisSessionFactory getIsisSessionFactory() {
         return IsisContext.getSessionFactory();
     }
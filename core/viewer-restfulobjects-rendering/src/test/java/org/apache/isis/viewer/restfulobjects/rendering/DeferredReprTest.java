@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.ByteArrayOutputStream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DeferredReprTest {
+
+    static class CountingRenderer implements ReprRenderer<CountingRenderer, String> {
+
+        private String value;
+        int renderCount;
+
+        @Override
+        public MediaType getMediaType() {
+            return MediaType.APPLICATION_JSON_TYPE;
+        }
+
+        @Override
+        public CountingRenderer with(final String value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public JsonRepresentation render() {
+            renderCount++;
+            return JsonRepresentation.newMap("title", value);
+        }
+    }
+
+    private CountingRenderer renderer;
+    private JsonRepresentation link;
+
+    @Before
+    public void setUp() throws Exception {
+        renderer = new CountingRenderer().with("Fred");
+        link = JsonRepresentation.newMap("rel", "value");
+        link.mapPut("value", new DeferredRepr(renderer));
+    }
+
+    @Test
+    public void not_rendered_until_written() throws Exception {
+        assertThat(renderer.renderCount, is(0));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(link, baos);
+
+        assertThat(renderer.renderCount, is(1));
+        assertThat(baos.toString("UTF-8"), is("{\"rel\":\"value\",\"value\":{\"title\":\"Fred\"}}"));
+    }
+
+    @Test
+    public void written_the_same_as_a_string() throws Exception {
+        final String json = JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(link);
+
+        assertThat(json, is("{\"rel\":\"value\",\"value\":{\"title\":\"Fred\"}}"));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.jmock.Expectations;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.Allow;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.Contributed;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PageSpecTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    private List<ObjectAdapter> adapters;
+
+    @Before
+    public void setUp() throws Exception {
+        adapters = Lists.newArrayList();
+        for (int i = 0; i < 7; i++) {
+            adapters.add(context.mock(ObjectAdapter.class, "adapter" + i));
+        }
+    }
+
+    @Test
+    public void all_is_neither_paged_nor_sorted() throws Exception {
+        assertThat(PageSpec.ALL.isPaged(), is(false));
+        assertThat(PageSpec.ALL.isSorted(), is(false));
+        assertThat(PageSpec.ALL.applyTo(adapters, InteractionInitiatedBy.USER), is(adapters));
+    }
+
+    @Test
+    public void first_page() throws Exception {
+        final PageSpec pageSpec = PageSpec.of(1, 3, null);
+
+        assertThat(pageSpec.applyTo(adapters, InteractionInitiatedBy.USER), is(adapters.subList(0, 3)));
+        assertThat(pageSpec.hasPrevious(), is(false));
+        assertThat(pageSpec.hasNext(adapters.size()), is(true));
+    }
+
+    @Test
+    public void last_partial_page() throws Exception {
+        final PageSpec pageSpec = PageSpec.of(3, 3, null);
+
+        assertThat(pageSpec.applyTo(adapters, InteractionInitiatedBy.USER), is(adapters.subList(6, 7)));
+        assertThat(pageSpec.hasPrevious(), is(true));
+        assertThat(pageSpec.hasNext(adapters.size()), is(false));
+    }
+
+    @Test
+    public void exactly_full_last_page_has_no_next() throws Exception {
+        final PageSpec pageSpec = PageSpec.of(7, 1, null);
+
+        assertThat(pageSpec.applyTo(adapters, InteractionInitiatedBy.USER), is(adapters.subList(6, 7)));
+        assertThat(pageSpec.hasNext(adapters.size()), is(false));
+    }
+
+    @Test
+    public void beyond_last_page() throws Exception {
+        final PageSpec pageSpec = PageSpec.of(4, 3, null);
+
+        assertThat(pageSpec.applyTo(adapters, InteractionInitiatedBy.USER), is(Collections.<ObjectAdapter>emptyList()));
+        assertThat(pageSpec.hasNext(adapters.size()), is(false));
+    }
+
+    @Test
+    public void zero_page_size_is_not_paged() throws Exception {
+        final PageSpec pageSpec = PageSpec.of(2, 0, null);
+
+        assertThat(pageSpec.isPaged(), is(false));
+        assertThat(pageSpec.applyTo(adapters, InteractionInitiatedBy.USER), is(adapters));
+    }
+
+    @Test
+    public void sorted_reading_each_value_only_once() throws Exception {
+        final ObjectSpecification mockSpec = context.mock(ObjectSpecification.class);
+        final OneToOneAssociation mockNameProperty = context.mock(OneToOneAssociation.class);
+        final List<ObjectAdapter> unsorted = adapters.subList(0, 4);
+        final List<String> names = Arrays.asList("c", "a", "d", "b");
+
+        context.checking(new Expectations() {{
+            allowing(mockSpec).getSpecId();
+            will(returnValue(ObjectSpecId.of("CUS")));
+            allowing(mockSpec).getAssociations(Contributed.INCLUDED);
+            will(returnValue(Collections.<ObjectAssociation>singletonList(mockNameProperty)));
+            allowing(mockNameProperty).getId();
+            will(returnValue("name"));
+
+            for (int i = 0; i < unsorted.size(); i++) {
+                final ObjectAdapter adapter = unsorted.get(i);
+                final ObjectAdapter valueAdapter = context.mock(ObjectAdapter.class, "value" + i);
+
+                allowing(adapter).getSpecification();
+                will(returnValue(mockSpec));
+                oneOf(mockNameProperty).isVisible(adapter, InteractionInitiatedBy.USER, Where.ALL_TABLES);
+                will(returnValue(Allow.DEFAULT));
+                oneOf(mockNameProperty).get(adapter, InteractionInitiatedBy.USER);
+                will(returnValue(valueAdapter));
+                oneOf(valueAdapter).getObject();
+                will(returnValue(names.get(i)));
+            }
+        }});
+
+        final PageSpec pageSpec = PageSpec.of(1, 3, Arrays.asList("-name"));
+
+        assertThat(pageSpec.applyTo(unsorted, InteractionInitiatedBy.USER),
+                is(Arrays.asList(unsorted.get(2), unsorted.get(0), unsorted.get(3))));
+    }
+
+}
@@ -33,6 +33,7 @@
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.ext.Providers;
 
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 
@@ -54,12 +55,13 @@
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulRequest.DomainModel;
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulRequest.RequestParameter;
 import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
-import org.apache.isis.viewer.restfulobjects.rendering.RendererContext6;
+import org.apache.isis.viewer.restfulobjects.rendering.PageSpec;
+import org.apache.isis.viewer.restfulobjects.rendering.RendererContext7;
 import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
 import org.apache.isis.viewer.restfulobjects.rendering.util.Util;
 
-public class ResourceContext implements RendererContext6 {
+public class ResourceContext implements RendererContext7 {
 
     private final HttpHeaders httpHeaders;
     private final UriInfo uriInfo;
@@ -78,6 +80,8 @@ public class ResourceContext implements RendererContext6 {
 
     private List<List<String>> followLinks;
     private boolean validateOnly;
+    private PageSpec pageSpec;
+    private List<String> memberProjection;
 
     private final Where where;
     private final RepresentationService.Intent intent;
@@ -140,6 +144,23 @@ void init(final RepresentationType representationType) {
         
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
         this.validateOnly = getArg(RequestParameter.VALIDATE_ONLY);
+        this.pageSpec = pageSpecFrom(getQueryStringAsJsonRepr());
+        this.memberProjection = Collections.unmodifiableList(getArg(RequestParameter.MEMBERS));
+    }
+
+    /**
+     * Paging only applies if either of <tt>x-ro-page</tt> or <tt>x-ro-page-size</tt> are explicitly provided.
+     */
+    private PageSpec pageSpecFrom(final JsonRepresentation args) {
+        final boolean paged = args != null && args.isMap() &&
+                (args.mapHas(RequestParameter.PAGE.getName()) || args.mapHas(RequestParameter.PAGE_SIZE.getName()));
+        final List<String> sortBy = getArg(RequestParameter.SORT_BY);
+        if (!paged && sortBy.isEmpty()) {
+            return PageSpec.ALL;
+        }
+        return paged
+                ? PageSpec.of(getArg(RequestParameter.PAGE), getArg(RequestParameter.PAGE_SIZE), sortBy)
+                : PageSpec.of(0, 0, sortBy);
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -272,6 +293,51 @@ public boolean isValidateOnly() {
         return validateOnly;
     }
 
+    @Override
+    public PageSpec getPageSpec() {
+        return pageSpec;
+    }
+
+    @Override
+    public List<String> getMemberProjection() {
+        return memberProjection;
+    }
+
+    /**
+     * Only supported for <tt>GET</tt> requests using simple query args; re-requesting any other resource
+     * might not be safe (eg would re-invoke a non-safe action).
+     */
+    @Override
+    public String urlForPage(final int page) {
+        if (!"GET".equalsIgnoreCase(httpServletRequest.getMethod())) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        final Map<String,String[]> params = httpServletRequest.getParameterMap();
+        if (!params.isEmpty() && !simpleQueryArgs(params)) {
+            return null;
+        }
+
+        final String pageParam = RequestParameter.PAGE.getName();
+        final StringBuilder buf = new StringBuilder();
+        final String queryString = httpServletRequest.getQueryString();
+        if (queryString != null) {
+            for (final String nameAndValue : Splitter.on('&').omitEmptyStrings().split(queryString)) {
+                if (nameAndValue.equals(pageParam) || nameAndValue.startsWith(pageParam + "=")) {
+                    continue;
+                }
+                buf.append(nameAndValue).append('&');
+            }
+        }
+        buf.append(pageParam).append('=').append(page);
+
+        String path = uriInfo.getPath(false);
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path + "?" + buf;
+    }
+
     @Override
     public AuthenticationSession getAuthenticationSession() {
         return authenticationSession;
@@ -345,6 +411,7 @@ public boolean canEagerlyRender(ObjectAdapter objectAdapter) {
     private static final boolean SUPPRESS_MEMBER_LINKS_DEFAULT = false;
     private static final boolean SUPPRESS_MEMBER_EXTENSIONS_DEFAULT = false;
     private static final boolean SUPPRESS_MEMBER_DISABLED_REASON_DEFAULT = false;
+    private static final boolean DEFER_FOLLOW_LINKS_DEFAULT = false;
 
     @Override
     public boolean honorUiHints() {
@@ -385,6 +452,11 @@ public boolean suppressMemberExtensions() {
     public boolean suppressMemberDisabledReason() {
         return getConfiguration().getBoolean("isis.viewer.restfulobjects.suppressMemberDisabledReason", SUPPRESS_MEMBER_DISABLED_REASON_DEFAULT);
     }
+
+    @Override
+    public boolean deferFollowLinks() {
+        return getConfiguration().getBoolean("isis.viewer.restfulobjects.deferFollowLinks", DEFER_FOLLOW_LINKS_DEFAULT);
+    }
     //endregion
 
 
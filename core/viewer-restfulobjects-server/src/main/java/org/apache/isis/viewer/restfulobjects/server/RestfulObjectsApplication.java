@@ -30,6 +30,7 @@
 import org.apache.isis.viewer.restfulobjects.server.resources.HomePageResourceServerside;
 import org.apache.isis.viewer.restfulobjects.server.resources.ImageResourceServerside;
 import org.apache.isis.viewer.restfulobjects.server.resources.MenuBarsResourceServerside;
+import org.apache.isis.viewer.restfulobjects.server.resources.MetricsResource;
 import org.apache.isis.viewer.restfulobjects.server.resources.SwaggerSpecResource;
 import org.apache.isis.viewer.restfulobjects.server.resources.UserResourceServerside;
 import org.apache.isis.viewer.restfulobjects.server.resources.VersionResourceServerside;
@@ -50,6 +51,7 @@ public RestfulObjectsApplication() {
         addClass(HealthResourceServerside.class);
 
         addClass(SwaggerSpecResource.class);
+        addClass(MetricsResource.class);
 
         final RestfulObjectsJaxbWriterForXml roWriter = new RestfulObjectsJaxbWriterForXml();
         addSingleton(roWriter);
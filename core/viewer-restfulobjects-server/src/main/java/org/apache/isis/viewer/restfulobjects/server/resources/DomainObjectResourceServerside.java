@@ -18,6 +18,9 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URL;
 import java.util.List;
 
@@ -32,7 +35,9 @@
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Strings;
 import com.google.common.io.Resources;
 
@@ -46,6 +51,9 @@
 import org.apache.isis.applib.layout.grid.Grid;
 import org.apache.isis.applib.layout.links.Link;
 import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.value.Blob;
+import org.apache.isis.applib.value.Clob;
+import org.apache.isis.applib.value.NamedWithMimeType;
 import org.apache.isis.core.commons.url.UrlEncodingUtils;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.consent.Consent;
@@ -70,6 +78,7 @@
 import org.apache.isis.viewer.restfulobjects.rendering.service.conneg.PrettyPrinting;
 import org.apache.isis.viewer.restfulobjects.rendering.util.Util;
 import org.apache.isis.viewer.restfulobjects.server.resources.serialization.SerializationStrategy;
+import org.apache.isis.viewer.restfulobjects.server.util.ContentDispositionUtils;
 
 @Path("/objects")
 public class DomainObjectResourceServerside extends ResourceAbstract implements DomainObjectResource {
@@ -400,6 +409,61 @@ public Response propertyDetails(@PathParam("domainType") String domainType, @Pat
         );
     }
 
+    @Override
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/value")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyValue(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId) {
+        init(RepresentationType.OBJECT_PROPERTY, Where.OBJECT_FORMS, RepresentationService.Intent.NOT_APPLICABLE);
+
+        final ObjectAdapter objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId);
+        final ObjectAdapterAccessHelper accessHelper = new ObjectAdapterAccessHelper(getResourceContext(), objectAdapter);
+
+        final OneToOneAssociation property = accessHelper.getPropertyThatIsVisibleForIntent(propertyId,
+                ObjectAdapterAccessHelper.Intent.ACCESS);
+
+        final ObjectAdapter valueAdapter = property.get(objectAdapter, InteractionInitiatedBy.USER);
+        final Object value = valueAdapter != null ? valueAdapter.getObject() : null;
+        if (value == null) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.NOT_FOUND, "Property '%s' has no value", propertyId);
+        }
+
+        final NamedWithMimeType blobOrClob;
+        final String contentType;
+        final StreamingOutput streamingOutput;
+        if (value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            blobOrClob = blob;
+            contentType = blob.getMimeType().getBaseType();
+            streamingOutput = new StreamingOutput() {
+                @Override
+                public void write(final OutputStream output) throws IOException {
+                    blob.writeBytesTo(output);
+                }
+            };
+        } else if (value instanceof Clob) {
+            final Clob clob = (Clob) value;
+            blobOrClob = clob;
+            // the chars are written as UTF-8 (below)
+            contentType = clob.getMimeType().getBaseType() + ";charset=UTF-8";
+            streamingOutput = new StreamingOutput() {
+                @Override
+                public void write(final OutputStream output) throws IOException {
+                    final Writer writer = new OutputStreamWriter(output, Charsets.UTF_8);
+                    clob.writeCharsTo(writer);
+                    writer.flush();
+                }
+            };
+        } else {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.NOT_FOUND, "Property '%s' is not a blob or clob", propertyId);
+        }
+
+        return Response.ok(streamingOutput, contentType)
+                .header("Content-Disposition", ContentDispositionUtils.attachment(blobOrClob.getName()))
+                .build();
+    }
+
     @Override
     @PUT
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
@@ -0,0 +1,212 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+import org.apache.isis.applib.services.iactn.PhaseTimings;
+import org.apache.isis.core.metamodel.services.ServicesInjector;
+import org.apache.isis.core.runtime.services.metrics.MetricsSummaryServiceInternal;
+import org.apache.isis.core.runtime.services.metrics.MetricsSummaryServiceInternal.MemberSummary;
+import org.apache.isis.core.runtime.system.context.IsisContext;
+import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+import org.apache.isis.schema.ixn.v1.PhaseType;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+/**
+ * Exposes the per-member summaries collected by {@link MetricsSummaryServiceInternal} in the Prometheus text
+ * exposition format, so that they can be scraped by any compatible monitoring tool.
+ *
+ * <p>
+ *     Because the summaries reveal the members of the application and how they are used, the endpoint is disabled
+ *     (responds with a 404) unless <tt>isis.viewer.restfulobjects.metrics.enabled</tt> is set.
+ * </p>
+ */
+@Path("/metrics")
+public class MetricsResource {
+
+    static final String TEXT_PLAIN_PROMETHEUS = "text/plain; version=0.0.4";
+
+    static final String ENABLED_KEY = "isis.viewer.restfulobjects.metrics.enabled";
+    static final boolean ENABLED_DEFAULT = false;
+
+    private static final double NANOS_PER_SECOND = 1000000000.0;
+
+    @GET
+    @Produces({ TEXT_PLAIN_PROMETHEUS })
+    public Response metrics() {
+        if(!isEnabled()) {
+            throw RestfulObjectsApplicationException.create(HttpStatusCode.NOT_FOUND);
+        }
+        final String text = getIsisSessionFactory().doInSession(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                final MetricsSummaryServiceInternal metricsSummaryService =
+                        getServicesInjector().lookupService(MetricsSummaryServiceInternal.class);
+                return render(metricsSummaryService.getSummaries(), metricsSummaryService.getUnattributedPhaseTimings());
+            }
+        });
+        return Response.ok(text, TEXT_PLAIN_PROMETHEUS).build();
+    }
+
+    static String render(final List<MemberSummary> summaries, final PhaseTimings unattributedPhaseTimings) {
+        final StringBuilder buf = new StringBuilder();
+
+        header(buf, "isis_member_executions_total", "counter", "Number of completed executions of each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_executions_total", labelsFor(summary, null), summary.getCount());
+        }
+        header(buf, "isis_member_errors_total", "counter", "Number of executions of each member that threw an exception.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_errors_total", labelsFor(summary, null), summary.getErrorCount());
+        }
+        header(buf, "isis_member_seconds_total", "counter", "Total elapsed time of the executions of each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_seconds_total", labelsFor(summary, null), seconds(summary.getTotalNanos()));
+        }
+        header(buf, "isis_member_seconds_max", "gauge", "Longest elapsed time of any execution of each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_seconds_max", labelsFor(summary, null), seconds(summary.getMaxNanos()));
+        }
+
+        header(buf, "isis_member_phase_seconds_total", "counter", "Time spent in each phase of the executions of each member.");
+        for (final MemberSummary summary : summaries) {
+            for (final PhaseType phaseType : PhaseType.values()) {
+                if(summary.getPhaseCount(phaseType) != 0) {
+                    sample(buf, "isis_member_phase_seconds_total", labelsFor(summary, phaseType), seconds(summary.getNanos(phaseType)));
+                }
+            }
+        }
+        header(buf, "isis_member_phase_total", "counter", "Number of times each phase was entered by the executions of each member.");
+        for (final MemberSummary summary : summaries) {
+            for (final PhaseType phaseType : PhaseType.values()) {
+                if(summary.getPhaseCount(phaseType) != 0) {
+                    sample(buf, "isis_member_phase_total", labelsFor(summary, phaseType), summary.getPhaseCount(phaseType));
+                }
+            }
+        }
+
+        header(buf, "isis_member_statements_total", "counter", "Number of SQL statements executed by each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_statements_total", labelsFor(summary, null), summary.getStatementsExecuted());
+        }
+        header(buf, "isis_member_rows_fetched_total", "counter", "Number of rows fetched by each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_rows_fetched_total", labelsFor(summary, null), summary.getRowsFetched());
+        }
+        header(buf, "isis_member_rows_updated_total", "counter", "Number of rows inserted, updated or deleted by each member.");
+        for (final MemberSummary summary : summaries) {
+            sample(buf, "isis_member_rows_updated_total", labelsFor(summary, null), summary.getRowsUpdated());
+        }
+
+        header(buf, "isis_unattributed_phase_seconds_total", "counter", "Time spent in each phase outside of any member execution.");
+        for (final PhaseType phaseType : PhaseType.values()) {
+            if(unattributedPhaseTimings.getCount(phaseType) != 0) {
+                sample(buf, "isis_unattributed_phase_seconds_total", labelsFor(phaseType), seconds(unattributedPhaseTimings.getNanos(phaseType)));
+            }
+        }
+        header(buf, "isis_unattributed_phase_total", "counter", "Number of times each phase was entered outside of any member execution.");
+        for (final PhaseType phaseType : PhaseType.values()) {
+            if(unattributedPhaseTimings.getCount(phaseType) != 0) {
+                sample(buf, "isis_unattributed_phase_total", labelsFor(phaseType), unattributedPhaseTimings.getCount(phaseType));
+            }
+        }
+        return buf.toString();
+    }
+
+    //region > helpers
+
+    private static void header(final StringBuilder buf, final String name, final String type, final String help) {
+        buf.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        buf.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(final StringBuilder buf, final String name, final String labels, final long value) {
+        buf.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(final StringBuilder buf, final String name, final String labels, final double value) {
+        buf.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static String labelsFor(final MemberSummary summary, final PhaseType phaseType) {
+        final StringBuilder buf = new StringBuilder("{");
+        buf.append("member=\"").append(escape(summary.getMemberIdentifier())).append("\"");
+        buf.append(",type=\"").append(nameOf(summary.getInteractionType())).append("\"");
+        if(phaseType != null) {
+            buf.append(",phase=\"").append(nameOf(phaseType)).append("\"");
+        }
+        return buf.append("}").toString();
+    }
+
+    private static String labelsFor(final PhaseType phaseType) {
+        return "{phase=\"" + nameOf(phaseType) + "\"}";
+    }
+
+    private static String nameOf(final Enum<?> value) {
+        return value != null ? value.name().toLowerCase(Locale.ENGLISH) : "";
+    }
+
+    private static double seconds(final long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    /**
+     * As required for label values by the exposition format.
+     */
+    static String escape(final String value) {
+        if(value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    //endregion
+
+    boolean isEnabled() {
+        return getIsisSessionFactory().getConfiguration().getBoolean(ENABLED_KEY, ENABLED_DEFAULT);
+    }
+
+    //region > injected services
+
+    ServicesInjector getServicesInjector() {
+        return getPersistenceSession().getServicesInjector();
+    }
+
+    PersistenceSession getPersistenceSession() {
+        return getIsisSessionFactory().getCurrentSession().getPersistenceSession();
+    }
+
+    IsisSessionFactory getIsisSessionFactory() {
+        return IsisContext.getSessionFactory();
+    }
+
+    //endregion
+
+}
@@ -24,8 +24,14 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
 
 import org.apache.isis.applib.services.swagger.SwaggerService;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
@@ -39,13 +45,16 @@ public class SwaggerSpecResource {
     @Context
     HttpHeaders httpHeaders;
 
+    @Context
+    Request request;
+
     @Path("/private")
     @GET
     @Consumes({ MediaType.WILDCARD, MediaType.APPLICATION_JSON, "text/yaml" })
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
+    public Response swaggerPrivate() {
         return swagger(SwaggerService.Visibility.PRIVATE);
     }
 
@@ -55,7 +64,7 @@ public String swaggerPrivate() {
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
+    public Response swaggerPrototyping() {
         return swagger(SwaggerService.Visibility.PRIVATE_WITH_PROTOTYPING);
     }
 
@@ -65,14 +74,25 @@ public String swaggerPrototyping() {
     @Produces({
             MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
+    public Response swaggerPublic() {
         return swagger(SwaggerService.Visibility.PUBLIC);
     }
 
-    private String swagger(final SwaggerService.Visibility visibility) {
+    /**
+     * The spec is tagged with a hash of its content, so that clients (eg a developer portal) that already hold the
+     * current spec receive a <tt>304 Not Modified</tt>.
+     */
+    private Response swagger(final SwaggerService.Visibility visibility) {
         final SwaggerService.Format format = deriveFrom(httpHeaders);
-        String spec = getIsisSessionFactory().doInSession(new MyCallable(visibility, format));
-        return spec;
+        final String spec = getIsisSessionFactory().doInSession(new MyCallable(visibility, format));
+
+        final EntityTag entityTag = new EntityTag(Hashing.murmur3_128().hashString(spec, Charsets.UTF_8).toString());
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        final Response.ResponseBuilder responseBuilder =
+                notModified != null
+                        ? notModified
+                        : Response.ok(spec);
+        return responseBuilder.tag(entityTag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
     }
 
     private SwaggerService.Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.util;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Builds <tt>Content-Disposition</tt> header values (RFC 6266) from arbitrary, untrusted file names.
+ */
+public final class ContentDispositionUtils {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private ContentDispositionUtils() {
+    }
+
+    /**
+     * An <tt>attachment</tt> disposition, with both a plain ASCII <tt>filename</tt> (for older clients) and a
+     * UTF-8 <tt>filename*</tt> (RFC 5987).
+     *
+     * <p>
+     *     Control characters (including CR and LF), quotes, backslashes and path separators never appear
+     *     unescaped in the result.
+     * </p>
+     */
+    public static String attachment(final String fileName) {
+        final String name = fileName != null ? fileName : "";
+        return "attachment; filename=\"" + asciiFallback(name) + "\"; filename*=UTF-8''" + encodeExtValue(name);
+    }
+
+    static String asciiFallback(final String fileName) {
+        final StringBuilder buf = new StringBuilder(fileName.length());
+        for (int i = 0; i < fileName.length(); i++) {
+            final char ch = fileName.charAt(i);
+            final boolean safe = ch >= 0x20 && ch < 0x7f && ch != '"' && ch != '\\' && ch != '/';
+            buf.append(safe ? ch : '_');
+        }
+        return buf.toString();
+    }
+
+    static String encodeExtValue(final String fileName) {
+        final byte[] bytes = fileName.getBytes(Charsets.UTF_8);
+        final StringBuilder buf = new StringBuilder(bytes.length);
+        for (final byte b : bytes) {
+            final int ch = b & 0xff;
+            if (isAttrChar(ch)) {
+                buf.append((char) ch);
+            } else {
+                buf.append('%').append(HEX[ch >> 4]).append(HEX[ch & 0x0f]);
+            }
+        }
+        return buf.toString();
+    }
+
+    /**
+     * <tt>attr-char</tt>, as defined by RFC 5987.
+     */
+    private static boolean isAttrChar(final int ch) {
+        if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9')) {
+            return true;
+        }
+        return "!#$&+-.^_`|~".indexOf(ch) >= 0;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.resources;
+
+import java.util.concurrent.Callable;
+
+import org.jmock.Expectations;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.viewer.restfulobjects.applib.client.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MetricsResourceTest_metrics {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+
+    private IsisSessionFactory mockIsisSessionFactory;
+
+    private MetricsResource metricsResource;
+
+    @Before
+    public void setUp() throws Exception {
+        mockIsisSessionFactory = context.mock(IsisSessionFactory.class);
+        context.checking(new Expectations() {{
+            allowing(mockIsisSessionFactory).getConfiguration();
+            will(returnValue(configuration));
+
+            never(mockIsisSessionFactory).doInSession(with(any(Callable.class)));
+        }});
+        metricsResource = new MetricsResource() {
+            @Override
+            IsisSessionFactory getIsisSessionFactory() {
+                return mockIsisSessionFactory;
+            }
+        };
+    }
+
+    @Test
+    public void not_found_unless_enabled() throws Exception {
+        try {
+            metricsResource.metrics();
+            fail();
+        } catch (final RestfulObjectsApplicationException ex) {
+            assertThat(ex.getHttpStatusCode(), is(HttpStatusCode.NOT_FOUND));
+        }
+    }
+
+    @Test
+    public void not_found_if_explicitly_disabled() throws Exception {
+        configuration.add(MetricsResource.ENABLED_KEY, "false");
+        try {
+            metricsResource.metrics();
+            fail();
+        } catch (final RestfulObjectsApplicationException ex) {
+            assertThat(ex.getHttpStatusCode(), is(HttpStatusCode.NOT_FOUND));
+        }
+    }
+
+    @Test
+    public void enabled_by_configuration() throws Exception {
+        configuration.add(MetricsResource.ENABLED_KEY, "true");
+
+        assertThat(metricsResource.isEnabled(), is(true));
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.server.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ContentDispositionUtilsTest {
+
+    @Test
+    public void plainName() throws Exception {
+        assertEquals("attachment; filename=\"report.pdf\"; filename*=UTF-8''report.pdf",
+                ContentDispositionUtils.attachment("report.pdf"));
+    }
+
+    @Test
+    public void headerInjectionIsNeutralised() throws Exception {
+        final String header = ContentDispositionUtils.attachment("a\"\r\nSet-Cookie: x=y.pdf");
+
+        assertFalse(header.contains("\r"));
+        assertFalse(header.contains("\n"));
+        assertEquals("attachment; filename=\"a___Set-Cookie: x=y.pdf\"; filename*=UTF-8''a%22%0D%0ASet-Cookie%3A%20x%3Dy.pdf",
+                header);
+    }
+
+    @Test
+    public void nonAsciiName() throws Exception {
+        assertEquals("attachment; filename=\"r_sum_.pdf\"; filename*=UTF-8''r%C3%A9sum%C3%A9.pdf",
+                ContentDispositionUtils.attachment("r\u00e9sum\u00e9.pdf"));
+    }
+
+}
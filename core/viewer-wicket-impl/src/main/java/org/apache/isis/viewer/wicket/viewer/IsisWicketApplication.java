@@ -100,6 +100,7 @@
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistry;
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistryAccessor;
 import org.apache.isis.viewer.wicket.ui.components.actionmenu.entityactions.AdditionalLinksPanel;
+import org.apache.isis.viewer.wicket.ui.components.actionmenu.serviceactions.ServiceMenuCache;
 import org.apache.isis.viewer.wicket.ui.components.scalars.string.MultiLineStringPanel;
 import org.apache.isis.viewer.wicket.ui.components.widgets.select2.Select2BootstrapCssReference;
 import org.apache.isis.viewer.wicket.ui.components.widgets.select2.Select2JsReference;
@@ -114,6 +115,7 @@
 import org.apache.isis.viewer.wicket.viewer.integration.wicket.AuthenticatedWebSessionForIsis;
 import org.apache.isis.viewer.wicket.viewer.integration.wicket.ConverterForObjectAdapter;
 import org.apache.isis.viewer.wicket.viewer.integration.wicket.ConverterForObjectAdapterMemento;
+import org.apache.isis.viewer.wicket.viewer.integration.wicket.SerializerForIsis;
 import org.apache.isis.viewer.wicket.viewer.integration.wicket.WebRequestCycleForIsis;
 import org.apache.isis.viewer.wicket.viewer.settings.IsisResourceSettings;
 
@@ -166,6 +168,8 @@
     private static final boolean AJAX_DEBUG_MODE_DEFAULT = false;
     private static final String WICKET_SOURCE_PLUGIN_KEY = "isis.viewer.wicket.wicketSourcePlugin";
     private static final boolean WICKET_SOURCE_PLUGIN_DEFAULT = false;
+    private static final String COMPACT_SERIALIZATION_KEY = "isis.viewer.wicket.compactSerialization";
+    private static final boolean COMPACT_SERIALIZATION_DEFAULT = false;
 
     private static final String WICKET_REMEMBER_ME_COOKIE_KEY = "isis.viewer.wicket.rememberMe.cookieKey";
     private static final String WICKET_REMEMBER_ME_COOKIE_KEY_DEFAULT = "isisWicketRememberMe";
@@ -388,6 +392,10 @@ protected void init() {
 
             getDebugSettings().setAjaxDebugModeEnabled(determineAjaxDebugModeEnabled(configuration));
 
+            if(determineCompactSerialization(configuration)) {
+                getFrameworkSettings().setSerializer(new SerializerForIsis(getApplicationKey()));
+            }
+
             // must be done after injected componentFactoryRegistry into the app itself
             buildCssBundle();
 
@@ -399,6 +407,8 @@ protected void init() {
             int maxEntries = 1000;
             setMetaData(AccountConfirmationMap.KEY, new AccountConfirmationMap(maxEntries, Duration.days(1)));
 
+            setMetaData(ServiceMenuCache.KEY, ServiceMenuCache.create(configuration));
+
             mountPages();
 
             @SuppressWarnings("unused")
@@ -861,6 +871,18 @@ private boolean determineAjaxDebugModeEnabled(IsisConfiguration configuration) {
         return debugModeEnabled;
     }
 
+    /**
+     * Whether pages should be serialized using {@link SerializerForIsis}, as specified by configuration settings.
+     *
+     * <p>
+     * If the <tt>isis.viewer.wicket.compactSerialization</tt> is set, then this is used, otherwise the default is to
+     * disable.
+     */
+    private boolean determineCompactSerialization(IsisConfiguration configuration) {
+        final boolean compact = configuration.getBoolean(COMPACT_SERIALIZATION_KEY, COMPACT_SERIALIZATION_DEFAULT);
+        return compact;
+    }
+
     /**
      * Whether the Wicket source plugin should be enabled, as specified by configuration settings.
      *
@@ -0,0 +1,273 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.viewer.integration.wicket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.core.util.objects.checker.CheckingObjectOutputStream;
+import org.apache.wicket.core.util.objects.checker.ObjectSerializationChecker;
+import org.apache.wicket.serialize.java.JavaSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.viewer.wicket.model.mementos.ActionMemento;
+import org.apache.isis.viewer.wicket.model.mementos.ActionParameterMemento;
+import org.apache.isis.viewer.wicket.model.mementos.CollectionMemento;
+import org.apache.isis.viewer.wicket.model.mementos.ObjectAdapterMemento;
+import org.apache.isis.viewer.wicket.model.mementos.PropertyMemento;
+import org.apache.isis.viewer.wicket.model.models.ActionModel;
+import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
+import org.apache.isis.viewer.wicket.model.models.EntityModel;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
+
+/**
+ * Serializes Wicket pages (both for the session's page store and the disk store) more compactly than the default
+ * {@link JavaSerializer}.
+ *
+ * <p>
+ *     Regular Java serialization writes out a full class descriptor (class name, serialVersionUID and the name and
+ *     type of every field) for each class the first time that it occurs in a page.  Instead, this serializer writes
+ *     just a one-byte code for the commonly occurring Isis model and memento classes (or otherwise the class name),
+ *     followed by the serialVersionUID and a fingerprint of the serializable fields; when read back the descriptor
+ *     of the class as currently loaded is used.  The Isis model classes themselves (notably
+ *     {@link ObjectAdapterMemento}, many of which can occur in a single page) also write themselves out by hand.
+ * </p>
+ *
+ * <p>
+ *     The consequence is that serialized pages can only be read back if the classes are unchanged; if the
+ *     serialVersionUID or the fields of a class differ from those written then an {@link InvalidClassException} is
+ *     thrown (as for regular serialization of an incompatible class) rather than the page being misread.  As for
+ *     the {@link JavaSerializer}, any object that is not serializable is diagnosed using Wicket's
+ *     {@link ObjectSerializationChecker}, and classes are resolved using the application's
+ *     {@link org.apache.wicket.application.IClassResolver class resolver}.
+ * </p>
+ *
+ * <p>
+ *     Disabled by default; enable using <tt>isis.viewer.wicket.compactSerialization</tt>.
+ * </p>
+ */
+public class SerializerForIsis extends JavaSerializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerializerForIsis.class);
+
+    /**
+     * Never reordered (only appended to); the code for each is its index plus one.
+     */
+    private static final List<Class<?>> WELL_KNOWN_CLASSES = ImmutableList.<Class<?>>of(
+            ObjectAdapterMemento.class,
+            ActionMemento.class,
+            ActionParameterMemento.class,
+            CollectionMemento.class,
+            PropertyMemento.class,
+            EntityModel.class,
+            ScalarModel.class,
+            EntityCollectionModel.class,
+            ActionModel.class,
+            ObjectSpecId.class,
+            Bookmark.class,
+            ArrayList.class,
+            HashMap.class,
+            LinkedHashMap.class);
+
+    private static final int BY_NAME = 0;
+
+    private static final Map<String, Integer> CODE_BY_CLASS_NAME = Maps.newHashMap();
+    static {
+        for (int i = 0; i < WELL_KNOWN_CLASSES.size(); i++) {
+            CODE_BY_CLASS_NAME.put(WELL_KNOWN_CLASSES.get(i).getName(), i + 1);
+        }
+    }
+
+    public SerializerForIsis(final String applicationKey) {
+        super(applicationKey);
+    }
+
+    @Override
+    protected ObjectOutputStream newObjectOutputStream(final OutputStream out) throws IOException {
+        return new CheckingCompactObjectOutputStream(out);
+    }
+
+    @Override
+    protected ObjectInputStream newObjectInputStream(final InputStream in) throws IOException {
+        return new CompactObjectInputStream(in);
+    }
+
+    static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            final Integer code = CODE_BY_CLASS_NAME.get(desc.getName());
+            if(code != null) {
+                writeByte(code);
+            } else {
+                writeByte(BY_NAME);
+                writeUTF(desc.getName());
+            }
+            writeLong(desc.getSerialVersionUID());
+            writeInt(fingerprintOf(desc));
+        }
+    }
+
+    /**
+     * As per Wicket's own (private) <tt>JavaSerializer.SerializationCheckerObjectOutputStream</tt>: writes to a
+     * {@link CompactObjectOutputStream}, but if an object is not serializable then walks the object graph again with
+     * the {@link ObjectSerializationChecker} to report the path to the offending object.
+     */
+    static class CheckingCompactObjectOutputStream extends ObjectOutputStream {
+
+        private final OutputStream outputStream;
+        private final ObjectOutputStream oos;
+
+        CheckingCompactObjectOutputStream(final OutputStream out) throws IOException {
+            this.outputStream = out;
+            this.oos = new CompactObjectOutputStream(out);
+        }
+
+        @Override
+        protected final void writeObjectOverride(final Object obj) throws IOException {
+            try {
+                oos.writeObject(obj);
+            } catch (final NotSerializableException nsx) {
+                if (CheckingObjectOutputStream.isAvailable()) {
+                    try {
+                        // trigger serialization again, but this time gather some more info
+                        new CheckingObjectOutputStream(outputStream, new ObjectSerializationChecker(nsx)).writeObject(obj);
+                    } catch (final CheckingObjectOutputStream.ObjectCheckException ocx) {
+                        throw ocx;
+                    } catch (final Exception x) {
+                        x.initCause(nsx);
+                        throw new WicketRuntimeException(
+                                "A problem occurred while trying to collect debug information about not serializable object", x);
+                    }
+                    // if we get here, we didn't fail, while we should
+                    throw nsx;
+                }
+                throw nsx;
+            } catch (final Exception e) {
+                LOG.error("error writing object " + obj + ": " + e.getMessage(), e);
+                throw new WicketRuntimeException(e);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            oos.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            oos.close();
+        }
+    }
+
+    static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            final int code = readUnsignedByte();
+            final Class<?> cls = code != BY_NAME
+                    ? WELL_KNOWN_CLASSES.get(code - 1)
+                    : resolveClass(readUTF());
+            final long serialVersionUID = readLong();
+            final int fingerprint = readInt();
+
+            final ObjectStreamClass desc = ObjectStreamClass.lookupAny(cls);
+            if(desc.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(cls.getName(),
+                        "local class incompatible: stream classdesc serialVersionUID = " + serialVersionUID +
+                        ", local class serialVersionUID = " + desc.getSerialVersionUID());
+            }
+            if(fingerprintOf(desc) != fingerprint) {
+                throw new InvalidClassException(cls.getName(),
+                        "local class incompatible: serializable fields differ from those of stream classdesc");
+            }
+            return desc;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // the descriptor was obtained from the class itself (see above)
+            final Class<?> cls = desc.forClass();
+            return cls != null ? cls : resolveClass(desc.getName());
+        }
+
+        /**
+         * As per Wicket's own (private) <tt>JavaSerializer.ClassResolverObjectInputStream</tt>: uses the
+         * application's {@link org.apache.wicket.application.IClassResolver}, if there is a current application.
+         */
+        private static Class<?> resolveClass(final String className) throws ClassNotFoundException {
+            if(Application.exists()) {
+                try {
+                    return Application.get().getApplicationSettings().getClassResolver().resolveClass(className);
+                } catch (final WicketRuntimeException ex) {
+                    if(ex.getCause() instanceof ClassNotFoundException) {
+                        throw (ClassNotFoundException) ex.getCause();
+                    }
+                    throw ex;
+                }
+            }
+            return Class.forName(className, false, SerializerForIsis.class.getClassLoader());
+        }
+    }
+
+    /**
+     * The names and types of the serializable fields of the class, which (unlike the serialVersionUID, if declared
+     * explicitly) change whenever the layout of the serialized form changes.
+     */
+    static int fingerprintOf(final ObjectStreamClass desc) {
+        int fingerprint = 1;
+        for (final ObjectStreamField field : desc.getFields()) {
+            // the type string is only available for object (not primitive) fields
+            final String typeString = field.getTypeString();
+            fingerprint = 31 * fingerprint + field.getName().hashCode();
+            fingerprint = 31 * fingerprint + (typeString != null ? typeString.hashCode() : field.getTypeCode());
+        }
+        return fingerprint;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.viewer.integration.wicket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import org.apache.wicket.core.util.objects.checker.CheckingObjectOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.viewer.wicket.model.mementos.ObjectAdapterMemento;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SerializerForIsisTest {
+
+    public static class Customer implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final int age;
+        private final List<ObjectAdapterMemento> orders;
+
+        public Customer(final String name, final int age, final List<ObjectAdapterMemento> orders) {
+            this.name = name;
+            this.age = age;
+            this.orders = orders;
+        }
+    }
+
+    public static class NotSerializable {
+    }
+
+    public static class HoldsNotSerializable implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final NotSerializable notSerializable = new NotSerializable();
+    }
+
+    private SerializerForIsis serializer;
+
+    @Before
+    public void setUp() throws Exception {
+        serializer = new SerializerForIsis("test");
+    }
+
+    @Test
+    public void round_trip() throws Exception {
+        final ObjectAdapterMemento order1 = persistentMemento("ORD", "1");
+        final ObjectAdapterMemento order2 = persistentMemento("ORD", "2");
+        final Map<String, Object> map = new HashMap<>();
+        map.put("customer", new Customer("Fred", 42, new ArrayList<>(Arrays.asList(order1, order2))));
+        map.put("order", order1);
+
+        final Map<?, ?> roundTripped = (Map<?, ?>) serializer.deserialize(serializer.serialize(map));
+
+        final Customer customer = (Customer) roundTripped.get("customer");
+        assertThat(customer.name, is("Fred"));
+        assertThat(customer.age, is(42));
+        assertThat(customer.orders, is(Arrays.asList(order1, order2)));
+        assertThat(roundTripped.get("order"), is((Object) order1));
+    }
+
+    @Test
+    public void round_trip_of_large_view_model() throws Exception {
+        // the oid of a view model holds its entire memento
+        final String memento = Strings.repeat("<customer name='é'/>", 10000);
+        assertThat(memento.getBytes(Charsets.UTF_8).length > 65535, is(true));
+        final ObjectAdapterMemento viewModel = ObjectAdapterMemento.createPersistent(
+                new RootOid(ObjectSpecId.of("CVM"), memento, Oid.State.VIEWMODEL));
+
+        final ObjectAdapterMemento roundTripped =
+                (ObjectAdapterMemento) serializer.deserialize(serializer.serialize(viewModel));
+
+        assertThat(roundTripped, is(viewModel));
+        assertThat(roundTripped.asBookmark().getIdentifier(), is(memento));
+    }
+
+    @Test
+    public void serialVersionUID_mismatch_is_rejected() throws Exception {
+        final byte[] bytes = serializer.serialize(new Customer("Fred", 42, new ArrayList<ObjectAdapterMemento>()));
+
+        // the class name is followed by the serialVersionUID
+        final int suidAt = indexAfterClassName(bytes, Customer.class);
+        System.arraycopy(Longs.toByteArray(2L), 0, bytes, suidAt, 8);
+
+        assertRejectedAsInvalidClass(bytes);
+    }
+
+    @Test
+    public void field_layout_mismatch_is_rejected() throws Exception {
+        final byte[] bytes = serializer.serialize(new Customer("Fred", 42, new ArrayList<ObjectAdapterMemento>()));
+
+        // ... and then by the fingerprint of the fields
+        final int fingerprintAt = indexAfterClassName(bytes, Customer.class) + 8;
+        final int fingerprint = Ints.fromByteArray(Arrays.copyOfRange(bytes, fingerprintAt, fingerprintAt + 4));
+        System.arraycopy(Ints.toByteArray(fingerprint + 1), 0, bytes, fingerprintAt, 4);
+
+        assertRejectedAsInvalidClass(bytes);
+    }
+
+    @Test
+    public void not_serializable_is_diagnosed_by_wicket_checker() throws Exception {
+        final SerializerForIsis.CheckingCompactObjectOutputStream oos =
+                new SerializerForIsis.CheckingCompactObjectOutputStream(new ByteArrayOutputStream());
+        try {
+            oos.writeObject(new HoldsNotSerializable());
+            fail();
+        } catch (final CheckingObjectOutputStream.ObjectCheckException ex) {
+            assertThat(ex.getMessage(), containsString("notSerializable"));
+        }
+    }
+
+    private static ObjectAdapterMemento persistentMemento(final String objectType, final String identifier) {
+        return ObjectAdapterMemento.createPersistent(RootOid.create(ObjectSpecId.of(objectType), identifier));
+    }
+
+    private static int indexAfterClassName(final byte[] bytes, final Class<?> cls) {
+        final byte[] className = cls.getName().getBytes(Charsets.UTF_8);
+        final int idx = Bytes.indexOf(bytes, className);
+        assertThat(idx > 0, is(true));
+        return idx + className.length;
+    }
+
+    private void assertRejectedAsInvalidClass(final byte[] bytes) {
+        try {
+            serializer.deserialize(bytes);
+            fail();
+        } catch (final RuntimeException ex) {
+            assertThat(ex.getCause(), is(instanceOf(InvalidClassException.class)));
+        }
+    }
+
+}
@@ -19,6 +19,9 @@
 
 package org.apache.isis.viewer.wicket.model.mementos;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,8 +29,11 @@
 
 import javax.annotation.Nullable;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Function;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
@@ -343,8 +349,14 @@ public abstract void resetVersion(
 
 
 
-    private final Sort sort;
-    private final ObjectSpecId objectSpecId;
+    /**
+     * Effectively final, but written and read by hand (see {@link #writeObject(ObjectOutputStream)}).
+     */
+    private Sort sort;
+    /**
+     * Effectively final, but written and read by hand (see {@link #writeObject(ObjectOutputStream)}).
+     */
+    private ObjectSpecId objectSpecId;
 
     /**
      * Populated only if {@link #getSort() sort} is {@link Sort#SCALAR scalar}
@@ -376,9 +388,10 @@ public abstract void resetVersion(
      * The current value, if {@link Type#PERSISTENT}, will be <tt>null</tt> otherwise.
      *
      * <p>
-     * Also, populated only if {@link #getSort() sort} is {@link Sort#SCALAR scalar}
+     * Also, populated only if {@link #getSort() sort} is {@link Sort#SCALAR scalar}; not serialized, instead
+     * recreated from the {@link #persistentOidStr} as required.
      */
-    private Bookmark bookmark;
+    private transient Bookmark bookmark;
 
     /**
      * Only populated for {@link ObjectAdapter#getObject() domain object}s that implement {@link HintStore.HintIdProvider}.
@@ -474,6 +487,9 @@ public void resetVersion(
 
     public Bookmark asBookmark() {
         ensureScalar();
+        if(bookmark == null && persistentOidStr != null) {
+            bookmark = RootOid.deString(persistentOidStr).asBookmark();
+        }
         return bookmark;
     }
 
@@ -706,6 +722,85 @@ private void ensureVector() {
         getSort().ensure(Sort.VECTOR);
     }
 
+    //region > serialization
+
+    /**
+     * Object types (and the type prefixes of oids) are interned, so that they are written only once per page (any
+     * subsequent occurrences being written as a back-reference) and are shared by all mementos once read back.
+     */
+    private static final Interner<String> TYPE_IDS = Interners.newWeakInterner();
+
+    private static final char OID_TYPE_SEPARATOR = ':';
+
+    /**
+     * Hand-written rather than using default serialization; there can be very many mementos in a page (eg one per
+     * row of a table), so they are written as compactly as possible.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.writeByte(sort.ordinal());
+        out.writeObject(objectSpecId != null ? TYPE_IDS.intern(objectSpecId.asString()) : null);
+        if(sort == Sort.VECTOR) {
+            out.writeObject(list);
+            return;
+        }
+        out.writeByte(type != null ? type.ordinal() : -1);
+        out.writeObject(titleHint);
+        out.writeObject(encodableValue);
+        writeOidStr(out, persistentOidStr);
+        out.writeObject(hintId);
+        out.writeObject(transientMemento);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        sort = Sort.values()[in.readByte()];
+        final String objectSpecIdStr = (String) in.readObject();
+        objectSpecId = objectSpecIdStr != null ? ObjectSpecId.of(TYPE_IDS.intern(objectSpecIdStr)) : null;
+        if(sort == Sort.VECTOR) {
+            list = (ArrayList<ObjectAdapterMemento>) in.readObject();
+            return;
+        }
+        final byte typeOrdinal = in.readByte();
+        type = typeOrdinal != -1 ? Type.values()[typeOrdinal] : null;
+        titleHint = (String) in.readObject();
+        encodableValue = (String) in.readObject();
+        persistentOidStr = readOidStr(in);
+        hintId = (String) in.readObject();
+        transientMemento = (Memento) in.readObject();
+    }
+
+    /**
+     * Written as the (interned) type prefix followed by the remainder (the identifier and any version).
+     *
+     * <p>
+     *     The remainder is written as length-prefixed UTF-8 bytes rather than using <tt>writeUTF</tt>, which is
+     *     limited to 64KB; the identifier of a view model is its entire memento, which can easily exceed that.
+     * </p>
+     */
+    private static void writeOidStr(final ObjectOutputStream out, final String oidStr) throws IOException {
+        if(oidStr == null) {
+            out.writeObject(null);
+            return;
+        }
+        final int prefixEnd = oidStr.indexOf(OID_TYPE_SEPARATOR) + 1;
+        out.writeObject(TYPE_IDS.intern(oidStr.substring(0, prefixEnd)));
+        final byte[] remainder = oidStr.substring(prefixEnd).getBytes(Charsets.UTF_8);
+        out.writeInt(remainder.length);
+        out.write(remainder);
+    }
+
+    private static String readOidStr(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final String prefix = (String) in.readObject();
+        if(prefix == null) {
+            return null;
+        }
+        final byte[] remainder = new byte[in.readInt()];
+        in.readFully(remainder);
+        return TYPE_IDS.intern(prefix) + new String(remainder, Charsets.UTF_8);
+    }
+
+    //endregion
+
 
 
 }
@@ -36,11 +36,8 @@
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager;
-import org.apache.isis.core.metamodel.consent.Consent;
-import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facets.all.describedas.DescribedAsFacet;
 import org.apache.isis.core.metamodel.facets.members.cssclassfa.CssClassFaPosition;
-import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.runtime.system.context.IsisContext;
@@ -48,7 +45,6 @@
 import org.apache.isis.core.runtime.system.session.IsisSessionFactory;
 import org.apache.isis.viewer.wicket.model.links.LinkAndLabel;
 import org.apache.isis.viewer.wicket.model.mementos.ObjectAdapterMemento;
-import org.apache.isis.viewer.wicket.model.models.ActionModel;
 import org.apache.isis.viewer.wicket.model.models.EntityModel;
 import org.apache.isis.viewer.wicket.ui.components.actionmenu.CssClassFaBehavior;
 import org.apache.isis.viewer.wicket.ui.pages.PageAbstract;
@@ -347,9 +343,9 @@ public void setDescription(String description) {
 
     /**
      * Creates a {@link Builder} for a submenu item invoking an action on the provided {@link ObjectAdapterMemento
-     * target adapter}.
+     * target adapter}, whose visibility (and usability) has already been checked.
      */
-    Builder newSubMenuItem(ServiceAndAction serviceAndAction) {
+    Builder newSubMenuItem(final ServiceAndAction serviceAndAction, final String reasonDisabledIfAny) {
 
     	final EntityModel targetEntityModel = serviceAndAction.serviceEntityModel;
         final ObjectAction objectAction = serviceAndAction.objectAction;
@@ -357,27 +353,6 @@ Builder newSubMenuItem(ServiceAndAction serviceAndAction) {
         final ServiceActionLinkFactory actionLinkFactory = serviceAndAction.linkAndLabelFactory;
 
         final ObjectAdapter serviceAdapter = targetEntityModel.load(AdapterManager.ConcurrencyChecking.NO_CHECK);
-        final ObjectSpecification serviceSpec = serviceAdapter.getSpecification();
-        if (serviceSpec.isHidden()) {
-            return null;
-        }
-
-        // check visibility
-        final Consent visibility = objectAction.isVisible(
-                                        serviceAdapter,
-                                        InteractionInitiatedBy.USER,
-                                        ActionModel.WHERE_FOR_ACTION_INVOCATION);
-        if (visibility.isVetoed()) {
-            return null;
-        }
-
-        // check usability
-        final Consent usability = objectAction.isUsable(
-                                        serviceAdapter,
-                                        InteractionInitiatedBy.USER,
-                                        ActionModel.WHERE_FOR_ACTION_INVOCATION
-        );
-        final String reasonDisabledIfAny = usability.getReason();
 
         final DescribedAsFacet describedAsFacet = objectAction.getFacet(DescribedAsFacet.class);
         final String descriptionIfAny = describedAsFacet != null ? describedAsFacet.value() : null;
@@ -385,7 +360,7 @@ Builder newSubMenuItem(ServiceAndAction serviceAndAction) {
         // build the link
         final LinkAndLabel linkAndLabel = actionLinkFactory.newLink(objectAction, PageAbstract.ID_MENU_LINK, null);
         if (linkAndLabel == null) {
-            // can only get a null if invisible, so this should not happen given the visibility guard above
+            // can only get a null if invisible, so this should not happen given the visibility check when resolved
             return null;
         }
 
@@ -20,6 +20,8 @@
 package org.apache.isis.viewer.wicket.ui.components.actionmenu.serviceactions;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import com.google.common.base.Function;
 import com.google.common.base.Strings;
@@ -46,14 +48,19 @@
 import org.apache.isis.applib.layout.menubars.bootstrap3.BS3Menu;
 import org.apache.isis.applib.layout.menubars.bootstrap3.BS3MenuBar;
 import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.i18n.LocaleProvider;
 import org.apache.isis.applib.services.i18n.TranslationService;
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.consent.Consent;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.runtime.system.IsisSystem;
 import org.apache.isis.core.runtime.system.context.IsisContext;
 import org.apache.isis.core.runtime.system.persistence.PersistenceSession;
 import org.apache.isis.core.runtime.system.session.IsisSessionFactoryBuilder;
+import org.apache.isis.viewer.wicket.model.models.ActionModel;
 import org.apache.isis.viewer.wicket.model.models.EntityModel;
 import org.apache.isis.viewer.wicket.model.models.ServiceActionsModel;
 import org.apache.isis.viewer.wicket.ui.components.actionmenu.CssClassFaBehavior;
@@ -225,10 +232,65 @@ public String apply(final ObjectAdapter objectAdapter) {
         final ImmutableBiMap<String, ObjectAdapter> serviceAdapterByOid = ImmutableBiMap
                 .copyOf(oidByServiceAdapter).inverse();
 
+        final ServiceMenuCache serviceMenuCache = ServiceMenuCache.current();
+        final String cacheKey = serviceMenuCache.isEnabled()
+                ? ServiceMenuCache.keyFor(getAuthenticationSession(), getLocale(), serviceActionsModel.getMenuBar())
+                : null;
+        List<ServiceMenuCache.ResolvedMenu> resolvedMenus = serviceMenuCache.get(cacheKey, menuBars);
+        if(resolvedMenus == null) {
+            resolvedMenus = resolveMenus(menuBar, serviceAdapterByOid);
+            serviceMenuCache.put(cacheKey, menuBars, resolvedMenus);
+        }
+
         final List<CssMenuItem> menuItems = Lists.newArrayList();
+        for (final ServiceMenuCache.ResolvedMenu resolvedMenu : resolvedMenus) {
+
+            final CssMenuItem serviceMenu = CssMenuItem.newMenuItem(resolvedMenu.name).build();
+
+            for (final ServiceMenuCache.ResolvedAction resolvedAction : resolvedMenu.actions) {
+                final ObjectAdapter serviceAdapter = serviceAdapterByOid.get(resolvedAction.serviceOid);
+                final ObjectAction objectAction = serviceAdapter != null
+                        ? serviceAdapter.getSpecification().getObjectAction(resolvedAction.actionId)
+                        : null;
+                if(objectAction == null) {
+                    continue;
+                }
+                String disabledReason = resolvedAction.disabledReason;
+                if(resolvedAction.reevaluate) {
+                    if(!isVisible(serviceAdapter, objectAction)) {
+                        continue;
+                    }
+                    disabledReason = disabledReasonFor(serviceAdapter, objectAction);
+                }
+                final ServiceAndAction serviceAndAction =
+                        new ServiceAndAction(resolvedAction.named, new EntityModel(serviceAdapter), objectAction);
+                serviceAndAction.separator = resolvedAction.separator;
+
+                final CssMenuItem.Builder subMenuItemBuilder =
+                        serviceMenu.newSubMenuItem(serviceAndAction, disabledReason);
+                if (subMenuItemBuilder == null) {
+                    continue;
+                }
+                subMenuItemBuilder.build();
+            }
+            if (serviceMenu.hasSubMenuItems()) {
+                menuItems.add(serviceMenu);
+            }
+        }
+        return menuItems;
+    }
+
+    /**
+     * Determines which of the service actions of each menu are visible to the current user, and which are disabled.
+     */
+    private static List<ServiceMenuCache.ResolvedMenu> resolveMenus(
+            final BS3MenuBar menuBar,
+            final Map<String, ObjectAdapter> serviceAdapterByOid) {
+
+        final List<ServiceMenuCache.ResolvedMenu> resolvedMenus = Lists.newArrayList();
         for (final BS3Menu menu : menuBar.getMenus()) {
 
-            final CssMenuItem serviceMenu = CssMenuItem.newMenuItem(menu.getNamed()).build();
+            final List<ServiceMenuCache.ResolvedAction> resolvedActions = Lists.newArrayList();
 
             for (final MenuSection menuSection : menu.getSections()) {
 
@@ -243,34 +305,70 @@ public String apply(final ObjectAdapter objectAdapter) {
                         // service not recognised, presumably the menu layout is out of sync with actual configured modules
                         continue;
                     }
-                    final EntityModel entityModel = new EntityModel(serviceAdapter);
                     final ObjectAction objectAction = serviceAdapter.getSpecification()
                             .getObjectAction(actionLayoutData.getId());
                     if(objectAction == null) {
                         LOG.warn("No such action {}", actionLayoutData.getId());
                         continue;
                     }
-                    final ServiceAndAction serviceAndAction =
-                            new ServiceAndAction(actionLayoutData.getNamed(), entityModel, objectAction);
 
-                    if(firstSection) {
-                        serviceAndAction.separator = true;
-                        firstSection = false;
+                    final boolean separator = firstSection;
+                    firstSection = false;
+
+                    if (serviceAdapter.getSpecification().isHidden()) {
+                        continue;
+                    }
+
+                    // depends on more than just the user, so leave to be checked whenever rendered
+                    if (ServiceMenuCache.isReevaluated(serviceAdapter, objectAction)) {
+                        resolvedActions.add(new ServiceMenuCache.ResolvedAction(
+                                oid, actionLayoutData.getId(), actionLayoutData.getNamed(), separator,
+                                true, null));
+                        continue;
                     }
 
-                    final CssMenuItem.Builder subMenuItemBuilder = serviceMenu.newSubMenuItem(serviceAndAction);
-                    if (subMenuItemBuilder == null) {
-                        // either service or this action is not visible
+                    // check visibility
+                    if (!isVisible(serviceAdapter, objectAction)) {
                         continue;
                     }
-                    subMenuItemBuilder.build();
+
+                    // check usability
+                    resolvedActions.add(new ServiceMenuCache.ResolvedAction(
+                            oid, actionLayoutData.getId(), actionLayoutData.getNamed(), separator,
+                            false, disabledReasonFor(serviceAdapter, objectAction)));
                 }
             }
-            if (serviceMenu.hasSubMenuItems()) {
-                menuItems.add(serviceMenu);
+            if (!resolvedActions.isEmpty()) {
+                resolvedMenus.add(new ServiceMenuCache.ResolvedMenu(menu.getNamed(), resolvedActions));
             }
         }
-        return menuItems;
+        return resolvedMenus;
+    }
+
+    private static boolean isVisible(final ObjectAdapter serviceAdapter, final ObjectAction objectAction) {
+        final Consent visibility = objectAction.isVisible(
+                serviceAdapter,
+                InteractionInitiatedBy.USER,
+                ActionModel.WHERE_FOR_ACTION_INVOCATION);
+        return !visibility.isVetoed();
+    }
+
+    private static String disabledReasonFor(final ObjectAdapter serviceAdapter, final ObjectAction objectAction) {
+        final Consent usability = objectAction.isUsable(
+                serviceAdapter,
+                InteractionInitiatedBy.USER,
+                ActionModel.WHERE_FOR_ACTION_INVOCATION);
+        return usability.getReason();
+    }
+
+    private static AuthenticationSession getAuthenticationSession() {
+        return IsisContext.getSessionFactory().getCurrentSession().getAuthenticationSession();
+    }
+
+    private static Locale getLocale() {
+        final LocaleProvider localeProvider =
+                IsisContext.getSessionFactory().getServicesInjector().lookupService(LocaleProvider.class);
+        return localeProvider != null ? localeProvider.getLocale() : null;
     }
 
 
@@ -0,0 +1,236 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.ui.components.actionmenu.serviceactions;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+
+import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+
+import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.filter.Filters;
+import org.apache.isis.applib.layout.menubars.MenuBars;
+import org.apache.isis.core.commons.authentication.AuthenticationSession;
+import org.apache.isis.core.commons.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.object.disabled.DisabledObjectFacet;
+import org.apache.isis.core.metamodel.facets.object.hidden.HiddenObjectFacet;
+import org.apache.isis.core.metamodel.facets.object.hidden.method.HiddenObjectFacetViaMethod;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+
+/**
+ * Application-scoped cache of the service menus as resolved for each user, that is, which service actions are
+ * visible and the reason (if any) that each is disabled, keyed by user name, roles, locale and
+ * {@link DomainServiceLayout.MenuBar menu bar}.
+ *
+ * <p>
+ *     This saves re-evaluating the visibility and usability of every service action each time a page's header is
+ *     rendered.  (The menu items themselves hold Wicket components, so can't be shared between pages; these are still
+ *     built for each page from the cached structure).  A cached menu is only used for the {@link MenuBars} from which
+ *     it was resolved, so is implicitly invalidated whenever the menu bars layout is reloaded; a change in a user's
+ *     roles likewise results in a different key.  Any other change to permissions (eg to those of an existing
+ *     role) requires {@link #invalidateAll()} to be called.
+ * </p>
+ *
+ * <p>
+ *     The cache is disabled unless its {@link #MAX_SIZE_KEY maximum size} is configured.  Even then, actions with
+ *     imperative <tt>hideXxx()</tt> or <tt>disableXxx()</tt> supporting methods (or whose service has
+ *     <tt>hidden()</tt> or <tt>disabled()</tt> methods) are {@link #isReevaluated(ObjectAdapter, ObjectAction) always
+ *     re-evaluated}.  However, vetoes by domain event subscribers cannot be detected, so only enable the cache if
+ *     any such subscribers hide or disable service actions based on the user alone.
+ * </p>
+ */
+public class ServiceMenuCache {
+
+    public static final MetaDataKey<ServiceMenuCache> KEY = new MetaDataKey<ServiceMenuCache>() {
+    };
+
+    public static final String MAX_SIZE_KEY = "isis.viewer.wicket.serviceMenuCache.maxSize";
+    public static final int MAX_SIZE_DEFAULT = 0;
+
+    public static final ServiceMenuCache DISABLED = new ServiceMenuCache(0);
+
+    public static ServiceMenuCache create(final IsisConfiguration configuration) {
+        final int maxSize = configuration.getInteger(MAX_SIZE_KEY, MAX_SIZE_DEFAULT);
+        return maxSize > 0 ? new ServiceMenuCache(maxSize) : DISABLED;
+    }
+
+    /**
+     * The cache registered with the current Wicket application, else {@link #DISABLED}.
+     */
+    public static ServiceMenuCache current() {
+        final ServiceMenuCache cache = Application.exists() ? Application.get().getMetaData(KEY) : null;
+        return cache != null ? cache : DISABLED;
+    }
+
+    //region > ResolvedMenu, ResolvedAction
+
+    /**
+     * A menu, with those of its service actions that are visible to the user.
+     */
+    static class ResolvedMenu {
+        final String name;
+        final List<ResolvedAction> actions;
+
+        ResolvedMenu(final String name, final List<ResolvedAction> actions) {
+            this.name = name;
+            this.actions = ImmutableList.copyOf(actions);
+        }
+    }
+
+    static class ResolvedAction {
+        final String serviceOid;
+        final String actionId;
+        /**
+         * As specified by the menu bars layout, if at all.
+         */
+        final String named;
+        final boolean separator;
+        /**
+         * If set, then the visibility and usability of the action must be checked each time the menu is rendered;
+         * the action is in the menu (and {@link #disabledReason} is <tt>null</tt>) irrespective.
+         */
+        final boolean reevaluate;
+        final String disabledReason;
+
+        ResolvedAction(
+                final String serviceOid,
+                final String actionId,
+                final String named,
+                final boolean separator,
+                final boolean reevaluate,
+                final String disabledReason) {
+            this.serviceOid = serviceOid;
+            this.actionId = actionId;
+            this.named = named;
+            this.separator = separator;
+            this.reevaluate = reevaluate;
+            this.disabledReason = disabledReason;
+        }
+    }
+
+    //endregion
+
+    private static class ResolvedMenus {
+        private final MenuBars menuBars;
+        private final List<ResolvedMenu> menus;
+
+        private ResolvedMenus(final MenuBars menuBars, final List<ResolvedMenu> menus) {
+            this.menuBars = menuBars;
+            this.menus = ImmutableList.copyOf(menus);
+        }
+    }
+
+    private final Cache<String, ResolvedMenus> menusByKey;
+
+    ServiceMenuCache(final int maxSize) {
+        this.menusByKey = maxSize > 0
+                ? CacheBuilder.newBuilder().maximumSize(maxSize).<String, ResolvedMenus>build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return menusByKey != null;
+    }
+
+    /**
+     * @return the menus cached for this key, or <tt>null</tt> if none were resolved from these menu bars.
+     */
+    List<ResolvedMenu> get(final String key, final MenuBars menuBars) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final ResolvedMenus resolved = menusByKey.getIfPresent(key);
+        return resolved != null && resolved.menuBars == menuBars ? resolved.menus : null;
+    }
+
+    void put(final String key, final MenuBars menuBars, final List<ResolvedMenu> menus) {
+        if (!isEnabled()) {
+            return;
+        }
+        menusByKey.put(key, new ResolvedMenus(menuBars, menus));
+    }
+
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        menusByKey.invalidateAll();
+    }
+
+    public long size() {
+        return isEnabled() ? menusByKey.size() : 0;
+    }
+
+    static String keyFor(
+            final AuthenticationSession authenticationSession,
+            final Locale locale,
+            final DomainServiceLayout.MenuBar menuBar) {
+        final List<String> roles = Ordering.natural().sortedCopy(authenticationSession.getRoles());
+        return Joiner.on('|').useForNull("").join(
+                authenticationSession.getUserName(), Joiner.on(',').join(roles), locale, menuBar);
+    }
+
+    /**
+     * Whether the visibility or usability of this service action depends on state other than the user, namely if
+     * it has imperative <tt>hideXxx()</tt> or <tt>disableXxx()</tt> supporting methods, or its service has
+     * <tt>hidden()</tt> or <tt>disabled()</tt> methods.
+     */
+    static boolean isReevaluated(final ObjectAdapter serviceAdapter, final ObjectAction objectAction) {
+        final ObjectSpecification serviceSpec = serviceAdapter.getSpecification();
+        return hasImperativeHideOrDisable(objectAction)
+                || isImperative(serviceSpec.getFacet(HiddenObjectFacet.class))
+                || isImperative(serviceSpec.getFacet(DisabledObjectFacet.class));
+    }
+
+    private static boolean hasImperativeHideOrDisable(final FacetHolder facetHolder) {
+        for (final Facet facet : facetHolder.getFacets(Filters.anyOfType(Facet.class))) {
+            final ImperativeFacet imperativeFacet = ImperativeFacet.Util.getImperativeFacet(facet);
+            if (imperativeFacet == null) {
+                continue;
+            }
+            for (final Method method : imperativeFacet.getMethods()) {
+                final ImperativeFacet.Intent intent = imperativeFacet.getIntent(method);
+                if (intent == ImperativeFacet.Intent.CHECK_IF_HIDDEN || intent == ImperativeFacet.Intent.CHECK_IF_DISABLED) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isImperative(final Facet facet) {
+        return facet instanceof HiddenObjectFacetViaMethod
+                || (facet != null && ImperativeFacet.Util.isImperativeFacet(facet));
+    }
+
+}
@@ -27,6 +27,8 @@
 
 import org.apache.wicket.markup.html.link.AbstractLink;
 import org.apache.wicket.markup.html.link.Link;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.isis.applib.RecoverableException;
 import org.apache.isis.applib.annotation.Bulk;
@@ -38,8 +40,10 @@
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.core.commons.authentication.AuthenticationSession;
 import org.apache.isis.core.commons.authentication.MessageBroker;
+import org.apache.isis.core.commons.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
 import org.apache.isis.core.metamodel.adapter.mgr.AdapterManager.ConcurrencyChecking;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.adapter.version.ConcurrencyException;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.services.ServicesInjector;
@@ -62,6 +66,15 @@
 public final class BulkActionsLinkFactory implements ActionLinkFactory {
 
     private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkActionsLinkFactory.class);
+
+    /**
+     * The number of objects acted upon within each transaction; defaults to 1 (each object in its own transaction).
+     */
+    public static final String TRANSACTION_CHUNK_SIZE_KEY = "isis.viewer.wicket.bulkActions.transactionChunkSize";
+    public static final int TRANSACTION_CHUNK_SIZE_DEFAULT = 1;
+
     private final EntityCollectionModel model;
 
     private final ObjectAdapterToggleboxColumn toggleboxColumn;
@@ -94,9 +107,18 @@ public void onClick() {
                 final ConcurrencyChecking concurrencyChecking =
                         ConcurrencyChecking.concurrencyCheckingFor(objectAction.getSemantics());
 
+                int numParameters = objectAction.getParameterCount();
+                if(numParameters != 0) {
+                    return;
+                }
+
                 try {
                     final List<ObjectAdapterMemento> toggleMementosList = model.getToggleMementosList();
 
+                    // load all persistent objects (not yet loaded) in a single batch,
+                    // so that resolving each memento below is then just a lookup
+                    getPersistenceSession().adaptersFor(persistentOidsWithin(toggleMementosList));
+
                     final List<ObjectAdapter> toggledAdapters =
                             FluentIterable.from(toggleMementosList)
                             .transform(
@@ -121,24 +143,24 @@ concurrencyChecking, getPersistenceSession(), getSpecificationLoader()))
 
 
 
+                    final CommandContext commandContext = getServicesInjector().lookupService(CommandContext.class);
+                    final TransactionService transactionService =
+                            getServicesInjector().lookupService(TransactionService.class);
+                    final int chunkSize = transactionChunkSize(getPersistenceSession().getConfiguration());
+
                     ObjectAdapter lastReturnedAdapter = null;
                     int i=0;
                     for(final ObjectAdapter adapter : toggledAdapters) {
 
-                        final CommandContext commandContext = getServicesInjector().lookupService(CommandContext.class);
-                        final Command command;
                         if (commandContext != null) {
-                            command = commandContext.getCommand();
+                            final Command command = commandContext.getCommand();
                             command.setExecutor(Executor.USER);
                         }
 
-                        int numParameters = objectAction.getParameterCount();
-                        if(numParameters != 0) {
-                            return;
-                        }
                         if (bulkInteractionContext != null) {
-                            bulkInteractionContext.setIndex(i++);
+                            bulkInteractionContext.setIndex(i);
                         }
+                        i++;
 
                         final ObjectAdapter mixedInAdapter = null;
                         final ObjectAdapter[] arguments = {};
@@ -147,9 +169,14 @@ concurrencyChecking, getPersistenceSession(), getSpecificationLoader()))
                                 adapter, mixedInAdapter, arguments,
                                 InteractionInitiatedBy.USER, ActionModel.WHERE_FOR_ACTION_INVOCATION
                         );
-                        TransactionService transactionService =
-                                getServicesInjector().lookupService(TransactionService.class);
-                        transactionService.nextTransaction();
+
+                        // commit (and so audit and publish) once per chunk, rather than once per object
+                        if (isEndOfChunk(i, toggledAdapters.size(), chunkSize)) {
+                            transactionService.nextTransaction();
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("{}: committed {} of {}", objectAction.getId(), i, toggledAdapters.size());
+                            }
+                        }
                     }
 
 
@@ -238,6 +265,43 @@ public boolean apply(ObjectAdapter input) {
         return LinkAndLabel.newLinkAndLabel(objectAdapter, objectAction, link, disabledReasonIfAny, blobOrClob);
     }
 
+    //region > helpers
+
+    /**
+     * The oids of those mementos that represent persistent entities, which can therefore be loaded in a single batch.
+     */
+    static List<RootOid> persistentOidsWithin(final List<ObjectAdapterMemento> mementos) {
+        return FluentIterable.from(mementos)
+                .filter(new Predicate<ObjectAdapterMemento>() {
+                    @Override
+                    public boolean apply(final ObjectAdapterMemento oam) {
+                        return oam.asBookmark() != null;
+                    }
+                })
+                .transform(ObjectAdapterMemento.Functions.toOid())
+                .filter(new Predicate<RootOid>() {
+                    @Override
+                    public boolean apply(final RootOid rootOid) {
+                        return rootOid.isPersistent() && !rootOid.isViewModel();
+                    }
+                })
+                .toList();
+    }
+
+    static int transactionChunkSize(final IsisConfiguration configuration) {
+        return Math.max(configuration.getInteger(TRANSACTION_CHUNK_SIZE_KEY, TRANSACTION_CHUNK_SIZE_DEFAULT), 1);
+    }
+
+    /**
+     * Whether the transaction should be committed having acted upon <tt>numActedUpon</tt> of the <tt>numToActUpon</tt>
+     * objects: at the end of every chunk, and after the last object (if that ends a partial chunk).
+     */
+    static boolean isEndOfChunk(final int numActedUpon, final int numToActUpon, final int chunkSize) {
+        return numActedUpon % chunkSize == 0 || numActedUpon == numToActUpon;
+    }
+
+    //endregion
+
     ///////////////////////////////////////////////////////
     // Dependencies (from context)
     ///////////////////////////////////////////////////////
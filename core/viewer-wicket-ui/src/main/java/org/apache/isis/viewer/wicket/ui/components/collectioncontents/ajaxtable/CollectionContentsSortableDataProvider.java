@@ -19,9 +19,11 @@
 
 package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -42,6 +44,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.ObjectSpecificationException;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
 import org.apache.isis.viewer.wicket.model.models.EntityModel;
 
@@ -110,13 +113,27 @@ private List<ObjectAdapter> sortedCopy(
             final SortParam<String> sort) {
 
         final ObjectAssociation sortProperty = lookupAssociationFor(sort);
-        if(sortProperty == null) {
+        if(!(sortProperty instanceof OneToOneAssociation)) {
             return Lists.newArrayList(adapters);
         }
 
-        final Ordering<ObjectAdapter> ordering =
-                orderingBy(sortProperty, sort.isAscending());
-        return ordering.sortedCopy(adapters);
+        // read each sort value only once (rather than on every comparison), and as a pojo rather than an adapter
+        final OneToOneAssociation sortOneToOne = (OneToOneAssociation) sortProperty;
+        final List<AdapterAndSortValue> adaptersAndSortValues = Lists.newArrayList();
+        for (final ObjectAdapter adapter : adapters) {
+            adaptersAndSortValues.add(new AdapterAndSortValue(adapter, sortOneToOne.getRawValue(adapter)));
+        }
+
+        final Ordering<Object> ordering = sort.isAscending()
+                ? ORDERING_BY_NATURAL.nullsFirst()
+                : ORDERING_BY_NATURAL.reverse().nullsLast();
+        Collections.sort(adaptersAndSortValues, ordering.onResultOf(AdapterAndSortValue.SORT_VALUE));
+
+        final List<ObjectAdapter> sorted = Lists.newArrayListWithCapacity(adaptersAndSortValues.size());
+        for (final AdapterAndSortValue adapterAndSortValue : adaptersAndSortValues) {
+            sorted.add(adapterAndSortValue.adapter);
+        }
+        return sorted;
     }
 
     private ObjectAssociation lookupAssociationFor(final SortParam<String> sort) {
@@ -153,30 +170,26 @@ private VisibilityContext<?> createVisibleInteractionContext(final ObjectAdapter
                 Where.ALL_TABLES);
     }
 
-    private static Ordering<ObjectAdapter> orderingBy(final ObjectAssociation sortProperty, final boolean ascending) {
-        final Ordering<ObjectAdapter> ordering = new Ordering<ObjectAdapter>(){
-    
+    private static class AdapterAndSortValue {
+        private final ObjectAdapter adapter;
+        private final Object sortValue;
+
+        AdapterAndSortValue(final ObjectAdapter adapter, final Object sortValue) {
+            this.adapter = adapter;
+            this.sortValue = sortValue;
+        }
+
+        static final Function<AdapterAndSortValue, Object> SORT_VALUE = new Function<AdapterAndSortValue, Object>() {
             @Override
-            public int compare(final ObjectAdapter p, final ObjectAdapter q) {
-                final ObjectAdapter pSort = sortProperty.get(p, InteractionInitiatedBy.FRAMEWORK);
-                final ObjectAdapter qSort = sortProperty.get(q, InteractionInitiatedBy.FRAMEWORK);
-                Ordering<ObjectAdapter> naturalOrdering;
-                if(ascending){
-                    naturalOrdering = ORDERING_BY_NATURAL.nullsFirst();
-                } else {
-                    naturalOrdering = ORDERING_BY_NATURAL.reverse().nullsLast();
-                }
-                return naturalOrdering.compare(pSort, qSort);
+            public Object apply(final AdapterAndSortValue input) {
+                return input.sortValue;
             }
         };
-        return ordering;
     }
 
-    private static Ordering<ObjectAdapter> ORDERING_BY_NATURAL = new Ordering<ObjectAdapter>(){
+    private static Ordering<Object> ORDERING_BY_NATURAL = new Ordering<Object>(){
         @Override
-        public int compare(final ObjectAdapter p, final ObjectAdapter q) {
-            final Object pPojo = p.getObject();
-            final Object qPojo = q.getObject();
+        public int compare(final Object pPojo, final Object qPojo) {
             if(!(pPojo instanceof Comparable) || !(qPojo instanceof Comparable)) {
                 return 0;
             } 
@@ -0,0 +1,193 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.ui.components.scalars.isisapplib;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.common.base.Charsets;
+
+import org.apache.wicket.util.lang.Bytes;
+import org.apache.wicket.util.resource.AbstractResourceStream;
+import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
+
+import org.apache.isis.applib.value.Blob;
+import org.apache.isis.applib.value.Clob;
+import org.apache.isis.applib.value.NamedWithMimeType;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
+
+/**
+ * Streams the {@link Blob} or {@link Clob} held by a (detachable) {@link ScalarModel}.
+ *
+ * <p>
+ *     The value is only obtained from the model when the resource is actually requested, so (unlike a
+ *     <tt>ByteArrayResource</tt>) the content is never serialized along with the page.  Used with a
+ *     <tt>ResourceStreamResource</tt>, which also honours HTTP range requests.
+ * </p>
+ *
+ * <p>
+ *     Neither value is copied: a blob's bytes are read in place, and a clob's characters are encoded to UTF-8 a
+ *     chunk at a time as the response is written.  (The value itself is of course still held in memory by the
+ *     domain object.)
+ * </p>
+ */
+public class IsisBlobOrClobResourceStream extends AbstractResourceStream {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ScalarModel scalarModel;
+
+    public IsisBlobOrClobResourceStream(final ScalarModel scalarModel) {
+        this.scalarModel = scalarModel;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentTypeOf(getBlobOrClob());
+    }
+
+    /**
+     * The base type of the value's mime type; for a {@link Clob}, qualified by the charset that its characters are
+     * {@link ClobInputStream encoded} in.
+     */
+    static String contentTypeOf(final NamedWithMimeType blobOrClob) {
+        if (blobOrClob == null) {
+            return null;
+        }
+        final String baseType = blobOrClob.getMimeType().getBaseType();
+        return blobOrClob instanceof Clob ? baseType + ";charset=UTF-8" : baseType;
+    }
+
+    @Override
+    public Bytes length() {
+        final NamedWithMimeType blobOrClob = getBlobOrClob();
+        if (blobOrClob instanceof Blob) {
+            return Bytes.bytes(((Blob) blobOrClob).getBytes().length);
+        }
+        if (blobOrClob instanceof Clob) {
+            return Bytes.bytes(ClobInputStream.utf8Length(((Clob) blobOrClob).getChars()));
+        }
+        return Bytes.bytes(0);
+    }
+
+    @Override
+    public InputStream getInputStream() throws ResourceStreamNotFoundException {
+        final NamedWithMimeType blobOrClob = getBlobOrClob();
+        if (blobOrClob instanceof Blob) {
+            return new ByteArrayInputStream(((Blob) blobOrClob).getBytes());
+        }
+        if (blobOrClob instanceof Clob) {
+            return new ClobInputStream(((Clob) blobOrClob).getChars());
+        }
+        throw new ResourceStreamNotFoundException("No value for " + scalarModel.getName());
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+
+    private NamedWithMimeType getBlobOrClob() {
+        final ObjectAdapter adapter = scalarModel.getObject();
+        final Object value = adapter != null ? adapter.getObject() : null;
+        return value instanceof NamedWithMimeType ? (NamedWithMimeType) value : null;
+    }
+
+    /**
+     * Encodes a {@link CharSequence} as UTF-8, {@link #CHUNK_SIZE} characters at a time.
+     */
+    static class ClobInputStream extends InputStream {
+
+        private static final int CHUNK_SIZE = 8 * 1024;
+
+        private final CharSequence chars;
+        private int charPos;
+        private byte[] chunk = new byte[0];
+        private int chunkPos;
+
+        ClobInputStream(final CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk[chunkPos++] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            final int n = Math.min(len, chunk.length - chunkPos);
+            System.arraycopy(chunk, chunkPos, b, off, n);
+            chunkPos += n;
+            return n;
+        }
+
+        private boolean fill() {
+            while (chunkPos >= chunk.length) {
+                if (charPos >= chars.length()) {
+                    return false;
+                }
+                int end = Math.min(charPos + CHUNK_SIZE, chars.length());
+                if (end < chars.length() && Character.isHighSurrogate(chars.charAt(end - 1))) {
+                    // don't split a surrogate pair across chunks
+                    end--;
+                }
+                chunk = chars.subSequence(charPos, end).toString().getBytes(Charsets.UTF_8);
+                chunkPos = 0;
+                charPos = end;
+            }
+            return true;
+        }
+
+        /**
+         * The number of bytes that {@link ClobInputStream} will produce, without encoding.
+         */
+        static long utf8Length(final CharSequence chars) {
+            long length = 0;
+            final int n = chars.length();
+            for (int i = 0; i < n; i++) {
+                final char ch = chars.charAt(i);
+                if (ch < 0x80) {
+                    length += 1;
+                } else if (ch < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(ch) && i + 1 < n && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    // includes unpaired surrogates, which are encoded as '?'
+                    length += Character.isSurrogate(ch) ? 1 : 3;
+                }
+            }
+            return length;
+        }
+    }
+
+}
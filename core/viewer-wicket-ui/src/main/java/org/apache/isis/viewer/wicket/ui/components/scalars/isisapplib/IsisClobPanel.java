@@ -24,8 +24,9 @@
 import java.util.List;
 import com.google.common.base.Charsets;
 import org.apache.wicket.markup.html.form.upload.FileUpload;
-import org.apache.wicket.request.resource.CharSequenceResource;
+import org.apache.wicket.request.resource.ContentDisposition;
 import org.apache.wicket.request.resource.IResource;
+import org.apache.wicket.request.resource.ResourceStreamResource;
 import org.apache.isis.applib.value.Clob;
 import org.apache.isis.viewer.wicket.model.models.ScalarModel;
 
@@ -56,7 +57,9 @@ protected Clob getBlobOrClobFrom(final List<FileUpload> fileUploads) {
     }
 
     protected IResource newResource(final Clob clob) {
-        return new CharSequenceResource(clob.getMimeType().getBaseType(), clob.getChars(), clob.getName());
+        return new ResourceStreamResource(new IsisBlobOrClobResourceStream(getModel()))
+                .setFileName(clob.getName())
+                .setContentDisposition(ContentDisposition.ATTACHMENT);
     }
 
 }
\ No newline at end of file
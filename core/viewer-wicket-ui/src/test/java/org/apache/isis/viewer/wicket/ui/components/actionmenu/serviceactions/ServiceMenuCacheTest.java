@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.viewer.wicket.ui.components.actionmenu.serviceactions;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.filter.Filter;
+import org.apache.isis.applib.layout.menubars.bootstrap3.BS3MenuBars;
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+import org.apache.isis.core.metamodel.adapter.ObjectAdapter;
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.object.disabled.DisabledObjectFacet;
+import org.apache.isis.core.metamodel.facets.object.hidden.HiddenObjectFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.runtime.authentication.standard.SimpleSession;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.unittestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ServiceMenuCacheTest {
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock
+    private ObjectAdapter mockServiceAdapter;
+    @Mock
+    private ObjectSpecification mockServiceSpec;
+    @Mock
+    private ObjectAction mockObjectAction;
+    @Mock
+    private ImperativeFacet mockImperativeFacet;
+
+    private final List<ServiceMenuCache.ResolvedMenu> menus = Collections.singletonList(
+            new ServiceMenuCache.ResolvedMenu("Customers", Collections.singletonList(
+                    new ServiceMenuCache.ResolvedAction("customers:1", "findByName", null, true, false, null))));
+
+    @Test
+    public void cached_for_same_menu_bars() throws Exception {
+        final ServiceMenuCache cache = new ServiceMenuCache(10);
+        final BS3MenuBars menuBars = new BS3MenuBars();
+
+        cache.put("key", menuBars, menus);
+
+        assertThat(cache.get("key", menuBars), is(menus));
+        assertThat(cache.get("otherKey", menuBars), is(nullValue()));
+    }
+
+    @Test
+    public void not_used_once_menu_bars_reloaded() throws Exception {
+        final ServiceMenuCache cache = new ServiceMenuCache(10);
+        cache.put("key", new BS3MenuBars(), menus);
+
+        assertThat(cache.get("key", new BS3MenuBars()), is(nullValue()));
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        final ServiceMenuCache cache = new ServiceMenuCache(10);
+        final BS3MenuBars menuBars = new BS3MenuBars();
+        cache.put("key", menuBars, menus);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("key", menuBars), is(nullValue()));
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        final BS3MenuBars menuBars = new BS3MenuBars();
+        ServiceMenuCache.DISABLED.put("key", menuBars, menus);
+
+        assertThat(ServiceMenuCache.DISABLED.isEnabled(), is(false));
+        assertThat(ServiceMenuCache.DISABLED.get("key", menuBars), is(nullValue()));
+    }
+
+    @Test
+    public void key_independent_of_order_of_roles() throws Exception {
+        final String key = ServiceMenuCache.keyFor(
+                new SimpleSession("fred", new String[] { "user", "admin" }), Locale.UK,
+                DomainServiceLayout.MenuBar.PRIMARY);
+
+        assertThat(ServiceMenuCache.keyFor(
+                new SimpleSession("fred", new String[] { "admin", "user" }), Locale.UK,
+                DomainServiceLayout.MenuBar.PRIMARY), is(key));
+        assertThat(ServiceMenuCache.keyFor(
+                new SimpleSession("fred", new String[] { "user" }), Locale.UK,
+                DomainServiceLayout.MenuBar.PRIMARY), is(not(key)));
+        assertThat(ServiceMenuCache.keyFor(
+                new SimpleSession("fred", new String[] { "user", "admin" }), Locale.FRANCE,
+                DomainServiceLayout.MenuBar.PRIMARY), is(not(key)));
+        assertThat(ServiceMenuCache.keyFor(
+                new SimpleSession("fred", new String[] { "user", "admin" }), null,
+                DomainServiceLayout.MenuBar.SECONDARY), is(not(key)));
+    }
+
+    @Test
+    public void disabled_unless_configured() throws Exception {
+        assertThat(ServiceMenuCache.create(new IsisConfigurationDefault()).isEnabled(), is(false));
+
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        configuration.put(ServiceMenuCache.MAX_SIZE_KEY, "100");
+        assertThat(ServiceMenuCache.create(configuration).isEnabled(), is(true));
+    }
+
+    @Test
+    public void reevaluated_if_imperatively_disabled() throws Exception {
+        final Method disableMethod = ServiceMenuCacheTest.class.getMethod("reevaluated_if_imperatively_disabled");
+        context.checking(new Expectations() {{
+            allowing(mockServiceAdapter).getSpecification();
+            will(returnValue(mockServiceSpec));
+            allowing(mockObjectAction).getFacets(with(any(Filter.class)));
+            will(returnValue(Collections.<Facet>singletonList(mockImperativeFacet)));
+            allowing(mockImperativeFacet).getMethods();
+            will(returnValue(Collections.singletonList(disableMethod)));
+            allowing(mockImperativeFacet).getIntent(disableMethod);
+            will(returnValue(ImperativeFacet.Intent.CHECK_IF_DISABLED));
+        }});
+
+        assertThat(ServiceMenuCache.isReevaluated(mockServiceAdapter, mockObjectAction), is(true));
+    }
+
+    @Test
+    public void not_reevaluated_if_no_imperative_hide_or_disable() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockServiceAdapter).getSpecification();
+            will(returnValue(mockServiceSpec));
+            allowing(mockObjectAction).getFacets(with(any(Filter.class)));
+            will(returnValue(Collections.<Facet>emptyList()));
+            allowing(mockServiceSpec).getFacet(HiddenObjectFacet.class);
+            will(returnValue(null));
+            allowing(mockServiceSpec).getFacet(DisabledObjectFacet.class);
+            will(returnValue(null));
+        }});
+
+        assertThat(ServiceMenuCache.isReevaluated(mockServiceAdapter, mockObjectAction), is(false));
+    }
+
+}
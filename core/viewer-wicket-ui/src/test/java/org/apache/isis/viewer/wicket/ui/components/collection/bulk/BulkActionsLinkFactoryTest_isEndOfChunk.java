@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.collection.bulk;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+
+import org.apache.isis.core.commons.config.IsisConfigurationDefault;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BulkActionsLinkFactoryTest_isEndOfChunk {
+
+    @Test
+    public void each_object_in_its_own_transaction_by_default() throws Exception {
+        final int chunkSize = BulkActionsLinkFactory.transactionChunkSize(new IsisConfigurationDefault());
+
+        assertThat(chunkSize, is(1));
+        assertThat(commitsAfter(3, chunkSize), is((List<Integer>) Lists.newArrayList(1, 2, 3)));
+    }
+
+    @Test
+    public void commits_at_end_of_each_chunk_and_after_the_last() throws Exception {
+        assertThat(commitsAfter(7, 3), is((List<Integer>) Lists.newArrayList(3, 6, 7)));
+    }
+
+    @Test
+    public void no_partial_chunk_when_exact_multiple() throws Exception {
+        assertThat(commitsAfter(6, 3), is((List<Integer>) Lists.newArrayList(3, 6)));
+    }
+
+    @Test
+    public void single_commit_when_chunk_larger_than_selection() throws Exception {
+        assertThat(commitsAfter(4, 100), is((List<Integer>) Lists.newArrayList(4)));
+    }
+
+    @Test
+    public void configured_chunk_size() throws Exception {
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        configuration.add(BulkActionsLinkFactory.TRANSACTION_CHUNK_SIZE_KEY, "50");
+
+        assertThat(BulkActionsLinkFactory.transactionChunkSize(configuration), is(50));
+    }
+
+    @Test
+    public void non_positive_chunk_size_treated_as_one() throws Exception {
+        final IsisConfigurationDefault configuration = new IsisConfigurationDefault();
+        configuration.add(BulkActionsLinkFactory.TRANSACTION_CHUNK_SIZE_KEY, "0");
+
+        assertThat(BulkActionsLinkFactory.transactionChunkSize(configuration), is(1));
+    }
+
+    private static List<Integer> commitsAfter(final int numToActUpon, final int chunkSize) {
+        final List<Integer> commits = Lists.newArrayList();
+        for (int numActedUpon = 1; numActedUpon <= numToActUpon; numActedUpon++) {
+            if(BulkActionsLinkFactory.isEndOfChunk(numActedUpon, numToActUpon, chunkSize)) {
+                commits.add(numActedUpon);
+            }
+        }
+        return commits;
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.collection.bulk;
+
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.adapter.oid.RootOid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.viewer.wicket.model.mementos.ObjectAdapterMemento;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BulkActionsLinkFactoryTest_persistentOidsWithin {
+
+    private final ObjectSpecId customerSpecId = ObjectSpecId.of("CUS");
+
+    @Test
+    public void all_persistent() throws Exception {
+        final RootOid oid1 = RootOid.create(customerSpecId, "1");
+        final RootOid oid2 = RootOid.create(customerSpecId, "2");
+
+        final List<RootOid> oids = BulkActionsLinkFactory.persistentOidsWithin(Lists.newArrayList(
+                ObjectAdapterMemento.createPersistent(oid1),
+                ObjectAdapterMemento.createPersistent(oid2)));
+
+        assertThat(oids, is((List<RootOid>) Lists.newArrayList(oid1, oid2)));
+    }
+
+    @Test
+    public void view_models_are_excluded() throws Exception {
+        final RootOid oid1 = RootOid.create(customerSpecId, "1");
+        final RootOid viewModelOid = new RootOid(ObjectSpecId.of("CUSVM"), "abc", Oid.State.VIEWMODEL);
+        final RootOid oid3 = RootOid.create(customerSpecId, "3");
+
+        final List<RootOid> oids = BulkActionsLinkFactory.persistentOidsWithin(Lists.newArrayList(
+                ObjectAdapterMemento.createPersistent(oid1),
+                ObjectAdapterMemento.createPersistent(viewModelOid),
+                ObjectAdapterMemento.createPersistent(oid3)));
+
+        assertThat(oids, is((List<RootOid>) Lists.newArrayList(oid1, oid3)));
+    }
+
+    @Test
+    public void none_selected() throws Exception {
+        final List<RootOid> oids =
+                BulkActionsLinkFactory.persistentOidsWithin(Lists.<ObjectAdapterMemento>newArrayList());
+
+        assertThat(oids.isEmpty(), is(true));
+    }
+
+}
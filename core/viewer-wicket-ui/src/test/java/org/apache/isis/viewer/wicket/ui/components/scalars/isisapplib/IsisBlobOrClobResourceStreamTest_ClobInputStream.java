@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.scalars.isisapplib;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.InputStream;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+
+import org.junit.Test;
+
+public class IsisBlobOrClobResourceStreamTest_ClobInputStream {
+
+    @Test
+    public void empty() throws Exception {
+        assertEncodedAsUtf8("");
+    }
+
+    @Test
+    public void ascii() throws Exception {
+        assertEncodedAsUtf8("hello, world");
+    }
+
+    @Test
+    public void multibyte_and_surrogate_pairs_across_chunk_boundaries() throws Exception {
+        final StringBuilder buf = new StringBuilder();
+        while (buf.length() < 50000) {
+            // 'a', e-acute (2 bytes), euro (3 bytes), G clef (surrogate pair, 4 bytes)
+            buf.append("a\u00e9\u20ac\ud834\udd1e");
+        }
+        assertEncodedAsUtf8(buf.toString());
+    }
+
+    private static void assertEncodedAsUtf8(final String str) throws Exception {
+        final byte[] expected = str.getBytes(Charsets.UTF_8);
+
+        final InputStream inputStream = new IsisBlobOrClobResourceStream.ClobInputStream(str);
+
+        assertThat(ByteStreams.toByteArray(inputStream), is(expected));
+        assertThat(IsisBlobOrClobResourceStream.ClobInputStream.utf8Length(str), is((long) expected.length));
+    }
+
+}
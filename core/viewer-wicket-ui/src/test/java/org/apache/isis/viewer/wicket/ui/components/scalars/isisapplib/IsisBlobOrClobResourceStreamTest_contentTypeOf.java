@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.scalars.isisapplib;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import org.apache.isis.applib.value.Blob;
+import org.apache.isis.applib.value.Clob;
+
+public class IsisBlobOrClobResourceStreamTest_contentTypeOf {
+
+    @Test
+    public void blob_is_base_type() throws Exception {
+        final Blob blob = new Blob("photo.png", "image/png", new byte[] { 1, 2, 3 });
+
+        assertThat(IsisBlobOrClobResourceStream.contentTypeOf(blob), is("image/png"));
+    }
+
+    @Test
+    public void clob_is_qualified_by_charset() throws Exception {
+        final Clob clob = new Clob("notes.txt", "text/plain", "caf\u00e9");
+
+        assertThat(IsisBlobOrClobResourceStream.contentTypeOf(clob), is("text/plain;charset=UTF-8"));
+    }
+
+    @Test
+    public void none() throws Exception {
+        assertThat(IsisBlobOrClobResourceStream.contentTypeOf(null), is(nullValue()));
+    }
+
+}
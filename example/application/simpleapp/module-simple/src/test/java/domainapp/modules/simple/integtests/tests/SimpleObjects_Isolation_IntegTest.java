@@ -0,0 +1,202 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package domainapp.modules.simple.integtests.tests;
+
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.google.common.collect.Sets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+import org.apache.isis.applib.Module;
+import org.apache.isis.applib.ModuleAbstract;
+import org.apache.isis.applib.fixturescripts.FixtureScript;
+import org.apache.isis.core.integtestsupport.IntegrationTestAbstract3;
+import org.apache.isis.core.runtime.headless.IsisSystem;
+
+import domainapp.modules.simple.SimpleModule;
+import domainapp.modules.simple.dom.impl.SimpleObjects;
+import domainapp.modules.simple.fixture.SimpleObject_persona;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs tests with both <tt>ROLLBACK</tt> and <tt>TEARDOWN</tt> isolation, switching
+ * back and forth between two bootstrapped systems (one with module ref data, one without).
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+        SimpleObjects_Isolation_IntegTest.RollbackWithRefData.class,
+        SimpleObjects_Isolation_IntegTest.Rollback.class,
+        SimpleObjects_Isolation_IntegTest.TeardownWithRefData.class,
+        SimpleObjects_Isolation_IntegTest.RollbackWithRefData.class,
+        SimpleObjects_Isolation_IntegTest.Rollback.class
+})
+public class SimpleObjects_Isolation_IntegTest {
+
+    /**
+     * Sets up a single {@link SimpleObject_persona#FOO} as ref data.
+     */
+    @XmlRootElement(name = "module")
+    public static class SimpleModuleWithRefData extends ModuleAbstract {
+
+        @Override
+        public Set<Module> getDependencies() {
+            return Sets.<Module>newHashSet(new SimpleModule());
+        }
+
+        @Override
+        public FixtureScript getRefDataSetupFixture() {
+            return new FixtureScript() {
+                @Override
+                protected void execute(final ExecutionContext executionContext) {
+                    executionContext.executeChild(this, SimpleObject_persona.FOO.builder());
+                }
+            };
+        }
+    }
+
+    public static class RollbackWithRefData extends IntegrationTestAbstract3 {
+
+        @Inject
+        SimpleObjects menu;
+
+        public RollbackWithRefData() {
+            super(new SimpleModuleWithRefData());
+        }
+
+        @Override
+        protected Isolation getIsolation() {
+            return Isolation.ROLLBACK;
+        }
+
+        @Test
+        public void ref_data_set_up_once_and_retained() {
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(1);
+        }
+
+        @Test
+        public void changes_visible_across_nested_transactions() {
+
+            // when
+            wrap(menu).create("Faz");
+            transactionService.nextTransaction();
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(2);
+
+            // when
+            wrap(menu).create("Fez");
+            transactionService.nextTransaction();
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(3);
+        }
+
+        @Test
+        public void abort_rolls_back_to_savepoint() {
+
+            // given
+            wrap(menu).create("Faz");
+            transactionService.nextTransaction();
+
+            // when
+            wrap(menu).create("Fez");
+            transactionService.flushTransaction();
+            IsisSystem.get().abortTran();
+            IsisSystem.get().beginTran();
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(2);
+        }
+    }
+
+    public static class Rollback extends IntegrationTestAbstract3 {
+
+        @Inject
+        SimpleObjects menu;
+
+        public Rollback() {
+            super(new SimpleModule());
+        }
+
+        @Override
+        protected Isolation getIsolation() {
+            return Isolation.ROLLBACK;
+        }
+
+        @Test
+        public void whenNone() {
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(0);
+        }
+
+        @Test
+        public void create() {
+
+            // when
+            wrap(menu).create("Faz");
+            transactionService.nextTransaction();
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(1);
+        }
+    }
+
+    public static class TeardownWithRefData extends IntegrationTestAbstract3 {
+
+        @Inject
+        SimpleObjects menu;
+
+        public TeardownWithRefData() {
+            super(new SimpleModuleWithRefData());
+        }
+
+        @Override
+        protected Isolation getIsolation() {
+            return Isolation.TEARDOWN;
+        }
+
+        @Test
+        public void ref_data_not_duplicated() {
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(1);
+        }
+
+        @Test
+        public void create() {
+
+            // when
+            wrap(menu).create("Faz");
+            transactionService.nextTransaction();
+
+            // then
+            assertThat(wrap(menu).listAll()).hasSize(2);
+        }
+    }
+
+}